@@ -38,6 +38,11 @@ lexer grammar GoLexer;
 
 @header{
 	package parser;
+	import parserBase.GoLexerBase;
+}
+
+options {
+	superClass = GoLexerBase;
 }
 
 // Keywords
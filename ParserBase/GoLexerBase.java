@@ -0,0 +1,76 @@
+package parserBase;
+
+import org.antlr.v4.runtime.*;
+import parser.GoLexer;
+
+/**
+ * Lexer superclass that records, while tokenizing, which on-channel
+ * tokens are preceded by a line terminator (see
+ * {@link GoToken#isLineTerminatorBefore()}). This is what Go's automatic
+ * semicolon insertion needs, and doing it here turns
+ * {@link GoParserBase#lineTerminatorAhead()} into a constant time check.
+ * <p>
+ * Identifiers are interned here too: each {@code IDENTIFIER} token gets
+ * the canonical text and the integer id of its name (see
+ * {@link GoToken#getSymbol()}), so later phases can compare and index
+ * names by id. The ids are reset with the lexer.
+ */
+public abstract class GoLexerBase extends Lexer
+{
+    // A line terminator was seen since the last on-channel token.
+    private boolean terminatorPending = true;
+
+    private final Identifiers identifiers = new Identifiers();
+
+    protected GoLexerBase(CharStream input) {
+        super(input);
+        setTokenFactory(GoToken.FACTORY);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        terminatorPending = true;
+        identifiers.clear();
+    }
+
+    /** Returns the identifiers seen since the last reset. */
+    public Identifiers getIdentifiers() {
+        return identifiers;
+    }
+
+    @Override
+    public void emit(Token token) {
+        super.emit(token);
+
+        if (token.getChannel() == HIDDEN) {
+            if (isLineTerminator(token)) {
+                terminatorPending = true;
+            }
+        }
+        else {
+            GoToken goToken = (GoToken) token;
+            goToken.setLineTerminatorBefore(terminatorPending);
+            terminatorPending = false;
+
+            if (token.getType() == GoLexer.IDENTIFIER) {
+                int id = identifiers.intern(token.getText());
+                goToken.setText(identifiers.name(id));
+                goToken.setSymbol(id);
+            }
+        }
+    }
+
+    private static boolean isLineTerminator(Token token) {
+        switch (token.getType()) {
+            case GoLexer.TERMINATOR:
+                return true;
+            case GoLexer.COMMENT:
+            case GoLexer.LINE_COMMENT:
+                String text = token.getText();
+                return text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+            default:
+                return false;
+        }
+    }
+}
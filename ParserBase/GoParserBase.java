@@ -1,6 +1,5 @@
 package parserBase;
 
-import java.util.List;
 import org.antlr.v4.runtime.*;
 import parser.GoLexer;
 
@@ -26,38 +25,8 @@ public abstract class GoParserBase extends Parser
      * contains a line terminator.
      */
     protected boolean lineTerminatorAhead() {
-        // Get the token ahead of the current index.
-        int offset = 1;
-        int possibleIndexEosToken = this.getCurrentToken().getTokenIndex() - offset;
-
-        if (possibleIndexEosToken == -1)
-        {
-            return true;
-        }
-
-        Token ahead = _input.get(possibleIndexEosToken);
-
-        while(ahead.getChannel() == Lexer.HIDDEN )
-        {
-            if(ahead.getType() == GoLexer.TERMINATOR){
-                return true;
-            }
-            else if(ahead.getType() == GoLexer.WS){
-                possibleIndexEosToken = this.getCurrentToken().getTokenIndex() - ++offset;
-                ahead = _input.get(possibleIndexEosToken);
-            }
-            else if(ahead.getType() == GoLexer.COMMENT || ahead.getType() == GoLexer.LINE_COMMENT ){
-                if(ahead.getText().contains("\r") || ahead.getText().contains("\n")){
-                    return true;
-                }
-                else{
-                    possibleIndexEosToken = this.getCurrentToken().getTokenIndex() - ++offset;
-                    ahead = _input.get(possibleIndexEosToken);
-                }
-            }
-        }
-
-        return false;
+        // The lexer already recorded it on the token (see GoLexerBase).
+        return ((GoToken) this.getCurrentToken()).isLineTerminatorBefore();
     }
 
      /**
@@ -68,19 +37,7 @@ public abstract class GoParserBase extends Parser
      * token offset and the prior one on the {@code HIDDEN} channel.
      */
     protected boolean noTerminatorBetween(int tokenOffset) {
-        BufferedTokenStream stream = (BufferedTokenStream)_input;
-        List<Token> tokens = stream.getHiddenTokensToLeft(stream.LT(tokenOffset).getTokenIndex());
-        
-        if (tokens == null) {
-            return true;
-        }
-
-        for (Token token : tokens) {
-            if (token.getText().contains("\n"))
-                return false;
-        }
-
-        return true;
+        return !((GoToken) _input.LT(tokenOffset)).isLineTerminatorBefore();
     }
 
      /**
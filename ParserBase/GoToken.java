@@ -0,0 +1,80 @@
+package parserBase;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.Pair;
+
+/**
+ * Token produced by {@link GoLexerBase}. Besides the usual
+ * {@link CommonToken} data it remembers whether a line terminator was
+ * seen on the {@code HIDDEN} channel between the previous on-channel
+ * token and this one, so the semicolon insertion predicates do not have
+ * to scan the token buffer backwards.
+ */
+public class GoToken extends CommonToken
+{
+    private static final long serialVersionUID = 1L;
+
+    /** Factory installed by {@link GoLexerBase}. */
+    public static final TokenFactory<GoToken> FACTORY = new TokenFactory<GoToken>() {
+        @Override
+        public GoToken create(Pair<TokenSource, CharStream> source, int type, String text,
+                              int channel, int start, int stop, int line, int charPositionInLine) {
+            GoToken t = new GoToken(source, type, channel, start, stop);
+            t.setLine(line);
+            t.setCharPositionInLine(charPositionInLine);
+            if (text != null) {
+                t.setText(text);
+            }
+            return t;
+        }
+
+        @Override
+        public GoToken create(int type, String text) {
+            return new GoToken(type, text);
+        }
+    };
+
+    private boolean lineTerminatorBefore;
+    private int symbol = -1;
+
+    public GoToken(Pair<TokenSource, CharStream> source, int type, int channel, int start, int stop) {
+        super(source, type, channel, start, stop);
+    }
+
+    public GoToken(int type, String text) {
+        super(type, text);
+    }
+
+    /**
+     * Returns {@code true} iff a line terminator, or a multi line comment
+     * containing one, precedes this token on the {@code HIDDEN} channel.
+     * The first token of the input counts as preceded by a terminator.
+     */
+    public boolean isLineTerminatorBefore() {
+        return lineTerminatorBefore;
+    }
+
+    void setLineTerminatorBefore(boolean lineTerminatorBefore) {
+        this.lineTerminatorBefore = lineTerminatorBefore;
+    }
+
+    /**
+     * Returns the id of this token's name in the lexer's
+     * {@link Identifiers} table, or -1 if it is not an identifier.
+     */
+    public int getSymbol() {
+        return symbol;
+    }
+
+    void setSymbol(int symbol) {
+        this.symbol = symbol;
+    }
+
+    /**
+     * Returns the symbol id of {@code token}, or -1 if it is not an
+     * identifier produced by {@link GoLexerBase}.
+     */
+    public static int symbolOf(Token token) {
+        return token instanceof GoToken ? ((GoToken) token).symbol : -1;
+    }
+}
@@ -0,0 +1,47 @@
+package parserBase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interning table for identifier names, filled by {@link GoLexerBase}
+ * as tokens are produced. Every distinct name gets a dense integer id,
+ * starting at 0, and a single canonical {@code String} instance.
+ */
+public final class Identifiers
+{
+    private final Map<String, Integer> ids = new HashMap<String, Integer>();
+    private final List<String> names = new ArrayList<String>();
+
+    /**
+     * Returns the id of {@code name}, assigning the next free one the
+     * first time the name is seen.
+     */
+    public int intern(String name) {
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        int newId = names.size();
+        ids.put(name, newId);
+        names.add(name);
+        return newId;
+    }
+
+    /** Returns the canonical name for {@code id}. */
+    public String name(int id) {
+        return names.get(id);
+    }
+
+    /** Returns the number of distinct names interned so far. */
+    public int size() {
+        return names.size();
+    }
+
+    void clear() {
+        ids.clear();
+        names.clear();
+    }
+}
@@ -2,156 +2,225 @@ package ast;
 
 import static typing.Type.NO_TYPE;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import tables.FuncTable;
 import tables.VarTable;
 import typing.Type;
 
 // Implementação dos nós da AST.
-public class AST {
+//
+// Os dados dos nós ficam na ASTArena da compilação; um AST é só uma
+// alça para um nó da arena (a arena e o número do nó), criada quando
+// alguém pede o nó. Os nós são criados pelos métodos newNode e
+// newSubtree da arena.
+public final class AST {
+
+	private final ASTArena arena;
+	private final int id;
+
+	AST(ASTArena arena, int id) {
+		this.arena = arena;
+		this.id = id;
+	}
+
+	public ASTArena getArena() {
+		return arena;
+	}
+
+	// Número do nó na arena.
+	public int getId() {
+		return id;
+	}
+
+	public NodeKind getKind() {
+		return arena.kinds[id];
+	}
 
-	// Todos os campos são finais para simplificar, assim não precisa de getter/setter.
 	// Note que não há union em Java, então aquele truque de ler
 	// e/ou escrever o campo com formatos diferentes não funciona aqui.
 	// Os campos 'data' NÃO ficam sincronizados!
-	public  final NodeKind kind;
-	public  final int intData;
-	public  final float floatData;
-	public  final String stringData;
-	public  boolean boolData;
-	public 	final int escopo; //se for NodeKind VAR tem que ter escopo
-	public   Type type;
-	private final List<AST> children; // Privado para que a manipulação da lista seja controlável.
-
-	// Construtor completo para poder tornar todos os campos finais.
-	// Privado porque não queremos os dois campos 'data' preenchidos ao mesmo tempo.
-	private AST(NodeKind kind, int intData, float floatData, String stringData, boolean boolData, int escopo, Type type) {
-		this.kind = kind;
-		this.intData = intData;
-		this.floatData = floatData;
-		this.stringData = stringData;
-		this.boolData = boolData;
-		this.escopo = escopo;
-		this.type = type; 
-		this.children = new ArrayList<AST>();
-	}
-
-	// Cria o nó com um dado inteiro.
-	public AST(NodeKind kind, int intData, Type type) {
-		this(kind, intData, 0.0f, "", false, 0, type);
-	}
-
-	// Cria o nó com um dado float.
-	public AST(NodeKind kind, float floatData, Type type) {
-		this(kind, 0, floatData, "", false,0, type);
-	}
-	
-	// Cria o nó com um dado String.
-	public AST(NodeKind kind, String stringData, Type type) {
-		this(kind, 0, 0.0f, stringData.replaceAll("\"", ""), false,0,type);
-	}
-	
-	// Cria o nó com um dado boolean.
-	public AST(NodeKind kind, boolean booleanData, Type type) {
-		this(kind, 0, 0.0f, "", booleanData,0,type);
-	}
-	
-	// Cria o nó com um dado variavel.
-	public AST(NodeKind kind, int intData, int escopo, Type type) {
-		this(kind, intData, 0.0f, "",false, escopo, type);
-	}
-
-	// Cria o nó com um dado variavel.
-	public AST(NodeKind kind, int intData, int escopo, float floatData,Type type) {
-		this(kind, intData, floatData, "",false, escopo, type);
-	}
-
-	// Adiciona um novo filho ao nó.
+	public int getIntData() {
+		return arena.intData[id];
+	}
+
+	public float getFloatData() {
+		return arena.floatData[id];
+	}
+
+	public String getStringData() {
+		return arena.string(id);
+	}
+
+	public boolean getBoolData() {
+		return arena.kinds[id] == NodeKind.BOOL_VAL_NODE && arena.payload[id] != 0;
+	}
+
+	// Se for NodeKind VAR tem que ter escopo.
+	public int getEscopo() {
+		return arena.escopo[id];
+	}
+
+	public Type getType(){
+		return arena.types[id];
+	}
+
+	public void setType(Type type){
+		arena.types[id] = type;
+	}
+
+	// Adiciona um novo filho ao nó. Um filho null (que só aparece
+	// quando a análise já achou erro) é ignorado.
 	public void addChild(AST child) {
-		// A lista cresce automaticamente, então nunca vai dar erro ao adicionar.
-		this.children.add(child);
+		if (child == null) return;
+		arena.addChild(this.id, child.id);
+	}
+
+	// Passa todos os filhos de 'from' para o fim da lista deste nó.
+	// Serve para os nós que só agrupam comandos, como os de uma
+	// declaração com várias variáveis.
+	public void addChildren(AST from) {
+		arena.moveChildren(this.id, from.id);
+	}
+
+	// Os métodos abaixo mudam o nó no lugar em que ele está na árvore,
+	// então quem otimiza a árvore não precisa conhecer o pai. Nenhum
+	// deles cria nós, e por isso podem ser usados ao mesmo tempo por
+	// threads que mexem em subárvores diferentes da mesma arena.
+
+	// Troca este nó por 'other', que tem que ser da mesma arena: o kind,
+	// o tipo, os dados e os filhos passam a ser os dele.
+	public void replaceWith(AST other) {
+		if (other.arena != arena) {
+			throw new IllegalArgumentException("node belongs to another arena");
+		}
+		arena.replace(id, other.id);
+	}
+
+	// Transforma o nó numa constante inteira, sem filhos.
+	public void setIntVal(int value, Type type) {
+		arena.setLeaf(id, NodeKind.INT_VAL_NODE, type, value, 0.0f, 0);
+	}
+
+	// Transforma o nó numa constante float, sem filhos.
+	public void setRealVal(float value, Type type) {
+		arena.setLeaf(id, NodeKind.REAL_VAL_NODE, type, 0, value, 0);
 	}
 
-	// Retorna o filho no índice passado.
-	// Não há nenhuma verificação de erros!
+	// Transforma o nó numa constante booleana, sem filhos.
+	public void setBoolVal(boolean value) {
+		arena.setLeaf(id, NodeKind.BOOL_VAL_NODE, Type.BOOL_TYPE, 0, 0.0f, value ? 1 : 0);
+	}
+
+	// Tira os filhos do nó e muda o kind dele, para um comando que não
+	// faz nada (um BLOCK ou PROGRAM vazio).
+	public void setEmpty(NodeKind kind) {
+		arena.setLeaf(id, kind, Type.NO_TYPE, 0, 0.0f, 0);
+	}
+
+	// Retorna o filho no índice passado. Anda pela lista de irmãos,
+	// então para percorrer todos os filhos é melhor usar getFirstChild
+	// e getNextSibling.
 	public AST getChild(int idx) {
-		// Claro que um código em produção precisa testar o índice antes para
-		// evitar uma exceção.
-	    return this.children.get(idx);
+		if (idx < 0 || idx >= arena.childCount[id]) {
+			throw new IndexOutOfBoundsException("Index: " + idx + ", Size: " + arena.childCount[id]);
+		}
+		int child = arena.firstChild[id];
+		for (int i = 0; i < idx; i++) child = arena.nextSibling[child];
+		return arena.node(child);
 	}
 
-	// Cria um nó e pendura todos os filhos passados como argumento.
-	public static AST newSubtree(NodeKind kind, Type type, AST... children) {
-		AST node = new AST(kind, 0, type);
-	    for (AST child: children) {
-	    	node.addChild(child);
-	    }
-	    return node;
+	public int getChildCount() {
+		return arena.childCount[id];
 	}
-	
-	public List<AST> getChildren(){
-		return this.children;
+
+	// Primeiro filho, ou null se não tiver filhos.
+	public AST getFirstChild() {
+		return arena.node(arena.firstChild[id]);
 	}
 
-	public Type getType(){
-		return this.type;
+	// Próximo irmão, ou null se for o último filho.
+	public AST getNextSibling() {
+		return arena.node(arena.nextSibling[id]);
 	}
 
-	// Variáveis internas usadas para geração da saída em DOT.
-	// Estáticas porque só precisamos de uma instância.
-	private static int nr;
-	private static VarTable vt;
-	private static FuncTable ft;
+	// Número de nós da subárvore começando neste nó.
+	// Usa uma pilha explícita para não estourar a pilha da JVM em
+	// expressões muito longas.
+	public int size(){
+		int total = 0;
+		int[] pilha = new int[16];
+		int topo = 0;
+		pilha[topo++] = id;
+		while (topo > 0) {
+			int n = pilha[--topo];
+			total++;
+			for (int c = arena.firstChild[n]; c != -1; c = arena.nextSibling[c]) {
+				if (topo == pilha.length) pilha = Arrays.copyOf(pilha, 2 * topo);
+				pilha[topo++] = c;
+			}
+		}
+		return total;
+	}
+
+	// Estado usado para geração da saída em DOT. Fica num objeto
+	// criado a cada chamada do printDot, e não em campos estáticos,
+	// para que compilações em paralelo não se atrapalhem.
+	private static final class DotState {
+		int nr;
+		VarTable vt;
+		FuncTable ft;
+	}
 
 	// Imprime recursivamente a codificação em DOT da subárvore começando no nó atual.
 	// Usa stderr como saída para facilitar o redirecionamento, mas isso é só um hack.
-	private int printNodeDot() {
-		int myNr = nr++;
+	private int printNodeDot(DotState dot) {
+		int myNr = dot.nr++;
+		VarTable vt = dot.vt;
+		FuncTable ft = dot.ft;
 
 	    System.err.printf("node%d[label=\"", myNr);
-	    if (this.type != NO_TYPE) {
-	    	System.err.printf("(%s) ", this.type.toString());
+	    if (this.getType() != NO_TYPE) {
+	    	System.err.printf("(%s) ", this.getType().toString());
 	    }
-	    if (this.kind == NodeKind.VAR_DECL_NODE || this.kind == NodeKind.VAR_USE_NODE) {
-	    	if(this.escopo == 0) {
-	    		System.err.printf("%s@", vt.getName(this.intData));
+	    if (this.getKind() == NodeKind.VAR_DECL_NODE || this.getKind() == NodeKind.VAR_USE_NODE) {
+	    	if(this.getEscopo() == 0) {
+	    		System.err.printf("%s@", vt.getName(this.getIntData()));
 	    	}
 	    	else {
-	    		System.err.printf("%s@", ft.getVarTable(this.escopo-1).getName(this.intData));
+	    		System.err.printf("%s@", ft.getVarTable(this.getEscopo()-1).getName(this.getIntData()));
 	    	}
 	    	
-	    }else if(this.kind == NodeKind.FUNC_NODE){
-	    	System.err.printf("%s@", ft.getName(this.intData));
-	    }else if(this.kind == NodeKind.ARRAY_NODE){
-	    	if(this.escopo == 0) {
-	    		System.err.printf("%s[%.0f]@", vt.getName(this.intData),this.floatData);
+	    }else if(this.getKind() == NodeKind.FUNC_NODE){
+	    	System.err.printf("%s@", ft.getName(this.getIntData()));
+	    }else if(this.getKind() == NodeKind.ARRAY_NODE){
+	    	if(this.getEscopo() == 0) {
+	    		System.err.printf("%s[%.0f]@", vt.getName(this.getIntData()),this.getFloatData());
 	    	}
 	    	else {
-	    		System.err.printf("%s[%.0f]@", ft.getVarTable(this.escopo-1).getName(this.intData),this.floatData);
+	    		System.err.printf("%s[%.0f]@", ft.getVarTable(this.getEscopo()-1).getName(this.getIntData()),this.getFloatData());
 	    	}
 	    }else {
-	    	System.err.printf("%s", this.kind.toString());
+	    	System.err.printf("%s", this.getKind().toString());
 	    }
-	    if (NodeKind.hasData(this.kind)) {
-	        if (this.kind == NodeKind.REAL_VAL_NODE) {
-	        	System.err.printf("%.2f", this.floatData);
-	        } else if (this.kind == NodeKind.STR_VAL_NODE) {
-	        	System.err.print(this.stringData);
-	        } else if (this.kind == NodeKind.INT_VAL_NODE) {
-	        	System.err.printf("%d", this.intData);
-	        } else if (this.kind == NodeKind.BOOL_VAL_NODE){
-	        	if(this.boolData) System.err.print("true");
+	    if (NodeKind.hasData(this.getKind())) {
+	        if (this.getKind() == NodeKind.REAL_VAL_NODE) {
+	        	System.err.printf("%.2f", this.getFloatData());
+	        } else if (this.getKind() == NodeKind.STR_VAL_NODE) {
+	        	System.err.print(this.getStringData());
+	        } else if (this.getKind() == NodeKind.INT_VAL_NODE) {
+	        	System.err.printf("%d", this.getIntData());
+	        } else if (this.getKind() == NodeKind.BOOL_VAL_NODE){
+	        	if(this.getBoolData()) System.err.print("true");
 	        	else System.err.print("false");
 	        } else {
-	        	System.err.print(this.intData);
+	        	System.err.print(this.getIntData());
 	        }
 	    }
 	    System.err.printf("\"];\n");
 
-	    for (int i = 0; i < this.children.size(); i++) {
-	        int childNr = this.children.get(i).printNodeDot();
+	    for (AST child = this.getFirstChild(); child != null; child = child.getNextSibling()) {
+	        int childNr = child.printNodeDot(dot);
 	        System.err.printf("node%d -> node%d;\n", myNr, childNr);
 	    }
 	    return myNr;
@@ -159,21 +228,22 @@ public class AST {
 
 	// Imprime a árvore toda em stderr.
 	public static void printDot(AST tree, VarTable table, FuncTable func) {
-	    nr = 0;
-	    vt = table;
-	    ft = func;
+	    DotState dot = new DotState();
+	    dot.nr = 0;
+	    dot.vt = table;
+	    dot.ft = func;
 	    
-	    int tam = ft.getTable().size();
+	    int tam = func.getSize();
 	    for(int i = 0; i< tam; i++) {
-	    	VarTable aux = ft.getVarTable(i);
+	    	VarTable aux = func.getVarTable(i);
 	    	int tamAux = aux.getSize();
 		    for(int j = 0; j < tamAux; j++) {
-		    	vt.addEntry(aux.getEntry(j));
+		    	table.addEntry(aux.getEntry(j));
 		    }  
 	    }
 
 	    System.err.printf("digraph {\ngraph [ordering=\"out\"];\n");
-	    tree.printNodeDot();
+	    tree.printNodeDot(dot);
 	    
 	    System.err.printf("}\n");
 	}
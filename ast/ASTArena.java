@@ -0,0 +1,250 @@
+package ast;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import typing.Type;
+
+// Memória dos nós da AST de uma compilação.
+//
+// Em vez de um objeto com uma lista de filhos por nó, os nós são linhas
+// de vetores paralelos (um vetor por campo) que crescem conforme a
+// árvore é montada. Um nó é só o número da linha dele; a classe AST é
+// uma alça leve (a arena e o número) para o resto do compilador não ter
+// que mexer nos vetores. Os filhos formam uma lista ligada: cada nó
+// guarda o primeiro e o último filho e o próximo irmão, então pendurar
+// um filho ou passar todos os filhos de um nó para outro é O(1).
+//
+// Os campos 'data' continuam separados como eram no AST: intData,
+// floatData e escopo têm vetores próprios, e o 'payload' guarda o
+// índice da string no vetor de strings (nós STR_VAL) ou o boolean
+// (nós BOOL_VAL).
+public final class ASTArena {
+
+	private static final int NONE = -1;
+
+	private int size;
+	NodeKind[] kinds;
+	Type[] types;
+	int[] intData;
+	float[] floatData;
+	int[] escopo;
+	int[] payload;
+	int[] firstChild;
+	int[] lastChild;
+	int[] nextSibling;
+	int[] childCount;
+	private final List<String> strings = new ArrayList<String>();
+
+	public ASTArena() {
+		this(256);
+	}
+
+	public ASTArena(int capacity) {
+		capacity = Math.max(capacity, 16);
+		kinds = new NodeKind[capacity];
+		types = new Type[capacity];
+		intData = new int[capacity];
+		floatData = new float[capacity];
+		escopo = new int[capacity];
+		payload = new int[capacity];
+		firstChild = new int[capacity];
+		lastChild = new int[capacity];
+		nextSibling = new int[capacity];
+		childCount = new int[capacity];
+	}
+
+	// Número de nós criados na arena, inclusive os que não ficaram
+	// pendurados na árvore.
+	public int getSize() {
+		return size;
+	}
+
+	private void grow() {
+		int capacity = 2 * kinds.length;
+		kinds = Arrays.copyOf(kinds, capacity);
+		types = Arrays.copyOf(types, capacity);
+		intData = Arrays.copyOf(intData, capacity);
+		floatData = Arrays.copyOf(floatData, capacity);
+		escopo = Arrays.copyOf(escopo, capacity);
+		payload = Arrays.copyOf(payload, capacity);
+		firstChild = Arrays.copyOf(firstChild, capacity);
+		lastChild = Arrays.copyOf(lastChild, capacity);
+		nextSibling = Arrays.copyOf(nextSibling, capacity);
+		childCount = Arrays.copyOf(childCount, capacity);
+	}
+
+	private AST add(NodeKind kind, int intData, float floatData, int payload, int escopo, Type type) {
+		if (size == kinds.length) grow();
+		int id = size++;
+		this.kinds[id] = kind;
+		this.types[id] = type;
+		this.intData[id] = intData;
+		this.floatData[id] = floatData;
+		this.escopo[id] = escopo;
+		this.payload[id] = payload;
+		this.firstChild[id] = NONE;
+		this.lastChild[id] = NONE;
+		this.nextSibling[id] = NONE;
+		this.childCount[id] = 0;
+		return new AST(this, id);
+	}
+
+	// Cria o nó com um dado inteiro.
+	public AST newNode(NodeKind kind, int intData, Type type) {
+		return add(kind, intData, 0.0f, 0, 0, type);
+	}
+
+	// Cria o nó com um dado float.
+	public AST newNode(NodeKind kind, float floatData, Type type) {
+		return add(kind, 0, floatData, 0, 0, type);
+	}
+
+	// Cria o nó com um dado String. As aspas do literal são tiradas.
+	public AST newNode(NodeKind kind, String stringData, Type type) {
+		return newNode(kind, 0, stringData, type);
+	}
+
+	// Cria o nó de uma string literal, com o número dela na StrTable.
+	public AST newNode(NodeKind kind, int intData, String stringData, Type type) {
+		strings.add(semAspas(stringData));
+		return add(kind, intData, 0.0f, strings.size() - 1, 0, type);
+	}
+
+	// Cria o nó com um dado boolean.
+	public AST newNode(NodeKind kind, boolean booleanData, Type type) {
+		return add(kind, 0, 0.0f, booleanData ? 1 : 0, 0, type);
+	}
+
+	// Cria o nó com um dado variavel.
+	public AST newNode(NodeKind kind, int intData, int escopo, Type type) {
+		return add(kind, intData, 0.0f, 0, escopo, type);
+	}
+
+	// Cria o nó com um dado variavel.
+	public AST newNode(NodeKind kind, int intData, int escopo, float floatData, Type type) {
+		return add(kind, intData, floatData, 0, escopo, type);
+	}
+
+	// Cria um nó e pendura todos os filhos passados como argumento.
+	public AST newSubtree(NodeKind kind, Type type, AST... children) {
+		AST node = newNode(kind, 0, type);
+		for (AST child: children) {
+			node.addChild(child);
+		}
+		return node;
+	}
+
+	// Copia para esta arena a subárvore de 'from', que está em outra, e
+	// retorna a cópia (null se 'from' for null). Se 'strIds' não for
+	// null, o número da StrTable dos nós STR_VAL passa a ser
+	// strIds[número], para quando a subárvore foi montada com uma
+	// StrTable própria.
+	public AST copy(AST from, int[] strIds) {
+		if (from == null) return null;
+		ASTArena a = from.getArena();
+		int raiz = -1;
+		// Pré-ordem com pilha de pares (nó de lá, pai daqui).
+		int[] pilha = new int[32];
+		int topo = 0;
+		pilha[topo++] = from.getId();
+		pilha[topo++] = NONE;
+		while (topo > 0) {
+			int pai = pilha[--topo];
+			int n = pilha[--topo];
+			int payload = a.payload[n];
+			int dado = a.intData[n];
+			if (a.kinds[n] == NodeKind.STR_VAL_NODE) {
+				strings.add(a.strings.get(payload));
+				payload = strings.size() - 1;
+				if (strIds != null) dado = strIds[dado];
+			}
+			int id = add(a.kinds[n], dado, a.floatData[n], payload, a.escopo[n], a.types[n]).getId();
+			if (pai == NONE) raiz = id;
+			else addChild(pai, id);
+
+			// Os filhos entram na pilha do último para o primeiro, para
+			// saírem (e serem pendurados) na ordem.
+			int k = topo + 2 * a.childCount[n];
+			if (k > pilha.length) pilha = Arrays.copyOf(pilha, Math.max(k, 2 * pilha.length));
+			for (int c = a.firstChild[n]; c != NONE; c = a.nextSibling[c]) {
+				k -= 2;
+				pilha[k] = c;
+				pilha[k + 1] = id;
+			}
+			topo += 2 * a.childCount[n];
+		}
+		return node(raiz);
+	}
+
+	// Faz do nó 'id' uma cópia do nó 'from', com os filhos dele. O
+	// próximo irmão de 'id' não muda, então ele continua no mesmo lugar
+	// da árvore.
+	void replace(int id, int from) {
+		kinds[id] = kinds[from];
+		types[id] = types[from];
+		intData[id] = intData[from];
+		floatData[id] = floatData[from];
+		escopo[id] = escopo[from];
+		payload[id] = payload[from];
+		firstChild[id] = firstChild[from];
+		lastChild[id] = lastChild[from];
+		childCount[id] = childCount[from];
+	}
+
+	// Faz do nó 'id' uma folha com os dados passados.
+	void setLeaf(int id, NodeKind kind, Type type, int intData, float floatData, int payload) {
+		this.kinds[id] = kind;
+		this.types[id] = type;
+		this.intData[id] = intData;
+		this.floatData[id] = floatData;
+		this.escopo[id] = 0;
+		this.payload[id] = payload;
+		this.firstChild[id] = NONE;
+		this.lastChild[id] = NONE;
+		this.childCount[id] = 0;
+	}
+
+	// Alça para o nó de número 'id', ou null se id for -1.
+	AST node(int id) {
+		return id == NONE ? null : new AST(this, id);
+	}
+
+	String string(int id) {
+		return kinds[id] == NodeKind.STR_VAL_NODE ? strings.get(payload[id]) : "";
+	}
+
+	// Pendura 'child' como último filho de 'parent'.
+	void addChild(int parent, int child) {
+		if (lastChild[parent] == NONE) firstChild[parent] = child;
+		else nextSibling[lastChild[parent]] = child;
+		lastChild[parent] = child;
+		nextSibling[child] = NONE;
+		childCount[parent]++;
+	}
+
+	// Passa todos os filhos de 'from' para o fim da lista de 'parent'.
+	void moveChildren(int parent, int from) {
+		if (firstChild[from] == NONE) return;
+		if (lastChild[parent] == NONE) firstChild[parent] = firstChild[from];
+		else nextSibling[lastChild[parent]] = firstChild[from];
+		lastChild[parent] = lastChild[from];
+		childCount[parent] += childCount[from];
+		firstChild[from] = NONE;
+		lastChild[from] = NONE;
+		childCount[from] = 0;
+	}
+
+	// Tira as aspas de um literal, igual ao replaceAll("\"", "") que o
+	// AST usava, mas sem regex.
+	private static String semAspas(String s) {
+		if (s.indexOf('"') < 0) return s;
+		StringBuilder sb = new StringBuilder(s.length());
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (c != '"') sb.append(c);
+		}
+		return sb.toString();
+	}
+}
@@ -1,5 +1,8 @@
 package ast;
 
+import java.util.Arrays;
+import java.util.function.Function;
+
 /*
  * Classe abstrata que define a interface do visitor para a AST.
  * Implementa o despacho do método 'visit' conforme o 'kind' do nó.
@@ -8,59 +11,122 @@ package ast;
  */
 public abstract class ASTBaseVisitor<T> {
 
+	// Tabela de despacho: o método especializado de cada 'kind',
+	// indexado pelo ordinal do NodeKind.
+	private final Function<AST, T>[] handlers;
+
+	// Kinds visitados em pós-ordem (ver posOrdem).
+	private final boolean[] posOrdem = new boolean[NodeKind.values().length];
+
+	// Pilha explícita da visita em pós-ordem: o nó e o próximo filho a
+	// visitar de cada nível. É do visitor e não da chamada, e cada
+	// chamada só usa a parte acima do topo que encontrou.
+	private AST[] pilhaNo = new AST[64];
+	private AST[] pilhaFilho = new AST[64];
+	private int topo = -1;
+
+	protected ASTBaseVisitor() {
+		@SuppressWarnings("unchecked")
+		Function<AST, T>[] vetor = (Function<AST, T>[]) new Function<?, ?>[NodeKind.values().length];
+		handlers = vetor;
+		handlers[NodeKind.ASSIGN_NODE.ordinal()] = this::visitAssign;
+		handlers[NodeKind.EQ_NODE.ordinal()] = this::visitEq;
+		handlers[NodeKind.BLOCK_NODE.ordinal()] = this::visitBlock;
+		handlers[NodeKind.BOOL_VAL_NODE.ordinal()] = this::visitBoolVal;
+		handlers[NodeKind.IF_NODE.ordinal()] = this::visitIf;
+		handlers[NodeKind.INT_VAL_NODE.ordinal()] = this::visitIntVal;
+		handlers[NodeKind.LT_NODE.ordinal()] = this::visitLt;
+		handlers[NodeKind.RT_NODE.ordinal()] = this::visitRt;
+		handlers[NodeKind.ELT_NODE.ordinal()] = this::visitElt;
+		handlers[NodeKind.ERT_NODE.ordinal()] = this::visitErt;
+		handlers[NodeKind.MINUS_NODE.ordinal()] = this::visitMinus;
+		handlers[NodeKind.OVER_NODE.ordinal()] = this::visitOver;
+		handlers[NodeKind.PLUS_NODE.ordinal()] = this::visitPlus;
+		handlers[NodeKind.FUNC_NODE.ordinal()] = this::visitFunc;
+		handlers[NodeKind.PROGRAM_NODE.ordinal()] = this::visitProgram;
+		handlers[NodeKind.READ_NODE.ordinal()] = this::visitRead;
+		handlers[NodeKind.REAL_VAL_NODE.ordinal()] = this::visitRealVal;
+		handlers[NodeKind.REPEAT_NODE.ordinal()] = this::visitRepeat;
+		handlers[NodeKind.STR_VAL_NODE.ordinal()] = this::visitStrVal;
+		handlers[NodeKind.TIMES_NODE.ordinal()] = this::visitTimes;
+		handlers[NodeKind.VAR_DECL_NODE.ordinal()] = this::visitVarDecl;
+		handlers[NodeKind.VAR_LIST_NODE.ordinal()] = this::visitVarList;
+		handlers[NodeKind.VAR_USE_NODE.ordinal()] = this::visitVarUse;
+		handlers[NodeKind.WRITE_NODE.ordinal()] = this::visitWrite;
+		handlers[NodeKind.ARRAY_NODE.ordinal()] = this::visitArrayNode;
+		handlers[NodeKind.AND_NODE.ordinal()] = this::visitAndNode;
+		handlers[NodeKind.OR_NODE.ordinal()] = this::visitOrNode;
+		handlers[NodeKind.NEQ_NODE.ordinal()] = this::visitNeqNode;
+		handlers[NodeKind.MOD_NODE.ordinal()] = this::visitModNode;
+		handlers[NodeKind.RETURN_NODE.ordinal()] = this::visitReturn;
+	}
+
 	// Único método público. Começa a visita a partir do nó raiz
 	// passado. Precisa ter outro nome porque tem a mesma assinatura
 	// que o método "genérico" 'visit'.
 	public void execute(AST root) {
 		visit(root);
 	}
-	
+
+	// Marca os kinds que são visitados em pós-ordem. Para esses nós o
+	// próprio visit percorre os filhos, em ordem, antes de chamar o
+	// método especializado, que então só trata o nó. A descida por
+	// filhos que também são pós-ordem usa a pilha explícita, então uma
+	// expressão como a + a + ... + a não cresce a pilha da JVM.
+	//
+	// Vale também para comandos: um bloco, if ou for marcado aqui tem
+	// o entra como gancho de pré-ordem e o visitX como gancho de
+	// pós-ordem, e o corpo dele é percorrido pela mesma pilha.
+	protected void posOrdem(NodeKind... kinds) {
+		for (NodeKind kind : kinds) posOrdem[kind.ordinal()] = true;
+	}
+
+	// Gancho de pré-ordem: chamado para cada nó de um kind marcado em
+	// posOrdem antes de os filhos dele serem visitados. Não faz nada
+	// por padrão.
+	protected void entra(AST node) {
+	}
+
 	// Método "genérico" que despacha a visitação para os métodos
-	// especializados conforme o 'kind' do nó atual. Igual ao código
-	// em C. Novamente fica o argumento sobre usar OO ou não aqui.
-	// Se tivéssemos trocentas classes especializando o nó da AST
-	// esse despacho seria feito pela JVM. Aqui precisa fazer na mão.
-	// Por outro lado, assim não precisa de trocentas classes com o
-	// código todo espalhado entre elas...
+	// especializados conforme o 'kind' do nó atual, pela tabela.
 	protected T visit(AST node) {
-		switch(node.kind) {
-	        case ASSIGN_NODE:   return visitAssign(node);
-	        case EQ_NODE:       return visitEq(node);
-	        case BLOCK_NODE:    return visitBlock(node);
-	        case BOOL_VAL_NODE: return visitBoolVal(node);
-	        case IF_NODE:       return visitIf(node);
-	        case INT_VAL_NODE:  return visitIntVal(node);
-	        case LT_NODE:       return visitLt(node);
-            case RT_NODE:       return visitRt(node);
-            case ELT_NODE:      return visitElt(node);
-            case ERT_NODE:      return visitErt(node);
-	        case MINUS_NODE:    return visitMinus(node);
-	        case OVER_NODE:     return visitOver(node);
-	        case PLUS_NODE:     return visitPlus(node);
-            case FUNC_NODE:     return visitFunc(node);
-	        case PROGRAM_NODE:  return visitProgram(node);
-	        case READ_NODE:     return visitRead(node);
-	        case REAL_VAL_NODE: return visitRealVal(node);
-	        case REPEAT_NODE:   return visitRepeat(node);
-	        case STR_VAL_NODE:  return visitStrVal(node);
-	        case TIMES_NODE:    return visitTimes(node);
-	        case VAR_DECL_NODE: return visitVarDecl(node);
-	        case VAR_LIST_NODE: return visitVarList(node);
-	        case VAR_USE_NODE:  return visitVarUse(node);
-	        case WRITE_NODE:    return visitWrite(node);
-            case ARRAY_NODE:    return visitArrayNode(node);
-            case AND_NODE:      return visitAndNode(node);
-            case OR_NODE:       return visitOrNode(node);
-            case NEQ_NODE:      return visitNeqNode(node);
-            case MOD_NODE:      return visitModNode(node);
-			case RETURN_NODE: 	return visitReturn(node);
-
-            
-	        default:
-	            System.err.printf("Invalid kind: %s!\n", node.kind.toString());
-	            System.exit(1);
-	            return null;
+		if (!posOrdem[node.getKind().ordinal()]) return dispatch(node);
+
+		int base = topo;
+		push(node);
+		T result = null;
+		while (topo > base) {
+			AST filho = pilhaFilho[topo];
+			if (filho != null) {
+				pilhaFilho[topo] = filho.getNextSibling();
+				if (posOrdem[filho.getKind().ordinal()]) push(filho);
+				else dispatch(filho);
+			} else {
+				AST no = pilhaNo[topo];
+				pilhaNo[topo] = null;
+				topo--;
+				result = dispatch(no);
+			}
+		}
+		return result;
+	}
+
+	private void push(AST node) {
+		if (++topo == pilhaNo.length) {
+			pilhaNo = Arrays.copyOf(pilhaNo, 2 * topo);
+			pilhaFilho = Arrays.copyOf(pilhaFilho, 2 * topo);
+		}
+		pilhaNo[topo] = node;
+		entra(node);
+		pilhaFilho[topo] = node.getFirstChild();
+	}
+
+	private T dispatch(AST node) {
+		Function<AST, T> handler = handlers[node.getKind().ordinal()];
+		if (handler == null) {
+			throw new IllegalArgumentException("Invalid kind: " + node.getKind().name());
 		}
+		return handler.apply(node);
 	}
 	
 	// Métodos especializados para visitar um nó com um certo 'kind'.
@@ -0,0 +1,47 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import checker.SemanticChecker;
+import code.Assembler;
+import code.CodeGen;
+import code.IRBuilder;
+import parser.GoLexer;
+import parser.GoParser;
+
+// Montagem do código Jasmin pelo jasmin.ClassFile, em memória.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AssemblerBenchmark {
+
+	@Param({"1", "10", "100"})
+	int size;
+
+	String jasmin;
+
+	@Setup
+	public void setup() throws Exception {
+		GoParser parser = new GoParser(new CommonTokenStream(new GoLexer(CharStreams.fromString(GoSources.synthetic(size)))));
+		SemanticChecker checker = new SemanticChecker();
+		checker.visit(parser.sourceFile());
+		CodeGen gen = new CodeGen(checker.ft, checker.global, checker.st);
+		jasmin = gen.generate(new IRBuilder(checker.ft, checker.global).build(checker.getRoot()));
+	}
+
+	@Benchmark
+	public byte[] assemble() throws Exception {
+		return Assembler.assemble(jasmin, "bench.j", System.err);
+	}
+}
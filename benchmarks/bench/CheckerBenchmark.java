@@ -0,0 +1,45 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import checker.SemanticChecker;
+import parser.GoLexer;
+import parser.GoParser;
+
+// Visita do SemanticChecker sobre uma ParseTree já pronta.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CheckerBenchmark {
+
+	@Param({"1", "10", "100"})
+	int size;
+
+	ParseTree tree;
+
+	@Setup
+	public void setup() {
+		GoParser parser = new GoParser(new CommonTokenStream(new GoLexer(CharStreams.fromString(GoSources.synthetic(size)))));
+		tree = parser.sourceFile();
+	}
+
+	@Benchmark
+	public SemanticChecker check() {
+		SemanticChecker checker = new SemanticChecker();
+		checker.visit(tree);
+		if (!checker.hasPassed()) throw new IllegalStateException("synthetic program failed to check");
+		return checker;
+	}
+}
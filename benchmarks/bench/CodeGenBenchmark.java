@@ -0,0 +1,49 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import checker.SemanticChecker;
+import code.CodeGen;
+import code.IRBuilder;
+import parser.GoLexer;
+import parser.GoParser;
+
+/*
+ * Geração do código Jasmin a partir da AST: a tradução para o IR e a
+ * geração a partir dele. Nenhuma das duas mexe na AST nem nas tabelas,
+ * então o checker roda uma vez só, fora da medida.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CodeGenBenchmark {
+
+	@Param({"1", "10", "100"})
+	int size;
+
+	SemanticChecker checker;
+
+	@Setup
+	public void check() {
+		GoParser parser = new GoParser(new CommonTokenStream(new GoLexer(CharStreams.fromString(GoSources.synthetic(size)))));
+		checker = new SemanticChecker();
+		checker.visit(parser.sourceFile());
+	}
+
+	@Benchmark
+	public String generate() throws Exception {
+		CodeGen gen = new CodeGen(checker.ft, checker.global, checker.st);
+		return gen.generate(new IRBuilder(checker.ft, checker.global).build(checker.getRoot()));
+	}
+}
@@ -0,0 +1,58 @@
+package bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/*
+ * Entradas dos benchmarks.
+ *
+ * O programa sintético tem 'size' funções no mesmo estilo dos testes
+ * (declarações, aritmética, if, for e chamadas) e um main que
+ * chama todas elas, então o tamanho da entrada cresce linearmente com
+ * o parâmetro. Só usa o que o compilador já aceita.
+ */
+final class GoSources {
+
+	private GoSources() {}
+
+	// Descarta as mensagens do compilador durante as medidas.
+	static final PrintStream NULL = new PrintStream(new OutputStream() {
+		@Override
+		public void write(int b) {}
+	});
+
+	static String synthetic(int size) {
+		StringBuilder sb = new StringBuilder("package main\n\n");
+		for (int i = 0; i < size; i++) {
+			sb.append("func f").append(i).append("(a int, b int) (int){\n");
+			sb.append("\tvar x int = ").append(i).append(";\n");
+			sb.append("\ty := a*b + x - (a+").append(i % 7).append(")*2\n");
+			sb.append("\tfor(x > 0){\n");
+			sb.append("\t\tx = x - 2\n");
+			sb.append("\t}\n");
+			sb.append("\tif(y > 10){\n");
+			sb.append("\t\tx = x + y % 3\n");
+			sb.append("\t}\n");
+			sb.append("\treturn x + y\n");
+			sb.append("}\n\n");
+		}
+		sb.append("func main() {\n");
+		sb.append("\tvar r int = 0;\n");
+		for (int i = 0; i < size; i++) {
+			sb.append("\tr = f").append(i).append("(r, ").append(i).append(");\n");
+		}
+		sb.append("\tfmt.Println(r)\n");
+		sb.append("\tfmt.Println(\"fim\")\n");
+		sb.append("}\n");
+		return sb.toString();
+	}
+
+	// Um dos programas da pasta tests, lido do disco.
+	static String test(String name) throws IOException {
+		return new String(Files.readAllBytes(new File("tests", name + ".go").toPath()), StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,49 @@
+package bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import parser.GoLexer;
+import parser.GoParser;
+
+/*
+ * Parsing com o GoParser (incluindo os predicados do GoParserBase)
+ * a partir de tokens já prontos, para não medir o lexer junto.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParserBenchmark {
+
+	@Param({"1", "10", "100"})
+	int size;
+
+	List<Token> tokens;
+
+	@Setup
+	public void setup() {
+		CommonTokenStream stream = new CommonTokenStream(new GoLexer(CharStreams.fromString(GoSources.synthetic(size))));
+		stream.fill();
+		tokens = stream.getTokens();
+	}
+
+	@Benchmark
+	public ParseTree parse() {
+		GoParser parser = new GoParser(new CommonTokenStream(new ListTokenSource(tokens)));
+		return parser.sourceFile();
+	}
+}
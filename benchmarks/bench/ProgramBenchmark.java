@@ -0,0 +1,42 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import checker.Compiler;
+
+/*
+ * Compilação completa (todas as fases) dos programas da pasta tests,
+ * como exemplo de entradas reais. Rodar a partir da raiz do projeto.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProgramBenchmark {
+
+	@Param({"HelloWorld", "fibonnati", "ifStmt", "funcReturn", "repet"})
+	String program;
+
+	String source;
+	Compiler compiler;
+
+	@Setup
+	public void setup() throws Exception {
+		source = GoSources.test(program);
+		compiler = new Compiler();
+	}
+
+	@Benchmark
+	public byte[] compile() throws Exception {
+		return compiler.compile(CharStreams.fromString(source, program + ".go"), "GoProgram", GoSources.NULL, GoSources.NULL);
+	}
+}
@@ -0,0 +1,108 @@
+package bench;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import tables.FuncTable;
+import tables.ScopeTable;
+import tables.VarTable;
+import typing.Type;
+
+/*
+ * Resolução de nomes como o checker faz: variáveis pelo ScopeTable, com
+ * os números de símbolo do lexer, e funções pelo FuncTable. Todos os
+ * nomes são declarados no escopo global; cada chamada procura o próximo
+ * de uma lista embaralhada, então o resultado é a média sobre posições
+ * diferentes da tabela.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SymbolTableBenchmark {
+
+	@Param({"10", "100", "1000", "10000"})
+	int symbols;
+
+	ScopeTable scopes;
+	ScopeTable body; // Tabela de um corpo de função, por cima da global.
+	VarTable vt;
+	FuncTable ft;
+	int[] ids;
+	String[] names;
+	int next;
+
+	@Setup
+	public void setup() {
+		scopes = new ScopeTable();
+		vt = new VarTable();
+		ft = new FuncTable();
+		ids = new int[symbols];
+		names = new String[symbols];
+		for (int i = 0; i < symbols; i++) {
+			ids[i] = i;
+			names[i] = "sym" + i;
+			scopes.declare(i, vt, vt.addVar(names[i], i, Type.INT_TYPE));
+			ft.addFunc(names[i], i, new ArrayList<Type>(), new ArrayList<Type>(), new VarTable());
+		}
+		body = new ScopeTable(scopes);
+		body.push();
+		// Embaralha com semente fixa para a ordem ser sempre a mesma.
+		java.util.Random random = new java.util.Random(42);
+		for (int i = symbols - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			int aux = ids[i];
+			ids[i] = ids[j];
+			ids[j] = aux;
+			String nome = names[i];
+			names[i] = names[j];
+			names[j] = nome;
+		}
+	}
+
+	private int nextIndex() {
+		int i = next;
+		next = next + 1 == ids.length ? 0 : next + 1;
+		return i;
+	}
+
+	@Benchmark
+	public ScopeTable.Symbol lookup() {
+		return scopes.lookup(ids[nextIndex()]);
+	}
+
+	// Nome global visto de dentro de uma função, que cai na tabela de fora.
+	@Benchmark
+	public ScopeTable.Symbol lookupOuter() {
+		return body.lookup(ids[nextIndex()]);
+	}
+
+	@Benchmark
+	public ScopeTable.Symbol lookupMissing() {
+		return scopes.lookup(symbols);
+	}
+
+	// Um bloco que declara uma variável escondendo uma global e a usa.
+	@Benchmark
+	public ScopeTable.Symbol block() {
+		int id = ids[nextIndex()];
+		body.push();
+		body.declare(id, vt, 0);
+		ScopeTable.Symbol s = body.lookup(id);
+		body.pop();
+		return s;
+	}
+
+	@Benchmark
+	public int lookupFunc() {
+		return ft.lookupFunc(names[nextIndex()]);
+	}
+}
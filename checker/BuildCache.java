@@ -0,0 +1,256 @@
+package checker;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.URISyntaxException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/*
+ * Cache de programas compilados, endereçado pelo conteúdo.
+ *
+ * A chave é o SHA-256 do fonte Go, da versão do compilador e das
+ * opções que mudam a saída (por enquanto só o nome da classe). Se a
+ * chave já está no diretório do cache, o .class guardado é devolvido
+ * sem passar pelo lexer, parser, checker, gerador nem Jasmin.
+ *
+ * A versão do compilador é um hash de todos os .class do diretório (ou
+ * jar) de onde o compilador foi carregado, com os nomes, assim qualquer
+ * mudança no código, até numa classe interna, invalida o cache sozinha.
+ *
+ * O tamanho total do cache é limitado: quando passa do limite, os
+ * arquivos usados há mais tempo são apagados (LRU pela data de
+ * modificação, que é atualizada a cada acerto). Escritas e remoções
+ * são feitas com um lock no arquivo 'lock' do diretório, então vários
+ * builds ao mesmo tempo podem dividir o mesmo cache. As entradas são
+ * escritas num temporário e renomeadas, então uma leitura nunca vê
+ * um .class pela metade; os temporários de um processo que morreu no
+ * meio da escrita são apagados na limpeza, depois de uma hora.
+ *
+ * Além do .class, o cache guarda o resultado do front-end de cada
+ * fonte (ver CheckedProgram) em NOME.ast, com uma chave que não
+ * depende do nome da classe. Assim o mesmo fonte compilado com outras
+ * opções pula o lexer, o parser e o checker e vai direto para o
+ * gerador de código.
+ */
+public final class BuildCache {
+
+	public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+	// Idade a partir da qual um temporário é de uma escrita que não
+	// terminou (o processo morreu antes do move) e pode ser apagado.
+	private static final long TMP_MAX_AGE_MILLIS = 60L * 60 * 1000;
+
+	private static String version;
+
+	private final File dir;
+	private final long maxBytes;
+
+	public BuildCache(File dir, long maxBytes) {
+		this.dir = dir;
+		this.maxBytes = maxBytes;
+		dir.mkdirs();
+	}
+
+	// Chave da entrada para o fonte e o nome de classe dados.
+	public String key(String source, String className) {
+		MessageDigest md = sha256();
+		md.update(compilerVersion().getBytes(StandardCharsets.UTF_8));
+		md.update((byte) 0);
+		md.update(className.getBytes(StandardCharsets.UTF_8));
+		md.update((byte) 0);
+		md.update(source.getBytes(StandardCharsets.UTF_8));
+		return hex(md.digest());
+	}
+
+	// Chave do resultado do front-end para o fonte dado.
+	public String frontEndKey(String source) {
+		MessageDigest md = sha256();
+		md.update(compilerVersion().getBytes(StandardCharsets.UTF_8));
+		md.update((byte) 0);
+		md.update(source.getBytes(StandardCharsets.UTF_8));
+		return hex(md.digest());
+	}
+
+	// Retorna o .class guardado para a chave ou null se não tiver.
+	public byte[] get(String key) {
+		return read(key + ".class");
+	}
+
+	// Guarda o .class e apaga as entradas mais antigas se o cache
+	// passou do tamanho máximo.
+	public void put(String key, byte[] classe) {
+		write(key + ".class", classe);
+	}
+
+	// Retorna o front-end guardado para a chave ou null se não tiver.
+	public byte[] getFrontEnd(String key) {
+		return read(key + ".ast");
+	}
+
+	public void putFrontEnd(String key, byte[] programa) {
+		write(key + ".ast", programa);
+	}
+
+	private byte[] read(String nome) {
+		File f = new File(dir, nome);
+		try {
+			byte[] conteudo = Files.readAllBytes(f.toPath());
+			f.setLastModified(System.currentTimeMillis());
+			return conteudo;
+		} catch (IOException e) {
+			return null; // Sem a entrada, ou com problema: é só uma falta.
+		}
+	}
+
+	private void write(String nome, byte[] conteudo) {
+		File tmp = null;
+		try {
+			tmp = File.createTempFile(nome, ".tmp", dir);
+			Path origem = tmp.toPath();
+			Files.write(origem, conteudo);
+			withLock(() -> {
+				Files.move(origem, new File(dir, nome).toPath(),
+						StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				evict();
+			});
+		} catch (IOException e) {
+			System.err.println("build cache: " + e.getMessage());
+		} finally {
+			// Depois do move o temporário não existe mais; se a escrita
+			// ou o move falharam, ele não fica para trás.
+			if (tmp != null) tmp.delete();
+		}
+	}
+
+	// Apaga os temporários abandonados e as entradas usadas há mais
+	// tempo até caber no limite. Chamado com o lock pego.
+	private void evict() {
+		// Os temporários são escritos fora do lock, então um recente
+		// pode ser de uma escrita em andamento noutro processo.
+		long limite = System.currentTimeMillis() - TMP_MAX_AGE_MILLIS;
+		File[] temporarios = dir.listFiles((d, name) -> name.endsWith(".tmp"));
+		if (temporarios != null) {
+			for (File f : temporarios) {
+				if (f.lastModified() < limite) f.delete();
+			}
+		}
+
+		File[] entradas = dir.listFiles((d, name) -> name.endsWith(".class") || name.endsWith(".ast"));
+		if (entradas == null) return;
+
+		long total = 0;
+		for (File f : entradas) total += f.length();
+		if (total <= maxBytes) return;
+
+		Arrays.sort(entradas, Comparator.comparingLong(File::lastModified));
+		for (File f : entradas) {
+			if (total <= maxBytes) break;
+			long tam = f.length();
+			if (f.delete()) total -= tam;
+		}
+	}
+
+	private interface LockedAction {
+		void run() throws IOException;
+	}
+
+	// O FileLock protege contra outros processos; o synchronized contra
+	// outras threads desta JVM, que o FileLock não cobre.
+	private static final Object jvmLock = new Object();
+
+	private void withLock(LockedAction action) throws IOException {
+		synchronized (jvmLock) {
+			try (RandomAccessFile raf = new RandomAccessFile(new File(dir, "lock"), "rw");
+					FileChannel channel = raf.getChannel()) {
+				channel.lock(); // Solto quando o canal é fechado.
+				action.run();
+			}
+		}
+	}
+
+	// Hash dos .class do compilador, calculado uma vez por execução.
+	// Sem como ler as classes, não tem como saber se uma entrada é de
+	// outra versão, então o erro não é engolido.
+	static synchronized String compilerVersion() {
+		if (version != null) return version;
+
+		CodeSource origem = BuildCache.class.getProtectionDomain().getCodeSource();
+		if (origem == null) {
+			throw new IllegalStateException("build cache: compiler classes have no code source");
+		}
+		try {
+			File local = new File(origem.getLocation().toURI());
+			MessageDigest md = sha256();
+			if (local.isDirectory()) hashDirectory(local.toPath(), md);
+			else hashJar(local, md);
+			version = hex(md.digest());
+			return version;
+		} catch (IOException | URISyntaxException e) {
+			throw new IllegalStateException("build cache: cannot read compiler classes: " + e.getMessage(), e);
+		}
+	}
+
+	// Os .class de um diretório do classpath, na ordem dos caminhos.
+	private static void hashDirectory(Path raiz, MessageDigest md) throws IOException {
+		List<Path> classes = new ArrayList<Path>();
+		try (Stream<Path> arquivos = Files.walk(raiz)) {
+			arquivos.filter(p -> p.toString().endsWith(".class")).forEach(classes::add);
+		}
+		Collections.sort(classes);
+		for (Path p : classes) {
+			md.update(raiz.relativize(p).toString().replace(File.separatorChar, '/').getBytes(StandardCharsets.UTF_8));
+			md.update((byte) 0);
+			md.update(Files.readAllBytes(p));
+		}
+	}
+
+	// Os .class de um jar, na ordem dos nomes.
+	private static void hashJar(File arquivo, MessageDigest md) throws IOException {
+		try (JarFile jar = new JarFile(arquivo)) {
+			List<JarEntry> classes = new ArrayList<JarEntry>();
+			for (JarEntry e : Collections.list(jar.entries())) {
+				if (e.getName().endsWith(".class")) classes.add(e);
+			}
+			classes.sort(Comparator.comparing(JarEntry::getName));
+			byte[] buf = new byte[8192];
+			for (JarEntry e : classes) {
+				md.update(e.getName().getBytes(StandardCharsets.UTF_8));
+				md.update((byte) 0);
+				try (InputStream in = jar.getInputStream(e)) {
+					int n;
+					while ((n = in.read(buf)) > 0) md.update(buf, 0, n);
+				}
+			}
+		}
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (Exception e) {
+			throw new IllegalStateException(e); // Toda JVM tem SHA-256.
+		}
+	}
+
+	private static String hex(byte[] bytes) {
+		StringBuilder sb = new StringBuilder();
+		for (byte b : bytes) sb.append(String.format("%02x", b));
+		return sb.toString();
+	}
+}
@@ -0,0 +1,445 @@
+package checker;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import ast.AST;
+import ast.ASTArena;
+import ast.NodeKind;
+import tables.FuncTable;
+import tables.StrTable;
+import tables.VarTable;
+import typing.Type;
+
+/*
+ * Resultado do front-end (lexer, parser e checker) de um programa que
+ * passou na análise semântica: a AST e as tabelas que o CodeGen usa.
+ *
+ * Pode ser gravado num formato binário compacto e lido de volta numa
+ * passada só, e assim uma compilação do mesmo fonte vai direto para o
+ * gerador de código, sem ANTLR nem checker (ver BuildCache). O mesmo
+ * resultado serve para gerar classes com nomes diferentes.
+ *
+ * Formato (inteiros em varint, os que podem ser negativos em zigzag,
+ * floats nos 4 bytes do floatToRawIntBits):
+ *
+ *   magic "GOFE", versão
+ *   strings: n, n x (tamanho, bytes UTF-8)   -- todas as strings abaixo
+ *                                               são índices daqui
+ *   StrTable: n, n x string
+ *   VarTable global
+ *   funções do programa: n, n x (nome, linha, params, retornos, VarTable)
+ *   VarTable atual do checker: 0 = global, i + 1 = da função i
+ *   AST em pré-ordem: n, n x (kind, type, nº de filhos, dados)
+ *
+ * Uma VarTable é (escopo, n, n x (nome, linha, type)). Kinds são o
+ * ordinal do enum; a versão do compilador na chave do BuildCache
+ * garante que quem lê tem os mesmos enums de quem gravou. Um type é 0
+ * para null, senão o ordinal do Type.Kind + 1 seguido dos componentes:
+ * o nome (primitivos), tamanho e elemento (array), elemento (slice),
+ * chave e valor (map), n x (nome, type) (struct) ou parâmetros e
+ * retornos (func). Na leitura os tipos são refeitos pelos construtores
+ * do Type, então voltam a ser os únicos.
+ * As funções embutidas (FuncTable.BUILTINS) não são gravadas.
+ */
+public final class CheckedProgram {
+
+	private static final int MAGIC = 0x474f4645; // "GOFE"
+	private static final int VERSION = 2;
+
+	final AST root;
+	final VarTable global;
+	final VarTable vt; // Tabela em que o checker parou, que o back-end não usa.
+	final FuncTable ft;
+	final StrTable st;
+
+	CheckedProgram(AST root, VarTable global, VarTable vt, FuncTable ft, StrTable st) {
+		this.root = root;
+		this.global = global;
+		this.vt = vt;
+		this.ft = ft;
+		this.st = st;
+	}
+
+	static CheckedProgram of(SemanticChecker checker) {
+		return new CheckedProgram(checker.root, checker.global, checker.vt, checker.ft, checker.st);
+	}
+
+	// ----------------------------------------------------------------
+	// Escrita
+	// ----------------------------------------------------------------
+
+	// Grava o programa.
+	byte[] toBytes() {
+		Escrita corpo = new Escrita();
+
+		int n = st.size();
+		corpo.uint(n);
+		for (int i = 0; i < n; i++) corpo.string(st.get(i));
+
+		writeVarTable(corpo, global);
+
+		int builtins = FuncTable.BUILTINS.getSize();
+		int atual = vt == global ? 0 : -1;
+		corpo.uint(ft.getSize() - builtins);
+		for (int i = builtins; i < ft.getSize(); i++) {
+			corpo.string(ft.getName(i));
+			corpo.sint(ft.getLine(i));
+			writeTypes(corpo, ft.getTypes(i));
+			writeTypes(corpo, ft.getReturns(i));
+			writeVarTable(corpo, ft.getVarTable(i));
+			if (ft.getVarTable(i) == vt) atual = i - builtins + 1;
+		}
+		if (atual < 0) {
+			throw new IllegalStateException("current variable table is not in the program");
+		}
+		corpo.uint(atual);
+
+		writeAST(corpo, root);
+
+		// O pool só fica completo depois do corpo, mas vai na frente
+		// para a leitura ter as strings quando precisar delas.
+		Escrita w = new Escrita();
+		w.fixed(MAGIC);
+		w.uint(VERSION);
+		w.uint(corpo.strings.size());
+		for (String s : corpo.strings) {
+			byte[] b = s.getBytes(StandardCharsets.UTF_8);
+			w.uint(b.length);
+			w.out.write(b, 0, b.length);
+		}
+		byte[] b = corpo.out.toByteArray();
+		w.out.write(b, 0, b.length);
+		return w.out.toByteArray();
+	}
+
+	private static void writeTypes(Escrita w, List<Type> types) {
+		w.uint(types.size());
+		for (Type t : types) w.type(t);
+	}
+
+	private static void writeVarTable(Escrita w, VarTable t) {
+		w.sint(t.getEscopo());
+		w.uint(t.getSize());
+		for (int i = 0; i < t.getSize(); i++) {
+			w.string(t.getName(i));
+			w.sint(t.getLine(i));
+			w.type(t.getType(i));
+		}
+	}
+
+	// Pré-ordem com pilha explícita, como o AST.size().
+	private static void writeAST(Escrita w, AST root) {
+		w.uint(root.size());
+		List<AST> pilha = new ArrayList<AST>();
+		pilha.add(root);
+		List<AST> filhos = new ArrayList<AST>();
+		while (!pilha.isEmpty()) {
+			AST node = pilha.remove(pilha.size() - 1);
+			NodeKind kind = node.getKind();
+			w.uint(kind.ordinal());
+			w.type(node.getType());
+			w.uint(node.getChildCount());
+			switch (kind) {
+				case STR_VAL_NODE:
+					w.sint(node.getIntData());
+					w.string(node.getStringData());
+					break;
+				case BOOL_VAL_NODE:
+					w.uint(node.getBoolData() ? 1 : 0);
+					break;
+				default:
+					w.sint(node.getIntData());
+					w.sint(node.getEscopo());
+					w.fixed(Float.floatToRawIntBits(node.getFloatData()));
+			}
+			filhos.clear();
+			for (AST c = node.getFirstChild(); c != null; c = c.getNextSibling()) filhos.add(c);
+			for (int i = filhos.size() - 1; i >= 0; i--) pilha.add(filhos.get(i));
+		}
+	}
+
+	// ----------------------------------------------------------------
+	// Leitura
+	// ----------------------------------------------------------------
+
+	// Lê um programa gravado pelo toBytes. Lança IOException se os bytes
+	// não estão no formato.
+	static CheckedProgram fromBytes(byte[] bytes) throws IOException {
+		Leitura r = new Leitura(bytes);
+		if (r.fixed() != MAGIC || r.uint() != VERSION) {
+			throw new IOException("not a checked program image");
+		}
+
+		int nStrings = r.uint();
+		r.pool = new String[nStrings];
+		for (int i = 0; i < nStrings; i++) {
+			int len = r.uint();
+			r.check(len);
+			r.pool[i] = new String(bytes, r.pos, len, StandardCharsets.UTF_8);
+			r.pos += len;
+		}
+
+		StrTable st = new StrTable();
+		int n = r.uint();
+		for (int i = 0; i < n; i++) st.intern(r.string());
+
+		VarTable global = readVarTable(r);
+
+		FuncTable ft = new FuncTable();
+		n = r.uint();
+		List<VarTable> tabelas = new ArrayList<VarTable>(n + 1);
+		tabelas.add(global);
+		for (int i = 0; i < n; i++) {
+			String nome = r.string();
+			int linha = r.sint();
+			List<Type> params = readTypes(r);
+			List<Type> retornos = readTypes(r);
+			VarTable vt = readVarTable(r);
+			ft.addFunc(nome, linha, params, retornos, vt);
+			tabelas.add(vt);
+		}
+		int atual = r.uint();
+		if (atual >= tabelas.size()) throw new IOException("bad variable table index " + atual);
+
+		AST root = readAST(r);
+		if (r.pos != bytes.length) throw new IOException("trailing bytes in checked program image");
+		return new CheckedProgram(root, global, tabelas.get(atual), ft, st);
+	}
+
+	private static final Type.Kind[] TYPE_KINDS = Type.Kind.values();
+	private static final NodeKind[] KINDS = NodeKind.values();
+
+	private static Type readType(Leitura r) throws IOException {
+		int t = r.uint();
+		if (t > TYPE_KINDS.length) throw new IOException("bad type " + t);
+		if (t == 0) return null;
+		switch (TYPE_KINDS[t - 1]) {
+			case ARRAY:
+				int tamanho = r.uint();
+				return Type.array(readType(r), tamanho);
+			case SLICE:
+				return Type.slice(readType(r));
+			case MAP:
+				Type chave = readType(r);
+				return Type.map(chave, readType(r));
+			case STRUCT:
+				int n = r.uint();
+				List<String> nomes = new ArrayList<String>(n);
+				List<Type> tipos = new ArrayList<Type>(n);
+				for (int i = 0; i < n; i++) {
+					nomes.add(r.string());
+					tipos.add(readType(r));
+				}
+				return Type.struct(nomes, tipos);
+			case FUNC:
+				List<Type> params = readTypes(r);
+				return Type.func(params, readTypes(r));
+			default:
+				String nome = r.string();
+				Type tipo = Type.named(nome);
+				if (tipo == null) throw new IOException("bad type name " + nome);
+				return tipo;
+		}
+	}
+
+	private static List<Type> readTypes(Leitura r) throws IOException {
+		int n = r.uint();
+		List<Type> types = new ArrayList<Type>(n);
+		for (int i = 0; i < n; i++) types.add(readType(r));
+		return types;
+	}
+
+	private static VarTable readVarTable(Leitura r) throws IOException {
+		VarTable t = new VarTable();
+		t.setEscopo(r.sint());
+		int n = r.uint();
+		for (int i = 0; i < n; i++) {
+			String nome = r.string();
+			int linha = r.sint();
+			t.addVar(nome, linha, readType(r));
+		}
+		return t;
+	}
+
+	// Refaz a árvore da pré-ordem: cada nó lido é pendurado no nó do topo
+	// da pilha, que sai dela quando recebeu todos os filhos.
+	private static AST readAST(Leitura r) throws IOException {
+		int n = r.uint();
+		if (n == 0) throw new IOException("empty tree");
+		ASTArena arena = new ASTArena(n);
+		AST[] pais = new AST[16];
+		int[] faltam = new int[16];
+		int topo = -1;
+		AST root = null;
+		for (int i = 0; i < n; i++) {
+			int k = r.uint();
+			if (k >= KINDS.length) throw new IOException("bad node kind " + k);
+			NodeKind kind = KINDS[k];
+			Type type = readType(r);
+			int nFilhos = r.uint();
+			AST node;
+			switch (kind) {
+				case STR_VAL_NODE:
+					int intData = r.sint();
+					node = arena.newNode(kind, intData, r.string(), type);
+					break;
+				case BOOL_VAL_NODE:
+					node = arena.newNode(kind, r.uint() != 0, type);
+					break;
+				default:
+					int dado = r.sint();
+					int escopo = r.sint();
+					node = arena.newNode(kind, dado, escopo, Float.intBitsToFloat(r.fixed()), type);
+			}
+
+			if (topo < 0) {
+				if (root != null) throw new IOException("more than one root");
+				root = node;
+			} else {
+				pais[topo].addChild(node);
+				if (--faltam[topo] == 0) topo--;
+			}
+			if (nFilhos > 0) {
+				if (++topo == pais.length) {
+					pais = Arrays.copyOf(pais, 2 * topo);
+					faltam = Arrays.copyOf(faltam, 2 * topo);
+				}
+				pais[topo] = node;
+				faltam[topo] = nFilhos;
+			}
+		}
+		if (topo >= 0) throw new IOException("truncated tree");
+		return root;
+	}
+
+	// ----------------------------------------------------------------
+	// Varints
+	// ----------------------------------------------------------------
+
+	private static final class Escrita {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final Map<String, Integer> pool = new HashMap<String, Integer>();
+		final List<String> strings = new ArrayList<String>();
+
+		void uint(int v) {
+			while ((v & ~0x7f) != 0) {
+				out.write((v & 0x7f) | 0x80);
+				v >>>= 7;
+			}
+			out.write(v);
+		}
+
+		void sint(int v) {
+			uint((v << 1) ^ (v >> 31));
+		}
+
+		// 0 para null, senão o ordinal do kind + 1 e os componentes.
+		void type(Type t) {
+			if (t == null) {
+				uint(0);
+				return;
+			}
+			uint(t.getKind().ordinal() + 1);
+			switch (t.getKind()) {
+				case ARRAY:
+					uint(t.getLength());
+					type(t.getElem());
+					break;
+				case SLICE:
+					type(t.getElem());
+					break;
+				case MAP:
+					type(t.getKey());
+					type(t.getElem());
+					break;
+				case STRUCT:
+					uint(t.getFieldNames().size());
+					for (int i = 0; i < t.getFieldNames().size(); i++) {
+						string(t.getFieldNames().get(i));
+						type(t.getFieldTypes().get(i));
+					}
+					break;
+				case FUNC:
+					writeTypes(this, t.getParams());
+					writeTypes(this, t.getResults());
+					break;
+				default:
+					string(t.toString());
+			}
+		}
+
+		void fixed(int v) {
+			out.write(v >>> 24);
+			out.write(v >>> 16);
+			out.write(v >>> 8);
+			out.write(v);
+		}
+
+		void string(String s) {
+			Integer id = pool.get(s);
+			if (id == null) {
+				id = strings.size();
+				pool.put(s, id);
+				strings.add(s);
+			}
+			uint(id);
+		}
+	}
+
+	private static final class Leitura {
+		final byte[] in;
+		int pos;
+		String[] pool;
+
+		Leitura(byte[] in) {
+			this.in = in;
+		}
+
+		void check(int n) throws IOException {
+			if (n < 0 || pos + n > in.length) throw new IOException("truncated checked program image");
+		}
+
+		int uint() throws IOException {
+			int v = varint();
+			if (v < 0) throw new IOException("bad varint");
+			return v;
+		}
+
+		int sint() throws IOException {
+			int v = varint();
+			return (v >>> 1) ^ -(v & 1);
+		}
+
+		private int varint() throws IOException {
+			int v = 0;
+			for (int shift = 0; shift < 35; shift += 7) {
+				check(1);
+				int b = in[pos++];
+				v |= (b & 0x7f) << shift;
+				if ((b & 0x80) == 0) return v;
+			}
+			throw new IOException("bad varint");
+		}
+
+		int fixed() throws IOException {
+			check(4);
+			int v = ((in[pos] & 0xff) << 24) | ((in[pos + 1] & 0xff) << 16)
+					| ((in[pos + 2] & 0xff) << 8) | (in[pos + 3] & 0xff);
+			pos += 4;
+			return v;
+		}
+
+		String string() throws IOException {
+			int id = uint();
+			if (id >= pool.length) throw new IOException("bad string index " + id);
+			return pool[id];
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package checker;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Cliente de linha de comando do servidor de compilação (ver Server).
+ *
+ * Uso: Client [-p PORTA] [-d DIR] ARQUIVO...
+ *      Client [-p PORTA] --stats
+ *      Client [-p PORTA] --quit
+ *
+ * Os arquivos são mandados para o servidor pela mesma conexão. Como
+ * no Main, um único arquivo sem -d vira GoProgram.class no diretório
+ * atual; senão cada programa vai para DIR/nome/nome.class.
+ */
+public class Client {
+
+	public static void main(String[] args) throws Exception {
+		int port = Server.DEFAULT_PORT;
+		String outDir = null;
+		byte cmd = Server.COMPILE;
+		List<File> files = new ArrayList<File>();
+
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("-p") && i + 1 < args.length) {
+				port = Integer.parseInt(args[++i]);
+			} else if (args[i].equals("-d") && i + 1 < args.length) {
+				outDir = args[++i];
+			} else if (args[i].equals("--stats")) {
+				cmd = Server.STATS;
+			} else if (args[i].equals("--quit")) {
+				cmd = Server.QUIT;
+			} else {
+				files.add(new File(args[i]));
+			}
+		}
+
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+				DataInputStream in = new DataInputStream(socket.getInputStream());
+				DataOutputStream out = new DataOutputStream(socket.getOutputStream())) {
+
+			if (cmd == Server.STATS) {
+				out.writeByte(Server.STATS);
+				out.flush();
+				System.out.println(in.readUTF());
+				return;
+			}
+			if (cmd == Server.QUIT) {
+				out.writeByte(Server.QUIT);
+				out.flush();
+				return;
+			}
+
+			boolean single = files.size() == 1 && outDir == null;
+			for (File file : files) {
+				String className = single ? "GoProgram" : Main.className(file);
+				compile(in, out, file, className, single ? null : outDir == null ? "output" : outDir);
+			}
+		}
+	}
+
+	private static void compile(DataInputStream in, DataOutputStream out, File file, String className, String outDir) throws Exception {
+		long inicio = System.nanoTime();
+		byte[] fonte = Files.readAllBytes(file.toPath());
+		out.writeByte(Server.COMPILE);
+		out.writeUTF(className);
+		out.writeInt(fonte.length);
+		out.write(fonte);
+		out.flush();
+
+		boolean ok = in.readBoolean();
+		byte[] msgs = new byte[in.readInt()];
+		in.readFully(msgs);
+		byte[] classe = new byte[in.readInt()];
+		in.readFully(classe);
+		long latenciaServidor = in.readLong();
+		long latencia = System.nanoTime() - inicio;
+
+		System.out.print(new String(msgs, StandardCharsets.UTF_8));
+		if (ok) {
+			File arq;
+			if (outDir == null) {
+				arq = new File(className + ".class");
+			} else {
+				File dir = new File(outDir, className);
+				dir.mkdirs();
+				arq = new File(dir, className + ".class");
+			}
+			try (OutputStream os = new FileOutputStream(arq)) {
+				os.write(classe);
+			}
+			System.out.println("Generated: " + arq.getPath());
+		}
+		System.out.printf("%s: compile %.2f ms, round trip %.2f ms\n",
+				file.getPath(), latenciaServidor / 1e6, latencia / 1e6);
+	}
+}
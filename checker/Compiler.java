@@ -0,0 +1,265 @@
+package checker;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import code.Assembler;
+import code.CodeGen;
+import code.ConstantFolder;
+import code.IRBuilder;
+import code.IRFunction;
+
+import parser.GoLexer;
+import parser.GoParser;
+
+/*
+ * Executa todas as fases do compilador (lexer, parser, checker,
+ * gerador de código e montador) para um programa.
+ *
+ * O lexer, o buffer de tokens e o parser são criados uma única vez
+ * e reaproveitados entre as compilações, assim o modo batch do Main
+ * não paga a criação deles (nem o aquecimento das caches do ANTLR e
+ * do JIT) a cada arquivo. O checker e o gerador de código guardam
+ * estado da compilação, então são recriados a cada programa.
+ *
+ * Um Compiler não pode ser usado por duas threads ao mesmo tempo.
+ * Na compilação em paralelo cada thread tem o seu.
+ */
+public final class Compiler {
+
+	private final GoLexer lexer;
+	private final CommonTokenStream tokens;
+	private final GoParser parser;
+	private final SyntaxErrorListener errorListener = new SyntaxErrorListener();
+	private final BailErrorStrategy bailStrategy = new BailErrorStrategy();
+	private final DefaultErrorStrategy defaultStrategy = new DefaultErrorStrategy();
+	private BuildCache cache; // Opcional, ver BuildCache.
+	private Timings timings;  // Medidas da última compilação.
+
+	public Compiler() {
+		// Entrada vazia só para criar os objetos; a de verdade vem no compile.
+		this.lexer = new GoLexer(CharStreams.fromString(""));
+		this.tokens = new CommonTokenStream(lexer);
+		this.parser = new GoParser(tokens);
+
+		// Troca o ConsoleErrorListener padrão por um que escreve na saída
+		// de erros da compilação atual. O parser só ganha o listener na
+		// segunda tentativa do parse (ver parse).
+		lexer.removeErrorListeners();
+		lexer.addErrorListener(errorListener);
+		parser.removeErrorListeners();
+	}
+
+	// Contadores de todas as compilações desta JVM: quantos parses foram
+	// feitos e em quantos o SLL falhou e foi preciso refazer com LL.
+	private static final AtomicLong parses = new AtomicLong();
+	private static final AtomicLong llFallbacks = new AtomicLong();
+
+	public static long getParseCount() {
+		return parses.get();
+	}
+
+	public static long getLLFallbackCount() {
+		return llFallbacks.get();
+	}
+
+	public void setCache(BuildCache cache) {
+		this.cache = cache;
+	}
+
+	// Tempo e alocação por fase da última compilação (--timings).
+	// É null se a última compilação veio do cache.
+	public Timings getTimings() {
+		return timings;
+	}
+
+	// Compila o programa lido de 'input' gerando uma classe com o nome
+	// passado. Retorna os bytes do .class ou null se houve algum erro.
+	public byte[] compile(CharStream input, String className) throws Exception {
+		return compile(input, className, System.out, System.err);
+	}
+
+	// Igual ao anterior, mas as mensagens vão para 'out' e 'err'.
+	public byte[] compile(CharStream input, String className, PrintStream out, PrintStream err) throws Exception {
+		// Se o mesmo fonte já foi compilado, nem passa pelas fases.
+		timings = null;
+		String key = null;
+		String frontEndKey = null;
+		if (cache != null) {
+			String source = input.getText(Interval.of(0, input.size() - 1));
+			key = cache.key(source, className);
+			byte[] classe = cache.get(key);
+			if (classe != null) {
+				out.println("PARSE SUCCESSFUL! (cached)");
+				return classe;
+			}
+			frontEndKey = cache.frontEndKey(source);
+		}
+
+		byte[] classe = compileUncached(input, className, out, err, frontEndKey);
+		if (classe != null && cache != null) {
+			cache.put(key, classe);
+		}
+		return classe;
+	}
+
+	private byte[] compileUncached(CharStream input, String className, PrintStream out, PrintStream err,
+			String frontEndKey) throws Exception {
+		errorListener.err = err;
+		Timings t = new Timings(input.getSourceName());
+		timings = t;
+
+		// Se o front-end deste fonte está no cache, vai direto para o
+		// gerador de código.
+		CheckedProgram program = null;
+		if (frontEndKey != null) {
+			t.start();
+			program = loadFrontEnd(frontEndKey);
+			t.end("load");
+		}
+		if (program != null) {
+			out.println("PARSE SUCCESSFUL! (cached front end)");
+		} else {
+			program = frontEnd(input, out, err, t);
+			if (program == null) return null;
+			if (frontEndKey != null) cache.putFrontEnd(frontEndKey, program.toBytes());
+		}
+		return backEnd(program, input.getSourceName(), className, err, t);
+	}
+
+	private CheckedProgram loadFrontEnd(String frontEndKey) {
+		byte[] bytes = cache.getFrontEnd(frontEndKey);
+		if (bytes == null) return null;
+		try {
+			return CheckedProgram.fromBytes(bytes);
+		} catch (IOException e) {
+			return null; // Entrada estragada: compila do fonte.
+		}
+	}
+
+	// Lexer, parser e checker. Retorna null se o programa tem erro.
+	private CheckedProgram frontEnd(CharStream input, PrintStream out, PrintStream err, Timings t) {
+		// Aponta o lexer e o parser para a nova entrada. O setTokenSource
+		// e o setTokenStream também limpam o estado da compilação anterior.
+		// O fill roda o lexer na entrada toda de uma vez, antes do parser,
+		// para que o tempo de cada um possa ser medido separado.
+		t.start();
+		lexer.setInputStream(input);
+		tokens.setTokenSource(lexer);
+		tokens.fill();
+		t.end("lexer");
+
+		// Começa o processo de parsing na regra 'sourceFile'.
+		t.start();
+		ParseTree tree = parse();
+		t.end("parser");
+		t.llFallback = parser.getInterpreter().getPredictionMode() == PredictionMode.LL;
+
+		if (parser.getNumberOfSyntaxErrors() != 0) {
+			// Houve algum erro sintático. Termina a compilação aqui.
+			return null;
+		}
+
+		// Cria o analisador semântico e visita a ParseTree para
+		// fazer a análise.
+		t.start();
+		SemanticChecker checker = new SemanticChecker();
+		checker.out = out;
+		checker.err = err;
+		checker.visit(tree);
+		t.end("checker");
+
+		if (!checker.hasPassed()) {
+			out.println("PARSE FAILED!");
+			return null;
+		}
+
+		out.println("PARSE SUCCESSFUL!");
+		return CheckedProgram.of(checker);
+	}
+
+	// Otimização da AST, tradução para o IR, gerador de código e montador.
+	private byte[] backEnd(CheckedProgram program, String sourceName, String className, PrintStream err,
+			Timings t) throws Exception {
+		t.start();
+		new ConstantFolder(program.ft).execute(program.root);
+		t.end("fold");
+
+		t.start();
+		List<IRFunction> ir = new IRBuilder(program.ft, program.global).build(program.root);
+		t.end("ir");
+
+		t.start();
+		CodeGen geradorCodigo = new CodeGen(program.ft, program.global, program.st, className);
+		String jasmin = geradorCodigo.generate(ir);
+		t.end("codegen");
+		// checker.printTables();
+		// checker.printAST();
+
+		// Monta o código Jasmin na mesma JVM, sem passar pelo out.j.
+		t.start();
+		byte[] classe = Assembler.assemble(jasmin, sourceName, err);
+		t.end("jasmin");
+
+		t.astNodes = program.root.size();
+		t.vars = program.global.getSize();
+		for (int i = 0; i < program.ft.getSize(); i++) {
+			t.vars += program.ft.getVarTable(i).getSize();
+		}
+		t.funcs = program.ft.getSize();
+		t.strings = program.st.size();
+		t.instructions = geradorCodigo.getInstructionCount();
+		return classe;
+	}
+
+	// Parse em dois estágios. Primeiro tenta com predição SLL, que é bem
+	// mais rápida que o LL completo, e com uma estratégia que desiste no
+	// primeiro erro. O SLL só falha em programas com erro de sintaxe ou,
+	// raramente, em construções que precisam do contexto completo; nesses
+	// casos o parse é refeito do início com LL e a estratégia padrão, que
+	// reporta os erros normalmente.
+	private ParseTree parse() {
+		parses.incrementAndGet();
+		parser.setTokenStream(tokens);
+		parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+		parser.setErrorHandler(bailStrategy);
+		parser.removeErrorListeners();
+		try {
+			return parser.sourceFile();
+		} catch (ParseCancellationException e) {
+			llFallbacks.incrementAndGet();
+			tokens.seek(0);
+			parser.reset();
+			parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+			parser.setErrorHandler(defaultStrategy);
+			parser.addErrorListener(errorListener);
+			return parser.sourceFile();
+		}
+	}
+
+	// Mesmo formato do ConsoleErrorListener do ANTLR.
+	private static final class SyntaxErrorListener extends BaseErrorListener {
+		PrintStream err = System.err;
+
+		@Override
+		public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol,
+				int line, int charPositionInLine, String msg, RecognitionException e) {
+			err.println("line " + line + ":" + charPositionInLine + " " + msg);
+		}
+	}
+}
@@ -1,16 +1,19 @@
 package checker;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.tree.ParseTree;
-
-import code.CodeGen;
-
-import parser.GoLexer;
-import parser.GoParser;
 
 public class Main {
 	/*
@@ -24,54 +27,256 @@ public class Main {
 	 * função principal customizada para definir o funcionamento
 	 * do programa.
 	 *
-	 * Esta função espera um único argumento: o nome do
-	 * programa a ser compilado. Em um código real certamente
-	 * deveria haver alguma verificação de erro mas ela foi
-	 * omitida aqui para simplificar o código e facilitar a leitura.
+	 * Uso: Main [-d DIR] [--jobs N] ARQUIVO_OU_DIRETORIO...
+	 *      Main --server [PORTA]
+	 *      Main --run ARQUIVO [ARGS...]
+	 *      (todas aceitam [--timings[=json]] [--cache DIR [--cache-size MB]] antes)
+	 *
+	 * Com um único arquivo .go e sem a opção -d o comportamento é o
+	 * de sempre: é gerado o GoProgram.class no diretório atual.
+	 *
+	 * Com vários arquivos (ou um diretório, que é expandido para os
+	 * .go que estão nele) todos são compilados na mesma JVM, em modo
+	 * batch. Cada programa vira uma classe com o nome do arquivo,
+	 * gravada no seu próprio diretório: DIR/nome/nome.class.
+	 * O diretório padrão é 'output'.
+	 *
+	 * Com --jobs N (N > 1) os programas do batch são compilados em
+	 * paralelo num ForkJoinPool com N threads. Cada thread tem o seu
+	 * Compiler e as mensagens de cada programa são guardadas e
+	 * impressas na ordem dos arquivos, como no modo sequencial.
+	 *
+	 * Com --server o compilador fica rodando como servidor em
+	 * localhost (ver Server e Client).
+	 *
+	 * Com --run o programa é compilado e executado na mesma JVM, sem
+	 * gerar o .class em disco (ver Runner).
+	 *
+	 * Com --timings é impresso em stderr o tempo e a memória alocada por
+	 * cada fase da compilação (--timings=json para o mesmo em JSON).
+	 *
+	 * Com --cache DIR os programas já compilados são guardados em DIR
+	 * e reaproveitados enquanto o fonte e o compilador não mudarem
+	 * (ver BuildCache). --cache-size limita o tamanho do cache em MB.
 	 */
-	public static void main(String[] args) throws IOException {
+	public static void main(String[] args) throws Exception {
+		String outDir = null;
+		int jobs = 1;
+		int serverPort = -1;
+		File runFile = null;
+		String[] runArgs = null;
+		String cacheDir = null;
+		long cacheSize = BuildCache.DEFAULT_MAX_BYTES;
+		List<File> files = new ArrayList<File>();
+
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("--run") && i + 1 < args.length) {
+				// O que vem depois do arquivo são argumentos do programa.
+				runFile = new File(args[i + 1]);
+				runArgs = Arrays.copyOfRange(args, i + 2, args.length);
+				break;
+			} else if (args[i].equals("--server")) {
+				serverPort = Server.DEFAULT_PORT;
+				if (i + 1 < args.length && args[i + 1].matches("\\d+")) {
+					serverPort = Integer.parseInt(args[++i]);
+				}
+			} else if (args[i].equals("-d") && i + 1 < args.length) {
+				outDir = args[++i];
+			} else if ((args[i].equals("--jobs") || args[i].equals("-j")) && i + 1 < args.length) {
+				jobs = Math.max(1, Integer.parseInt(args[++i]));
+			} else if (args[i].equals("--timings")) {
+				timings = "text";
+			} else if (args[i].equals("--timings=json")) {
+				timings = "json";
+			} else if (args[i].equals("--cache") && i + 1 < args.length) {
+				cacheDir = args[++i];
+			} else if (args[i].equals("--cache-size") && i + 1 < args.length) {
+				cacheSize = Long.parseLong(args[++i]) * 1024 * 1024;
+			} else {
+				addInput(files, new File(args[i]));
+			}
+		}
+
+		if (cacheDir != null) {
+			cache = new BuildCache(new File(cacheDir), cacheSize);
+		}
+
+		if (serverPort != -1) {
+			new Server(serverPort).run();
+			return;
+		}
+
+		if (runFile != null) {
+			System.exit(Runner.run(newCompiler(), runFile, runArgs));
+		}
+
+		if (files.isEmpty()) {
+			System.err.println("Usage: Main [-d DIR] [--jobs N] [--timings[=json]] [--cache DIR [--cache-size MB]] FILE_OR_DIR...");
+			System.err.println("       Main --server [PORT] [--cache DIR [--cache-size MB]]");
+			System.err.println("       Main [--cache DIR] --run FILE [ARGS...]");
+			System.exit(2);
+		}
+
+		if (files.size() == 1 && outDir == null) {
+			compileSingle(newCompiler(), files.get(0));
+		} else if (jobs == 1) {
+			compileBatch(newCompiler(), files, outDir == null ? "output" : outDir);
+		} else {
+			compileParallel(files, outDir == null ? "output" : outDir, jobs);
+		}
+	}
+
+	// Cache de compilação compartilhado por todos os Compiler (--cache).
+	private static BuildCache cache;
+
+	// Formato do relatório de tempos por fase: null, "text" ou "json".
+	private static String timings;
+
+	// Imprime o relatório de tempos da última compilação, se pedido.
+	static void printTimings(Compiler compiler, PrintStream out) {
+		Timings t = compiler.getTimings();
+		if (timings == null || t == null) return;
+		out.println(timings.equals("json") ? t.toJson() : t.toString());
+	}
+
+	static Compiler newCompiler() {
+		Compiler compiler = new Compiler();
+		compiler.setCache(cache);
+		return compiler;
+	}
+
+	// Adiciona o arquivo na lista ou, se for um diretório, os .go dele
+	// em ordem alfabética.
+	private static void addInput(List<File> files, File f) {
+		if (f.isDirectory()) {
+			File[] gos = f.listFiles((dir, name) -> name.endsWith(".go"));
+			if (gos == null) return;
+			Arrays.sort(gos);
+			files.addAll(Arrays.asList(gos));
+		} else {
+			files.add(f);
+		}
+	}
+
+	// Compila um único programa para GoProgram.class no diretório atual.
+	private static void compileSingle(Compiler compiler, File file) throws Exception {
 		// Cria um CharStream que lê os caracteres de um arquivo.
 		// O livro do ANTLR fala para criar um ANTLRInputStream,
 		// mas a partir da versão 4.7 essa classe foi deprecada.
 		// Esta é a forma atual para criação do stream.
-		
-		CharStream input = CharStreams.fromFileName(args[0]);
-		
-		// Cria um lexer que consome a entrada do CharStream.
-		GoLexer lexer = new GoLexer(input);
-		
-		// Cria um buffer de tokens vindos do lexer.
-		CommonTokenStream tokens = new CommonTokenStream(lexer);
-		
-		// Cria um parser que consome os tokens do buffer.
-		GoParser parser = new GoParser(tokens);
-		
-		// Começa o processo de parsing na regra 'program'.
-		ParseTree tree = parser.sourceFile();
-		
-		if (parser.getNumberOfSyntaxErrors() != 0) {
-			// Houve algum erro sintático. Termina a compilação aqui.
-			return;
+		CharStream input = CharStreams.fromFileName(file.getPath());
+
+		byte[] classe = compiler.compile(input, "GoProgram");
+		printTimings(compiler, System.err);
+		if (classe != null) {
+			writeClass(new File("GoProgram.class"), classe);
+			System.out.println("Generated: GoProgram.class");
 		}
+	}
+
+	// Compila todos os programas na mesma JVM, cada um com a sua classe.
+	private static void compileBatch(Compiler compiler, List<File> files, String outDir) {
+		int ok = 0;
+		long inicio = System.nanoTime();
+
+		for (File file : files) {
+			if (compileOne(compiler, file, outDir, System.out, System.err)) ok++;
+		}
+
+		System.out.printf("\n%d of %d programs compiled in %d ms.\n",
+				ok, files.size(), (System.nanoTime() - inicio) / 1000000);
+		printParseCounters();
+	}
+
+	// Mensagens e resultado de um programa compilado em paralelo.
+	private static final class Resultado {
+		boolean ok;
+		String out;
+		String err;
+	}
+
+	// Compila os programas em paralelo. Cada thread do pool reaproveita
+	// o seu próprio Compiler; as mensagens de cada programa ficam em
+	// buffers (um para o stdout, outro para o stderr) e são impressas
+	// depois, na ordem dos arquivos.
+	private static void compileParallel(List<File> files, String outDir, int jobs) throws Exception {
+		long inicio = System.nanoTime();
+		ThreadLocal<Compiler> compilers = ThreadLocal.withInitial(Main::newCompiler);
+		ForkJoinPool pool = new ForkJoinPool(jobs);
+		List<Future<Resultado>> resultados = new ArrayList<Future<Resultado>>();
+
+		for (File file : files) {
+			resultados.add(pool.submit(() -> {
+				ByteArrayOutputStream bufferOut = new ByteArrayOutputStream();
+				ByteArrayOutputStream bufferErr = new ByteArrayOutputStream();
+				PrintStream out = new PrintStream(bufferOut, true, "UTF-8");
+				PrintStream err = new PrintStream(bufferErr, true, "UTF-8");
+				Resultado r = new Resultado();
+				r.ok = compileOne(compilers.get(), file, outDir, out, err);
+				r.out = bufferOut.toString("UTF-8");
+				r.err = bufferErr.toString("UTF-8");
+				return r;
+			}));
+		}
+
+		int ok = 0;
+		for (Future<Resultado> f : resultados) {
+			Resultado r = f.get();
+			System.out.print(r.out);
+			System.out.flush();
+			System.err.print(r.err);
+			System.err.flush();
+			if (r.ok) ok++;
+		}
+		pool.shutdown();
+
+		System.out.printf("\n%d of %d programs compiled in %d ms (%d jobs).\n",
+				ok, files.size(), (System.nanoTime() - inicio) / 1000000, jobs);
+		printParseCounters();
+	}
+
+	// Quantos parses precisaram ser refeitos com LL (ver Compiler.parse).
+	private static void printParseCounters() {
+		System.out.printf("%d parses, %d LL fallbacks.\n",
+				Compiler.getParseCount(), Compiler.getLLFallbackCount());
+	}
+
+	// Compila um programa do batch para DIR/nome/nome.class. Um erro
+	// inesperado num arquivo não interrompe os demais.
+	private static boolean compileOne(Compiler compiler, File file, String outDir, PrintStream out, PrintStream err) {
+		out.printf("\nCompiling %s\n", file.getPath());
+		String className = className(file);
+		try {
+			byte[] classe = compiler.compile(CharStreams.fromFileName(file.getPath()), className, out, err);
+			printTimings(compiler, err);
+			if (classe == null) return false;
+
+			File dir = new File(outDir, className);
+			dir.mkdirs();
+			File arq = new File(dir, className + ".class");
+			writeClass(arq, classe);
+			out.println("Generated: " + arq.getPath());
+			return true;
+		} catch (Exception e) {
+			e.printStackTrace(err);
+			return false;
+		}
+	}
+
+	// Nome da classe gerada a partir do nome do arquivo, trocando o que
+	// não pode aparecer num identificador Java por '_'.
+	static String className(File file) {
+		String nome = file.getName();
+		if (nome.endsWith(".go")) nome = nome.substring(0, nome.length() - 3);
+		nome = nome.replaceAll("[^A-Za-z0-9_$]", "_");
+		if (nome.isEmpty() || Character.isDigit(nome.charAt(0))) nome = "_" + nome;
+		return nome;
+	}
 
-		// Cria o analisador semântico e visita a ParseTree para
-		// fazer a análise.
-		SemanticChecker checker = new SemanticChecker();
-		checker.visit(tree);
-
-		// Saída final.
-		if (checker.hasPassed()) {
-			System.out.println("PARSE SUCCESSFUL!");
-			CodeGen geradorCodigo = new CodeGen(checker.vt, checker.st, checker.ft, checker.global);
-			geradorCodigo.execute(checker.root);
-			geradorCodigo.closeJasmin();
-			// checker.printTables();
-			// checker.printAST();
-		}else {
-			System.out.println("PARSE FAILED!");
+	private static void writeClass(File file, byte[] classe) throws IOException {
+		try (OutputStream out = new FileOutputStream(file)) {
+			out.write(classe);
 		}
-		// System.out.println("\nCodigo jasmin:\n");
-		
 	}
 
 }
@@ -0,0 +1,65 @@
+package checker;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import org.antlr.v4.runtime.CharStreams;
+
+/*
+ * Modo "go run" (Main --run ARQUIVO [ARGS...]): compila o programa e
+ * executa o GoProgram gerado na própria JVM do compilador, sem gravar
+ * o .class e sem subir outra JVM para o 'java GoProgram'.
+ *
+ * A classe é definida por um ClassLoader só dela e o main é chamado
+ * por um MethodHandle. Como é o mesmo processo, stdin e stdout do
+ * programa são os do compilador. As mensagens do compilador só
+ * aparecem (em stderr) se a compilação falhar, para não misturar com
+ * a saída do programa.
+ */
+final class Runner {
+
+	private Runner() {}
+
+	// ClassLoader que só conhece a classe gerada; o resto é delegado ao pai.
+	private static final class GoClassLoader extends ClassLoader {
+		GoClassLoader() {
+			super(Runner.class.getClassLoader());
+		}
+
+		Class<?> define(String name, byte[] classe) {
+			return defineClass(name, classe, 0, classe.length);
+		}
+	}
+
+	// Retorna o código de saída: 0 se tudo correu bem, 1 se a compilação
+	// falhou ou o programa terminou com uma exceção.
+	static int run(Compiler compiler, File file, String[] args) throws Exception {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		PrintStream log = new PrintStream(buffer, true, "UTF-8");
+		byte[] classe = compiler.compile(CharStreams.fromFileName(file.getPath()), "GoProgram", log, log);
+		Main.printTimings(compiler, System.err);
+		if (classe == null) {
+			System.err.print(buffer.toString("UTF-8"));
+			return 1;
+		}
+
+		Class<?> programa = new GoClassLoader().define("GoProgram", classe);
+		MethodHandle main = MethodHandles.publicLookup().findStatic(programa, "main",
+				MethodType.methodType(void.class, String[].class));
+
+		try {
+			main.invokeExact(args);
+		} catch (Throwable t) {
+			System.out.flush();
+			System.err.print("Exception in thread \"main\" ");
+			t.printStackTrace();
+			return 1;
+		}
+		System.out.flush();
+		return 0;
+	}
+}
@@ -1,21 +1,32 @@
 package checker;
 
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinTask;
 
 import javax.sound.midi.SysexMessage;
 
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Token;
-import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.tree.TerminalNode;
 
 import parser.GoParser;
 import parser.GoParserBaseVisitor;
 import parser.GoParser.ExpressionContext;
+import parserBase.GoToken;
 import tables.FuncTable;
+import tables.ScopeTable;
 import tables.StrTable;
 import tables.VarTable;
 import typing.Type;
 import ast.AST;
+import ast.ASTArena;
 
 /*
  * Analisador semântico de EZLang implementado como um visitor
@@ -50,21 +61,90 @@ public class SemanticChecker extends GoParserBaseVisitor<AST> {
 
 	public VarTable global = new VarTable(); //Tabela de variaveis globais
     public VarTable vt;   // Ponteiro para uma tabela de variaveis;
-    
-    Type lastDeclType;  // Variável "global" com o último tipo declarado.
+    ScopeTable scopes = new ScopeTable(); // Variáveis visíveis em cada escopo.
     
     private boolean passed = true;
 
+    // Saídas das mensagens de erro. O Compiler troca por buffers
+    // quando vários programas são compilados em paralelo.
+    PrintStream out = System.out;
+    PrintStream err = System.err;
+
+    ASTArena arena = new ASTArena(); // Nós da AST deste programa.
     AST root;
 
+    // Só nos checkers dos corpos das funções (ver visitSourceFile).
+    private Mensagens msgs; // Mensagens do corpo, impressas depois na ordem.
+    private AST body;       // AST do corpo, na arena deste checker.
+
+    public SemanticChecker() {
+    }
+
+    // Checker do corpo de uma função, usado na fase 2 do visitSourceFile.
+    // Divide com o 'pai' só o que não muda mais (ft, global e os escopos
+    // de fora, que são lidos por baixo dos dele) e tem o resto próprio:
+    // tabela de strings, arena, escopos e o estado da visita.
+    private SemanticChecker(SemanticChecker pai, VarTable vt, Mensagens msgs) {
+    	this.ft = pai.ft;
+    	this.global = pai.global;
+    	this.scopes = new ScopeTable(pai.scopes);
+    	this.vt = vt;
+    	this.msgs = msgs;
+    	this.out = msgs.out;
+    	this.err = msgs.err;
+    }
+
+    private void checkBody(GoParser.FunctionDeclContext ctx) {
+    	// Parâmetros e o bloco do corpo ficam no mesmo escopo.
+    	scopes.push();
+    	try {
+    		body = visit(ctx);
+    	} finally {
+    		scopes.pop();
+    	}
+    }
+
+    // Mensagens de uma função verificada em paralelo. Guarda cada escrita
+    // em out e em err na ordem em que aconteceu, para depois repetir nas
+    // saídas de verdade com a mesma intercalação de antes.
+    private static final class Mensagens {
+    	private final List<String> textos = new ArrayList<String>();
+    	private final List<Boolean> deErr = new ArrayList<Boolean>();
+    	final PrintStream out = saida(false);
+    	final PrintStream err = saida(true);
+
+    	private PrintStream saida(boolean erro) {
+    		try {
+    			return new PrintStream(new OutputStream() {
+    				@Override
+    				public void write(int b) {
+    					write(new byte[] { (byte) b }, 0, 1);
+    				}
+
+    				@Override
+    				public void write(byte[] b, int off, int len) {
+    					textos.add(new String(b, off, len, StandardCharsets.UTF_8));
+    					deErr.add(erro);
+    				}
+    			}, true, "UTF-8");
+    		} catch (UnsupportedEncodingException e) {
+    			throw new IllegalStateException(e); // Toda JVM tem UTF-8.
+    		}
+    	}
+
+    	void repete(PrintStream out, PrintStream err) {
+    		for (int i = 0; i < textos.size(); i++) {
+    			(deErr.get(i) ? err : out).print(textos.get(i));
+    		}
+    	}
+    }
+
     // Testa se o dado token foi declarado antes.
     void checkVar(Token token) {
-    	String text = token.getText();
-    	int line = token.getLine();
-   		int idx = vt.lookupVar(text);
-   		int idx2 = global.lookupVar(text);
-    	if (idx == -1 && idx2 == -1) {
-    		System.err.printf(
+    	if (scopes.lookup(GoToken.symbolOf(token)) == null) {
+    		String text = token.getText();
+    		int line = token.getLine();
+    		err.printf(
     			"SEMANTIC ERROR (%d): variable '%s' was not declared.\n",
 				line, text);
     		passed = false;
@@ -72,36 +152,28 @@ public class SemanticChecker extends GoParserBaseVisitor<AST> {
         }
     }
 
-    int tamArray = 0;
-    
-    // Cria uma nova variável a partir do dado token.
-    AST newVar(Token token) {
+    // Cria uma nova variável do tipo dado a partir do dado token.
+    AST newVar(Token token, Type tipo) {
 		
     	String text = token.getText();
     	int line = token.getLine();
-   		int idx = vt.lookupVar(text);
-   		int idx2 = global.lookupVar(text);
+    	// Só é erro declarar de novo no mesmo escopo; num escopo de dentro
+    	// a nova variável esconde a de fora, como em Go.
+    	int symbol = GoToken.symbolOf(token);
+    	ScopeTable.Symbol anterior = scopes.lookupCurrent(symbol);
    		
-        if (idx != -1) {
-        	System.err.printf(
+        if (anterior != null) {
+        	err.printf(
     			"SEMANTIC ERROR (%d): variable '%s' already declared at line %d.\n",
-                line, text, vt.getLine(idx));
+                line, text, anterior.getTable().getLine(anterior.getIndex()));
         	passed = false;
             return null;
         }
         
-        if(idx2 != -1) {
-        	System.err.printf(
-    			"SEMANTIC ERROR (%d): variable '%s' already declared at line %d.\n",
-                line, text, global.getLine(idx2));
-        	passed = false;
-            return null;
-        }
-        vt.addVar(text, line, lastDeclType,tamArray);
-        tamArray = 0;
-        idx = vt.lookupVar(text);
+        int idx = vt.addVar(text, line, tipo);
+        scopes.declare(symbol, vt, idx);
         
-        return new AST(ast.NodeKind.VAR_DECL_NODE, idx,vt.getEscopo(), lastDeclType);
+        return arena.newNode(ast.NodeKind.VAR_DECL_NODE, idx,vt.getEscopo(), tipo);
     }
     
     //token recebido é function decl
@@ -110,7 +182,7 @@ public class SemanticChecker extends GoParserBaseVisitor<AST> {
     	int line = ctx.IDENTIFIER().getSymbol().getLine();
    		int idx = ft.lookupFunc(text);
         if (idx != -1) {
-        	System.err.printf(
+        	err.printf(
     			"SEMANTIC ERROR (%d): function '%s' already declared at line %d.\n",
                 line, text, ft.getLine(idx));
         	passed = false;
@@ -118,45 +190,68 @@ public class SemanticChecker extends GoParserBaseVisitor<AST> {
         }
         // Cria a lista de param
         List<Type> param = new ArrayList<Type>();
+        tiposDosParametros(ctx.signature().parameters(), param);
         
-        List<GoParser.ParameterDeclContext> parameterDeclContext = ctx.signature().parameters().parameterDecl(); 
-        int tam = parameterDeclContext.size();
-        
-        for(int i = 0; i < tam; i++) {
-        	String tipo = parameterDeclContext.get(i).type_().typeName().IDENTIFIER().getSymbol().getText();
-        	setLastDeclType(tipo);
-        	param.add(this.lastDeclType);
-        }
-        
-        //cria list retorno
+        //cria list retorno (um tipo sozinho ou uma lista entre parênteses)
         
         List<Type> returns = new ArrayList<Type>();
-        
-        if(ctx.signature().getChildCount() == 1) {
-        	 ft.addFunc(text, line, param, returns, new VarTable());
-        	 return;
-        }
-
-
-       
-        
-        List<GoParser.ParameterDeclContext> parameterDeclContext2 = ctx.signature().result().parameters().parameterDecl(); 
-        int tam2 = parameterDeclContext2.size();
-        
-        for(int i = 0; i < tam2; i++) {
-        	String tipo = parameterDeclContext2.get(i).type_().typeName().IDENTIFIER().getSymbol().getText();
-        	setLastDeclType(tipo);
-        	returns.add(this.lastDeclType);
+        GoParser.ResultContext result = ctx.signature().result();
+        if(result != null && result.type_() != null) {
+        	returns.add(tipoOuErro(result.type_()));
+        }else if(result != null) {
+        	tiposDosParametros(result.parameters(), returns);
         }
         
         ft.addFunc(text, line, param, returns, new VarTable());
        
     }
     
+    // Um tipo por nome declarado: (a, b int) são dois int.
+    private void tiposDosParametros(GoParser.ParametersContext ctx, List<Type> tipos) {
+    	for(GoParser.ParameterDeclContext decl : ctx.parameterDecl()) {
+    		if(decl.ELLIPSIS() != null) unsupportedError(decl.getStart().getLine(), "variadic parameter");
+    		Type tipo = tipoOuErro(decl.type_());
+    		int n = decl.identifierList() == null ? 1 : decl.identifierList().IDENTIFIER().size();
+    		for(int i = 0; i < n; i++) tipos.add(tipo);
+    	}
+    }
+
+    // Tipo escrito no fonte: um nome de tipo ou um array de tamanho
+    // constante. Os outros (slices, maps, ponteiros...) e os nomes que
+    // o checker não conhece dão null.
+    static Type tipoDe(GoParser.Type_Context t) {
+    	Type tipo = Type.NO_TYPE;
+    	if(t.typeName() != null && t.typeName().IDENTIFIER() != null) {
+    		tipo = tipoDeNome(t.typeName().IDENTIFIER().getText());
+    	}else if(t.typeLit() != null && t.typeLit().arrayType() != null) {
+    		GoParser.ArrayTypeContext array = t.typeLit().arrayType();
+    		String tamanho = array.arrayLength().getText();
+    		Type elemento = tipoDe(array.elementType().type_());
+    		if(tamanho.matches("[0-9]+") && elemento != null && !elemento.isArray()) {
+    			tipo = Type.array(elemento, Integer.parseInt(tamanho));
+    		}
+    	}
+    	return tipo == Type.NO_TYPE ? null : tipo;
+    }
+
+    // Igual ao tipoDe, mas um tipo que o checker não trata dá erro (e
+    // NO_TYPE, para a verificação continuar).
+    private Type tipoOuErro(GoParser.Type_Context t) {
+    	Type tipo = tipoDe(t);
+    	if(tipo != null) return tipo;
+    	unsupportedError(t.getStart().getLine(), "type " + t.getText());
+    	return Type.NO_TYPE;
+    }
+
     // Retorna true se os testes passaram.
-    boolean hasPassed() {
+    public boolean hasPassed() {
     	return passed;
     }
+
+    // Raiz da AST construída pela visita.
+    public AST getRoot() {
+    	return root;
+    }
     
     // Exibe o conteúdo das tabelas em stdout.
     void printTables() {
@@ -176,37 +271,75 @@ public class SemanticChecker extends GoParserBaseVisitor<AST> {
     @Override
     public AST visitSourceFile(GoParser.SourceFileContext ctx){
     	
-    	this.root = AST.newSubtree(ast.NodeKind.PROGRAM_NODE, Type.NO_TYPE);
+    	this.root = arena.newSubtree(ast.NodeKind.PROGRAM_NODE, Type.NO_TYPE);
     	
 
-    	ft.addFunc("Println", 0, new ArrayList<Type>() , new ArrayList<Type>(),  new VarTable());
-    	ft.addFunc("Scanln", 0, new ArrayList<Type>() , new ArrayList<Type>(),  new VarTable());
-
+    	// Println e Scanln já estão na ft (FuncTable.BUILTINS), as funções
+    	// do programa começam depois delas.
+    	int base = ft.getSize();
 
     	//variaveis globais
-    	try {
-	    	int tam = ctx.declaration().size();
-	    	vt = global;
-	    	vt.setEscopo(0);
-	    	for(int i = 0;i < tam;i++){
-	    		//this.root.addChild();
-	    		for(AST child: visit(ctx.declaration(i)).getChildren()) this.root.addChild(child);
-	    		
-	    	}
+    	vt = global;
+    	vt.setEscopo(0);
+    	for(GoParser.DeclarationContext declaracao : ctx.declaration()){
+    		if(declaracao.varDecl() == null) {
+    			unsupportedError(declaracao.getStart().getLine(), "declaration " + trecho(declaracao));
+    			continue;
+    		}
+    		AST globais = visit(declaracao);
+    		if(globais != null) this.root.addChildren(globais);
     	}
-    	catch(Exception decl) {
-    		// Se não tiver variavel global
+    	for(GoParser.MethodDeclContext metodo : ctx.methodDecl()){
+    		unsupportedError(metodo.getStart().getLine(), "method " + metodo.IDENTIFIER().getText());
     	}
 
+    	// Fase 1: as assinaturas de todas as funções, em ordem. Depois
+    	// dela a ft e a global só são lidas, então os corpos podem ser
+    	// verificados em paralelo, cada um por um checker próprio.
     	int tam = ctx.functionDecl().size();
+    	SemanticChecker[] corpos = new SemanticChecker[tam];
+    	PrintStream outGlobal = out, errGlobal = err;
+	    for(int i = 0;i < tam;i++) {
+	    	Mensagens msgs = new Mensagens();
+	    	out = msgs.out;
+	    	err = msgs.err;
+	    	try {
+	    		this.newFunc(ctx.functionDecl(i));
+	    	} finally {
+	    		out = outGlobal;
+	    		err = errGlobal;
+	    	}
+	    	VarTable tabela = ft.getVarTable(base+i);
+	    	tabela.setEscopo(base+i+1);
+	    	corpos[i] = new SemanticChecker(this, tabela, msgs);
+	    }
+
+	    // Fase 2: os corpos.
+	    if (tam > 1) {
+	    	List<ForkJoinTask<?>> tarefas = new ArrayList<ForkJoinTask<?>>(tam);
+	    	for (int i = 0; i < tam; i++) {
+	    		SemanticChecker corpo = corpos[i];
+	    		GoParser.FunctionDeclContext decl = ctx.functionDecl(i);
+	    		tarefas.add(ForkJoinTask.adapt(() -> corpo.checkBody(decl)));
+	    	}
+	    	ForkJoinTask.invokeAll(tarefas);
+	    } else {
+	    	for (int i = 0; i < tam; i++) corpos[i].checkBody(ctx.functionDecl(i));
+	    }
+
+	    // Junta os resultados na ordem das funções: mensagens, strings e
+	    // a AST de cada corpo, copiada para a arena deste checker.
 	    for(int i = 0;i < tam;i++) {
-	    	AST func = new AST(ast.NodeKind.FUNC_NODE, i+2, Type.NO_TYPE);
-	    	this.newFunc(ctx.functionDecl(i));
-	    	vt = ft.getVarTable(i+2);
-	    	vt.setEscopo(i+3);
-	    	AST funcVisit = visit(ctx.functionDecl(i));
-	    	func.addChild(funcVisit);
+	    	SemanticChecker corpo = corpos[i];
+	    	corpo.msgs.repete(out, err);
+	    	passed &= corpo.passed;
+	    	int[] strIds = new int[corpo.st.size()];
+	    	for (int j = 0; j < strIds.length; j++) strIds[j] = st.intern(corpo.st.get(j));
+
+	    	AST func = arena.newNode(ast.NodeKind.FUNC_NODE, base+i, Type.NO_TYPE);
+	    	func.addChild(arena.copy(corpo.body, strIds));
 	    	this.root.addChild(func);
+	    	vt = corpo.vt;
 	    }
 
     	return this.root;
@@ -215,110 +348,89 @@ public class SemanticChecker extends GoParserBaseVisitor<AST> {
 	@Override 
 	public AST visitReturnStmt(GoParser.ReturnStmtContext ctx) { 
 		
-		AST returnNode = AST.newSubtree(ast.NodeKind.RETURN_NODE,Type.NO_TYPE);
+		// Um return sem valores fica sem filhos.
+		AST returnNode = arena.newSubtree(ast.NodeKind.RETURN_NODE,Type.NO_TYPE);
+		if(ctx.expressionList() == null) return returnNode;
+
 		int tam = ctx.expressionList().expression().size();
 		for(int i = 0; i < tam;i++){
 			AST expression = makeTreeAssignment(ctx.expressionList().expression(i), null);
+			if(expression == null) return null;
 			returnNode.addChild(expression);
 		}
 		
-		return fazPai(returnNode);
+		return returnNode;
 	}
 
 	
 	@Override 
 	public AST visitParameters(GoParser.ParametersContext ctx){
 		
-		int tam = 0;
-		try{
-			tam = ctx.parameterDecl().size();
-			if(ctx.parameterDecl(0).getChildCount() == 1){
-				return null;
-			}
-		}catch(Exception e){
+		// Sem parâmetros ou só com os tipos (a lista de retornos).
+		int tam = ctx.parameterDecl().size();
+		if(tam == 0 || ctx.parameterDecl(0).getChildCount() == 1){
 			return null;
 		}
 
 		for(int i = 0; i < tam;i++){
-			visit(ctx.parameterDecl(i).type_());
-			newVar(ctx.parameterDecl(i).identifierList().IDENTIFIER(0).getSymbol());
+			GoParser.ParameterDeclContext decl = ctx.parameterDecl(i);
+			// Um tipo que o checker não trata já deu erro no newFunc.
+			Type tipo = tipoDe(decl.type_());
+			for(TerminalNode nome : decl.identifierList().IDENTIFIER()) {
+				newVar(nome.getSymbol(), tipo == null ? Type.NO_TYPE : tipo);
+			}
 		}
 
 		return null;
 	}
     
-    void setLastDeclType(String tipo){
-    	if(tipo.equals("bool")){
-			this.lastDeclType = Type.BOOL_TYPE;
-		}else if(tipo.equals("int") || tipo.equals("int8") || tipo.equals("int16") || tipo.equals("int64")){
-			this.lastDeclType = Type.INT_TYPE;
-		}else if(tipo.equals("string")){
-			this.lastDeclType = Type.STRING_TYPE;
-		}else if(tipo.equals("float64") || tipo.equals("float32")){
-			this.lastDeclType = Type.FLOAT_TYPE;
-		}
+    // Tipo de um nome de tipo do fonte, ou NO_TYPE se o checker não
+    // conhece o nome. O gerador só tem o int e o float de 32 bits da
+    // JVM, então os tamanhos (Type.INT64, Type.FLOAT64...) ainda caem
+    // no INT_TYPE e no FLOAT_TYPE.
+    static Type tipoDeNome(String tipo){
+    	switch(tipo){
+    		case "bool":
+    			return Type.BOOL_TYPE;
+    		case "int": case "int8": case "int16": case "int32": case "int64":
+    			return Type.INT_TYPE;
+    		case "string":
+    			return Type.STRING_TYPE;
+    		case "float64": case "float32":
+    			return Type.FLOAT_TYPE;
+    		default:
+    			return Type.NO_TYPE;
+    	}
     }
 
-    @Override
-	public AST visitNilType(GoParser.NilTypeContext ctx){
-		this.lastDeclType = Type.NULL_TYPE;
-    	return null; // Java says must return something even when Void	
-	}
-	@Override
-	public AST visitIntType(GoParser.IntTypeContext ctx){
-		this.lastDeclType = Type.INT_TYPE;
-    	return null; // Java says must return something even when Void	
-	}
-	@Override
-	public AST visitStringType(GoParser.StringTypeContext ctx){
-		this.lastDeclType = Type.STRING_TYPE;
-
-		this.st.add(ctx.string_().getStop().getText());
-
-    	return null; // Java says must return something even when Void	
-	}
-	@Override
-	public AST visitFloatType(GoParser.FloatTypeContext ctx){
-		this.lastDeclType = Type.FLOAT_TYPE;
-    	return null; // Java says must return something even when Void	
-	}
-	@Override
-	public AST visitArrayType(GoParser.ArrayTypeContext ctx){
-		this.lastDeclType = Type.ARRAY_TYPE;
-    	return null; // Java says must return something even when Void
-	}
-	@Override
-	public AST visitBoolType(GoParser.BoolTypeContext ctx){
-		this.lastDeclType = Type.BOOL_TYPE;
-    	return null; // Java says must return something even when Void
-	}
+    // Tipo de um literal, ou null para os que o checker não trata
+    // (imaginários, runes, literais compostos e funções).
+    static Type tipoLiteral(GoParser.LiteralContext literal){
+    	GoParser.BasicLitContext lit = literal.basicLit();
+    	if(lit instanceof GoParser.IntTypeContext) return Type.INT_TYPE;
+    	if(lit instanceof GoParser.FloatTypeContext) return Type.FLOAT_TYPE;
+    	if(lit instanceof GoParser.StringTypeContext) return Type.STRING_TYPE;
+    	if(lit instanceof GoParser.BoolTypeContext) return Type.BOOL_TYPE;
+    	if(lit instanceof GoParser.NilTypeContext) return Type.NULL_TYPE;
+    	return null;
+    }
 
-	private boolean testExpressionList(GoParser.VarDeclContext ctx, int i) {
-		try {
-			visit(ctx.varSpec(i).expressionList());
-			return true;
-		}catch(Exception e) {
-			// System.out.println("[testExpressionList] Nao encontrei expression list");
-			return false;
-		}
-	}
-	
-	private AST retornaFilhoValor(String s){
-		if(this.lastDeclType == Type.BOOL_TYPE){
+	private AST retornaFilhoValor(String s, Type tipo){
+		if(tipo == Type.BOOL_TYPE){
 			
-			return new AST(ast.NodeKind.BOOL_VAL_NODE,Boolean.parseBoolean(s),Type.BOOL_TYPE);
+			return arena.newNode(ast.NodeKind.BOOL_VAL_NODE,Boolean.parseBoolean(s),Type.BOOL_TYPE);
 			
-		}else if(this.lastDeclType == Type.INT_TYPE){
+		}else if(tipo == Type.INT_TYPE){
 			
-			return new AST(ast.NodeKind.INT_VAL_NODE, Integer.parseInt(s), Type.INT_TYPE);
+			return arena.newNode(ast.NodeKind.INT_VAL_NODE, Integer.parseInt(s), Type.INT_TYPE);
 					
-		}else if(this.lastDeclType == Type.STRING_TYPE){
+		}else if(tipo == Type.STRING_TYPE){
 			
-			return new AST(ast.NodeKind.STR_VAL_NODE, s, Type.STRING_TYPE);
+			return arena.newNode(ast.NodeKind.STR_VAL_NODE, st.intern(s), s, Type.STRING_TYPE);
 			
-		}else if(this.lastDeclType == Type.FLOAT_TYPE){
+		}else if(tipo == Type.FLOAT_TYPE){
 			
-			return new AST(ast.NodeKind.REAL_VAL_NODE, Float.parseFloat(s), Type.FLOAT_TYPE);
+			return arena.newNode(ast.NodeKind.REAL_VAL_NODE, Float.parseFloat(s), Type.FLOAT_TYPE);
 			
 		}
 		
@@ -328,113 +440,59 @@ public class SemanticChecker extends GoParserBaseVisitor<AST> {
 	
 	@Override
 	public AST visitVarDecl(GoParser.VarDeclContext ctx) {
-		// Visita a declaração de tipo para definir a variável lastDeclType.
-		int qtdVar = ctx.varSpec().size();
+		AST father = arena.newSubtree(ast.NodeKind.PROGRAM_NODE,Type.NO_TYPE); // Lista de comandos.
 		
-		AST father = AST.newSubtree(ast.NodeKind.ASSIGN_NODE,Type.NO_TYPE);
-		AST aux;
-		
-		for(int i = 0;i<qtdVar;i++){
-			if(this.testExpressionList(ctx, i) == true) {
-				//caso var NomeVar Tipo = valor
-				try{
-					String tipo = ctx.varSpec(i).type_().typeName().IDENTIFIER().getSymbol().getText();
-					
-					int tam = ctx.varSpec(i).identifierList().IDENTIFIER().size();
-
-					for(int j = 0;j < tam;j++){
-						AST assing = AST.newSubtree(ast.NodeKind.ASSIGN_NODE,Type.NO_TYPE);
-						setLastDeclType(tipo);
-						
-						aux = newVar(ctx.varSpec(i).identifierList().IDENTIFIER(j).getSymbol());
-						if(aux == null) return null;
-						assing.addChild(aux);
-						
-						
-						AST valor = makeTreeAssignment(ctx.varSpec(i).expressionList().expression(j),assing);
-						assing.addChild(valor);
-
-						// System.out.println(assing.getChild(0).type +" "+ assing.getChild(1).type);
-						Boolean implicitAccept = true;
-
-						if((assing.getChild(0).type == Type.FLOAT_TYPE && assing.getChild(1).type == Type.INT_TYPE)) implicitAccept = false;
-
-						if(assing.getChild(0).type != assing.getChild(1).type && implicitAccept){
-							int line = ctx.getStop().getLine(); //qual a linha?
-							typeError(line,valor.kind.toString(),assing.getChild(0).type,assing.getChild(1).type);
-							return null;
-						}
-
-						
-						
-						father.addChild(assing);
-					}
-
-				//caso var NomeVar = valor
-				}catch(Exception e){
-
-					int tam = ctx.varSpec(i).expressionList().expression().size();
-					
-					// setLastDeclType(tipo);
-					for(int k = 0;k < tam;k++){
-						AST assing = AST.newSubtree(ast.NodeKind.ASSIGN_NODE,Type.NO_TYPE);
-						
-						visit(ctx.varSpec(i).expressionList().expression(k).primaryExpr().operand().literal().basicLit());
-						
-						aux = newVar(ctx.varSpec(i).identifierList().IDENTIFIER(k).getSymbol());
-						if(aux == null) return null;
-						assing.addChild(aux);
-
-						AST valor = makeTreeAssignment(ctx.varSpec(i).expressionList().expression(k),assing);
-						assing.addChild(valor);
-
-						// System.out.println(assing.getChild(0).type +" "+ assing.getChild(1).type);
-
-						Boolean implicitAccept = true;
-
-						if((assing.getChild(0).type == Type.FLOAT_TYPE && assing.getChild(1).type == Type.INT_TYPE)) implicitAccept = false;
-
-						if(assing.getChild(0).type != assing.getChild(1).type && implicitAccept){
-							int line = ctx.getStop().getLine(); //qual a linha?
-							typeError(line,valor.kind.toString(),assing.getChild(0).type,assing.getChild(1).type);
-							return null;
-						}
-
-						
-						
-						father.addChild(assing);	
-					}
+		for(GoParser.VarSpecContext spec : ctx.varSpec()){
+			int line = spec.getStart().getLine();
+			List<TerminalNode> nomes = spec.identifierList().IDENTIFIER();
+
+			// Sem tipo escrito (var x = valor) a variável fica com o tipo
+			// do valor.
+			Type tipo = null;
+			if(spec.type_() != null) {
+				tipo = tipoDe(spec.type_());
+				if(tipo == null) {
+					unsupportedError(line, "type " + spec.type_().getText());
+					return null;
 				}
+			}
 
-			}else {
-				//declaraçao sem valores
-				try{
-					
-					String tipo = ctx.varSpec(i).type_().typeName().IDENTIFIER().getSymbol().getText();
-					
-					int tam = ctx.varSpec(i).identifierList().IDENTIFIER().size();
-					
-
-					for(int j = 0;j < tam;j++){
-						setLastDeclType(tipo);
-						
-						newVar(ctx.varSpec(i).identifierList().IDENTIFIER(j).getSymbol());	
-						
-					}
+			if(spec.expressionList() == null) {
+				//declaraçao sem valores: a declaração fica na árvore, que é
+				//onde a variável recebe o zero do tipo
+				for(TerminalNode nome : nomes) {
+					AST decl = newVar(nome.getSymbol(), tipo);
+					if(decl == null) return null;
+					father.addChild(decl);
 				}
-				
-				//declaracao array
-				catch(Exception e){
-					int tam = ctx.varSpec(i).identifierList().IDENTIFIER().size();
-					for(int k = 0;k < tam;k++){
-						tamArray = Integer.parseInt(ctx.varSpec(i).type_().typeLit().arrayType().arrayLength().getStop().getText());
-						setLastDeclType(ctx.varSpec(i).type_().typeLit().arrayType().elementType().getStop().getText());
-						
-						newVar(ctx.varSpec(i).identifierList().IDENTIFIER(k).getSymbol());
-					}
+				continue;
+			}
+
+			List<GoParser.ExpressionContext> valores = spec.expressionList().expression();
+			if(valores.size() != nomes.size()) {
+				assignNumError(line);
+				return null;
+			}
+			for(int j = 0; j < nomes.size(); j++){
+				// O valor é montado antes de a variável existir: em
+				// var x = x + 1 o x da direita é o de fora, como em Go.
+				AST valor = makeTreeAssignment(valores.get(j), null);
+				if(valor == null) return null;
+				AST alvo = newVar(nomes.get(j).getSymbol(), tipo != null ? tipo : valor.getType());
+				if(alvo == null) return null;
+
+				// Um int pode ir para uma variável float.
+				boolean implicitAccept = alvo.getType() == Type.FLOAT_TYPE && valor.getType() == Type.INT_TYPE;
+				if(alvo.getType() != valor.getType() && !implicitAccept){
+					typeError(ctx.getStop().getLine(),valor.getKind().toString(),alvo.getType(),valor.getType());
+					return null;
 				}
-			} 
-			
+
+				AST assing = arena.newSubtree(ast.NodeKind.ASSIGN_NODE,Type.NO_TYPE);
+				assing.addChild(alvo);
+				assing.addChild(valor);
+				father.addChild(assing);
+			}
 		}
 		
 		return father;
@@ -443,19 +501,17 @@ public class SemanticChecker extends GoParserBaseVisitor<AST> {
 	@Override
 	public AST visitShortVarDecl(GoParser.ShortVarDeclContext ctx){
 		int tam = ctx.expressionList().expression().size();
-		AST father = AST.newSubtree(ast.NodeKind.ASSIGN_NODE,Type.NO_TYPE);
+		AST father = arena.newSubtree(ast.NodeKind.PROGRAM_NODE,Type.NO_TYPE); // Lista de comandos.
 		AST aux;
 		
 		for(int i = 0;i < tam;i++){
-			//setar o tipo
-			visit(ctx.expressionList().expression(i));
-			
-			AST assing = AST.newSubtree(ast.NodeKind.ASSIGN_NODE,Type.NO_TYPE);
+			AST assing = arena.newSubtree(ast.NodeKind.ASSIGN_NODE,Type.NO_TYPE);
 			//AST valor = retornaFilhoValor(ctx.expressionList().expression(i).getStop().getText());
 
 			AST valor = makeTreeAssignment(ctx.expressionList().expression(i),father);
 			
-			aux = newVar(ctx.identifierList().IDENTIFIER(i).getSymbol());
+			// A variável fica com o tipo da expressão.
+			aux = newVar(ctx.identifierList().IDENTIFIER(i).getSymbol(), valor == null ? Type.NO_TYPE : valor.getType());
 			if(aux == null) return null;
 			assing.addChild(aux);
 			assing.addChild(valor);
@@ -468,25 +524,40 @@ public class SemanticChecker extends GoParserBaseVisitor<AST> {
 	}	
 	
 	private void typeError(int line, String operation, Type t1,Type t2){
-		System.out.printf("[typeError] SEMANTIC ERROR (%d): incopatible types %s and %s for operator %s\n",line,t1.toString(),t2.toString(),operation);
+		out.printf("[typeError] SEMANTIC ERROR (%d): incopatible types %s and %s for operator %s\n",line,t1.toString(),t2.toString(),operation);
+		passed = false;
+	}
+
+	private void unsupportedError(int line, String what){
+		out.printf("[unsupportedError] SEMANTIC ERROR (%d): %s not supported\n",line,what);
+		passed = false;
+	}
+
+	// Começo do trecho do fonte de ctx, até o fim da primeira linha.
+	private static String trecho(ParserRuleContext ctx){
+		String texto = ctx.getStart().getInputStream().getText(
+				Interval.of(ctx.getStart().getStartIndex(), ctx.getStop().getStopIndex()));
+		int fim = texto.indexOf('\n');
+		return "'" + (fim < 0 ? texto : texto.substring(0, fim)).trim() + "'";
+	}
+
+	private void unaryTypeError(int line, String operation, Type t){
+		out.printf("[typeError] SEMANTIC ERROR (%d): operator %s not defined on type %s\n",line,operation,t.toString());
 		passed = false;
 	}
 
 	private void assignNumError(int line) {
-		System.out.printf("[assignNumError] SEMANTIC ERROR (%d): different number of operators in assignment\n", line);
+		out.printf("[assignNumError] SEMANTIC ERROR (%d): different number of operators in assignment\n", line);
 		passed = false;
 	}
 	
 	private void varNotDeclError(int line, String varName){
-		System.out.printf("[varNotDeclError] SEMANTIC ERROR (%d): variable %s not declared\n",line,varName);
+		out.printf("[varNotDeclError] SEMANTIC ERROR (%d): variable %s not declared\n",line,varName);
 		passed = false;
 	}
-	private boolean testaConstante(GoParser.ExpressionContext ctx,String s) {
-		GoParser.LiteralContext literal;
-		if(s.equals("")) literal = ctx.primaryExpr().operand().literal();
-		else literal = ctx.unaryExpr().expression().primaryExpr().operand().literal();
-		if(literal != null) return true;
-		else return false;
+	private boolean testaConstante(GoParser.ExpressionContext ctx) {
+		GoParser.OperandContext operando = ctx.primaryExpr().operand();
+		return operando != null && operando.literal() != null;
 	}
 	private ast.NodeKind defineTipoOperacao(String operacao) {
 		if(operacao.equals("+")) {
@@ -519,39 +590,25 @@ public class SemanticChecker extends GoParserBaseVisitor<AST> {
 		
 		return null;
 	}
-	private String verificaUnaryExpression(GoParser.ExpressionContext ctx){
-		try{
-			String sinal = ctx.unaryExpr().getChild(0).getText();
-			return sinal;
-		}
-		catch(Exception e){
-			return "";
-		}
-	}
 	private void funcNotDeclError(int line, String funcName){
-		System.out.printf("[funcNotDeclError] SEMANTIC ERROR (%d): func %s not declared\n",line,funcName);
+		out.printf("[funcNotDeclError] SEMANTIC ERROR (%d): func %s not declared\n",line,funcName);
 		passed = false;
 	}
 	private void funcNumArgsError(int line, String funcName) {
-		System.out.printf("[funcNumArgsError] SEMANTIC ERROR (%d): func %s arguments mismatch\n",line,funcName);
+		out.printf("[funcNumArgsError] SEMANTIC ERROR (%d): func %s arguments mismatch\n",line,funcName);
 		passed = false;
 	}
 	private void funcTypeArgsError(int line, String funcName,Type one, Type two) {
-		System.out.printf("[funcTypeArgsError] SEMANTIC ERROR (%d): func %s arguments mismatch type %s and %s\n",line,funcName,one.toString(),two.toString());
+		out.printf("[funcTypeArgsError] SEMANTIC ERROR (%d): func %s arguments mismatch type %s and %s\n",line,funcName,one.toString(),two.toString());
 		passed = false;
 	}
 	
 	@Override
 	public AST visitPrimaryExpr(GoParser.PrimaryExprContext ctx) {
 		
-		try {
-			// Se tiver argumento
-			AST teste = makeTreeFuncAssignment(ctx);
-			return fazPai(teste);
-		}catch(Exception e) {
-			// Se não
-			return visitChildren(ctx);
-		}
+		// Só é chamada de função se tiver argumentos.
+		if(ctx.arguments() == null) return visitChildren(ctx);
+		return makeTreeFuncAssignment(ctx);
 		
 	}
 
@@ -567,14 +624,14 @@ public class SemanticChecker extends GoParserBaseVisitor<AST> {
 		AST ioN = null;
 
 		if(io) {
-			ioN = new AST(ast.NodeKind.WRITE_NODE , 0, Type.NO_TYPE);
+			ioN = arena.newNode(ast.NodeKind.WRITE_NODE , 0, Type.NO_TYPE);
 			
-			ioN.addChild(new AST(ast.NodeKind.FUNC_NODE, 0,vt.getEscopo()+3,Type.NO_TYPE));
+			ioN.addChild(arena.newNode(ast.NodeKind.FUNC_NODE, 0,vt.getEscopo()+3,Type.NO_TYPE));
 		}
 		else{
-			ioN = new AST(ast.NodeKind.READ_NODE , 1, Type.NO_TYPE);
+			ioN = arena.newNode(ast.NodeKind.READ_NODE , 1, Type.NO_TYPE);
 			
-			ioN.addChild(new AST(ast.NodeKind.FUNC_NODE, 1,vt.getEscopo()+3,Type.NO_TYPE));
+			ioN.addChild(arena.newNode(ast.NodeKind.FUNC_NODE, 1,vt.getEscopo()+3,Type.NO_TYPE));
 		}
 		
 		int childs = ctx.arguments().getChildCount();
@@ -616,7 +673,9 @@ public class SemanticChecker extends GoParserBaseVisitor<AST> {
 			this.funcNotDeclError(ctx.primaryExpr().getStop().getLine(), func_name);
 			return null;
 		}
-		AST func_decl = new AST(ast.NodeKind.FUNC_NODE, idx, Type.NO_TYPE);
+		// O tipo da chamada é o do (primeiro) retorno da função.
+		List<Type> retornos = ft.getReturns(idx);
+		AST func_decl = arena.newNode(ast.NodeKind.FUNC_NODE, idx, retornos.isEmpty() ? Type.NO_TYPE : retornos.get(0));
 		
 		
 		
@@ -633,11 +692,10 @@ public class SemanticChecker extends GoParserBaseVisitor<AST> {
 		List<Type> argumentos = new ArrayList<Type>();
 		for (int i = 0; i < numOfExpression; i++){
 			AST argument = makeTreeAssignment(args_ctx.expression(i), func_decl);
+			if(argument == null) return null;
 			
 			argumentos.add(argument.getType());
-			
-			if(argument != null) func_decl.addChild(argument);
-			else return null;
+			func_decl.addChild(argument);
 		}
 		
 		List<Type> entradas = ft.getTypes(idx);
@@ -662,28 +720,28 @@ public class SemanticChecker extends GoParserBaseVisitor<AST> {
 	
 
 	private void outOfBoudariesArrayError(int line, String varName,int pos,int max) {
-		System.out.printf("[outOfBoudariesArrayError] SEMANTIC ERROR (%d): position %d is out of boudaries of array %s with length %d\n",line,pos,varName,max);
+		out.printf("[outOfBoudariesArrayError] SEMANTIC ERROR (%d): position %d is out of boudaries of array %s with length %d\n",line,pos,varName,max);
 		passed = false;
 	}
 
 	private AST makeTreeArrayAssignment(GoParser.PrimaryExprContext ctx) {
+			// Só a[constante]; campos, conversões, slices e índices
+			// calculados não são traduzidos.
+			if(ctx.primaryExpr() == null || ctx.index() == null || !ctx.index().expression().getText().matches("[0-9]+")) {
+				unsupportedError(ctx.getStart().getLine(), "expression " + trecho(ctx));
+				return null;
+			}
 			
-			String arr_name = ctx.primaryExpr().getStop().getText();
+			Token arr_token = ctx.primaryExpr().getStop();
+			String arr_name = arr_token.getText();
 			
-			int idx = vt.lookupVar(arr_name);
-			int idx2 = global.lookupVar(arr_name);
-			if(idx == -1 && idx2 == -2) {
+			ScopeTable.Symbol sym = scopes.lookup(GoToken.symbolOf(arr_token));
+			if(sym == null) {
 				this.varNotDeclError(ctx.primaryExpr().getStop().getLine(), arr_name);
 				return null;
 			}
-			VarTable aux;
-			if(idx == -1) {
-				aux = global;
-				idx = idx2;
-
-			}else {
-				aux = vt;
-			}
+			VarTable aux = sym.getTable();
+			int idx = sym.getIndex();
 			
 			int pos = Integer.parseInt(ctx.index().expression().getStop().getText());
 			
@@ -693,156 +751,206 @@ public class SemanticChecker extends GoParserBaseVisitor<AST> {
 				return null;
 			}
 			
-			AST arr_use = new AST(ast.NodeKind.ARRAY_NODE, idx, aux.getEscopo(), pos, aux.getType(idx));
+			// O nó tem o tipo do elemento.
+			Type tipo = aux.getType(idx).isArray() ? aux.getType(idx).getElem() : aux.getType(idx);
+			AST arr_use = arena.newNode(ast.NodeKind.ARRAY_NODE, idx, aux.getEscopo(), pos, tipo);
 
 			return arr_use;
 	}
 	
-	private AST makeTreeAssignment(GoParser.ExpressionContext ctx, AST ramo) {
-		int numFilhos = ctx.getChildCount();
-		if(numFilhos == 3) {
-			// Expressao composta
-			String operacao = ctx.getChild(1).getText();
+	// Expressão composta. No parse uma cadeia como a + b + ... + z é uma
+	// árvore que desce pela esquerda, com um nível por operador. Em vez
+	// de uma chamada recursiva por nível, a espinha da esquerda é
+	// percorrida com laços, então a pilha não cresce com o tamanho da
+	// expressão.
+	// Os operadores unários que vêm antes de ctx (ver makeTreeUnaria)
+	// valem para o primeiro operando.
+	private AST makeTreeComposta(GoParser.ExpressionContext ctx, List<Token> operadores) {
+		// espinha.get(0) é a operação mais de dentro e a última é ctx.
+		List<GoParser.ExpressionContext> espinha = new ArrayList<GoParser.ExpressionContext>();
+		GoParser.ExpressionContext e = ctx;
+		while(e.getChildCount() == 3) {
+			espinha.add(e);
+			e = e.expression(0);
+		}
+		Collections.reverse(espinha);
+		GoParser.ExpressionContext folha = e;
+		int n = espinha.size();
 
-			visit(ctx.expression(0));
+		// Os operandos são montados (e tipados) antes da operação, que
+		// fica com o tipo deles (bool, nas comparações). Cada nó é tipado
+		// uma vez só.
+		AST left = this.makeTreeTermo(folha, operadores);
+		for(int k = 0; k < n; k++) {
+			GoParser.ExpressionContext op = espinha.get(k);
+			String operacao = op.getChild(1).getText();
 
-			Type tipoDadosOperacao = this.lastDeclType;
-			
-			AST valor = AST.newSubtree(this.defineTipoOperacao(operacao), tipoDadosOperacao);
-			
-			AST left = this.makeTreeAssignment(ctx.expression(0), valor);
+			AST right = this.makeTreeAssignment(op.expression(1), null);
 
-			AST right = this.makeTreeAssignment(ctx.expression(1), valor);
+			if(left == null || right == null) return null;
 
-			
-
-			if((left.type == Type.FLOAT_TYPE || right.type == Type.FLOAT_TYPE) && (right.type == Type.INT_TYPE || left.type == Type.INT_TYPE)){
-				valor.type = Type.FLOAT_TYPE;
+			Type tipo = left.getType();
+			if((left.getType() == Type.FLOAT_TYPE || right.getType() == Type.FLOAT_TYPE) && (right.getType() == Type.INT_TYPE || left.getType() == Type.INT_TYPE)){
+				tipo = Type.FLOAT_TYPE;
 
-				if(left.kind != ast.NodeKind.VAR_USE_NODE && left.kind != ast.NodeKind.VAR_DECL_NODE)
-					left.type = Type.FLOAT_TYPE;
-				if(right.kind != ast.NodeKind.VAR_USE_NODE && right.kind != ast.NodeKind.VAR_DECL_NODE)
-					right.type = Type.FLOAT_TYPE;
+				if(left.getKind() != ast.NodeKind.VAR_USE_NODE && left.getKind() != ast.NodeKind.VAR_DECL_NODE)
+					left.setType(Type.FLOAT_TYPE);
+				if(right.getKind() != ast.NodeKind.VAR_USE_NODE && right.getKind() != ast.NodeKind.VAR_DECL_NODE)
+					right.setType(Type.FLOAT_TYPE);
 
 			}
-			if(left.type == Type.FLOAT_TYPE && right.type == Type.FLOAT_TYPE) {
-				valor.type = Type.FLOAT_TYPE;
-			}
 			
-			if(left.type != right.type) {
-				int line = ctx.getStop().getLine(); //qual a linha?
-				typeError(line,operacao,left.type,right.type);
+			if(left.getType() != right.getType()) {
+				int line = op.getStop().getLine(); //qual a linha?
+				typeError(line,operacao,left.getType(),right.getType());
 				return null;
 			}
 
-			valor.addChild(left);
-			valor.addChild(right);
+			// Depois de os operandos baterem, uma comparação é um bool, e
+			// o && e o || só aceitam bools. Um < entre bools não existe.
+			ast.NodeKind kind = this.defineTipoOperacao(operacao);
+			if(kind == null) {
+				// Operadores de bits (<<, &, |...) não são traduzidos.
+				unsupportedError(op.getStop().getLine(), "operator " + operacao);
+				return null;
+			}
+			boolean logica = kind == ast.NodeKind.AND_NODE || kind == ast.NodeKind.OR_NODE;
+			boolean ordem = kind == ast.NodeKind.LT_NODE || kind == ast.NodeKind.RT_NODE
+					|| kind == ast.NodeKind.ELT_NODE || kind == ast.NodeKind.ERT_NODE;
+			if((logica && tipo != Type.BOOL_TYPE) || (ordem && tipo == Type.BOOL_TYPE)) {
+				typeError(op.getStop().getLine(),operacao,left.getType(),right.getType());
+				return null;
+			}
+			if(ordem || kind == ast.NodeKind.EQ_NODE || kind == ast.NodeKind.NEQ_NODE) tipo = Type.BOOL_TYPE;
+
+			left = arena.newSubtree(kind, tipo, left, right);
+		}
 
-			return valor;
+		return left;
+	}
+
+	private AST makeTreeAssignment(GoParser.ExpressionContext ctx, AST ramo) {
+		int numFilhos = ctx.getChildCount();
+		if(numFilhos == 3) {
+			// Expressao composta
+			return makeTreeComposta(ctx, Collections.<Token>emptyList());
+		}else if(ctx.unaryExpr() != null) {
+			// Expressao com operador unario (-x, !ok...)
+			return makeTreeUnaria(ctx);
 		}else {
-			String sinal = verificaUnaryExpression(ctx);
-			
+			// Ou é um operando (número, variável ou parênteses), ou uma
+			// função, ou um array
+			GoParser.PrimaryExprContext primario = ctx.primaryExpr();
 			int numFilhos2;
-
-			if(sinal.equals("")){
-				// Se sinal for "", ou é um número sem sinal ou é uma função
-				try{
-					// Se rodar é um número sem sinal ( SAFE )
-					numFilhos2 = ctx.primaryExpr().operand().getChildCount();
-				}
-				catch(Exception e){
-					// Se não rodar é uma função ( F )
-					// Pegar o nome da função
-					try {
-						// Funcao
-						GoParser.ArgumentsContext argumentsContext = ctx.primaryExpr().arguments();
-						
-						return makeTreeFuncAssignment(ctx.primaryExpr());
-					}catch(Exception e2) {
-						// Array
-						
-						GoParser.IndexContext indexContext = ctx.primaryExpr().index();
-						
-						return makeTreeArrayAssignment(ctx.primaryExpr());
-					}
-				}
-			}
-			else{
-				numFilhos2 = ctx.unaryExpr().expression().primaryExpr().operand().getChildCount();
+			if(primario.operand() != null){
+				numFilhos2 = primario.operand().getChildCount();
+			}else if(primario.arguments() != null){
+				return makeTreeFuncAssignment(primario);
+			}else{
+				return makeTreeArrayAssignment(primario);
 			}
 
-			
 			if(numFilhos2 == 1) {
 				// Expressao simples
 				
-				if(!this.testaConstante(ctx,sinal)) {
+				if(!this.testaConstante(ctx)) {
 					
 					// O operando eh uma variavel					
 					Token token = ctx.getStop();
 					this.checkVar(token);
 					
 					
-					int idx = vt.lookupVar(token.getText());
-					int escopo = 0;
-					Type tipo = null;
-					
-					if(idx != -1) {
-						escopo = vt.getEscopo();
-						tipo = this.vt.getType(idx);
-					}
-					
+					ScopeTable.Symbol sym = scopes.lookup(GoToken.symbolOf(token));
+					if(sym == null) return null;
 					
-					if(idx == -1) {
-						idx = global.lookupVar(token.getText());
-						escopo = 0;
-						tipo = this.global.getType(idx);
-					}
-						
-					return new AST(ast.NodeKind.VAR_USE_NODE, idx, escopo, tipo);
+					VarTable tabela = sym.getTable();
+					int idx = sym.getIndex();
+					return arena.newNode(ast.NodeKind.VAR_USE_NODE, idx, tabela.getEscopo(), tabela.getType(idx));
 				}else {
 					// O operando eh uma constante
-					
-					String constante; //constante é um tipo
-					//nao possui sinal + ou -
-					if(sinal.equals("")){
-						visit(ctx.primaryExpr());
-						constante = ctx.getStop().getText();
-					}
-					//possui sinal + ou -
-					else{
-						visit(ctx.unaryExpr().expression());
-						constante = sinal + ctx.unaryExpr().expression().getStop().getText();
+					Type tipo = tipoLiteral(primario.operand().literal());
+					if(tipo == null || tipo == Type.NULL_TYPE) {
+						unsupportedError(ctx.getStart().getLine(), "literal " + trecho(ctx));
+						return null;
 					}
-					
-					if(constante.contains(".")){
-						this.lastDeclType = Type.FLOAT_TYPE;
-					}
-					return this.retornaFilhoValor(constante);
+					return this.retornaFilhoValor(ctx.getStop().getText(), tipo);
 				}	
 			}else {
-				if(sinal.equals("")) return this.makeTreeAssignment(ctx.primaryExpr().operand().expression(), ramo);
-				else return this.makeTreeAssignment(ctx.unaryExpr().expression(), ramo);
+				return this.makeTreeAssignment(primario.operand().expression(), ramo);
 			}
 		}
 	}
-	
-	public AST fazPai(AST senpai) {
-		AST compai = (AST.newSubtree(ast.NodeKind.PROGRAM_NODE,Type.NO_TYPE));
-		compai.addChild(senpai);
-		return compai;
+
+	// No parse um operador unário pega tudo o que vem depois dele
+	// (-7 + 2 fica -(7 + 2)), mas em Go ele vale só para o primeiro
+	// termo. Os operadores seguidos são juntados e aplicados ao termo
+	// mais à esquerda da expressão que vem depois deles.
+	private AST makeTreeUnaria(GoParser.ExpressionContext ctx) {
+		List<Token> operadores = new ArrayList<Token>();
+		GoParser.ExpressionContext e = ctx;
+		while(e.unaryExpr() != null && e.unaryExpr().expression() != null) {
+			operadores.add(e.unaryExpr().unary_op);
+			e = e.unaryExpr().expression();
+		}
+		if(e.getChildCount() == 3) return makeTreeComposta(e, operadores);
+		return makeTreeTermo(e, operadores);
+	}
+
+	// Um termo com os operadores unários que vêm antes dele. Um número
+	// logo depois de um sinal vira uma constante negativa, como antes.
+	private AST makeTreeTermo(GoParser.ExpressionContext e, List<Token> operadores) {
+		int k = operadores.size();
+		if(k == 0) return makeTreeAssignment(e, null);
+
+		AST termo;
+		String sinal = operadores.get(k - 1).getText();
+		Type tipo = e.primaryExpr() != null && testaConstante(e) ? tipoLiteral(e.primaryExpr().operand().literal()) : null;
+		if((sinal.equals("-") || sinal.equals("+")) && (tipo == Type.INT_TYPE || tipo == Type.FLOAT_TYPE)) {
+			termo = retornaFilhoValor(sinal + e.getStop().getText(), tipo);
+			k--;
+		}else {
+			termo = makeTreeAssignment(e, null);
+		}
+		for(int i = k - 1; i >= 0 && termo != null; i--) {
+			termo = aplicaUnario(operadores.get(i), termo);
+		}
+		return termo;
+	}
+
+	private AST aplicaUnario(Token operador, AST termo) {
+		String op = operador.getText();
+		Type tipo = termo.getType();
+		if((op.equals("-") || op.equals("+")) && (tipo == Type.INT_TYPE || tipo == Type.FLOAT_TYPE)) {
+			if(op.equals("+")) return termo;
+			// -x é x * -1, que dá o -0.0 do float e, no menor int, dá a
+			// volta como em Go.
+			return arena.newSubtree(ast.NodeKind.TIMES_NODE, tipo, termo, retornaFilhoValor("-1", tipo));
+		}
+		if(op.equals("!") && tipo == Type.BOOL_TYPE) {
+			return arena.newSubtree(ast.NodeKind.EQ_NODE, Type.BOOL_TYPE, termo, retornaFilhoValor("false", tipo));
+		}
+		unaryTypeError(operador.getLine(), op, tipo);
+		return null;
 	}
 	
 	@Override
 	public AST visitAssignment(GoParser.AssignmentContext ctx){
 		
 		Type primeiroTipo = null;
+
+		// x += 1 e os outros só com o = na frente não são traduzidos.
+		if(ctx.assign_op().getChildCount() != 1) {
+			unsupportedError(ctx.getStart().getLine(), "operator " + ctx.assign_op().getText());
+			return null;
+		}
 		
 		//é funcao ou o cara babou
 		boolean funcao = true;
 		if(ctx.expressionList(0).expression().size() != ctx.expressionList(1).expression().size()) {
 			//if(ctx.expressionList(1).expression(0).primaryExpr().getC)
 			funcao = false;
-			if(ctx.expressionList(1).expression(0).primaryExpr().getChildCount() != 2){
+			GoParser.PrimaryExprContext chamada = ctx.expressionList(1).expression(0).primaryExpr();
+			if(chamada == null || chamada.getChildCount() != 2){
 				assignNumError(ctx.getStop().getLine());
 				return null;
 			}
@@ -852,60 +960,54 @@ public class SemanticChecker extends GoParserBaseVisitor<AST> {
 		int cont = 0;
 		int i = 0;
 		int j = 0;
-		AST paiAssignTree = (AST.newSubtree(ast.NodeKind.ASSIGN_NODE,Type.NO_TYPE));
-		AST assignTree = (AST.newSubtree(ast.NodeKind.ASSIGN_NODE,Type.NO_TYPE));
+		// Com funcao, paiAssignTree é só a lista das atribuições.
+		AST paiAssignTree = (arena.newSubtree(funcao ? ast.NodeKind.PROGRAM_NODE : ast.NodeKind.ASSIGN_NODE,Type.NO_TYPE));
+		AST assignTree = (arena.newSubtree(ast.NodeKind.ASSIGN_NODE,Type.NO_TYPE));
 		boolean ok = true;
 		while( cont < 2*ctx.expressionList(0).expression().size()) {
 			if(i == 2 && funcao == false) break;
 			
 			GoParser.ExpressionContext expressao = ctx.expressionList(i).expression(j);
 
-			String vari = expressao.getStop().getText();
+			Token variToken = expressao.getStop();
 			
-			if(vari.equals("]")){
-				vari = expressao.primaryExpr().primaryExpr().getStop().getText();
+			if(variToken.getType() == GoParser.R_BRACKET){
+				variToken = expressao.primaryExpr().primaryExpr().getStop();
 			}
+			String vari = variToken.getText();
 
-			int idx = this.vt.lookupVar(vari);
-			int idx2 = this.global.lookupVar(vari);
+			ScopeTable.Symbol sym = scopes.lookup(GoToken.symbolOf(variToken));
 			
-			if(idx == -1 && i == 0 &&  idx == -1){
+			if(sym == null && i == 0){
 				String varName = vari;
 				int line = 10;
 				varNotDeclError(line,varName);
 				return null;
 			}
-			
-			VarTable aux;
-			if(idx == -1) {
-				aux = global;
-				idx = idx2;
-
-			}else {
-				aux = vt;
-			}
 
 
-			//confere se a variavel ta recebendo o mesmo tipo
+			//confere se a variavel ta recebendo o mesmo tipo (o do
+			//elemento, se for um array indexado)
 			if(i == 0) {
-				primeiroTipo = aux.getType(idx);
+				primeiroTipo = sym.getTable().getType(sym.getIndex());
+				if(primeiroTipo.isArray() && variToken != expressao.getStop()) primeiroTipo = primeiroTipo.getElem();
 			}
 
 
 			AST ramo = this.makeTreeAssignment(expressao, assignTree);
+			if(ramo == null) return null;
 			
 			//AST.printDot(ramo,global,ft);
 			//visit(expressao);
 			//System.out.println(primeiroTipo);
 
 
-			if(primeiroTipo != ramo.type && i == 1 && ramo.type != Type.NO_TYPE){
+			if(primeiroTipo != ramo.getType() && i == 1 && ramo.getType() != Type.NO_TYPE){
 				int line = expressao.getStop().getLine();
-				typeError(line,ramo.kind.toString(),primeiroTipo,ramo.type);
+				typeError(line,ramo.getKind().toString(),primeiroTipo,ramo.getType());
 				return null;
 			}
 			
-			//System.out.println(this.lastDeclType);
 			
 			if(ramo != null && funcao == true) {
 				assignTree.addChild(ramo);
@@ -922,7 +1024,7 @@ public class SemanticChecker extends GoParserBaseVisitor<AST> {
 					i = 0;
 					j++;
 					paiAssignTree.addChild(assignTree);
-					assignTree = (AST.newSubtree(ast.NodeKind.ASSIGN_NODE,Type.NO_TYPE));
+					assignTree = (arena.newSubtree(ast.NodeKind.ASSIGN_NODE,Type.NO_TYPE));
 				}
 				cont++;
 			}else {
@@ -942,67 +1044,122 @@ public class SemanticChecker extends GoParserBaseVisitor<AST> {
 		}
 		
 		
-		if(funcao == false) return fazPai(paiAssignTree);
+		if(funcao == false) return paiAssignTree;
 		if(funcao == true) return paiAssignTree;
 		return null;
 	}
 	
+	// O if e o for abrem um escopo implícito em volta dos seus blocos,
+	// como em Go.
 	@Override
 	public AST visitIfStmt(GoParser.IfStmtContext ctx){
+		scopes.push();
+		try {
+			return ifStmt(ctx);
+		} finally {
+			scopes.pop();
+		}
+	}
 
-		AST ifTree = AST.newSubtree(ast.NodeKind.IF_NODE,Type.NO_TYPE);
+	private AST ifStmt(GoParser.IfStmtContext ctx){
+		if(ctx.simpleStmt() != null) {
+			unsupportedError(ctx.getStart().getLine(), "statement before the if condition");
+			return null;
+		}
+
+		AST ifTree = arena.newSubtree(ast.NodeKind.IF_NODE,Type.NO_TYPE);
 
 		ifTree.addChild(visit(ctx.block(0)));
 
-		//tenta se tiver else
-		try{
-			ifTree.addChild(visit(ctx.block(1)));
-		}
-		catch(Exception e){
-			//e.printStackTrace();
-		}
-		
+		//se tiver else
+		if(ctx.block(1) != null) ifTree.addChild(visit(ctx.block(1)));
+
 
 		ifTree.addChild(makeTreeAssignment(ctx.expression(),ifTree));
 
-		try{
-			AST marretagem = visit(ctx.ifStmt());
-			AST marretagem2 = marretagem.getChild(0);
-			ifTree.addChild(marretagem2);
-		}
-		catch(Exception e){
-			//e.printStackTrace();
-		}		
+		//se tiver else if
+		if(ctx.ifStmt() != null) ifTree.addChild(visit(ctx.ifStmt()));
 
 		//AST.printDot(ifTree,vt);	
 
-		return fazPai(ifTree);
+		return ifTree;
 
 	}
 	
 	@Override
 	public AST visitForStmt(GoParser.ForStmtContext ctx) {
-		AST forTree = AST.newSubtree(ast.NodeKind.REPEAT_NODE, Type.NO_TYPE);
+		if(ctx.forClause() != null || ctx.rangeClause() != null) {
+			unsupportedError(ctx.getStart().getLine(), "for clause " + trecho(ctx));
+			return null;
+		}
+		AST forTree = arena.newSubtree(ast.NodeKind.REPEAT_NODE, Type.NO_TYPE);
 		
-		forTree.addChild(visit(ctx.block()));
-		forTree.addChild(makeTreeAssignment(ctx.expression(), forTree));
+		scopes.push();
+		try {
+			forTree.addChild(visit(ctx.block()));
+			// for { } sem condição repete para sempre.
+			if(ctx.expression() == null) forTree.addChild(retornaFilhoValor("true", Type.BOOL_TYPE));
+			else forTree.addChild(makeTreeAssignment(ctx.expression(), forTree));
+		} finally {
+			scopes.pop();
+		}
 		
-		return fazPai(forTree);
+		return forTree;
+	}
+
+	// Comandos que o checker não traduz dão erro aqui, antes de serem
+	// visitados.
+	private boolean suportado(GoParser.StatementContext comando){
+		boolean ok;
+		if(comando.declaration() != null) {
+			ok = comando.declaration().varDecl() != null;
+		}else if(comando.simpleStmt() != null) {
+			ok = comando.simpleStmt().incDecStmt() == null && comando.simpleStmt().sendStmt() == null;
+		}else {
+			ok = comando.returnStmt() != null || comando.block() != null
+					|| comando.ifStmt() != null || comando.forStmt() != null;
+		}
+		if(!ok) unsupportedError(comando.getStart().getLine(), "statement " + trecho(comando));
+		return ok;
 	}
 
 	@Override
 	public AST visitBlock(GoParser.BlockContext ctx){
-		AST blockTree = (AST.newSubtree(ast.NodeKind.BLOCK_NODE,Type.NO_TYPE));
-		try {		
-	    	int tam = ctx.statementList().statement().size();
+		AST blockTree = (arena.newSubtree(ast.NodeKind.BLOCK_NODE,Type.NO_TYPE));
+		// O corpo da função usa o escopo aberto no visitSourceFile, junto
+		// com os parâmetros.
+		boolean abreEscopo = !(ctx.getParent() instanceof GoParser.FunctionDeclContext);
+		if (abreEscopo) scopes.push();
+		try {
+	    	// Bloco vazio não tem statementList.
+	    	int tam = ctx.statementList() == null ? 0 : ctx.statementList().statement().size();
 	    	
 	    	for(int i = 0;i < tam;i++){
-	    		AST teste = visit(ctx.statementList().statement(i));	
-
-	    		for(AST child: teste.getChildren()) blockTree.addChild(child);
+	    		GoParser.StatementContext comando = ctx.statementList().statement(i);
+	    		if(!suportado(comando)) continue;
+
+	    		// Cada comando é verificado com o passed limpo, para saber
+	    		// se um null veio de um erro já mostrado.
+	    		boolean antes = passed;
+	    		passed = true;
+	    		AST teste = visit(comando);
+	    		boolean semErro = passed;
+	    		passed = antes && semErro;
+
+	    		// Os comandos voltam sozinhos ou, quando um só comando do
+	    		// fonte vira vários (var a, b = 1, 2), numa lista PROGRAM_NODE.
+	    		// Um null sem erro é um comando que o checker não traduz, que
+	    		// não pode simplesmente sumir do programa.
+	    		if(teste == null) {
+	    			boolean vazio = comando.simpleStmt() != null && comando.simpleStmt().emptyStmt() != null;
+	    			if(semErro && !vazio) unsupportedError(comando.getStart().getLine(), "statement " + trecho(comando));
+	    			continue;
+	    		}
+	    		if(teste.getKind() == ast.NodeKind.PROGRAM_NODE) blockTree.addChildren(teste);
+	    		else blockTree.addChild(teste);
 	    	}
-		}	catch(Exception e) {
-			// System.out.printf("[visitBlock] Caiu exception statementList [%s]\n",e.toString());
+		} finally {
+			if (abreEscopo) scopes.pop();
 		}
 		
 		return blockTree;
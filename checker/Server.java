@@ -0,0 +1,169 @@
+package checker;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.antlr.v4.runtime.CharStreams;
+
+/*
+ * Servidor de compilação que fica rodando e atende pedidos por um
+ * socket TCP em localhost (Main --server [PORTA]).
+ *
+ * Como a JVM continua de pé entre os pedidos, as caches de DFA do
+ * ANTLR e o código do checker e do gerador já compilado pelo JIT são
+ * reaproveitados, e cada pedido paga só a compilação em si.
+ *
+ * Protocolo (DataInputStream/DataOutputStream, uma conexão pode
+ * mandar vários pedidos em sequência):
+ *
+ *   pedido COMPILE: byte 'C', UTF nome da classe, int tamanho, bytes do fonte (UTF-8)
+ *   resposta:       boolean ok, int tamanho, bytes das mensagens (UTF-8),
+ *                   int tamanho, bytes do .class (0 se falhou), long latência em ns
+ *
+ *   pedido STATS:   byte 'S'
+ *   resposta:       UTF com as estatísticas de latência
+ *
+ *   pedido QUIT:    byte 'Q' (desliga o servidor)
+ *
+ * O Client é o cliente de linha de comando para este protocolo.
+ */
+public final class Server {
+
+	public static final int DEFAULT_PORT = 7878;
+
+	static final byte COMPILE = 'C';
+	static final byte STATS = 'S';
+	static final byte QUIT = 'Q';
+
+	private final int port;
+	private final ThreadLocal<Compiler> compilers = ThreadLocal.withInitial(Main::newCompiler);
+	private final Stats stats = new Stats();
+	private volatile boolean running = true;
+	private ServerSocket serverSocket;
+
+	public Server(int port) {
+		this.port = port;
+	}
+
+	// Aceita conexões até receber um QUIT. Cada conexão é atendida por
+	// uma thread do pool, que tem o seu próprio Compiler.
+	public void run() throws IOException {
+		ExecutorService pool = Executors.newCachedThreadPool();
+		serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+		System.out.printf("Compile server listening on localhost:%d\n", serverSocket.getLocalPort());
+
+		try {
+			while (running) {
+				Socket socket;
+				try {
+					socket = serverSocket.accept();
+				} catch (IOException e) {
+					if (!running) break; // Socket fechado pelo QUIT.
+					throw e;
+				}
+				pool.execute(() -> handle(socket));
+			}
+		} finally {
+			pool.shutdown();
+			System.out.println(stats);
+		}
+	}
+
+	private void handle(Socket socket) {
+		try (Socket s = socket;
+				DataInputStream in = new DataInputStream(s.getInputStream());
+				DataOutputStream out = new DataOutputStream(s.getOutputStream())) {
+			while (true) {
+				byte cmd;
+				try {
+					cmd = in.readByte();
+				} catch (EOFException e) {
+					return; // Cliente fechou a conexão.
+				}
+
+				if (cmd == COMPILE) {
+					compile(in, out);
+				} else if (cmd == STATS) {
+					out.writeUTF(stats.toString());
+				} else if (cmd == QUIT) {
+					running = false;
+					serverSocket.close();
+					return;
+				} else {
+					System.err.printf("Unknown request '%c'\n", (char) cmd);
+					return;
+				}
+				out.flush();
+			}
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	private void compile(DataInputStream in, DataOutputStream out) throws IOException {
+		String className = in.readUTF();
+		byte[] fonte = new byte[in.readInt()];
+		in.readFully(fonte);
+
+		long inicio = System.nanoTime();
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		PrintStream log = new PrintStream(buffer, true, "UTF-8");
+		byte[] classe = null;
+		try {
+			String texto = new String(fonte, StandardCharsets.UTF_8);
+			classe = compilers.get().compile(CharStreams.fromString(texto, className + ".go"), className, log, log);
+		} catch (Exception e) {
+			e.printStackTrace(log);
+		}
+		long latencia = System.nanoTime() - inicio;
+		stats.add(latencia);
+
+		byte[] msgs = buffer.toByteArray();
+		out.writeBoolean(classe != null);
+		out.writeInt(msgs.length);
+		out.write(msgs);
+		if (classe == null) {
+			out.writeInt(0);
+		} else {
+			out.writeInt(classe.length);
+			out.write(classe);
+		}
+		out.writeLong(latencia);
+
+		System.out.printf("%s: %s in %.2f ms\n", className, classe != null ? "ok" : "failed", latencia / 1e6);
+	}
+
+	// Estatísticas das latências de compilação atendidas pelo servidor.
+	private static final class Stats {
+		private long count;
+		private long total;
+		private long min = Long.MAX_VALUE;
+		private long max;
+
+		synchronized void add(long ns) {
+			count++;
+			total += ns;
+			min = Math.min(min, ns);
+			max = Math.max(max, ns);
+		}
+
+		@Override
+		public synchronized String toString() {
+			String parses = String.format(", parses: %d, LL fallbacks: %d",
+					Compiler.getParseCount(), Compiler.getLLFallbackCount());
+			if (count == 0) return "requests: 0" + parses;
+			return String.format("requests: %d, mean: %.2f ms, min: %.2f ms, max: %.2f ms",
+					count, total / 1e6 / count, min / 1e6, max / 1e6) + parses;
+		}
+	}
+}
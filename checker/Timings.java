@@ -0,0 +1,127 @@
+package checker;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Formatter;
+import java.util.List;
+import java.util.Locale;
+
+/*
+ * Tempo e memória alocada por fase de uma compilação (--timings).
+ *
+ * A alocação vem do com.sun.management.ThreadMXBean, que conta os
+ * bytes alocados pela thread atual. Se a JVM não tiver esse bean os
+ * bytes ficam em -1. Além das fases guarda alguns tamanhos da
+ * compilação: nós da AST, tabelas e instruções emitidas.
+ */
+public final class Timings {
+
+	private static final com.sun.management.ThreadMXBean threads = threadBean();
+
+	private static com.sun.management.ThreadMXBean threadBean() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean sun = (com.sun.management.ThreadMXBean) bean;
+			if (sun.isThreadAllocatedMemorySupported()) {
+				sun.setThreadAllocatedMemoryEnabled(true);
+				return sun;
+			}
+		}
+		return null;
+	}
+
+	private static final class Phase {
+		final String name;
+		final long nanos;
+		final long bytes;
+
+		Phase(String name, long nanos, long bytes) {
+			this.name = name;
+			this.nanos = nanos;
+			this.bytes = bytes;
+		}
+	}
+
+	private final String file;
+	private final List<Phase> phases = new ArrayList<Phase>();
+	private long inicio;
+	private long alocadoInicio;
+
+	// Tamanhos da compilação, preenchidos pelo Compiler.
+	int astNodes;
+	int vars;
+	int funcs;
+	int strings;
+	int instructions;
+	boolean llFallback; // O parse SLL falhou e foi refeito com LL.
+
+	public Timings(String file) {
+		this.file = file;
+	}
+
+	// Marca o começo de uma fase.
+	void start() {
+		alocadoInicio = allocatedBytes();
+		inicio = System.nanoTime();
+	}
+
+	// Marca o fim da fase começada no último start().
+	void end(String name) {
+		long nanos = System.nanoTime() - inicio;
+		long bytes = alocadoInicio < 0 ? -1 : allocatedBytes() - alocadoInicio;
+		phases.add(new Phase(name, nanos, bytes));
+	}
+
+	private static long allocatedBytes() {
+		if (threads == null) return -1;
+		return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private long totalNanos() {
+		long total = 0;
+		for (Phase p : phases) total += p.nanos;
+		return total;
+	}
+
+	private long totalBytes() {
+		long total = 0;
+		for (Phase p : phases) {
+			if (p.bytes < 0) return -1;
+			total += p.bytes;
+		}
+		return total;
+	}
+
+	// Relatório para ser lido por gente.
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		Formatter f = new Formatter(sb, Locale.ROOT);
+		f.format("Timings for %s:\n", file);
+		for (Phase p : phases) {
+			f.format("  %-8s %10.3f ms %12d bytes\n", p.name, p.nanos / 1e6, p.bytes);
+		}
+		f.format("  %-8s %10.3f ms %12d bytes\n", "total", totalNanos() / 1e6, totalBytes());
+		f.format("  ast nodes: %d, vars: %d, funcs: %d, strings: %d, instructions: %d\n",
+				astNodes, vars, funcs, strings, instructions);
+		f.format("  parser: %s\n", llFallback ? "SLL failed, reparsed with LL" : "SLL");
+		f.close();
+		return sb.toString();
+	}
+
+	// O mesmo relatório em uma linha de JSON.
+	public String toJson() {
+		StringBuilder sb = new StringBuilder();
+		Formatter f = new Formatter(sb, Locale.ROOT);
+		f.format("{\"file\":\"%s\",\"phases\":[", file.replace("\\", "\\\\").replace("\"", "\\\""));
+		for (int i = 0; i < phases.size(); i++) {
+			Phase p = phases.get(i);
+			if (i > 0) sb.append(',');
+			f.format("{\"name\":\"%s\",\"ms\":%.3f,\"bytes\":%d}", p.name, p.nanos / 1e6, p.bytes);
+		}
+		f.format("],\"total_ms\":%.3f,\"total_bytes\":%d", totalNanos() / 1e6, totalBytes());
+		f.format(",\"ast_nodes\":%d,\"vars\":%d,\"funcs\":%d,\"strings\":%d,\"instructions\":%d,\"ll_fallback\":%b}",
+				astNodes, vars, funcs, strings, instructions, llFallback);
+		f.close();
+		return sb.toString();
+	}
+}
@@ -0,0 +1,43 @@
+package code;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+
+import jas.jasError;
+import jasmin.ClassFile;
+
+/*
+ * Montador Jasmin rodando dentro da própria JVM do compilador.
+ *
+ * Antes o Main escrevia o out.j em disco e o Makefile chamava
+ * 'java -jar jasmin.jar *.j' numa segunda JVM. Aqui o texto gerado
+ * pelo CodeGen é entregue direto para o jasmin.ClassFile, que devolve
+ * os bytes do .class sem passar por arquivo temporário.
+ */
+public final class Assembler {
+
+	private Assembler() {}
+
+	// Monta o código Jasmin passado e retorna os bytes do .class.
+	// O nome é usado nas mensagens de erro, que vão para 'err'.
+	// Retorna null se o Jasmin encontrou algum erro.
+	public static byte[] assemble(String jasmin, String name, PrintStream err) throws Exception {
+		ClassFile classFile = new ClassFile();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try {
+			classFile.readJasmin(new StringReader(jasmin), name, false);
+			if (classFile.errorCount() > 0) {
+				err.printf("%s: Found %d errors\n", name, classFile.errorCount());
+				return null;
+			}
+			classFile.write(bytes);
+		} catch (jasError e) {
+			// Label que não existe, limite estourado... aparecem só na
+			// hora de escrever o .class.
+			err.printf("%s: Jasmin error: %s\n", name, e.getMessage());
+			return null;
+		}
+		return bytes.toByteArray();
+	}
+}
@@ -0,0 +1,87 @@
+package code;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Bloco básico do IR: uma sequência de instruções sem desvios no meio,
+// terminada por um JUMP, BRANCH ou RETURN. As arestas do grafo de
+// controle ficam explícitas nas listas de sucessores e predecessores,
+// e são elas que dizem para onde cada terminador vai (o sucessor 0 do
+// BRANCH é o do verdadeiro, o 1 o do falso).
+public final class BasicBlock {
+
+	public final int id; // Número do bloco na função, usado nos labels.
+
+	private final List<Instruction> instructions = new ArrayList<Instruction>();
+	private final List<BasicBlock> succ = new ArrayList<BasicBlock>(2);
+	private final List<BasicBlock> pred = new ArrayList<BasicBlock>(2);
+
+	BasicBlock(int id) {
+		this.id = id;
+	}
+
+	public List<Instruction> getInstructions() {
+		return Collections.unmodifiableList(instructions);
+	}
+
+	public List<BasicBlock> getSuccessors() {
+		return Collections.unmodifiableList(succ);
+	}
+
+	public List<BasicBlock> getPredecessors() {
+		return Collections.unmodifiableList(pred);
+	}
+
+	// O terminador do bloco, ou null se ele ainda não terminou.
+	public Instruction getTerminator() {
+		if (instructions.isEmpty()) return null;
+		Instruction ultima = instructions.get(instructions.size() - 1);
+		return ultima.op.isTerminator() ? ultima : null;
+	}
+
+	public boolean isTerminated() {
+		return getTerminator() != null;
+	}
+
+	void add(Instruction ins) {
+		if (isTerminated()) {
+			throw new IllegalStateException("block B" + id + " already terminated");
+		}
+		instructions.add(ins);
+	}
+
+	// Põe a instrução no começo do bloco, antes das outras.
+	void addFirst(Instruction ins) {
+		instructions.add(0, ins);
+	}
+
+	void addEdge(BasicBlock to) {
+		succ.add(to);
+		to.pred.add(this);
+	}
+
+	// Tira as arestas que saem deste bloco, que vai sair da função.
+	void unlink() {
+		for (BasicBlock s : succ) s.pred.remove(this);
+		succ.clear();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("B").append(id).append(':');
+		if (!pred.isEmpty()) {
+			sb.append("\t\t; preds");
+			for (BasicBlock p : pred) sb.append(" B").append(p.id);
+		}
+		sb.append('\n');
+		for (Instruction ins : instructions) {
+			sb.append('\t').append(ins);
+			if (ins.op == OpCode.JUMP || ins.op == OpCode.BRANCH) {
+				for (BasicBlock s : succ) sb.append(" B").append(s.id);
+			}
+			sb.append('\n');
+		}
+		return sb.toString();
+	}
+}
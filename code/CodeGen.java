@@ -1,721 +1,636 @@
 package code;
 
-import ast.AST;
-import ast.ASTBaseVisitor;
-import ast.NodeKind;
-import java.io.BufferedWriter;
-import java.io.FileWriter;
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.ForkJoinTask;
 import tables.FuncTable;
 import tables.StrTable;
 import tables.VarTable;
 import typing.Type;
 
-
-public class CodeGen extends ASTBaseVisitor<Integer>{
-
-    private Instruction code[]; // Code memory
-	private StrTable st;
-	private VarTable vt;
-    private VarTable gt;
-    private FuncTable ft;
-    private BufferedWriter writer;
-    private BufferedWriter funcwriter;
-    
-    public CodeGen(VarTable vt,StrTable st, FuncTable ft, VarTable gt) throws IOException{
-        this.vt = vt;
-        this.st = st;
+// Geração do código Jasmin a partir do IR (ver IRBuilder). É aqui que
+// os registradores virtuais viram coisas da JVM:
+//
+// - Um temporário definido e usado uma vez só, no mesmo bloco, não
+//   precisa de variável local: o valor fica na pilha de operandos
+//   entre a instrução que o calcula e a que o usa, como numa tradução
+//   direta da árvore. Os operandos que não estão na pilha (variáveis,
+//   constantes) são carregados no ponto em que a pilha precisa deles,
+//   que pode ser antes do cálculo dos outros operandos.
+// - Um registrador que só recebe uma constante é trocado pela própria
+//   constante em cada uso.
+// - Os outros registradores ganham uma variável local da JVM, depois
+//   das que os argumentos do método já ocupam. Dois registradores que
+//   nunca estão vivos ao mesmo tempo, como as variáveis de blocos
+//   diferentes, dividem a mesma.
+// - Uma comparação usada só pelo BRANCH logo depois dela vira o
+//   if_icmp (ou fcmp e if) do desvio, sem montar o bool.
+//
+// O .limit stack e o .limit locals saem das contas, e não de um valor
+// fixo. Cada método é gerado em paralelo, e o texto sai na ordem da
+// lista, que não depende da ordem em que as threads terminam.
+public class CodeGen {
+
+    private final FuncTable ft;
+    private final VarTable gt;
+    private final StrTable st;
+    private final String className; // Nome da classe gerada.
+
+    // Instrução ldc de cada string da StrTable, indexada pelo número
+    // que vem na CONST. Cada literal é montado uma vez só por mais que
+    // apareça no programa; no .class o Jasmin já coloca cada string uma
+    // vez só no constant pool.
+    private String[] ldcStrings;
+    private int instructionCount = 0; // Instruções emitidas (sem as diretivas e labels).
+
+    public CodeGen(FuncTable ft, VarTable gt, StrTable st){
+        this(ft, gt, st, "GoProgram");
+    }
+
+    public CodeGen(FuncTable ft, VarTable gt, StrTable st, String className){
         this.ft = ft;
         this.gt = gt;
-        this.writer = new BufferedWriter(new FileWriter("out.j"));
-        // this.funcwriter = new BufferedWriter(new FileWriter("functions.j"));
-    }
-    //IDEIA -> write Jasmin imprime dependendo de uma flag main = 0;
-    //int lenFunctionInput = 0; //variavel que tem o tamanho da entrada
-    NodeKind lastNodeTypeVisited;
-
-    // public void writeFunction(String str){
-    //     try{
-    //         this.funcwriter.write(str);
-    //     }catch(Exception e){
-    //         e.printStackTrace();
-    //     }
-    // }
-
-    public void writeJasmin(String str){
-        try{
-            this.writer.write(str);
-        }catch(Exception e){
-            e.printStackTrace();
-        }
-    }
-
-    public void closeJasmin(){
-        try{
-            this.writer.close();
-        }catch(Exception e){
-            e.printStackTrace();
-        }
+        this.st = st;
+        this.className = className;
     }
 
-    public void montaCabecalho(){
-        this.writeJasmin(".class public GoProgram\n.super java/lang/Object\n\n");
+    public int getInstructionCount(){
+        return this.instructionCount;
     }
 
-    //public void montaCabecalhoFunction(){
-        //this.writeFunction(".class public Functions\n.super java/lang/Object\n\n");
-    //}
+    // Retorna o código Jasmin da classe com os métodos das funções e um
+    // campo estático por variável global.
+    public String generate(List<IRFunction> funcoes){
+        StringBuilder sb = new StringBuilder();
+        sb.append(".class public ").append(className).append("\n.super java/lang/Object\n\n");
+        for(int i = 0; i < gt.getSize(); i++){
+            sb.append(".field public static ").append(gt.getName(i)).append(' ')
+              .append(gt.getType(i).getDescriptor()).append('\n');
+        }
 
-    @Override
-    public void execute(AST tree){
-        montaCabecalho();
-        // montaCabecalhoFunction();
-        visit(tree);
-    }
+        // Montados antes das threads, que só leem. A StrTable guarda o
+        // literal como no fonte, e as aspas saem como no nó da AST.
+        ldcStrings = new String[st.size()];
+        for(int i = 0; i < ldcStrings.length; i++){
+            ldcStrings[i] = "ldc \"" + st.get(i).replace("\"", "") + "\"";
+        }
 
-    public void emit(String s, int addr) {
-        if (addr != -1){
-            this.writeJasmin("\t" + s + " ");
-            this.writeJasmin(addr + "\n");
-        } else{
-            this.writeJasmin("\t" + s + "\n");
+        Metodo[] metodos = new Metodo[funcoes.size()];
+        List<ForkJoinTask<?>> tarefas = new ArrayList<ForkJoinTask<?>>();
+        for(int i = 0; i < metodos.length; i++){
+            Metodo m = new Metodo(funcoes.get(i));
+            metodos[i] = m;
+            tarefas.add(ForkJoinTask.adapt(m::gera));
         }
-    }
-    
-    public void emit(String s, float addr){
-        if (addr != -1){
-            this.writeJasmin("\t" + s + " ");
-            this.writeJasmin(String.format("%f\n",addr));
-        } else{
-            this.writeJasmin("\t" + s + "\n");
+        if(tarefas.size() > 1) ForkJoinTask.invokeAll(tarefas);
+        else for(ForkJoinTask<?> t : tarefas) t.invoke();
+
+        for(Metodo m : metodos){
+            sb.append(m.texto);
+            this.instructionCount += m.instrucoes;
         }
+        return sb.toString();
     }
 
-    public int arrayHandle(AST node){
-        
-        Type varType;
-        int addr;
-        if(node.getChild(0).kind == NodeKind.ARRAY_NODE){
-            addr = node.getChild(0).intData;
-            
-            visit(node.getChild(0));
-            
-            emit("aload ",node.getChild(0).intData);
-            emit("bipush",(int)node.floatData);
-
-            visit(node.getChild(1));
-
-            varType = vt.getType(node.getChild(0).intData); 
-            if (varType == Type.FLOAT_TYPE) {
-                emit("fastore", -1);
-            } else if(varType  == Type.INT_TYPE || varType  == Type.BOOL_TYPE){
-                emit("iastore", -1);
-            }else if(varType == Type.STRING_TYPE){
-                emit("aastore",-1);
-            } 
-
-            return -1;
-        }
-        if(node.getChild(1).kind == NodeKind.ARRAY_NODE){
-            addr = node.getChild(1).intData;
-            
-            visit(node.getChild(1));
-            
-            emit("aload ",node.getChild(1).intData);
-            emit("bipush",(int)node.floatData);
-
-            varType = vt.getType(node.getChild(1).intData); 
-            if (varType == Type.FLOAT_TYPE) {
-                emit("faload", -1);
-            } else if(varType  == Type.INT_TYPE || varType  == Type.BOOL_TYPE){
-                emit("iaload", -1);
-            }else if(varType == Type.STRING_TYPE){
-                emit("aaload", -1);
-            } 
-
-            varType = vt.getType(node.getChild(0).intData); 
-            addr = node.getChild(0).intData;
-            if (varType == Type.FLOAT_TYPE) {
-                emit("fstore", addr);
-            } else if(varType == Type.INT_TYPE || varType == Type.BOOL_TYPE){
-                emit("istore", addr);
-            }else if(varType == Type.STRING_TYPE){
-                emit("astore", addr);
-            } 
-            return -1;
-        }
-
-        return -1;
-    }
+    // Uma linha do método: instrução, com o efeito dela na altura da
+    // pilha, ou label.
+    private static final class Linha {
+        final String texto;
+        final int pilha;
+        final boolean label;
 
-    @Override
-    protected Integer visitAssign(AST node){
-        Type varType;
-        int addr = node.getChild(0).intData; //Tamanho da entrada + Registrador da variavel(intData)
-        if(node.getChild(0).kind == NodeKind.ARRAY_NODE || node.getChild(1).kind == NodeKind.ARRAY_NODE){
-            arrayHandle(node);
-            return -1;
-        }
-
-        AST r = node.getChild(1);
-	    visit(r);
-        
-	    
-        
-	    varType = vt.getType(node.getChild(0).intData); 
-                         
-	    if (varType == Type.FLOAT_TYPE) {
-            emit("fstore", addr);
-	    } else if(varType == Type.INT_TYPE || varType == Type.BOOL_TYPE){
-	        emit("istore", addr);
-	    }else if(node.type == Type.STRING_TYPE){
-	        emit("astore", addr);
-	    } 
-
-	    return -1;
+        Linha(String texto, int pilha, boolean label){
+            this.texto = texto;
+            this.pilha = pilha;
+            this.label = label;
+        }
     }
 
-    String lastStringGenerate;
-    public void BotaIF(Type t, int bgn){
+    // Geração de um método, com todo o estado dela.
+    private final class Metodo {
+        final IRFunction f;
+        final int n; // Registradores da função.
+
+        final int[] usos;
+        final int[] defs;
+        final Instruction[] constante; // CONST que dá o valor do registrador, se for o único def.
+        final boolean[] pilha;        // Fica na pilha de operandos, sem variável local.
+        final int[] inicio;           // Dos que ficam na pilha: linha em que o cálculo começa.
+        final int[] comeco;           // Dos que ficam na pilha: instrução em que o cálculo começa.
+        final int[] slot;             // Variável local da JVM, -1 se não tiver.
+        int locals;
+
+        final List<Linha> linhas = new ArrayList<Linha>();
+        int labels = 0;
+        Instruction fundida; // Comparação que vai junto com o BRANCH seguinte.
+
+        String texto;
+        int instrucoes;
+
+        Metodo(IRFunction f){
+            this.f = f;
+            this.n = f.getRegisters().size();
+            usos = new int[n];
+            defs = new int[n];
+            constante = new Instruction[n];
+            pilha = new boolean[n];
+            inicio = new int[n];
+            comeco = new int[n];
+            slot = new int[n];
+        }
 
-        if(this.flagCompostLogical == 0) this.lastStringGenerate = "L" + UUID.randomUUID().toString().substring(0, 5);
-       
-        String ifType;
-        if(ifModo == 0){
-            ifType = checkIfType(t);
-            if(inWhile == 0){
-                emit(ifType + "saiif" + bgn, -1); 
+        void gera(){
+            analisa();
+            for(BasicBlock b : f.getBlocks()){
+                while(!simula(b)) {}
             }
-        }else{
-            ifType = checkIfType(t);
-            emit(ifType+ this.lastStringGenerate,-1);
-        }  
-
-    }
-
-	@Override
-    protected Integer visitEq(AST node){
-        visit(node.getChild(0));
-        visit(node.getChild(1));
-        
-        if(this.negOR == 0) this.lastNodeTypeVisited = node.kind;
-        else this.lastNodeTypeVisited = NodeKind.NEQ_NODE;
-
-        BotaIF(node.getChild(1).getType(), lastbgn);
-
-        return -1;
-    }   
-
-	@Override
-    protected Integer visitBlock(AST node){
-        //ERRADOOOOOO
-
-        int qtdChild = node.getChildren().size();
-        for(int i = 0;i< qtdChild;i++){
-            visit(node.getChild(i));
+            alocaSlots();
+            List<BasicBlock> blocos = f.getBlocks();
+            for(int i = 0; i < blocos.size(); i++){
+                BasicBlock b = blocos.get(i);
+                if(precisaLabel(b, i > 0 ? blocos.get(i - 1) : null)) linhas.add(new Linha("B" + b.id, 0, true));
+                BasicBlock prox = i + 1 < blocos.size() ? blocos.get(i + 1) : null;
+                List<Instruction> ins = b.getInstructions();
+                for(int k = 0; k < ins.size(); k++){
+                    Instruction proxima = k + 1 < ins.size() ? ins.get(k + 1) : null;
+                    traduz(b, ins.get(k), proxima, prox);
+                }
+            }
+            monta();
         }
 
-        return -1;
-    }
-
-	@Override
-    protected Integer visitBoolVal(AST node){
-        if(node.boolData){
-            emit("iconst_1",-1);
-        }else{
-            emit("iconst_0", -1);
+        // O bloco só não precisa de label se todo mundo que vai para ele
+        // é o bloco anterior, caindo nele sem desvio (ver branch).
+        boolean precisaLabel(BasicBlock b, BasicBlock anterior){
+            for(BasicBlock p : b.getPredecessors()){
+                if(p != anterior) return true;
+                List<BasicBlock> s = p.getSuccessors();
+                if(s.size() == 2 && s.get(0) == b && s.get(1) == b) return true;
+            }
+            return false;
         }
-        
-        return -1;     
-    }
 
-    private String checkIfType(Type tipo){
-        
-        if(tipo == Type.INT_TYPE){
-            switch(this.lastNodeTypeVisited){
-                case NEQ_NODE:
-                    return "if_icmpeq ";
-                case EQ_NODE:
-                    return "if_icmpne ";
-                case LT_NODE:
-                    return "if_icmpge ";
-                case RT_NODE:
-                    return "if_icmple ";
-                case ERT_NODE:
-                    return "if_icmplt ";
-                case ELT_NODE:
-                    return "if_icmpgt ";
-                default:
-                    return ""; // Não é operação
+        // Quantas vezes cada registrador é definido e usado, e quais são
+        // só uma constante.
+        void analisa(){
+            int[] blocoDef = new int[n];
+            int[] blocoUso = new int[n];
+            Instruction[] def = new Instruction[n];
+            for(BasicBlock b : f.getBlocks()){
+                for(Instruction ins : b.getInstructions()){
+                    for(Register a : ins.args){
+                        usos[a.num]++;
+                        blocoUso[a.num] = b.id;
+                    }
+                    if(ins.dest != null){
+                        defs[ins.dest.num]++;
+                        blocoDef[ins.dest.num] = b.id;
+                        def[ins.dest.num] = ins;
+                    }
+                }
             }
-        }else{
-            if(this.lastNodeTypeVisited == NodeKind.ELT_NODE || this.lastNodeTypeVisited == NodeKind.LT_NODE) emit("fcmpg", -1);
-            else emit("fcmpl",-1);
-            
-            switch(this.lastNodeTypeVisited){
-                case EQ_NODE:
-                    return "ifne "; 
-                case NEQ_NODE:
-                    return "ifeq "; 
-                case RT_NODE:
-                    return "ifle ";
-                case LT_NODE:
-                    return "ifge ";
-                case ELT_NODE:
-                    return "ifgt ";
-                case ERT_NODE:
-                    return "iflt ";
-                default:
-                    return ""; // Não é operação
+            for(int r = 0; r < n; r++){
+                if(defs[r] == 1 && def[r].op == OpCode.CONST) constante[r] = def[r];
+                else pilha[r] = f.getRegister(r).isTemp() && defs[r] == 1 && usos[r] == 1
+                        && blocoDef[r] == blocoUso[r];
             }
         }
-    }
 
-    int saiflag = 0; //pode estourar o numero
-    int ifModo = 0; // 0 = IF Sem else , 1 = IF Else , 2 = if else if
-    int lastbgn;
-
-	@Override
-    protected Integer visitIf(AST node){ //IF encadeado não funciona!!!
-        int bgn = this.saiflag;
-        this.lastbgn = bgn;
-
-        
-        
-        if(node.getChildren().size() == 2){ //caso base if
-            this.ifModo = 0;
-            visit(node.getChild(1)); //condição            
-            if(node.getChild(1).kind == NodeKind.OR_NODE){
-                this.writeJasmin(this.salvaUltimo+":\n"); // Se for OR
-            }
-            visit(node.getChild(0)); //block
-
-        }else{
-            
-            Boolean elseTest = node.getChild(1).kind == NodeKind.BLOCK_NODE;
-            if(elseTest){ //caso seja um else
-                this.ifModo = 1; 
-                visit(node.getChild(2)); //condição
-                
-                if(node.getChild(2).kind == NodeKind.OR_NODE){
-                    this.writeJasmin(this.salvaUltimo+":\n"); // Se for OR
+        // Confere, numa passada pelo bloco, se os temporários marcados
+        // para ficar na pilha estão no topo, em ordem, quando cada
+        // instrução precisa deles, e se os outros operandos podem ser
+        // carregados antes desses cálculos (nada no meio muda o valor
+        // deles). Quando não dá, os temporários da instrução vão para
+        // variáveis locais e a passada recomeça.
+        boolean simula(BasicBlock b){
+            List<Instruction> ins = b.getInstructions();
+            List<Register> topo = new ArrayList<Register>();
+            for(int i = 0; i < ins.size(); i++){
+                Instruction x = ins.get(i);
+                List<Register> naPilha = new ArrayList<Register>();
+                for(Register a : x.args){
+                    if(pilha[a.num]) naPilha.add(a);
                 }
-
-                visit(node.getChild(0)); //block
-                emit("goto " + "saiif" + bgn, -1);
-            }
-            else{ // ELSE IF
-                this.ifModo = 1;
-                visit(node.getChild(1)); //condição
-                if(node.getChild(1).kind == NodeKind.OR_NODE){
-                    this.writeJasmin(this.salvaUltimo+":\n"); // Se for OR
+                int k = naPilha.size();
+                boolean ok = topo.size() >= k && topo.subList(topo.size() - k, topo.size()).equals(naPilha);
+                for(int j = 0; ok && j < x.args.length; j++){
+                    Register a = x.args[j];
+                    if(pilha[a.num]) continue;
+                    Register depois = proximoNaPilha(x.args, j);
+                    if(depois == null) continue;
+                    for(int m = comeco[depois.num]; m < i; m++){
+                        if(ins.get(m).dest == a) ok = false;
+                    }
+                }
+                if(!ok){
+                    for(Register a : naPilha) pilha[a.num] = false;
+                    return false;
+                }
+                for(int j = 0; j < k; j++) topo.remove(topo.size() - 1);
+                if(x.dest != null && pilha[x.dest.num]){
+                    comeco[x.dest.num] = k > 0 ? comeco[naPilha.get(0).num] : i;
+                    topo.add(x.dest);
                 }
-
-                visit(node.getChild(0)); //block
-                emit("goto "+ "saiif" + bgn, -1);
             }
-            this.writeJasmin(this.lastStringGenerate+":\n"); // SE for AND
-            if(elseTest) visit(node.getChild(1));
-            else visit(node.getChild(2));
-        }
-        if(bgn == this.saiflag){
-            this.writeJasmin("saiif" + bgn + ":\n");
-            this.saiflag++;
+            return true;
         }
 
-        return -1;        
-    }
-
-	@Override
-    protected Integer visitIntVal(AST node){
-        
-        if(node.type == Type.FLOAT_TYPE){
-            emit("ldc " + node.intData + ".f", -1);
-            return -1;
+        Register proximoNaPilha(Register[] args, int j){
+            for(int m = j + 1; m < args.length; m++){
+                if(pilha[args[m].num]) return args[m];
+            }
+            return null;
         }
-        
-        emit("ldc",node.intData);
-        return -1;   
-    }
-
-	@Override
-    protected Integer visitLt(AST node){
-        visit(node.getChild(0));
-        visit(node.getChild(1));
-
-        if(this.negOR == 0){
-            this.lastNodeTypeVisited = node.kind;
-            
-        }else this.lastNodeTypeVisited = NodeKind.ERT_NODE;
-        BotaIF(node.getChild(1).getType(), lastbgn);
-        return -1;
-    }
-
-    @Override
-    protected Integer visitRt(AST node){
-        visit(node.getChild(0));
-        visit(node.getChild(1));
-
-        if(this.negOR == 0) this.lastNodeTypeVisited = node.kind;
-        else this.lastNodeTypeVisited = NodeKind.ELT_NODE;
-
-        BotaIF(node.getChild(1).getType(), lastbgn);
-        
-        return -1;
-    }
-
-    @Override
-    protected Integer visitErt(AST node){
-        visit(node.getChild(0));
-        visit(node.getChild(1));
 
-        if(this.negOR == 0) this.lastNodeTypeVisited = node.kind;
-        else this.lastNodeTypeVisited = NodeKind.LT_NODE;
-        BotaIF(node.getChild(1).getType(), lastbgn);
-        return -1;
-    }
-    
-    @Override
-    protected Integer visitElt(AST node){
-        visit(node.getChild(0));
-        visit(node.getChild(1));
-
-        if(this.negOR == 0) this.lastNodeTypeVisited = node.kind;
-        else this.lastNodeTypeVisited = NodeKind.RT_NODE;
-        BotaIF(node.getChild(1).getType(), lastbgn);
-        return -1;
-    }
-
-	@Override
-    protected Integer visitMinus(AST node){
-        visit(node.getChild(0));
-        visit(node.getChild(1));
+        // Os parâmetros ficam onde a JVM os põe. Os outros registradores
+        // que precisam de variável local ganham, em ordem, a primeira
+        // que nenhum registrador em conflito com eles já tem.
+        void alocaSlots(){
+            Arrays.fill(slot, -1);
+            int[] indice = new int[n]; // Posição entre os que precisam de variável, ou -1.
+            Register[] candidatos = new Register[n];
+            int k = 0;
+            for(int r = 0; r < n; r++){
+                indice[r] = -1;
+                if(r < f.params){
+                    slot[r] = r;
+                }else if(!pilha[r] && constante[r] == null && usos[r] > 0){
+                    indice[r] = k;
+                    candidatos[k++] = f.getRegister(r);
+                }
+            }
 
-        if(node.getType() == Type.INT_TYPE){
-            emit("isub", -1);
-        }else if(node.getType() == Type.FLOAT_TYPE){
-            emit("fsub", -1);
+            BitSet[] conflito = conflitos(indice, k);
+            locals = f.argSlots;
+            for(int c = 0; c < k; c++){
+                BitSet ocupados = new BitSet();
+                for(int o = conflito[c].nextSetBit(0); o >= 0; o = conflito[c].nextSetBit(o + 1)){
+                    int s = slot[candidatos[o].num];
+                    if(s >= 0) ocupados.set(s);
+                }
+                int s = ocupados.nextClearBit(f.argSlots);
+                slot[candidatos[c].num] = s;
+                locals = Math.max(locals, s + 1);
+            }
         }
 
-        return -1;
-    }
-
-	@Override
-    protected Integer visitOver(AST node){
-        visit(node.getChild(0));
-        visit(node.getChild(1));
-
-        if(node.getType() == Type.INT_TYPE){
-            emit("idiv", -1);
-        }else if(node.getType() == Type.FLOAT_TYPE){
-            emit("fdiv", -1);
+        // Dois registradores estão em conflito se um é definido num
+        // ponto em que o outro ainda vai ser lido: as variáveis vivas
+        // são refeitas de trás para frente em cada bloco, a partir das
+        // que estão vivas no começo dos sucessores. Como o IRBuilder põe
+        // valor em tudo que pode ser lido antes de receber, cada leitura
+        // vem de uma definição do próprio registrador, e a variável da
+        // JVM ainda tem o valor dele. O tipo pode mudar de um para outro:
+        // int, float e referências ocupam uma variável cada.
+        BitSet[] conflitos(int[] indice, int k){
+            BitSet[] conflito = new BitSet[k];
+            for(int c = 0; c < k; c++) conflito[c] = new BitSet();
+            BitSet[] entrada = f.liveIn();
+            for(BasicBlock b : f.getBlocks()){
+                BitSet vivas = new BitSet();
+                for(BasicBlock s : b.getSuccessors()) vivas.or(entrada[s.id]);
+                List<Instruction> ins = b.getInstructions();
+                for(int i = ins.size() - 1; i >= 0; i--){
+                    Instruction x = ins.get(i);
+                    if(x.dest != null){
+                        vivas.clear(x.dest.num);
+                        int d = indice[x.dest.num];
+                        for(int r = vivas.nextSetBit(0); d >= 0 && r >= 0; r = vivas.nextSetBit(r + 1)){
+                            int o = indice[r];
+                            if(o < 0) continue;
+                            conflito[d].set(o);
+                            conflito[o].set(d);
+                        }
+                    }
+                    for(Register a : x.args) vivas.set(a.num);
+                }
+            }
+            return conflito;
         }
 
-        return -1;
-    }
-
-	@Override
-    protected Integer visitPlus(AST node){
-        visit(node.getChild(0));
-        visit(node.getChild(1));
+        // ------------------------------------------------------------
+        // Linhas
+        // ------------------------------------------------------------
 
-        if(node.getType() == Type.INT_TYPE){
-            emit("iadd", -1);
-        }else if(node.getType() == Type.FLOAT_TYPE){
-            emit("fadd", -1);
+        void emite(String s, int efeito){
+            linhas.add(new Linha(s, efeito, false));
         }
 
-        return -1;
-    }
-
-	@Override
-    protected Integer visitProgram(AST node){
-        
-        int qtdChild = node.getChildren().size();
-        for(int i =0;i<qtdChild;i++){
-            visit(node.getChild(i));
+        void label(String s){
+            linhas.add(new Linha(s, 0, true));
         }
-        
-        return -1;
-    }
-
-	@Override
-    protected Integer visitRead(AST node){
-        
-        emit("new java/util/Scanner", -1);
-        emit("dup", -1);
-        emit("getstatic java/lang/System/in Ljava/io/InputStream;",-1);
-        emit("invokespecial java/util/Scanner/<init>(Ljava/io/InputStream;)V",-1);
-
-        if(node.getChild(1).getType() == Type.INT_TYPE){
-            emit("invokevirtual java/util/Scanner/nextInt()I",-1);
-            emit("istore",node.getChild(1).intData);
-        } else if(node.getChild(1).getType() == Type.FLOAT_TYPE){
-            emit("invokevirtual java/util/Scanner/nextFloat()F",-1);
-            emit("fstore",node.getChild(1).intData);
-        }else if(node.getChild(1).getType() == Type.BOOL_TYPE){
-            emit("invokevirtual java/util/Scanner/nextBoolean()Z",-1);
-            emit("istore",node.getChild(1).intData);
-        }else if(node.getChild(1).getType() == Type.STRING_TYPE){
-            emit("invokevirtual java/util/Scanner/nextLine()Ljava/lang/String;",-1);
-            emit("astore",node.getChild(1).intData);
-        }
-
-        return -1;
-    }
-
-	@Override
-    protected Integer visitRealVal(AST node){
-        emit("ldc " + node.floatData + "f", -1);
-        return -1;
-    }
-
-    
-    int qtdWhile = 0;
-    int inWhile = 0;
-	@Override
-    protected Integer visitRepeat(AST node){
-        inWhile = 1;
-        this.writeJasmin("label" + qtdWhile + ":\n");
-        visit(node.getChild(1));
-        String ifType = checkIfType(node.getChild(1).getChild(1).getType());
-        emit(ifType+ "saiWhile" + qtdWhile, -1); 
-        visit(node.getChild(0));
-        emit("goto label" + qtdWhile,-1);
-        this.writeJasmin("saiWhile"+qtdWhile+":\n");
-        qtdWhile++;
-        inWhile = 0;
-        return -1;
-    }
-
-	@Override
-    protected Integer visitStrVal(AST node){
-        emit("ldc " + "\"" + node.stringData + "\"",-1);
-        return -1;
-    }
 
-	@Override
-    protected Integer visitTimes(AST node){
-        visit(node.getChild(0));
-        visit(node.getChild(1));
+        String novoLabel(){
+            return "C" + (labels++);
+        }
 
-        if(node.getType() == Type.INT_TYPE){
-            emit("imul", -1);
-        }else if(node.getType() == Type.FLOAT_TYPE){
-            emit("fmul", -1);
+        // Põe os operandos da instrução na pilha. Os que já estão nela
+        // ficam; os outros são carregados logo antes do cálculo do
+        // próximo operando que está na pilha, ou no fim.
+        // Retorna a linha em que começa o cálculo do primeiro operando.
+        int operandos(Instruction ins){
+            int comeco = linhas.size();
+            Register primeiro = proximoNaPilha(ins.args, -1);
+            if(primeiro != null) comeco = inicio[primeiro.num];
+            // De trás para frente, para que cada inserção não mude a
+            // linha das que faltam.
+            for(int j = ins.args.length - 1; j >= 0; j--){
+                Register a = ins.args[j];
+                Register depois = proximoNaPilha(ins.args, j);
+                if(!pilha[a.num] && depois != null) linhas.add(inicio[depois.num], carga(a));
+            }
+            for(int j = 0; j < ins.args.length; j++){
+                Register a = ins.args[j];
+                if(!pilha[a.num] && proximoNaPilha(ins.args, j) == null) linhas.add(carga(a));
+            }
+            return comeco;
         }
 
-        return -1;
-    }
+        // Tira o resultado da pilha: guarda na variável local, deixa na
+        // pilha para quem vai usar ou descarta.
+        void guarda(Register d, int comeco){
+            if(d == null || constante[d.num] != null) return;
+            if(pilha[d.num]){
+                inicio[d.num] = comeco;
+            }else if(usos[d.num] == 0){
+                emite("pop", -1);
+            }else{
+                emite(prefixo(d.type) + "store" + sufixoSlot(slot[d.num]), -1);
+            }
+        }
 
-	@Override
-    protected Integer visitVarDecl(AST node){
-        return -1;
-    }
+        Linha carga(Register r){
+            Instruction c = constante[r.num];
+            if(c != null) return new Linha(empilhaConstante(c), 1, false);
+            return new Linha(prefixo(r.type) + "load" + sufixoSlot(slot[r.num]), 1, false);
+        }
 
-	@Override
-    protected Integer visitVarList(AST node){
-        return -1;
-    }
+        String sufixoSlot(int s){
+            return s <= 3 ? "_" + s : " " + s;
+        }
 
-	@Override
-    protected Integer visitVarUse(AST node){
-        int addr= node.intData;
-        //if(inFunc == 0) addr = node.intData;
-        //else addr = node.intData;
-        if (node.type == Type.FLOAT_TYPE) {
-            emit("fload", addr);
-	    } else if(node.type == Type.INT_TYPE){
-	        emit("iload", addr);
-	    } else if(node.type == Type.STRING_TYPE){
-	        emit("aload", addr);
-	    } else if(node.type == Type.BOOL_TYPE){
-	        emit("iload", addr);
-	    }
-        return -1;
-    }
+        String empilhaConstante(Instruction c){
+            Type tipo = c.dest.type;
+            if(tipo == Type.FLOAT_TYPE){
+                float v = c.floatData;
+                if(Float.floatToIntBits(v) == 0 || v == 1f || v == 2f) return "fconst_" + (int)v;
+                return "ldc " + v + "f";
+            }
+            if(tipo == Type.STRING_TYPE){
+                if(c.intData >= 0) return ldcStrings[c.intData];
+                return "ldc \"" + c.strData + "\"";
+            }
+            return empilhaInt(c.intData);
+        }
 
-	@Override
-    protected Integer visitWrite(AST node){
-        emit("getstatic java/lang/System/out Ljava/io/PrintStream;", -1);
-
-        visit(node.getChild(1));
-        
-        if(node.getChild(1).getType() == Type.INT_TYPE){
-            emit("invokevirtual java/io/PrintStream/println(I)V", -1);
-        } else if(node.getChild(1).getType() == Type.FLOAT_TYPE){
-            emit("invokevirtual java/io/PrintStream/println(F)V", -1);
-        }else if(node.getChild(1).getType() == Type.BOOL_TYPE){
-            emit("invokevirtual java/io/PrintStream/println(Z)V", -1);
-        }else if(node.getChild(1).getType() == Type.STRING_TYPE){
-            emit("invokevirtual java/io/PrintStream/println(Ljava/lang/String;)V",-1);
-        }
-        return -1;
-    }
-    
-    public String defineTipoJasmin(Type tipo) {
-        if(tipo == Type.INT_TYPE) return "I";
-        else if(tipo == Type.FLOAT_TYPE) return "F";
-        else if(tipo == Type.BOOL_TYPE) return "Z";
-        else if(tipo == Type.STRING_TYPE) return "Ljava/lang/String;";
-        else return "V";
-    }
+        String empilhaInt(int v){
+            if(v >= -1 && v <= 5) return v == -1 ? "iconst_m1" : "iconst_" + v;
+            if(v >= Byte.MIN_VALUE && v <= Byte.MAX_VALUE) return "bipush " + v;
+            if(v >= Short.MIN_VALUE && v <= Short.MAX_VALUE) return "sipush " + v;
+            return "ldc " + v;
+        }
 
-    public String makeFuncParamReturn(AST node){
-        String nome = ft.getName(node.intData);
-        String parametros = "(";
-        List<Type> param = ft.getTypes(node.intData);
-        for(int i = 0; i < ft.getParamSize(node.intData); i++){
-            parametros += defineTipoJasmin(param.get(i));
+        // Prefixo das instruções de variável local e de retorno do tipo.
+        String prefixo(Type tipo){
+            if(tipo == Type.INT_TYPE || tipo == Type.BOOL_TYPE) return "i";
+            if(tipo == Type.FLOAT_TYPE) return "f";
+            return "a";
         }
-        parametros += ")";
-        String retorno = "";
-        List<Type> ret = ft.getReturns(node.intData);
-        if(ret.size() > 0){
-            retorno += defineTipoJasmin(ret.get(0)); //retorno só retorna 1
+
+        // Prefixo das instruções de array do elemento.
+        String prefixoArray(Type elem){
+            if(elem == Type.BOOL_TYPE) return "b";
+            return prefixo(elem);
         }
-        else{
-            retorno = "V";
+
+        String descritorPrint(Type tipo){
+            if(tipo == Type.INT_TYPE || tipo == Type.FLOAT_TYPE || tipo == Type.BOOL_TYPE
+                    || tipo == Type.STRING_TYPE) return tipo.getDescriptor();
+            return "Ljava/lang/Object;";
         }
-        return nome + parametros + retorno;
-    }
-    int inFunc = 0;
-    @Override
-    protected Integer visitFunc(AST node){
-        
-        if(this.inFunc == 0){ // Declarando Função
-            inFunc = 1;
-            //this.lenFunctionInput = this.ft.getParamSize(node.intData);
-
-            String nome = ft.getName(node.intData);
-            this.vt = ft.getVarTable(node.intData);
-            String method;
-            if(nome.equals("main")){
-                method = "\n.method public static " + nome + "([Ljava/lang/String;)V\n"; 
-            } else{
-                method = "\n.method public static " + makeFuncParamReturn(node) + "\n"; //trocar
-            }
-            
-            this.writeJasmin(method);
-            emit(".limit stack 20", -1);
-            emit(".limit locals 20\n", -1);
-            visit(node.getChild(0));
-        
-            List<Type> ret = ft.getReturns(node.intData);
-            if(ret.size() > 0){
-                Type retType = ret.get(0);
-                if (retType == Type.FLOAT_TYPE) {
-                    emit("freturn", -1);
-                } else if(retType == Type.INT_TYPE){
-                    emit("ireturn", -1);
-                } else if(retType == Type.STRING_TYPE){
-                    emit("areturn", -1);
-                } else if(retType == Type.BOOL_TYPE){
-                    emit("ireturn", -1);
-                } else {
-                    emit("return", -1);
+
+        // ------------------------------------------------------------
+        // Instruções
+        // ------------------------------------------------------------
+
+        void traduz(BasicBlock b, Instruction ins, Instruction proxima, BasicBlock prox){
+            int comeco;
+            switch(ins.op){
+                case CONST:
+                    if(constante[ins.dest.num] != null) return;
+                    comeco = linhas.size();
+                    emite(empilhaConstante(ins), 1);
+                    guarda(ins.dest, comeco);
+                    return;
+                case MOVE:
+                    if(ins.args[0] == ins.dest) return;
+                    comeco = operandos(ins);
+                    guarda(ins.dest, comeco);
+                    return;
+                case I2F:
+                    comeco = operandos(ins);
+                    emite("i2f", 0);
+                    guarda(ins.dest, comeco);
+                    return;
+                case ADD: case SUB: case MUL: case DIV: case REM:
+                    comeco = operandos(ins);
+                    if(ins.dest.type == Type.STRING_TYPE){
+                        emite("invokevirtual java/lang/String/concat(Ljava/lang/String;)Ljava/lang/String;", -1);
+                    }else{
+                        emite(prefixo(ins.dest.type) + ins.op, -1);
+                    }
+                    guarda(ins.dest, comeco);
+                    return;
+                case EQ: case NE: case LT: case GT: case LE: case GE:
+                    comeco = operandos(ins);
+                    if(pilha[ins.dest.num] && proxima != null && proxima.op == OpCode.BRANCH
+                            && proxima.args[0] == ins.dest){
+                        fundida = ins;
+                        return;
+                    }
+                    String verdadeiro = novoLabel();
+                    String fim = novoLabel();
+                    salto(ins, false, verdadeiro);
+                    emite("iconst_0", 1);
+                    emite("goto " + fim, -1); // A altura do outro caminho.
+                    label(verdadeiro);
+                    emite("iconst_1", 1);
+                    label(fim);
+                    guarda(ins.dest, comeco);
+                    return;
+                case NEWARRAY: {
+                    comeco = linhas.size();
+                    Type elem = ins.dest.type.getElem();
+                    emite(empilhaInt(ins.dest.type.getLength()), 1);
+                    if(elem == Type.STRING_TYPE){
+                        // As strings começam com "", e não com null.
+                        emite("anewarray java/lang/String", 0);
+                        emite("dup", 1);
+                        emite("ldc \"\"", 1);
+                        emite("invokestatic java/util/Arrays/fill([Ljava/lang/Object;Ljava/lang/Object;)V", -2);
+                    }else if(elem == Type.FLOAT_TYPE) emite("newarray float", 0);
+                    else if(elem == Type.BOOL_TYPE) emite("newarray boolean", 0);
+                    else emite("newarray int", 0);
+                    guarda(ins.dest, comeco);
+                    return;
                 }
+                case ALOAD:
+                    comeco = operandos(ins);
+                    emite(prefixoArray(ins.dest.type) + "aload", -1);
+                    guarda(ins.dest, comeco);
+                    return;
+                case ASTORE:
+                    operandos(ins);
+                    emite(prefixoArray(ins.args[0].type.getElem()) + "astore", -3);
+                    return;
+                case GETGLOBAL:
+                    comeco = linhas.size();
+                    emite("getstatic " + campo(ins.intData), 1);
+                    guarda(ins.dest, comeco);
+                    return;
+                case PUTGLOBAL:
+                    operandos(ins);
+                    emite("putstatic " + campo(ins.intData), -1);
+                    return;
+                case CALL: {
+                    comeco = operandos(ins);
+                    String nome = className + "/" + ft.getName(ins.intData) + ft.getSignature(ins.intData).getDescriptor();
+                    emite("invokestatic " + nome, -ins.args.length + (ins.dest != null ? 1 : 0));
+                    guarda(ins.dest, comeco);
+                    return;
+                }
+                case PRINT:
+                    print(ins);
+                    return;
+                case READ:
+                    comeco = linhas.size();
+                    read(ins.dest);
+                    guarda(ins.dest, comeco);
+                    return;
+                case JUMP:
+                    if(b.getSuccessors().get(0) != prox) emite("goto B" + b.getSuccessors().get(0).id, 0);
+                    return;
+                case BRANCH:
+                    branch(b, ins, prox);
+                    return;
+                case RETURN:
+                    if(ins.args.length == 0){
+                        emite("return", 0);
+                    }else{
+                        operandos(ins);
+                        emite(prefixo(ins.args[0].type) + "return", -1);
+                    }
+                    return;
+                default:
+                    throw new IllegalArgumentException("Invalid op: " + ins.op);
             }
-            else{
-                emit("return", -1);
-            }
-            this.writeJasmin("\n.end method\n");
-            inFunc = 0;
         }
-        else{ // Chamando Função
-            for(int i = 0; i < this.ft.getParamSize(node.intData); i++){
-                visit(node.getChild(i));
-            }
-            String nome = "GoProgram/" + makeFuncParamReturn(node); // trocar
-            emit("invokestatic " + nome ,-1);
 
+        String campo(int global){
+            return className + "/" + gt.getName(global) + " " + gt.getType(global).getDescriptor();
         }
-        
-        return -1;
-    }
-
-    int flagCompostLogical = 0;
-    @Override
-    protected Integer visitAndNode(AST node){
-        visit(node.getChild(0));
-        this.flagCompostLogical = 1;
-
-        visit(node.getChild(1));
-        this.flagCompostLogical = 0;
-        
-        return -1;
-    }
 
-    int negOR = 0;
-    String salvaUltimo;
-    @Override
-    protected Integer visitOrNode(AST node){
-        // emit("or_label:" + , -1);
-
-        this.negOR = 1;
-        visit(node.getChild(0));
-        this.negOR = 0;
-        this.flagCompostLogical = 1;
-        this.salvaUltimo = this.lastStringGenerate;
-        this.lastStringGenerate = "L" + UUID.randomUUID().toString().substring(0, 5);
-        visit(node.getChild(1));
-        this.flagCompostLogical = 0;
-        
-        return -1;
-
-    }
+        void print(Instruction ins){
+            String metodo = ins.intData == 1 ? "println" : "print";
+            emite("getstatic java/lang/System/out Ljava/io/PrintStream;", 1);
+            if(ins.args.length == 0){
+                emite("invokevirtual java/io/PrintStream/" + metodo + "()V", -1);
+                return;
+            }
+            Register a = ins.args[0];
+            // O PrintStream tem que ficar embaixo do valor, então entra
+            // antes do cálculo dele, se o valor já estiver na pilha.
+            if(pilha[a.num]) linhas.add(inicio[a.num], linhas.remove(linhas.size() - 1));
+            else operandos(ins);
+            emite("invokevirtual java/io/PrintStream/" + metodo + "(" + descritorPrint(a.type) + ")V", -2);
+        }
 
-    @Override
-    protected Integer visitNeqNode(AST node){
-        visit(node.getChild(0));
-        visit(node.getChild(1));
-        
-        if(this.negOR == 0) this.lastNodeTypeVisited = node.kind;
-        else this.lastNodeTypeVisited = NodeKind.EQ_NODE;
-        BotaIF(node.getChild(1).getType(), lastbgn);
-        return -1;
-    }
+        // Como antes, cada leitura cria o seu Scanner.
+        void read(Register d){
+            emite("new java/util/Scanner", 1);
+            emite("dup", 1);
+            emite("getstatic java/lang/System/in Ljava/io/InputStream;", 1);
+            emite("invokespecial java/util/Scanner/<init>(Ljava/io/InputStream;)V", -2);
+            if(d.type == Type.FLOAT_TYPE) emite("invokevirtual java/util/Scanner/nextFloat()F", 0);
+            else if(d.type == Type.BOOL_TYPE) emite("invokevirtual java/util/Scanner/nextBoolean()Z", 0);
+            else if(d.type == Type.STRING_TYPE) emite("invokevirtual java/util/Scanner/nextLine()Ljava/lang/String;", 0);
+            else emite("invokevirtual java/util/Scanner/nextInt()I", 0);
+        }
 
-    @Override
-    protected Integer visitModNode(AST node){
-        visit(node.getChild(0));
-        visit(node.getChild(1));
+        // O sucessor 0 é o do verdadeiro. O bloco seguinte na ordem de
+        // geração não precisa de goto.
+        void branch(BasicBlock b, Instruction ins, BasicBlock prox){
+            BasicBlock v = b.getSuccessors().get(0);
+            BasicBlock f = b.getSuccessors().get(1);
+            Instruction cmp = fundida != null && fundida.dest == ins.args[0] ? fundida : null;
+            fundida = null;
+            if(cmp == null) operandos(ins);
+            if(v == prox){
+                desvia(cmp, true, "B" + f.id);
+            }else{
+                desvia(cmp, false, "B" + v.id);
+                if(f != prox) emite("goto B" + f.id, 0);
+            }
+        }
 
-        if(node.getType() == Type.INT_TYPE){
-            emit("irem", -1);
-        }else if(node.getType() == Type.FLOAT_TYPE){
-            emit("frem", -1);
+        // Desvio do BRANCH: pela comparação fundida ou pelo bool que
+        // está na pilha.
+        void desvia(Instruction cmp, boolean negado, String destino){
+            if(cmp != null) salto(cmp, negado, destino);
+            else emite((negado ? "ifeq " : "ifne ") + destino, -1);
         }
 
-        return -1;
-    }
+        // Desvia para 'destino' se a comparação der verdadeiro (falso, se
+        // 'negado'), com os dois operandos dela na pilha. No float o
+        // fcmpg/fcmpl é escolhido pela comparação original, para que
+        // com NaN ela dê falso com ou sem a negação, como no javac.
+        void salto(Instruction cmp, boolean negado, String destino){
+            OpCode op = negado ? cmp.op.negate() : cmp.op;
+            Type tipo = cmp.args[0].type;
+            if(tipo == Type.INT_TYPE || tipo == Type.BOOL_TYPE){
+                emite("if_icmp" + op.name().toLowerCase() + " " + destino, -2);
+            }else if(tipo == Type.FLOAT_TYPE){
+                boolean g = cmp.op == OpCode.LT || cmp.op == OpCode.LE;
+                emite(g ? "fcmpg" : "fcmpl", -1);
+                emite("if" + op.name().toLowerCase() + " " + destino, -1);
+            }else if(tipo == Type.STRING_TYPE && (op == OpCode.EQ || op == OpCode.NE)){
+                emite("invokevirtual java/lang/String/equals(Ljava/lang/Object;)Z", -1);
+                emite((op == OpCode.EQ ? "ifne " : "ifeq ") + destino, -1);
+            }else if(tipo == Type.STRING_TYPE){
+                emite("invokevirtual java/lang/String/compareTo(Ljava/lang/String;)I", -1);
+                emite("if" + op.name().toLowerCase() + " " + destino, -1);
+            }else{
+                emite("if_acmp" + (op == OpCode.EQ ? "eq " : "ne ") + destino, -2);
+            }
+        }
 
-    @Override
-    protected Integer visitArrayNode(AST node){
-        
-        if(vt.getTamArray(node.intData) != 0){
-            emit("bipush ", vt.getTamArray(node.intData));
-            if(node.getType() == Type.STRING_TYPE){
-                emit("anewarray "+"java/lang/String",-1);
+        // Junta o cabeçalho, os limites e as linhas do método.
+        void monta(){
+            int altura = 0, maxAltura = 0;
+            for(Linha l : linhas){
+                if(l.label && l.texto.startsWith("B")) altura = 0;
+                altura += l.pilha;
+                maxAltura = Math.max(maxAltura, altura);
             }
-            else{
-                emit("newarray "+node.getType(),-1);
+
+            StringBuilder sb = new StringBuilder("\n.method ");
+            if(f.name.equals("<clinit>")) sb.append("static ");
+            else sb.append("public static ");
+            sb.append(f.name).append(f.descriptor).append('\n');
+            sb.append("\t.limit stack ").append(maxAltura).append('\n');
+            sb.append("\t.limit locals ").append(Math.max(locals, 1)).append("\n\n");
+            for(Linha l : linhas){
+                if(l.label){
+                    sb.append(l.texto).append(":\n");
+                }else{
+                    sb.append('\t').append(l.texto).append('\n');
+                    instrucoes++;
+                }
             }
-            
-            emit("astore", node.intData);
-            vt.setTamArrayZero(node.intData);
+            sb.append(".end method\n");
+            texto = sb.toString();
         }
-        
-        return -1;
-    }
-    
-    @Override
-    protected  Integer visitReturn(AST node){
-
-        visit(node.getChild(0));
-        
-        return -1;
     }
 }
@@ -0,0 +1,520 @@
+package code;
+
+import ast.AST;
+import ast.ASTBaseVisitor;
+import ast.NodeKind;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import tables.FuncTable;
+import tables.VarTable;
+import typing.Type;
+
+// Otimização da AST entre o checker e o CodeGen. Faz três coisas:
+//
+// - Dobra as operações aritméticas cujos dois operandos são constantes,
+//   e as comparações das condições dos ifs.
+// - Propaga as variáveis locais que só recebem um valor, constante, na
+//   própria declaração: cada uso vira a constante e a atribuição some.
+// - Tira os ifs cuja condição ficou constante, deixando só o ramo que
+//   roda.
+//
+// O int e o float do compilador são os de 32 bits da JVM, então a conta
+// é feita com os de Java, que dão o mesmo resultado que o iadd, fmul...
+// dariam em tempo de execução: o int dá a volta no estouro, como os
+// inteiros de Go, e a divisão trunca para zero com x / -1 == x no
+// menor int. Divisão e resto inteiros por zero não são dobrados, para
+// continuarem dando erro ao rodar; contas de float que dariam infinito
+// ou NaN também não, porque o Jasmin não tem literal para eles.
+//
+// A árvore é mudada no lugar. Cada função é otimizada por um
+// ConstantFolder próprio, em paralelo, como no CodeGen.
+public class ConstantFolder extends ASTBaseVisitor<Void>{
+
+    private final FuncTable ft;
+
+    // Das variáveis da função sendo otimizada, indexados pelo índice na
+    // VarTable dela: quantas atribuições cada uma tem, se alguma delas
+    // é a da declaração e se ela é usada de um jeito que impede a
+    // propagação (Scanln, atribuição múltipla). null fora das funções.
+    private int[] atribuicoes;
+    private boolean[] declarada;
+    private boolean[] bloqueada;
+    private AST[] constantes; // Valor das variáveis já propagadas.
+
+    public ConstantFolder(FuncTable ft){
+        this.ft = ft;
+        // Os operandos são dobrados antes da operação. Os && e || também
+        // são descidos pela pilha explícita, para uma condição longa não
+        // estourar a pilha da JVM. Os comandos só são tratados depois
+        // dos filhos, então a árvore toda é percorrida pela pilha; o
+        // READ fica de fora porque o alvo dele não é trocado.
+        posOrdem(NodeKind.PLUS_NODE, NodeKind.MINUS_NODE, NodeKind.TIMES_NODE,
+                NodeKind.OVER_NODE, NodeKind.MOD_NODE, NodeKind.EQ_NODE, NodeKind.NEQ_NODE,
+                NodeKind.LT_NODE, NodeKind.RT_NODE, NodeKind.ELT_NODE, NodeKind.ERT_NODE,
+                NodeKind.AND_NODE, NodeKind.OR_NODE,
+                NodeKind.PROGRAM_NODE, NodeKind.BLOCK_NODE, NodeKind.FUNC_NODE, NodeKind.ASSIGN_NODE,
+                NodeKind.IF_NODE, NodeKind.REPEAT_NODE, NodeKind.WRITE_NODE, NodeKind.RETURN_NODE,
+                NodeKind.VAR_LIST_NODE);
+    }
+
+    @Override
+    public void execute(AST tree){
+        if(tree.getKind() != NodeKind.PROGRAM_NODE){
+            visit(tree);
+            return;
+        }
+
+        List<ForkJoinTask<?>> tarefas = new ArrayList<ForkJoinTask<?>>();
+        for(AST child = tree.getFirstChild(); child != null; child = child.getNextSibling()){
+            if(child.getKind() == NodeKind.FUNC_NODE){
+                ConstantFolder funcao = new ConstantFolder(ft);
+                AST func = child;
+                tarefas.add(ForkJoinTask.adapt(() -> { funcao.visit(func); }));
+            }else{
+                visit(child); // Declarações globais.
+            }
+        }
+        if(tarefas.size() > 1) ForkJoinTask.invokeAll(tarefas);
+        else for(ForkJoinTask<?> t : tarefas) t.invoke();
+    }
+
+    // ----------------------------------------------------------------
+    // Funções e propagação
+    // ----------------------------------------------------------------
+
+    // As atribuições da função são contadas antes de descer pelo corpo
+    // dela. Dentro da função, um FUNC é uma chamada.
+    @Override
+    protected void entra(AST node){
+        if(node.getKind() != NodeKind.FUNC_NODE || atribuicoes != null) return;
+        VarTable vt = ft.getVarTable(node.getIntData());
+        int n = vt.getSize();
+        atribuicoes = new int[n];
+        declarada = new boolean[n];
+        bloqueada = new boolean[n];
+        constantes = new AST[n];
+        contaAtribuicoes(node);
+    }
+
+    @Override
+    protected Void visitFunc(AST node){
+        return null;
+    }
+
+    // Conta as atribuições de cada variável local da função, numa pilha
+    // explícita como o AST.size().
+    private void contaAtribuicoes(AST func){
+        List<AST> pilha = new ArrayList<AST>();
+        pilha.add(func);
+        while(!pilha.isEmpty()){
+            AST node = pilha.remove(pilha.size() - 1);
+            if(node.getKind() == NodeKind.ASSIGN_NODE){
+                AST alvo = node.getFirstChild();
+                if(node.getChildCount() != 2){
+                    bloqueiaVariaveis(node); // a, b = f()
+                }else if(local(alvo)){
+                    atribuicoes[alvo.getIntData()]++;
+                    if(alvo.getKind() == NodeKind.VAR_DECL_NODE) declarada[alvo.getIntData()] = true;
+                }
+            }else if(node.getKind() == NodeKind.READ_NODE){
+                bloqueiaVariaveis(node);
+            }
+            for(AST child = node.getFirstChild(); child != null; child = child.getNextSibling()){
+                pilha.add(child);
+            }
+        }
+    }
+
+    private void bloqueiaVariaveis(AST node){
+        for(AST child = node.getFirstChild(); child != null; child = child.getNextSibling()){
+            if(local(child)) bloqueada[child.getIntData()] = true;
+        }
+    }
+
+    // Variável da função (as globais têm escopo 0).
+    private boolean local(AST node){
+        return (node.getKind() == NodeKind.VAR_USE_NODE || node.getKind() == NodeKind.VAR_DECL_NODE)
+                && node.getEscopo() != 0 && atribuicoes != null;
+    }
+
+    // A variável só recebe valor na declaração. Como o checker só deixa
+    // usar a variável depois dela, a declaração roda antes de todo uso.
+    private boolean propagavel(AST var){
+        int idx = var.getIntData();
+        return local(var) && atribuicoes[idx] == 1 && declarada[idx] && !bloqueada[idx]
+                && !var.getType().isArray();
+    }
+
+	@Override
+    protected Void visitAssign(AST node){
+        if(node.getChildCount() != 2) return null;
+        AST alvo = node.getChild(0);
+        AST valor = node.getChild(1);
+        if(alvo.getKind() == NodeKind.VAR_DECL_NODE && propagavel(alvo) && constante(valor)
+                && compativel(alvo.getType(), valor)){
+            constantes[alvo.getIntData()] = valor;
+            node.setEmpty(NodeKind.PROGRAM_NODE); // Ninguém mais lê a variável.
+        }
+        return null;
+    }
+
+	@Override
+    protected Void visitVarUse(AST node){
+        if(!local(node)) return null;
+        AST valor = constantes[node.getIntData()];
+        if(valor == null) return null;
+        Type tipo = node.getType();
+        node.replaceWith(valor);
+        node.setType(tipo); // Um int guardado numa variável float vira "ldc 5.f".
+        return null;
+    }
+
+    private static boolean constante(AST node){
+        switch(node.getKind()){
+            case INT_VAL_NODE:
+            case REAL_VAL_NODE:
+            case BOOL_VAL_NODE:
+            case STR_VAL_NODE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // A constante pode ficar com o tipo da variável.
+    private static boolean compativel(Type tipo, AST valor){
+        return tipo == valor.getType()
+                || (tipo == Type.FLOAT_TYPE && valor.getKind() == NodeKind.INT_VAL_NODE);
+    }
+
+    // ----------------------------------------------------------------
+    // Aritmética
+    // ----------------------------------------------------------------
+
+    private static boolean numero(AST node){
+        return node.getKind() == NodeKind.INT_VAL_NODE || node.getKind() == NodeKind.REAL_VAL_NODE;
+    }
+
+    private static float comoFloat(AST node){
+        return node.getKind() == NodeKind.INT_VAL_NODE ? node.getIntData() : node.getFloatData();
+    }
+
+    // Dobra a operação se os dois operandos são números. Retorna sem
+    // mudar nada nos casos que têm que ficar para a execução.
+    private void dobra(AST node){
+        if(node.getChildCount() != 2) return;
+        AST a = node.getChild(0);
+        AST b = node.getChild(1);
+        if(!numero(a) || !numero(b)) return;
+
+        NodeKind op = node.getKind();
+        if(node.getType() == Type.INT_TYPE && a.getKind() == NodeKind.INT_VAL_NODE
+                && b.getKind() == NodeKind.INT_VAL_NODE){
+            int x = a.getIntData();
+            int y = b.getIntData();
+            int r;
+            switch(op){
+                case PLUS_NODE: r = x + y; break;
+                case MINUS_NODE: r = x - y; break;
+                case TIMES_NODE: r = x * y; break;
+                case OVER_NODE:
+                    if(y == 0) return;
+                    r = x / y;
+                    break;
+                case MOD_NODE:
+                    if(y == 0) return;
+                    r = x % y;
+                    break;
+                default: return;
+            }
+            node.setIntVal(r, Type.INT_TYPE);
+        }else if(node.getType() == Type.FLOAT_TYPE){
+            float x = comoFloat(a);
+            float y = comoFloat(b);
+            float r;
+            switch(op){
+                case PLUS_NODE: r = x + y; break;
+                case MINUS_NODE: r = x - y; break;
+                case TIMES_NODE: r = x * y; break;
+                case OVER_NODE: r = x / y; break;
+                case MOD_NODE: r = x % y; break;
+                default: return;
+            }
+            if(Float.isNaN(r) || Float.isInfinite(r)) return;
+            node.setRealVal(r, Type.FLOAT_TYPE);
+        }
+    }
+
+	@Override
+    protected Void visitPlus(AST node){
+        dobra(node);
+        return null;
+    }
+
+	@Override
+    protected Void visitMinus(AST node){
+        dobra(node);
+        return null;
+    }
+
+	@Override
+    protected Void visitTimes(AST node){
+        dobra(node);
+        return null;
+    }
+
+	@Override
+    protected Void visitOver(AST node){
+        dobra(node);
+        return null;
+    }
+
+    @Override
+    protected Void visitModNode(AST node){
+        dobra(node);
+        return null;
+    }
+
+    // ----------------------------------------------------------------
+    // Condições
+    // ----------------------------------------------------------------
+
+    // As comparações só são dobradas como condição de um if (ver
+    // visitIf): o CodeGen gera o desvio direto da comparação, e o for
+    // precisa de uma comparação na condição.
+
+	@Override
+    protected Void visitEq(AST node){
+        return null;
+    }
+
+    @Override
+    protected Void visitNeqNode(AST node){
+        return null;
+    }
+
+	@Override
+    protected Void visitLt(AST node){
+        return null;
+    }
+
+    @Override
+    protected Void visitRt(AST node){
+        return null;
+    }
+
+    @Override
+    protected Void visitElt(AST node){
+        return null;
+    }
+
+    @Override
+    protected Void visitErt(AST node){
+        return null;
+    }
+
+    @Override
+    protected Void visitAndNode(AST node){
+        return null;
+    }
+
+    @Override
+    protected Void visitOrNode(AST node){
+        return null;
+    }
+
+    // Valor da condição, se ela for constante, ou null. A condição é
+    // simplificada no lugar: comparações de constantes viram true ou
+    // false, e um && ou || com um lado constante vira o outro lado ou
+    // a constante. Um lado só é jogado fora se não chama função.
+    //
+    // Os && e || são juntados em pré-ordem numa pilha explícita, e
+    // simplificados de trás para frente, então cada um depois dos
+    // filhos. Uma condição constante sempre acaba num BOOL_VAL.
+    private Boolean valorCondicao(AST cond){
+        List<AST> logicos = new ArrayList<AST>();
+        List<AST> pilha = new ArrayList<AST>();
+        pilha.add(cond);
+        while(!pilha.isEmpty()){
+            AST node = pilha.remove(pilha.size() - 1);
+            switch(node.getKind()){
+                case AND_NODE:
+                case OR_NODE:
+                    logicos.add(node);
+                    pilha.add(node.getChild(1));
+                    pilha.add(node.getChild(0));
+                    break;
+                case EQ_NODE:
+                case NEQ_NODE:
+                case LT_NODE:
+                case RT_NODE:
+                case ELT_NODE:
+                case ERT_NODE: {
+                    Boolean v = compara(node);
+                    if(v != null) node.setBoolVal(v);
+                    break;
+                }
+                default:
+            }
+        }
+        for(int i = logicos.size() - 1; i >= 0; i--) simplificaLogico(logicos.get(i));
+        return valorConstante(cond);
+    }
+
+    private static Boolean valorConstante(AST node){
+        return node.getKind() == NodeKind.BOOL_VAL_NODE ? node.getBoolData() : null;
+    }
+
+    private static void simplificaLogico(AST node){
+        boolean and = node.getKind() == NodeKind.AND_NODE;
+        AST a = node.getChild(0);
+        AST b = node.getChild(1);
+        Boolean va = valorConstante(a);
+        Boolean vb = valorConstante(b);
+        if(va != null && va != and){
+            node.setBoolVal(va); // false && x é false; true || x é true.
+        }else if(va != null){
+            node.replaceWith(b);
+        }else if(vb != null && vb == and){
+            node.replaceWith(a);
+        }else if(vb != null && semChamadas(a)){
+            node.setBoolVal(vb);
+        }
+    }
+
+    private static Boolean compara(AST node){
+        AST a = node.getChild(0);
+        AST b = node.getChild(1);
+        NodeKind op = node.getKind();
+        int c;
+        if(numero(a) && numero(b)){
+            if(a.getKind() == NodeKind.INT_VAL_NODE && b.getKind() == NodeKind.INT_VAL_NODE
+                    && a.getType() != Type.FLOAT_TYPE && b.getType() != Type.FLOAT_TYPE){
+                c = Integer.compare(a.getIntData(), b.getIntData());
+            }else{
+                float x = comoFloat(a);
+                float y = comoFloat(b);
+                c = x < y ? -1 : (x > y ? 1 : 0);
+            }
+        }else if(a.getKind() == NodeKind.BOOL_VAL_NODE && b.getKind() == NodeKind.BOOL_VAL_NODE){
+            c = a.getBoolData() == b.getBoolData() ? 0 : 1;
+            if(op != NodeKind.EQ_NODE && op != NodeKind.NEQ_NODE) return null;
+        }else if(a.getKind() == NodeKind.STR_VAL_NODE && b.getKind() == NodeKind.STR_VAL_NODE){
+            c = a.getStringData().equals(b.getStringData()) ? 0 : 1;
+            if(op != NodeKind.EQ_NODE && op != NodeKind.NEQ_NODE) return null;
+        }else{
+            return null;
+        }
+        switch(op){
+            case EQ_NODE: return c == 0;
+            case NEQ_NODE: return c != 0;
+            case LT_NODE: return c < 0;
+            case RT_NODE: return c > 0;
+            case ELT_NODE: return c <= 0;
+            default: return c >= 0; // ERT_NODE
+        }
+    }
+
+    private static boolean semChamadas(AST node){
+        List<AST> pilha = new ArrayList<AST>();
+        pilha.add(node);
+        while(!pilha.isEmpty()){
+            AST n = pilha.remove(pilha.size() - 1);
+            if(n.getKind() == NodeKind.FUNC_NODE) return false;
+            for(AST child = n.getFirstChild(); child != null; child = child.getNextSibling()){
+                pilha.add(child);
+            }
+        }
+        return true;
+    }
+
+    // Os filhos do IF são (bloco, condição), (bloco, else, condição) ou
+    // (bloco, condição, else if).
+	@Override
+    protected Void visitIf(AST node){
+        int n = node.getChildCount();
+        boolean temElse = n == 3 && node.getChild(1).getKind() == NodeKind.BLOCK_NODE;
+        AST condicao = node.getChild(temElse ? 2 : 1);
+        Boolean valor = valorCondicao(condicao);
+        if(valor == null) return null;
+
+        if(valor){
+            node.replaceWith(node.getChild(0));
+        }else if(n == 3){
+            node.replaceWith(node.getChild(temElse ? 1 : 2));
+        }else{
+            node.setEmpty(NodeKind.BLOCK_NODE);
+        }
+        return null;
+    }
+
+	@Override
+    protected Void visitRepeat(AST node){
+        return null;
+    }
+
+    // ----------------------------------------------------------------
+    // O resto não faz nada: os filhos já foram visitados
+    // ----------------------------------------------------------------
+
+	@Override
+    protected Void visitBlock(AST node){
+        return null;
+    }
+
+	@Override
+    protected Void visitProgram(AST node){
+        return null;
+    }
+
+	@Override
+    protected Void visitWrite(AST node){
+        return null;
+    }
+
+	@Override
+    protected Void visitRead(AST node){
+        return null; // Só o alvo, que não é trocado.
+    }
+
+	@Override
+    protected Void visitReturn(AST node){
+        return null;
+    }
+
+	@Override
+    protected Void visitVarDecl(AST node){
+        return null;
+    }
+
+	@Override
+    protected Void visitVarList(AST node){
+        return null;
+    }
+
+	@Override
+    protected Void visitArrayNode(AST node){
+        return null;
+    }
+
+	@Override
+    protected Void visitBoolVal(AST node){
+        return null;
+    }
+
+	@Override
+    protected Void visitIntVal(AST node){
+        return null;
+    }
+
+	@Override
+    protected Void visitRealVal(AST node){
+        return null;
+    }
+
+	@Override
+    protected Void visitStrVal(AST node){
+        return null;
+    }
+}
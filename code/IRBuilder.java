@@ -0,0 +1,705 @@
+package code;
+
+import ast.AST;
+import ast.ASTBaseVisitor;
+import ast.NodeKind;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import tables.FuncTable;
+import tables.VarTable;
+import typing.Type;
+
+// Tradução da AST, já otimizada pelo ConstantFolder, para o IR: cada
+// função vira uma IRFunction, com blocos básicos ligados pelas arestas
+// do grafo de controle e instruções de três endereços sobre
+// registradores virtuais com tipo.
+//
+// Cada variável local tem o seu registrador, e cada valor intermediário
+// de uma expressão ganha um temporário novo. As condições dos ifs e
+// fors viram desvios: && e || são de curto-circuito, com um bloco para
+// cada lado, e uma comparação numa condição desvia direto para os dois
+// ramos. As variáveis globais são campos estáticos da classe, e as
+// atribuições delas na raiz da AST vão para o <clinit>.
+//
+// Como no CodeGen, cada função é traduzida por um IRBuilder próprio,
+// em paralelo, e a lista sai na ordem da raiz.
+public class IRBuilder extends ASTBaseVisitor<Void>{
+
+    private final FuncTable ft;
+    private final VarTable gt;
+
+    // Estado da função sendo traduzida.
+    private IRFunction funcao;
+    private Register[] variaveis; // Registrador de cada entrada da VarTable da função.
+    private BasicBlock atual;     // Bloco que está recebendo as instruções.
+
+    // Registradores com o valor de cada expressão já traduzida. As
+    // operações em pós-ordem tiram os dos operandos e põem o delas.
+    private final ArrayDeque<Register> valores = new ArrayDeque<Register>();
+
+    public IRBuilder(FuncTable ft, VarTable gt){
+        this.ft = ft;
+        this.gt = gt;
+        // Os operandos já estão em 'valores' quando o visitX da
+        // operação é chamado (ver ASTBaseVisitor.posOrdem).
+        posOrdem(NodeKind.PLUS_NODE, NodeKind.MINUS_NODE, NodeKind.TIMES_NODE,
+                NodeKind.OVER_NODE, NodeKind.MOD_NODE, NodeKind.EQ_NODE, NodeKind.NEQ_NODE,
+                NodeKind.LT_NODE, NodeKind.RT_NODE, NodeKind.ELT_NODE, NodeKind.ERT_NODE);
+    }
+
+    // Traduz o programa todo. O <clinit> vem primeiro, se tiver
+    // variáveis globais, e depois as funções na ordem da raiz.
+    public List<IRFunction> build(AST tree){
+        List<AST> globais = new ArrayList<AST>();
+        List<AST> declaracoes = new ArrayList<AST>();
+        if(tree.getKind() != NodeKind.PROGRAM_NODE){
+            globais.add(tree);
+        }else{
+            for(AST child = tree.getFirstChild(); child != null; child = child.getNextSibling()){
+                if(child.getKind() == NodeKind.FUNC_NODE) declaracoes.add(child);
+                else globais.add(child);
+            }
+        }
+
+        IRFunction[] traduzidas = new IRFunction[declaracoes.size()];
+        List<ForkJoinTask<?>> tarefas = new ArrayList<ForkJoinTask<?>>();
+        for(int i = 0; i < traduzidas.length; i++){
+            IRBuilder tradutor = new IRBuilder(ft, gt);
+            AST func = declaracoes.get(i);
+            int k = i;
+            tarefas.add(ForkJoinTask.adapt(() -> { traduzidas[k] = tradutor.traduzFuncao(func); }));
+        }
+        if(tarefas.size() > 1) ForkJoinTask.invokeAll(tarefas);
+        else for(ForkJoinTask<?> t : tarefas) t.invoke();
+
+        List<IRFunction> funcoes = new ArrayList<IRFunction>(traduzidas.length + 1);
+        if(gt.getSize() > 0 || !globais.isEmpty()) funcoes.add(new IRBuilder(ft, gt).traduzGlobais(globais));
+        funcoes.addAll(Arrays.asList(traduzidas));
+        return funcoes;
+    }
+
+    private IRFunction traduzFuncao(AST node){
+        int idx = node.getIntData();
+        String nome = ft.getName(idx);
+        VarTable vt = ft.getVarTable(idx);
+        int params = ft.getParamSize(idx);
+        if(nome.equals("main")){
+            // O String[] do main ocupa a variável 0 da JVM.
+            funcao = new IRFunction(nome, "([Ljava/lang/String;)V", 0, 1, Type.NO_TYPE);
+        }else{
+            List<Type> ret = ft.getReturns(idx);
+            funcao = new IRFunction(nome, ft.getSignature(idx).getDescriptor(), params, params,
+                    ret.isEmpty() ? Type.NO_TYPE : ret.get(0));
+        }
+
+        variaveis = new Register[vt.getSize()];
+        for(int i = 0; i < variaveis.length; i++){
+            variaveis[i] = funcao.newRegister(vt.getType(i), i);
+        }
+
+        inicia(funcao.newBlock());
+        if(node.getFirstChild() != null) comando(node.getFirstChild());
+        termina();
+        return funcao;
+    }
+
+    // O <clinit>: cria os arrays globais, põe "" nas strings (os outros
+    // campos já começam com zero) e faz as atribuições da raiz.
+    private IRFunction traduzGlobais(List<AST> comandos){
+        funcao = new IRFunction("<clinit>", "()V", 0, 0, Type.NO_TYPE);
+        variaveis = new Register[0];
+        inicia(funcao.newBlock());
+        for(int i = 0; i < gt.getSize(); i++){
+            Type tipo = gt.getType(i);
+            if(tipo.isArray() || tipo == Type.STRING_TYPE){
+                Register zero = temp(tipo);
+                emite(zero(zero));
+                Instruction put = new Instruction(OpCode.PUTGLOBAL, null, zero);
+                put.intData = i;
+                emite(put);
+            }
+        }
+        for(AST c : comandos) comando(c);
+        termina();
+        return funcao;
+    }
+
+    // Fecha a função: o fim dela retorna (o valor zero do tipo, se o
+    // fonte não tiver return) e os blocos que não rodam saem. As
+    // variáveis recebem o zero na declaração (ver visitVarDecl); as que
+    // ainda podem ser lidas antes de receber valor, como os retornos com
+    // nome, ganham o zero também na entrada, senão o verificador da JVM
+    // recusa a classe.
+    private void termina(){
+        if(!atual.isTerminated()){
+            if(funcao.result == Type.NO_TYPE){
+                emite(new Instruction(OpCode.RETURN, null));
+            }else{
+                Register r = temp(funcao.result);
+                emite(zero(r));
+                emite(new Instruction(OpCode.RETURN, null, r));
+            }
+        }
+        funcao.removeUnreachable();
+
+        BasicBlock entrada = funcao.getEntry();
+        BitSet vivas = funcao.liveIn()[entrada.id];
+        for(int r = vivas.length() - 1; r >= 0; r = vivas.previousSetBit(r - 1)){
+            Register reg = funcao.getRegister(r);
+            if(!reg.isTemp() && reg.var >= funcao.params) entrada.addFirst(zero(reg));
+        }
+    }
+
+    // Instrução que põe em 'r' o valor zero do tipo dele.
+    private static Instruction zero(Register r){
+        if(r.type.isArray()) return new Instruction(OpCode.NEWARRAY, r);
+        if(r.type == Type.STRING_TYPE) return texto(r, "");
+        return new Instruction(OpCode.CONST, r);
+    }
+
+    // Constante string que o compilador cria, e que não está na
+    // StrTable.
+    private static Instruction texto(Register r, String s){
+        Instruction ins = new Instruction(OpCode.CONST, r);
+        ins.intData = -1;
+        ins.strData = s;
+        return ins;
+    }
+
+    // ----------------------------------------------------------------
+    // Blocos e instruções
+    // ----------------------------------------------------------------
+
+    // Passa a gerar no bloco 'b', que entra na ordem de geração. Se o
+    // bloco atual ainda não terminou, ele cai em 'b'.
+    private void inicia(BasicBlock b){
+        if(atual != null && !atual.isTerminated()) desvio(new Instruction(OpCode.JUMP, null), b);
+        funcao.place(b);
+        atual = b;
+    }
+
+    // Código depois de um return vai para um bloco novo, sem
+    // predecessores, que o removeUnreachable tira depois.
+    private void emite(Instruction ins){
+        if(atual.isTerminated()) inicia(funcao.newBlock());
+        atual.add(ins);
+    }
+
+    private void desvio(Instruction terminador, BasicBlock... destinos){
+        emite(terminador);
+        for(BasicBlock d : destinos) atual.addEdge(d);
+    }
+
+    private void salta(BasicBlock b){
+        if(!atual.isTerminated()) desvio(new Instruction(OpCode.JUMP, null), b);
+    }
+
+    private Register temp(Type tipo){
+        return funcao.newRegister(tipo, -1);
+    }
+
+    private Register constante(Type tipo, int valor){
+        Register r = temp(tipo);
+        Instruction ins = new Instruction(OpCode.CONST, r);
+        ins.intData = valor;
+        emite(ins);
+        return r;
+    }
+
+    // O int passa para float quando o outro lado da conta, ou o destino,
+    // é float.
+    private Register converte(Register r, Type tipo){
+        if(tipo != Type.FLOAT_TYPE || r.type != Type.INT_TYPE) return r;
+        Register f = temp(Type.FLOAT_TYPE);
+        emite(new Instruction(OpCode.I2F, f, r));
+        return f;
+    }
+
+    // Traduz a expressão e retorna o registrador com o valor dela.
+    private Register valor(AST node){
+        visit(node);
+        return valores.pop();
+    }
+
+    // Traduz um comando. Uma chamada usada como comando deixa o valor
+    // em 'valores', que é descartado.
+    private void comando(AST node){
+        int antes = valores.size();
+        visit(node);
+        while(valores.size() > antes) valores.pop();
+    }
+
+    private boolean global(AST node){
+        return node.getEscopo() == 0;
+    }
+
+    // Registrador com a referência do array do nó.
+    private Register array(AST node){
+        if(!global(node)) return variaveis[node.getIntData()];
+        Register r = temp(gt.getType(node.getIntData()));
+        Instruction get = new Instruction(OpCode.GETGLOBAL, r);
+        get.intData = node.getIntData();
+        emite(get);
+        return r;
+    }
+
+    // Guarda em 'alvo' o valor de 'expr', ou um valor lido do teclado
+    // se 'expr' for null (Scanln). O array e o índice vêm antes do
+    // valor, na ordem em que o CodeGen precisa deles na pilha.
+    private void atribui(AST alvo, AST expr){
+        switch(alvo.getKind()){
+            case ARRAY_NODE: {
+                Register arr = array(alvo);
+                Register i = constante(Type.INT_TYPE, (int)alvo.getFloatData());
+                Register v = expr != null ? valor(expr) : leitura(alvo.getType());
+                emite(new Instruction(OpCode.ASTORE, null, arr, i, converte(v, alvo.getType())));
+                break;
+            }
+            case VAR_USE_NODE:
+            case VAR_DECL_NODE: {
+                int idx = alvo.getIntData();
+                if(global(alvo)){
+                    Type tipo = gt.getType(idx);
+                    Register v = expr != null ? valor(expr) : leitura(tipo);
+                    Instruction put = new Instruction(OpCode.PUTGLOBAL, null, converte(v, tipo));
+                    put.intData = idx;
+                    emite(put);
+                }else{
+                    Register var = variaveis[idx];
+                    Register v = expr != null ? valor(expr) : leitura(var.type);
+                    v = converte(v, var.type);
+                    if(v != var) emite(new Instruction(OpCode.MOVE, var, v));
+                }
+                break;
+            }
+            default: // Alvo que o checker não trata.
+        }
+    }
+
+    private Register leitura(Type tipo){
+        Register r = temp(tipo);
+        emite(new Instruction(OpCode.READ, r));
+        return r;
+    }
+
+    // ----------------------------------------------------------------
+    // Condições
+    // ----------------------------------------------------------------
+
+    private static OpCode comparacao(NodeKind kind){
+        switch(kind){
+            case EQ_NODE: return OpCode.EQ;
+            case NEQ_NODE: return OpCode.NE;
+            case LT_NODE: return OpCode.LT;
+            case RT_NODE: return OpCode.GT;
+            case ELT_NODE: return OpCode.LE;
+            case ERT_NODE: return OpCode.GE;
+            default: return null;
+        }
+    }
+
+    // Um pedaço de condição ainda por traduzir: desvia para 'v' se for
+    // verdadeiro e para 'f' se não, começando no bloco 'antes' quando
+    // ele não é null.
+    private static final class Desvio {
+        final AST node;
+        final BasicBlock v;
+        final BasicBlock f;
+        final BasicBlock antes;
+
+        Desvio(AST node, BasicBlock v, BasicBlock f, BasicBlock antes){
+            this.node = node;
+            this.v = v;
+            this.f = f;
+            this.antes = antes;
+        }
+    }
+
+    // Desvia para 'v' se a condição for verdadeira e para 'f' se não.
+    // Os && e || são desfeitos numa pilha explícita, e não por
+    // recursão, então uma condição longa não estoura a pilha da JVM: o
+    // lado direito só é traduzido, no bloco do meio, depois de todo o
+    // lado esquerdo.
+    private void condicao(AST cond, BasicBlock verdadeiro, BasicBlock falso){
+        ArrayDeque<Desvio> pilha = new ArrayDeque<Desvio>();
+        pilha.push(new Desvio(cond, verdadeiro, falso, null));
+        while(!pilha.isEmpty()){
+            Desvio d = pilha.pop();
+            AST node = d.node;
+            BasicBlock v = d.v;
+            BasicBlock f = d.f;
+            if(d.antes != null) inicia(d.antes);
+            OpCode op = comparacao(node.getKind());
+            if(node.getKind() == NodeKind.AND_NODE){
+                BasicBlock meio = funcao.newBlock();
+                pilha.push(new Desvio(node.getChild(1), v, f, meio));
+                pilha.push(new Desvio(node.getChild(0), meio, f, null));
+            }else if(node.getKind() == NodeKind.OR_NODE){
+                BasicBlock meio = funcao.newBlock();
+                pilha.push(new Desvio(node.getChild(1), v, f, meio));
+                pilha.push(new Desvio(node.getChild(0), v, meio, null));
+            }else if(node.getKind() == NodeKind.BOOL_VAL_NODE){
+                desvio(new Instruction(OpCode.JUMP, null), node.getBoolData() ? v : f);
+            }else if(op != null){
+                Register a = valor(node.getChild(0));
+                Register b = valor(node.getChild(1));
+                desvio(new Instruction(OpCode.BRANCH, null, compara(op, a, b)), v, f);
+            }else{
+                desvio(new Instruction(OpCode.BRANCH, null, valor(node)), v, f);
+            }
+        }
+    }
+
+    private Register compara(OpCode op, Register a, Register b){
+        if(a.type == Type.FLOAT_TYPE) b = converte(b, Type.FLOAT_TYPE);
+        else if(b.type == Type.FLOAT_TYPE) a = converte(a, Type.FLOAT_TYPE);
+        Register d = temp(Type.BOOL_TYPE);
+        emite(new Instruction(op, d, a, b));
+        return d;
+    }
+
+    // && e || fora de uma condição: o resultado é montado nos dois
+    // ramos do desvio.
+    private Register logico(AST node){
+        Register r = temp(Type.BOOL_TYPE);
+        BasicBlock v = funcao.newBlock();
+        BasicBlock f = funcao.newBlock();
+        BasicBlock fim = funcao.newBlock();
+        condicao(node, v, f);
+        inicia(v);
+        Instruction um = new Instruction(OpCode.CONST, r);
+        um.intData = 1;
+        emite(um);
+        salta(fim);
+        inicia(f);
+        emite(new Instruction(OpCode.CONST, r));
+        salta(fim);
+        inicia(fim);
+        return r;
+    }
+
+    // ----------------------------------------------------------------
+    // Comandos
+    // ----------------------------------------------------------------
+
+    @Override
+    protected Void visitProgram(AST node){
+        for(AST child = node.getFirstChild(); child != null; child = child.getNextSibling()){
+            comando(child);
+        }
+        return null;
+    }
+
+    @Override
+    protected Void visitBlock(AST node){
+        for(AST child = node.getFirstChild(); child != null; child = child.getNextSibling()){
+            comando(child);
+        }
+        return null;
+    }
+
+    // Com mais de dois filhos é o a, b = f(): só o primeiro retorno
+    // volta do método, e ele vai para o primeiro alvo.
+    @Override
+    protected Void visitAssign(AST node){
+        int n = node.getChildCount();
+        if(n < 2) return null;
+        atribui(node.getChild(0), node.getChild(n - 1));
+        return null;
+    }
+
+    // Os filhos do IF são (bloco, condição), (bloco, else, condição) ou
+    // (bloco, condição, if do else if).
+    @Override
+    protected Void visitIf(AST node){
+        AST entao = node.getChild(0);
+        AST cond;
+        AST senao = null;
+        if(node.getChildCount() == 2){
+            cond = node.getChild(1);
+        }else if(node.getChild(1).getKind() == NodeKind.BLOCK_NODE){
+            senao = node.getChild(1);
+            cond = node.getChild(2);
+        }else{
+            cond = node.getChild(1);
+            senao = node.getChild(2);
+        }
+
+        BasicBlock blocoEntao = funcao.newBlock();
+        BasicBlock fim = funcao.newBlock();
+        BasicBlock blocoSenao = senao != null ? funcao.newBlock() : fim;
+        condicao(cond, blocoEntao, blocoSenao);
+        inicia(blocoEntao);
+        comando(entao);
+        salta(fim);
+        if(senao != null){
+            inicia(blocoSenao);
+            comando(senao);
+            salta(fim);
+        }
+        inicia(fim);
+        return null;
+    }
+
+    // for(cond) { bloco }: o teste fica no cabeçalho, antes do corpo.
+    @Override
+    protected Void visitRepeat(AST node){
+        BasicBlock cabecalho = funcao.newBlock();
+        BasicBlock corpo = funcao.newBlock();
+        BasicBlock fim = funcao.newBlock();
+        inicia(cabecalho);
+        if(node.getChildCount() > 1) condicao(node.getChild(1), corpo, fim);
+        else salta(corpo);
+        inicia(corpo);
+        comando(node.getChild(0));
+        salta(cabecalho);
+        inicia(fim);
+        return null;
+    }
+
+    // Println(a, b, ...) imprime os argumentos separados por espaço e
+    // quebra a linha no fim.
+    @Override
+    protected Void visitWrite(AST node){
+        int n = node.getChildCount();
+        if(n <= 1){
+            Instruction ln = new Instruction(OpCode.PRINT, null);
+            ln.intData = 1;
+            emite(ln);
+        }
+        for(int k = 1; k < n; k++){
+            if(k > 1){
+                Register espaco = temp(Type.STRING_TYPE);
+                emite(texto(espaco, " "));
+                emite(new Instruction(OpCode.PRINT, null, espaco));
+            }
+            Instruction print = new Instruction(OpCode.PRINT, null, valor(node.getChild(k)));
+            print.intData = k == n - 1 ? 1 : 0;
+            emite(print);
+        }
+        return null;
+    }
+
+    @Override
+    protected Void visitRead(AST node){
+        for(int k = 1; k < node.getChildCount(); k++){
+            atribui(node.getChild(k), null);
+        }
+        return null;
+    }
+
+    // Só o primeiro valor volta do método (ver Type.func).
+    @Override
+    protected Void visitReturn(AST node){
+        if(node.getChildCount() == 0 || funcao.result == Type.NO_TYPE){
+            emite(new Instruction(OpCode.RETURN, null));
+        }else{
+            Register v = converte(valor(node.getChild(0)), funcao.result);
+            emite(new Instruction(OpCode.RETURN, null, v));
+        }
+        return null;
+    }
+
+    // Declaração sem valor: a variável recebe o zero do tipo toda vez
+    // que a declaração roda, então num laço ela volta a zero (e um array
+    // é criado de novo) a cada volta, como em Go. As globais já começam
+    // com zero no <clinit>.
+    @Override
+    protected Void visitVarDecl(AST node){
+        if(!global(node)) emite(zero(variaveis[node.getIntData()]));
+        return null;
+    }
+
+    @Override
+    protected Void visitVarList(AST node){
+        return null;
+    }
+
+    // ----------------------------------------------------------------
+    // Expressões
+    // ----------------------------------------------------------------
+
+    // Chamada de função; as declarações são traduzidas pelo build.
+    @Override
+    protected Void visitFunc(AST node){
+        int idx = node.getIntData();
+        Register[] args = new Register[node.getChildCount()];
+        int i = 0;
+        for(AST child = node.getFirstChild(); child != null; child = child.getNextSibling()){
+            args[i++] = valor(child);
+        }
+        List<Type> ret = ft.getReturns(idx);
+        Register d = ret.isEmpty() ? null : temp(ret.get(0));
+        Instruction call = new Instruction(OpCode.CALL, d, args);
+        call.intData = idx;
+        emite(call);
+        if(d != null) valores.push(d);
+        return null;
+    }
+
+    @Override
+    protected Void visitVarUse(AST node){
+        if(!global(node)){
+            valores.push(variaveis[node.getIntData()]);
+            return null;
+        }
+        Register r = temp(gt.getType(node.getIntData()));
+        Instruction get = new Instruction(OpCode.GETGLOBAL, r);
+        get.intData = node.getIntData();
+        emite(get);
+        valores.push(r);
+        return null;
+    }
+
+    @Override
+    protected Void visitArrayNode(AST node){
+        Register arr = array(node);
+        Register i = constante(Type.INT_TYPE, (int)node.getFloatData());
+        Register d = temp(node.getType());
+        emite(new Instruction(OpCode.ALOAD, d, arr, i));
+        valores.push(d);
+        return null;
+    }
+
+    // Um int no lugar de um float (o checker muda o tipo do nó) já vira
+    // a constante float.
+    @Override
+    protected Void visitIntVal(AST node){
+        if(node.getType() == Type.FLOAT_TYPE){
+            Register r = temp(Type.FLOAT_TYPE);
+            Instruction ins = new Instruction(OpCode.CONST, r);
+            ins.floatData = node.getIntData();
+            emite(ins);
+            valores.push(r);
+            return null;
+        }
+        valores.push(constante(node.getType(), node.getIntData()));
+        return null;
+    }
+
+    @Override
+    protected Void visitRealVal(AST node){
+        Register r = temp(Type.FLOAT_TYPE);
+        Instruction ins = new Instruction(OpCode.CONST, r);
+        ins.floatData = node.getFloatData();
+        emite(ins);
+        valores.push(r);
+        return null;
+    }
+
+    @Override
+    protected Void visitBoolVal(AST node){
+        valores.push(constante(Type.BOOL_TYPE, node.getBoolData() ? 1 : 0));
+        return null;
+    }
+
+    // O número do literal na StrTable vai junto, para o CodeGen montar
+    // o ldc de cada literal uma vez só.
+    @Override
+    protected Void visitStrVal(AST node){
+        Register r = temp(Type.STRING_TYPE);
+        Instruction ins = new Instruction(OpCode.CONST, r);
+        ins.intData = node.getIntData();
+        ins.strData = node.getStringData();
+        emite(ins);
+        valores.push(r);
+        return null;
+    }
+
+    private void aritmetica(AST node, OpCode op){
+        Register b = valores.pop();
+        Register a = valores.pop();
+        Type tipo = node.getType();
+        Register d = temp(tipo);
+        emite(new Instruction(op, d, converte(a, tipo), converte(b, tipo)));
+        valores.push(d);
+    }
+
+    private void comparacao(AST node){
+        Register b = valores.pop();
+        Register a = valores.pop();
+        valores.push(compara(comparacao(node.getKind()), a, b));
+    }
+
+    @Override
+    protected Void visitPlus(AST node){
+        aritmetica(node, OpCode.ADD);
+        return null;
+    }
+
+    @Override
+    protected Void visitMinus(AST node){
+        aritmetica(node, OpCode.SUB);
+        return null;
+    }
+
+    @Override
+    protected Void visitTimes(AST node){
+        aritmetica(node, OpCode.MUL);
+        return null;
+    }
+
+    @Override
+    protected Void visitOver(AST node){
+        aritmetica(node, OpCode.DIV);
+        return null;
+    }
+
+    @Override
+    protected Void visitModNode(AST node){
+        aritmetica(node, OpCode.REM);
+        return null;
+    }
+
+    @Override
+    protected Void visitEq(AST node){
+        comparacao(node);
+        return null;
+    }
+
+    @Override
+    protected Void visitNeqNode(AST node){
+        comparacao(node);
+        return null;
+    }
+
+    @Override
+    protected Void visitLt(AST node){
+        comparacao(node);
+        return null;
+    }
+
+    @Override
+    protected Void visitRt(AST node){
+        comparacao(node);
+        return null;
+    }
+
+    @Override
+    protected Void visitElt(AST node){
+        comparacao(node);
+        return null;
+    }
+
+    @Override
+    protected Void visitErt(AST node){
+        comparacao(node);
+        return null;
+    }
+
+    @Override
+    protected Void visitAndNode(AST node){
+        valores.push(logico(node));
+        return null;
+    }
+
+    @Override
+    protected Void visitOrNode(AST node){
+        valores.push(logico(node));
+        return null;
+    }
+}
@@ -0,0 +1,137 @@
+package code;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import typing.Type;
+
+// Uma função no IR: os registradores virtuais dela e o grafo de
+// controle, com os blocos básicos na ordem em que vão ser gerados. O
+// primeiro bloco é a entrada. Os registradores 0..params-1 são os
+// parâmetros, que já chegam com valor.
+public final class IRFunction {
+
+	public final String name;
+	public final String descriptor; // Descritor do método na JVM.
+	public final int params;        // Parâmetros (registradores 0..params-1).
+	public final int argSlots;      // Variáveis locais da JVM que chegam ocupadas.
+	public final Type result;       // Tipo do retorno, NO_TYPE se não tiver.
+
+	private final List<Register> registers = new ArrayList<Register>();
+	private final List<BasicBlock> blocks = new ArrayList<BasicBlock>();
+	private int numBlocos = 0;
+
+	IRFunction(String name, String descriptor, int params, int argSlots, Type result) {
+		this.name = name;
+		this.descriptor = descriptor;
+		this.params = params;
+		this.argSlots = argSlots;
+		this.result = result;
+	}
+
+	public List<Register> getRegisters() {
+		return Collections.unmodifiableList(registers);
+	}
+
+	public Register getRegister(int num) {
+		return registers.get(num);
+	}
+
+	// Blocos na ordem de geração; o 0 é a entrada.
+	public List<BasicBlock> getBlocks() {
+		return Collections.unmodifiableList(blocks);
+	}
+
+	public BasicBlock getEntry() {
+		return blocks.get(0);
+	}
+
+	Register newRegister(Type type, int var) {
+		Register r = new Register(registers.size(), type, var);
+		registers.add(r);
+		return r;
+	}
+
+	// Bloco novo, que ainda não está na ordem de geração (ver place).
+	BasicBlock newBlock() {
+		return new BasicBlock(numBlocos++);
+	}
+
+	// Põe o bloco no fim da ordem de geração.
+	void place(BasicBlock b) {
+		blocks.add(b);
+	}
+
+	// Tira os blocos a que não se chega a partir da entrada (o código
+	// depois de um return, o fim de um if em que os dois ramos
+	// retornam...), junto com as arestas que saem deles.
+	void removeUnreachable() {
+		BitSet alcancados = new BitSet(numBlocos);
+		List<BasicBlock> pilha = new ArrayList<BasicBlock>();
+		pilha.add(getEntry());
+		alcancados.set(getEntry().id);
+		while (!pilha.isEmpty()) {
+			BasicBlock b = pilha.remove(pilha.size() - 1);
+			for (BasicBlock s : b.getSuccessors()) {
+				if (!alcancados.get(s.id)) {
+					alcancados.set(s.id);
+					pilha.add(s);
+				}
+			}
+		}
+		List<BasicBlock> vivos = new ArrayList<BasicBlock>(blocks.size());
+		for (BasicBlock b : blocks) {
+			if (alcancados.get(b.id)) vivos.add(b);
+			else b.unlink();
+		}
+		blocks.clear();
+		blocks.addAll(vivos);
+	}
+
+	// Registradores vivos no começo de cada bloco, indexados pelo id
+	// dele: os que podem ser lidos antes de receber valor num caminho
+	// que sai do começo do bloco. Análise de trás para frente de
+	// sempre, repetida até nenhum conjunto mudar.
+	public BitSet[] liveIn() {
+		BitSet[] usa = new BitSet[numBlocos];
+		BitSet[] define = new BitSet[numBlocos];
+		BitSet[] entrada = new BitSet[numBlocos];
+		for (BasicBlock b : blocks) {
+			BitSet u = new BitSet(), d = new BitSet();
+			for (Instruction ins : b.getInstructions()) {
+				for (Register a : ins.args) {
+					if (!d.get(a.num)) u.set(a.num);
+				}
+				if (ins.dest != null) d.set(ins.dest.num);
+			}
+			usa[b.id] = u;
+			define[b.id] = d;
+			entrada[b.id] = (BitSet) u.clone();
+		}
+
+		boolean mudou = true;
+		while (mudou) {
+			mudou = false;
+			for (int i = blocks.size() - 1; i >= 0; i--) {
+				BasicBlock b = blocks.get(i);
+				BitSet vivas = new BitSet();
+				for (BasicBlock s : b.getSuccessors()) vivas.or(entrada[s.id]);
+				vivas.andNot(define[b.id]);
+				vivas.or(usa[b.id]);
+				if (!vivas.equals(entrada[b.id])) {
+					entrada[b.id] = vivas;
+					mudou = true;
+				}
+			}
+		}
+		return entrada;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("func ").append(name).append(descriptor).append('\n');
+		for (BasicBlock b : blocks) sb.append(b);
+		return sb.toString();
+	}
+}
@@ -1,28 +1,55 @@
 package code;
 
 import java.util.Formatter;
+import typing.Type;
 
-// Instruction quadruple.
+// Instrução do IR de três endereços: uma operação, o registrador que
+// ela define (null se não define nenhum) e os que ela lê. Os destinos
+// dos desvios não ficam aqui, e sim nas arestas do bloco.
 public final class Instruction {
 
 	// Público para não precisar de getter/setter.
 	public final OpCode op;
-    public int in;
+	public final Register dest;
+	public final Register[] args;
+	public int intData;     // Constante int ou bool, função do CALL, global, quebra de linha do PRINT,
+	                        // número da constante string na StrTable (-1 se não veio do fonte).
+	public float floatData; // Constante float.
+	public String strData;  // Constante string, como no fonte.
 
-	public Instruction(OpCode op, int in) {
+	public Instruction(OpCode op, Register dest, Register... args) {
 		this.op = op;
-        this.in = in;
-    }
-    
+		this.dest = dest;
+		this.args = args;
+	}
+
 	@Override
 	public String toString() {
 
 		StringBuilder sb = new StringBuilder();
 		Formatter f = new Formatter(sb);
-		f.format("%s_", this.op.toString());
-        f.format("%d", this.in);
+		if (this.dest != null) f.format("%s:%s = ", this.dest, this.dest.type);
+		f.format("%s", this.op);
+		switch (this.op) {
+			case CONST:
+				if (this.dest.type == Type.FLOAT_TYPE) f.format(" %s", this.floatData);
+				else if (this.dest.type == Type.STRING_TYPE) f.format(" \"%s\"", this.strData);
+				else if (this.dest.type == Type.BOOL_TYPE) f.format(" %b", this.intData != 0);
+				else f.format(" %d", this.intData);
+				break;
+			case CALL: case GETGLOBAL: case PUTGLOBAL:
+				f.format(" #%d", this.intData);
+				break;
+			case PRINT:
+				if (this.intData == 1) f.format("ln");
+				break;
+			default:
+		}
+		for (int i = 0; i < this.args.length; i++) {
+			f.format(i == 0 ? " %s" : ", %s", this.args[i]);
+		}
 		f.close();
-        
+
 		return sb.toString();
 	}
-}
\ No newline at end of file
+}
@@ -1,123 +1,99 @@
 package code;
 
 /*
- * Enumeração das instruções aceitas pela TM (Tiny Machine).
- * Adaptado do arquivo 'instruction.h'. 
+ * Operações do IR de três endereços (ver Instruction). O tipo de cada
+ * operação vem dos registradores: um ADD de registradores float é uma
+ * soma de float, um EQ de strings compara o conteúdo delas, e assim
+ * por diante.
+ *
+ * As três últimas são os terminadores: encerram o bloco básico, e os
+ * destinos delas são as arestas de saída do bloco (ver BasicBlock).
  */
 public enum OpCode {
 	// ---------------------------------------------------
-	// Basic ops
-	
-    NOOP("nop", 0),
-
-    // ---------------------------------------------------
-    // Arith ops
-    
-    iadd("iadd", 0),	// ADDi ix, iy, iz	; ix <- iy + iz
-    fadd("fadd", 0),	// ADDf fx, fy, fz	; fx <- fy + fz
-    isub("isub", 0),	// SUBi ix, iy, iz	; ix <- iy - iz
-    fsub("fsub", 0),	// SUBf fx, fy, fz	; fx <- fy - fz
-    imul("imul", 0),	// MULi ix, iy, iz	; ix <- iy * iz
-    fmul("fmul", 0),	// MULf fx, fy, fz	; fx <- fy * fz
-    idiv("idiv", 0),	// DIVi ix, iy, iz	; ix <- iy / iz
-    fdiv("fdiv", 0),	// DIVf fx, fy, fz	; fx <- fy / fz
-    irem("irem", 0),
-    // Widen to float
-
-    // ---------------------------------------------------
-    // Logic ops
-    
-    // Logical OR
-    OROR("OROR", 3), 	// OROR ix, iy, iz	; ix <- (bool) iy || (bool) iz
-    // Equality
-    EQUi("EQUi", 3), 	// EQUi ix, iy, iz	; ix <- iy == iz ? 1 : 0
-    EQUf("EQUf", 3),	// EQUf ix, fy, fz	; ix <- fy == fz ? 1 : 0
-    EQUs("EQUs", 3), 	// EQUs ix, iy, iz	; ix <- str_tab[iy] == str_tab[iz] ? 1 : 0
-    // Less than
-    LTHi("LTHi", 3), 	// LTHi ix, iy, iz	; ix <- iy < iz ? 1 : 0
-    LTHf("LTHf", 3), 	// LTHi ix, fy, fz	; ix <- iy < iz ? 1 : 0
-    LTHs("LTHs", 3), 	// LTHs ix, iy, iz	; ix <- str_tab[iy] < str_tab[iz] ? 1 : 0
-
-    // ---------------------------------------------------
-    // Branches and jumps
-    
-    // Absolute jump
-    JUMP("JUMP", 1),	// JUMP addr		; PC <- addr
-    // Branch on true
-    BOTb("BOTb", 2), 	// BOTb ix, off		; PC <- PC + off, if ix == 1
-    // Branch on false
-    BOFb("BOFb", 2),	// BOFb ix, off		; PC <- PC + off, if ix == 0
-
-    // ---------------------------------------------------
-    // Loads and stores
-
-    // Load word (from address)
-    iload("iload", 2), 	// iload load an int value from a local variable #index
-    fload("fload", 2), 	// load a float value from a local variable #index
-    // Load immediate (constant)
-    LDIi("LDIi", 2), 	// LDIi ix, int_const	; ix <- int_const
-    LDIf("LDIf", 2),  	// LDIf fx, float_const	; fx <- float_const (must be inside an int)
-    // Store word (to address)
-    istore("istore", 2),  	// STWi addr, ix		; data_mem[addr] <- ix
-    fstore("fstore", 2),  	// STWf addr, fx		; data_mem[addr] <- fx
-           
-
-    // ---------------------------------------------------
-    // Strings
-    
-    // (These strings instructions are obviously not present in real archs.
-    //  The rationale for creating and using them here is simply for convenience:
-    //  Normally, these are handled by a low level language lib or OS system call
-    //  such as those present in 'libc', etc. However, involving real OS interfaces
-    //  here will complicate the game considerably. Thus, we cheat by creating
-    //  this high level interface for string handling.)
-    
-    // Store string
-    SSTR("SSTR", 1),  // SSTR str_const		; str_tab <- str_const
-    // Catenate
-    CATs("CATs", 3),  // CATs ix, iy, iz	; str_tab[ix] <- str_tab[iy] + str_tab[iz]
-    // Bool to String
-    B2Ss("B2Ss", 2),  // B2Ss ix, iy		; ix <- @str_tab <- register iy (as str)
-    // Integer to String
-    I2Ss("I2Ss", 2),  // I2Ss ix, iy		; ix <- @str_tab <- register iy (as str)
-    // Real to String
-    R2Ss("R2Ss", 2),  // R2Ss ix, fy		; ix <- @str_tab <- register fy (as str)
-
-    // ---------------------------------------------------
-    // System calls, for I/O (see below)
-    
-    CALL("CALL", 2); // CALL code, x
-	
-	// CALL (very basic simulation of OS system calls)
-	// . code: sets the operation to be called.
-	// . x: register involved in the operation.
-	// List of calls:
-	// ----------------------------------------------------------------------------
-	// code | x  | Description
-	// ----------- -----------------------------------------------------------
-	// 0   | ix | Read int:   register ix <- int  from stdin
-	// 1   | fx | Read real:  register fx <- real from stdin
-	// 2   | ix | Read bool:  register ix <- bool from stdin (as int)
-	// 3   | ix | Read str:   str_tab[ix] <- str from stdin
-	// 4   | ix | Write int:  stdout <- register ix (as str)
-	// 5   | fx | Write real: stdout <- register fx (as str)
-	// 6   | ix | Write bool: stdout <- register ix (as str)
-	// 7   | ix | Write str:  stdout <- str_tab[ix]
-	// ----------------------------------------------------------------------------
-	// OBS.: All strings in memory are null ('\0') terminated, like in C.
-	// ----------------------------------------------------------------------------
-	
-	public final String name;
-	public final int opCount;
-	
+	// Valores
+
+	CONST("const", 0),		// CONST d		; d <- intData, floatData ou strData (tipo de d)
+	MOVE("move", 1),		// MOVE d, a		; d <- a
+	I2F("i2f", 1),			// I2F d, a		; d <- (float) a
+
+	// ---------------------------------------------------
+	// Aritmética
+
+	ADD("add", 2),			// ADD d, a, b		; d <- a + b (concatena strings)
+	SUB("sub", 2),			// SUB d, a, b		; d <- a - b
+	MUL("mul", 2),			// MUL d, a, b		; d <- a * b
+	DIV("div", 2),			// DIV d, a, b		; d <- a / b
+	REM("rem", 2),			// REM d, a, b		; d <- a % b
+
+	// ---------------------------------------------------
+	// Comparações, todas com d bool
+
+	EQ("eq", 2),			// EQ d, a, b		; d <- a == b
+	NE("ne", 2),			// NE d, a, b		; d <- a != b
+	LT("lt", 2),			// LT d, a, b		; d <- a < b
+	GT("gt", 2),			// GT d, a, b		; d <- a > b
+	LE("le", 2),			// LE d, a, b		; d <- a <= b
+	GE("ge", 2),			// GE d, a, b		; d <- a >= b
+
+	// ---------------------------------------------------
+	// Arrays e variáveis globais
+
+	NEWARRAY("newarray", 0),	// NEWARRAY d		; d <- novo array do tipo de d
+	ALOAD("aload", 2),		// ALOAD d, a, i	; d <- a[i]
+	ASTORE("astore", 3),		// ASTORE a, i, v	; a[i] <- v
+	GETGLOBAL("getglobal", 0),	// GETGLOBAL d		; d <- global[intData]
+	PUTGLOBAL("putglobal", 1),	// PUTGLOBAL a		; global[intData] <- a
+
+	// ---------------------------------------------------
+	// Chamadas e IO (número variável de operandos)
+
+	CALL("call", -1),		// CALL d, a...		; d <- função intData (a...), d pode faltar
+	PRINT("print", -1),		// PRINT [a]		; imprime a, e quebra a linha se intData == 1
+	READ("read", 0),		// READ d		; d <- lê do teclado um valor do tipo de d
+
+	// ---------------------------------------------------
+	// Terminadores
+
+	JUMP("jump", 0),		// JUMP			; vai para o sucessor 0
+	BRANCH("branch", 1),		// BRANCH a		; se a, sucessor 0, senão sucessor 1
+	RETURN("return", -1);		// RETURN [a]		; retorna a, ou nada
+
+	private final String name;
+	private final int opCount; // Operandos, -1 se variar.
+
 	private OpCode(String name, int opCount) {
 		this.name = name;
 		this.opCount = opCount;
 	}
-	
+
+	public int getOpCount() {
+		return opCount;
+	}
+
+	public boolean isTerminator() {
+		return this == JUMP || this == BRANCH || this == RETURN;
+	}
+
+	public boolean isComparison() {
+		return this.compareTo(EQ) >= 0 && this.compareTo(GE) <= 0;
+	}
+
+	// Comparação com o resultado contrário (a < b vira a >= b).
+	public OpCode negate() {
+		switch (this) {
+			case EQ: return NE;
+			case NE: return EQ;
+			case LT: return GE;
+			case GE: return LT;
+			case GT: return LE;
+			case LE: return GT;
+			default: throw new IllegalArgumentException("not a comparison: " + name);
+		}
+	}
+
+	@Override
 	public String toString() {
 		return this.name;
 	}
-	
 }
-
@@ -0,0 +1,34 @@
+package code;
+
+import typing.Type;
+
+// Registrador virtual do IR. Cada função tem quantos precisar, todos
+// com tipo. Há dois tipos de registrador: os das variáveis locais da
+// função (um por entrada da VarTable dela, com 'var' igual ao índice)
+// e os temporários, criados pelo IRBuilder para os valores
+// intermediários das expressões ('var' é -1).
+//
+// Os registradores não são da JVM: quem decide qual vai para uma
+// variável local e qual fica só na pilha de operandos é o CodeGen.
+public final class Register {
+
+	// Públicos para não precisar de getter/setter.
+	public final int num;   // Número do registrador na função.
+	public final Type type;
+	public final int var;   // Índice na VarTable, ou -1 se for temporário.
+
+	Register(int num, Type type, int var) {
+		this.num = num;
+		this.type = type;
+		this.var = var;
+	}
+
+	public boolean isTemp() {
+		return var < 0;
+	}
+
+	@Override
+	public String toString() {
+		return (isTemp() ? "t" : "v") + num;
+	}
+}
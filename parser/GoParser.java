@@ -0,0 +1,7101 @@
+// Generated from GoParser.g4 by ANTLR 4.9.2
+
+	package parser;
+	import parserBase.GoParserBase;
+
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class GoParser extends GoParserBase {
+	static { RuntimeMetaData.checkVersion("4.9.2", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		BREAK=1, DEFAULT=2, FUNC=3, INTERFACE=4, SELECT=5, CASE=6, DEFER=7, GO=8, 
+		MAP=9, STRUCT=10, CHAN=11, ELSE=12, GOTO=13, PACKAGE=14, SWITCH=15, CONST=16, 
+		FALLTHROUGH=17, IF=18, RANGE=19, TYPE=20, CONTINUE=21, FOR=22, IMPORT=23, 
+		RETURN=24, VAR=25, FALSE=26, TRUE=27, NIL_LIT=28, IDENTIFIER=29, L_PAREN=30, 
+		R_PAREN=31, L_CURLY=32, R_CURLY=33, L_BRACKET=34, R_BRACKET=35, ASSIGN=36, 
+		COMMA=37, SEMI=38, COLON=39, DOT=40, PLUS_PLUS=41, MINUS_MINUS=42, DECLARE_ASSIGN=43, 
+		ELLIPSIS=44, LOGICAL_OR=45, LOGICAL_AND=46, EQUALS=47, NOT_EQUALS=48, 
+		LESS=49, LESS_OR_EQUALS=50, GREATER=51, GREATER_OR_EQUALS=52, OR=53, DIV=54, 
+		MOD=55, LSHIFT=56, RSHIFT=57, BIT_CLEAR=58, EXCLAMATION=59, PLUS=60, MINUS=61, 
+		CARET=62, STAR=63, AMPERSAND=64, RECEIVE=65, DECIMAL_LIT=66, BINARY_LIT=67, 
+		OCTAL_LIT=68, HEX_LIT=69, FLOAT_LIT=70, DECIMAL_FLOAT_LIT=71, HEX_FLOAT_LIT=72, 
+		IMAGINARY_LIT=73, RUNE_LIT=74, BYTE_VALUE=75, OCTAL_BYTE_VALUE=76, HEX_BYTE_VALUE=77, 
+		LITTLE_U_VALUE=78, BIG_U_VALUE=79, RAW_STRING_LIT=80, INTERPRETED_STRING_LIT=81, 
+		WS=82, COMMENT=83, TERMINATOR=84, LINE_COMMENT=85;
+	public static final int
+		RULE_sourceFile = 0, RULE_packageClause = 1, RULE_importDecl = 2, RULE_importSpec = 3, 
+		RULE_importPath = 4, RULE_declaration = 5, RULE_constDecl = 6, RULE_constSpec = 7, 
+		RULE_identifierList = 8, RULE_expressionList = 9, RULE_typeDecl = 10, 
+		RULE_typeSpec = 11, RULE_functionDecl = 12, RULE_methodDecl = 13, RULE_receiver = 14, 
+		RULE_varDecl = 15, RULE_varSpec = 16, RULE_block = 17, RULE_statementList = 18, 
+		RULE_statement = 19, RULE_simpleStmt = 20, RULE_expressionStmt = 21, RULE_sendStmt = 22, 
+		RULE_incDecStmt = 23, RULE_assignment = 24, RULE_assign_op = 25, RULE_shortVarDecl = 26, 
+		RULE_emptyStmt = 27, RULE_labeledStmt = 28, RULE_returnStmt = 29, RULE_breakStmt = 30, 
+		RULE_continueStmt = 31, RULE_gotoStmt = 32, RULE_fallthroughStmt = 33, 
+		RULE_deferStmt = 34, RULE_ifStmt = 35, RULE_switchStmt = 36, RULE_exprSwitchStmt = 37, 
+		RULE_exprCaseClause = 38, RULE_exprSwitchCase = 39, RULE_typeSwitchStmt = 40, 
+		RULE_typeSwitchGuard = 41, RULE_typeCaseClause = 42, RULE_typeSwitchCase = 43, 
+		RULE_typeList = 44, RULE_selectStmt = 45, RULE_commClause = 46, RULE_commCase = 47, 
+		RULE_recvStmt = 48, RULE_forStmt = 49, RULE_forClause = 50, RULE_rangeClause = 51, 
+		RULE_goStmt = 52, RULE_type_ = 53, RULE_typeName = 54, RULE_typeLit = 55, 
+		RULE_arrayType = 56, RULE_arrayLength = 57, RULE_elementType = 58, RULE_pointerType = 59, 
+		RULE_interfaceType = 60, RULE_sliceType = 61, RULE_mapType = 62, RULE_channelType = 63, 
+		RULE_methodSpec = 64, RULE_functionType = 65, RULE_signature = 66, RULE_result = 67, 
+		RULE_parameters = 68, RULE_parameterDecl = 69, RULE_expression = 70, RULE_primaryExpr = 71, 
+		RULE_unaryExpr = 72, RULE_conversion = 73, RULE_operand = 74, RULE_literal = 75, 
+		RULE_bool_LIT = 76, RULE_basicLit = 77, RULE_integer = 78, RULE_operandName = 79, 
+		RULE_qualifiedIdent = 80, RULE_compositeLit = 81, RULE_literalType = 82, 
+		RULE_literalValue = 83, RULE_elementList = 84, RULE_keyedElement = 85, 
+		RULE_key = 86, RULE_element = 87, RULE_structType = 88, RULE_fieldDecl = 89, 
+		RULE_string_ = 90, RULE_embeddedField = 91, RULE_functionLit = 92, RULE_index = 93, 
+		RULE_slice_ = 94, RULE_typeAssertion = 95, RULE_arguments = 96, RULE_methodExpr = 97, 
+		RULE_receiverType = 98, RULE_eos = 99;
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"sourceFile", "packageClause", "importDecl", "importSpec", "importPath", 
+			"declaration", "constDecl", "constSpec", "identifierList", "expressionList", 
+			"typeDecl", "typeSpec", "functionDecl", "methodDecl", "receiver", "varDecl", 
+			"varSpec", "block", "statementList", "statement", "simpleStmt", "expressionStmt", 
+			"sendStmt", "incDecStmt", "assignment", "assign_op", "shortVarDecl", 
+			"emptyStmt", "labeledStmt", "returnStmt", "breakStmt", "continueStmt", 
+			"gotoStmt", "fallthroughStmt", "deferStmt", "ifStmt", "switchStmt", "exprSwitchStmt", 
+			"exprCaseClause", "exprSwitchCase", "typeSwitchStmt", "typeSwitchGuard", 
+			"typeCaseClause", "typeSwitchCase", "typeList", "selectStmt", "commClause", 
+			"commCase", "recvStmt", "forStmt", "forClause", "rangeClause", "goStmt", 
+			"type_", "typeName", "typeLit", "arrayType", "arrayLength", "elementType", 
+			"pointerType", "interfaceType", "sliceType", "mapType", "channelType", 
+			"methodSpec", "functionType", "signature", "result", "parameters", "parameterDecl", 
+			"expression", "primaryExpr", "unaryExpr", "conversion", "operand", "literal", 
+			"bool_LIT", "basicLit", "integer", "operandName", "qualifiedIdent", "compositeLit", 
+			"literalType", "literalValue", "elementList", "keyedElement", "key", 
+			"element", "structType", "fieldDecl", "string_", "embeddedField", "functionLit", 
+			"index", "slice_", "typeAssertion", "arguments", "methodExpr", "receiverType", 
+			"eos"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, "'break'", "'default'", "'func'", "'interface'", "'select'", "'case'", 
+			"'defer'", "'go'", "'map'", "'struct'", "'chan'", "'else'", "'goto'", 
+			"'package'", "'switch'", "'const'", "'fallthrough'", "'if'", "'range'", 
+			"'type'", "'continue'", "'for'", "'import'", "'return'", "'var'", "'false'", 
+			"'true'", "'nil'", null, "'('", "')'", "'{'", "'}'", "'['", "']'", "'='", 
+			"','", "';'", "':'", "'.'", "'++'", "'--'", "':='", "'...'", "'||'", 
+			"'&&'", "'=='", "'!='", "'<'", "'<='", "'>'", "'>='", "'|'", "'/'", "'%'", 
+			"'<<'", "'>>'", "'&^'", "'!'", "'+'", "'-'", "'^'", "'*'", "'&'", "'<-'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "BREAK", "DEFAULT", "FUNC", "INTERFACE", "SELECT", "CASE", "DEFER", 
+			"GO", "MAP", "STRUCT", "CHAN", "ELSE", "GOTO", "PACKAGE", "SWITCH", "CONST", 
+			"FALLTHROUGH", "IF", "RANGE", "TYPE", "CONTINUE", "FOR", "IMPORT", "RETURN", 
+			"VAR", "FALSE", "TRUE", "NIL_LIT", "IDENTIFIER", "L_PAREN", "R_PAREN", 
+			"L_CURLY", "R_CURLY", "L_BRACKET", "R_BRACKET", "ASSIGN", "COMMA", "SEMI", 
+			"COLON", "DOT", "PLUS_PLUS", "MINUS_MINUS", "DECLARE_ASSIGN", "ELLIPSIS", 
+			"LOGICAL_OR", "LOGICAL_AND", "EQUALS", "NOT_EQUALS", "LESS", "LESS_OR_EQUALS", 
+			"GREATER", "GREATER_OR_EQUALS", "OR", "DIV", "MOD", "LSHIFT", "RSHIFT", 
+			"BIT_CLEAR", "EXCLAMATION", "PLUS", "MINUS", "CARET", "STAR", "AMPERSAND", 
+			"RECEIVE", "DECIMAL_LIT", "BINARY_LIT", "OCTAL_LIT", "HEX_LIT", "FLOAT_LIT", 
+			"DECIMAL_FLOAT_LIT", "HEX_FLOAT_LIT", "IMAGINARY_LIT", "RUNE_LIT", "BYTE_VALUE", 
+			"OCTAL_BYTE_VALUE", "HEX_BYTE_VALUE", "LITTLE_U_VALUE", "BIG_U_VALUE", 
+			"RAW_STRING_LIT", "INTERPRETED_STRING_LIT", "WS", "COMMENT", "TERMINATOR", 
+			"LINE_COMMENT"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "GoParser.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public GoParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	public static class SourceFileContext extends ParserRuleContext {
+		public PackageClauseContext packageClause() {
+			return getRuleContext(PackageClauseContext.class,0);
+		}
+		public List<EosContext> eos() {
+			return getRuleContexts(EosContext.class);
+		}
+		public EosContext eos(int i) {
+			return getRuleContext(EosContext.class,i);
+		}
+		public TerminalNode EOF() { return getToken(GoParser.EOF, 0); }
+		public List<ImportDeclContext> importDecl() {
+			return getRuleContexts(ImportDeclContext.class);
+		}
+		public ImportDeclContext importDecl(int i) {
+			return getRuleContext(ImportDeclContext.class,i);
+		}
+		public List<FunctionDeclContext> functionDecl() {
+			return getRuleContexts(FunctionDeclContext.class);
+		}
+		public FunctionDeclContext functionDecl(int i) {
+			return getRuleContext(FunctionDeclContext.class,i);
+		}
+		public List<MethodDeclContext> methodDecl() {
+			return getRuleContexts(MethodDeclContext.class);
+		}
+		public MethodDeclContext methodDecl(int i) {
+			return getRuleContext(MethodDeclContext.class,i);
+		}
+		public List<DeclarationContext> declaration() {
+			return getRuleContexts(DeclarationContext.class);
+		}
+		public DeclarationContext declaration(int i) {
+			return getRuleContext(DeclarationContext.class,i);
+		}
+		public SourceFileContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_sourceFile; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitSourceFile(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SourceFileContext sourceFile() throws RecognitionException {
+		SourceFileContext _localctx = new SourceFileContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_sourceFile);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(200);
+			packageClause();
+			setState(201);
+			eos();
+			setState(207);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==IMPORT) {
+				{
+				{
+				setState(202);
+				importDecl();
+				setState(203);
+				eos();
+				}
+				}
+				setState(209);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(219);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << FUNC) | (1L << CONST) | (1L << TYPE) | (1L << VAR))) != 0)) {
+				{
+				{
+				setState(213);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,1,_ctx) ) {
+				case 1:
+					{
+					setState(210);
+					functionDecl();
+					}
+					break;
+				case 2:
+					{
+					setState(211);
+					methodDecl();
+					}
+					break;
+				case 3:
+					{
+					setState(212);
+					declaration();
+					}
+					break;
+				}
+				setState(215);
+				eos();
+				}
+				}
+				setState(221);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(222);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PackageClauseContext extends ParserRuleContext {
+		public Token packageName;
+		public TerminalNode PACKAGE() { return getToken(GoParser.PACKAGE, 0); }
+		public TerminalNode IDENTIFIER() { return getToken(GoParser.IDENTIFIER, 0); }
+		public PackageClauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_packageClause; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitPackageClause(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final PackageClauseContext packageClause() throws RecognitionException {
+		PackageClauseContext _localctx = new PackageClauseContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_packageClause);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(224);
+			match(PACKAGE);
+			setState(225);
+			((PackageClauseContext)_localctx).packageName = match(IDENTIFIER);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ImportDeclContext extends ParserRuleContext {
+		public TerminalNode IMPORT() { return getToken(GoParser.IMPORT, 0); }
+		public List<ImportSpecContext> importSpec() {
+			return getRuleContexts(ImportSpecContext.class);
+		}
+		public ImportSpecContext importSpec(int i) {
+			return getRuleContext(ImportSpecContext.class,i);
+		}
+		public TerminalNode L_PAREN() { return getToken(GoParser.L_PAREN, 0); }
+		public TerminalNode R_PAREN() { return getToken(GoParser.R_PAREN, 0); }
+		public List<EosContext> eos() {
+			return getRuleContexts(EosContext.class);
+		}
+		public EosContext eos(int i) {
+			return getRuleContext(EosContext.class,i);
+		}
+		public ImportDeclContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_importDecl; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitImportDecl(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ImportDeclContext importDecl() throws RecognitionException {
+		ImportDeclContext _localctx = new ImportDeclContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_importDecl);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(227);
+			match(IMPORT);
+			setState(239);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case IDENTIFIER:
+			case DOT:
+			case RAW_STRING_LIT:
+			case INTERPRETED_STRING_LIT:
+				{
+				setState(228);
+				importSpec();
+				}
+				break;
+			case L_PAREN:
+				{
+				setState(229);
+				match(L_PAREN);
+				setState(235);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (((((_la - 29)) & ~0x3f) == 0 && ((1L << (_la - 29)) & ((1L << (IDENTIFIER - 29)) | (1L << (DOT - 29)) | (1L << (RAW_STRING_LIT - 29)) | (1L << (INTERPRETED_STRING_LIT - 29)))) != 0)) {
+					{
+					{
+					setState(230);
+					importSpec();
+					setState(231);
+					eos();
+					}
+					}
+					setState(237);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(238);
+				match(R_PAREN);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ImportSpecContext extends ParserRuleContext {
+		public Token alias;
+		public ImportPathContext importPath() {
+			return getRuleContext(ImportPathContext.class,0);
+		}
+		public TerminalNode DOT() { return getToken(GoParser.DOT, 0); }
+		public TerminalNode IDENTIFIER() { return getToken(GoParser.IDENTIFIER, 0); }
+		public ImportSpecContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_importSpec; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitImportSpec(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ImportSpecContext importSpec() throws RecognitionException {
+		ImportSpecContext _localctx = new ImportSpecContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_importSpec);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(242);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==IDENTIFIER || _la==DOT) {
+				{
+				setState(241);
+				((ImportSpecContext)_localctx).alias = _input.LT(1);
+				_la = _input.LA(1);
+				if ( !(_la==IDENTIFIER || _la==DOT) ) {
+					((ImportSpecContext)_localctx).alias = (Token)_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				}
+			}
+
+			setState(244);
+			importPath();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ImportPathContext extends ParserRuleContext {
+		public String_Context string_() {
+			return getRuleContext(String_Context.class,0);
+		}
+		public ImportPathContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_importPath; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitImportPath(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ImportPathContext importPath() throws RecognitionException {
+		ImportPathContext _localctx = new ImportPathContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_importPath);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(246);
+			string_();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DeclarationContext extends ParserRuleContext {
+		public ConstDeclContext constDecl() {
+			return getRuleContext(ConstDeclContext.class,0);
+		}
+		public TypeDeclContext typeDecl() {
+			return getRuleContext(TypeDeclContext.class,0);
+		}
+		public VarDeclContext varDecl() {
+			return getRuleContext(VarDeclContext.class,0);
+		}
+		public DeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_declaration; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final DeclarationContext declaration() throws RecognitionException {
+		DeclarationContext _localctx = new DeclarationContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_declaration);
+		try {
+			setState(251);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case CONST:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(248);
+				constDecl();
+				}
+				break;
+			case TYPE:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(249);
+				typeDecl();
+				}
+				break;
+			case VAR:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(250);
+				varDecl();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConstDeclContext extends ParserRuleContext {
+		public TerminalNode CONST() { return getToken(GoParser.CONST, 0); }
+		public List<ConstSpecContext> constSpec() {
+			return getRuleContexts(ConstSpecContext.class);
+		}
+		public ConstSpecContext constSpec(int i) {
+			return getRuleContext(ConstSpecContext.class,i);
+		}
+		public TerminalNode L_PAREN() { return getToken(GoParser.L_PAREN, 0); }
+		public TerminalNode R_PAREN() { return getToken(GoParser.R_PAREN, 0); }
+		public List<EosContext> eos() {
+			return getRuleContexts(EosContext.class);
+		}
+		public EosContext eos(int i) {
+			return getRuleContext(EosContext.class,i);
+		}
+		public ConstDeclContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_constDecl; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitConstDecl(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConstDeclContext constDecl() throws RecognitionException {
+		ConstDeclContext _localctx = new ConstDeclContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_constDecl);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(253);
+			match(CONST);
+			setState(265);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case IDENTIFIER:
+				{
+				setState(254);
+				constSpec();
+				}
+				break;
+			case L_PAREN:
+				{
+				setState(255);
+				match(L_PAREN);
+				setState(261);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==IDENTIFIER) {
+					{
+					{
+					setState(256);
+					constSpec();
+					setState(257);
+					eos();
+					}
+					}
+					setState(263);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(264);
+				match(R_PAREN);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConstSpecContext extends ParserRuleContext {
+		public IdentifierListContext identifierList() {
+			return getRuleContext(IdentifierListContext.class,0);
+		}
+		public TerminalNode ASSIGN() { return getToken(GoParser.ASSIGN, 0); }
+		public ExpressionListContext expressionList() {
+			return getRuleContext(ExpressionListContext.class,0);
+		}
+		public Type_Context type_() {
+			return getRuleContext(Type_Context.class,0);
+		}
+		public ConstSpecContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_constSpec; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitConstSpec(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConstSpecContext constSpec() throws RecognitionException {
+		ConstSpecContext _localctx = new ConstSpecContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_constSpec);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(267);
+			identifierList();
+			setState(273);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
+			case 1:
+				{
+				setState(269);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (((((_la - 3)) & ~0x3f) == 0 && ((1L << (_la - 3)) & ((1L << (FUNC - 3)) | (1L << (INTERFACE - 3)) | (1L << (MAP - 3)) | (1L << (STRUCT - 3)) | (1L << (CHAN - 3)) | (1L << (IDENTIFIER - 3)) | (1L << (L_PAREN - 3)) | (1L << (L_BRACKET - 3)) | (1L << (STAR - 3)) | (1L << (RECEIVE - 3)))) != 0)) {
+					{
+					setState(268);
+					type_();
+					}
+				}
+
+				setState(271);
+				match(ASSIGN);
+				setState(272);
+				expressionList();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IdentifierListContext extends ParserRuleContext {
+		public List<TerminalNode> IDENTIFIER() { return getTokens(GoParser.IDENTIFIER); }
+		public TerminalNode IDENTIFIER(int i) {
+			return getToken(GoParser.IDENTIFIER, i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(GoParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(GoParser.COMMA, i);
+		}
+		public IdentifierListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_identifierList; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitIdentifierList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final IdentifierListContext identifierList() throws RecognitionException {
+		IdentifierListContext _localctx = new IdentifierListContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_identifierList);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(275);
+			match(IDENTIFIER);
+			setState(280);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(276);
+					match(COMMA);
+					setState(277);
+					match(IDENTIFIER);
+					}
+					} 
+				}
+				setState(282);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExpressionListContext extends ParserRuleContext {
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(GoParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(GoParser.COMMA, i);
+		}
+		public ExpressionListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expressionList; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitExpressionList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExpressionListContext expressionList() throws RecognitionException {
+		ExpressionListContext _localctx = new ExpressionListContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_expressionList);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(283);
+			expression(0);
+			setState(288);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,12,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(284);
+					match(COMMA);
+					setState(285);
+					expression(0);
+					}
+					} 
+				}
+				setState(290);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,12,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeDeclContext extends ParserRuleContext {
+		public TerminalNode TYPE() { return getToken(GoParser.TYPE, 0); }
+		public List<TypeSpecContext> typeSpec() {
+			return getRuleContexts(TypeSpecContext.class);
+		}
+		public TypeSpecContext typeSpec(int i) {
+			return getRuleContext(TypeSpecContext.class,i);
+		}
+		public TerminalNode L_PAREN() { return getToken(GoParser.L_PAREN, 0); }
+		public TerminalNode R_PAREN() { return getToken(GoParser.R_PAREN, 0); }
+		public List<EosContext> eos() {
+			return getRuleContexts(EosContext.class);
+		}
+		public EosContext eos(int i) {
+			return getRuleContext(EosContext.class,i);
+		}
+		public TypeDeclContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeDecl; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitTypeDecl(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeDeclContext typeDecl() throws RecognitionException {
+		TypeDeclContext _localctx = new TypeDeclContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_typeDecl);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(291);
+			match(TYPE);
+			setState(303);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case IDENTIFIER:
+				{
+				setState(292);
+				typeSpec();
+				}
+				break;
+			case L_PAREN:
+				{
+				setState(293);
+				match(L_PAREN);
+				setState(299);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==IDENTIFIER) {
+					{
+					{
+					setState(294);
+					typeSpec();
+					setState(295);
+					eos();
+					}
+					}
+					setState(301);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(302);
+				match(R_PAREN);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeSpecContext extends ParserRuleContext {
+		public TerminalNode IDENTIFIER() { return getToken(GoParser.IDENTIFIER, 0); }
+		public Type_Context type_() {
+			return getRuleContext(Type_Context.class,0);
+		}
+		public TerminalNode ASSIGN() { return getToken(GoParser.ASSIGN, 0); }
+		public TypeSpecContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeSpec; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitTypeSpec(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeSpecContext typeSpec() throws RecognitionException {
+		TypeSpecContext _localctx = new TypeSpecContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_typeSpec);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(305);
+			match(IDENTIFIER);
+			setState(307);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==ASSIGN) {
+				{
+				setState(306);
+				match(ASSIGN);
+				}
+			}
+
+			setState(309);
+			type_();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FunctionDeclContext extends ParserRuleContext {
+		public TerminalNode FUNC() { return getToken(GoParser.FUNC, 0); }
+		public TerminalNode IDENTIFIER() { return getToken(GoParser.IDENTIFIER, 0); }
+		public SignatureContext signature() {
+			return getRuleContext(SignatureContext.class,0);
+		}
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public FunctionDeclContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_functionDecl; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitFunctionDecl(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FunctionDeclContext functionDecl() throws RecognitionException {
+		FunctionDeclContext _localctx = new FunctionDeclContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_functionDecl);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(311);
+			match(FUNC);
+			setState(312);
+			match(IDENTIFIER);
+			{
+			setState(313);
+			signature();
+			setState(315);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,16,_ctx) ) {
+			case 1:
+				{
+				setState(314);
+				block();
+				}
+				break;
+			}
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MethodDeclContext extends ParserRuleContext {
+		public TerminalNode FUNC() { return getToken(GoParser.FUNC, 0); }
+		public ReceiverContext receiver() {
+			return getRuleContext(ReceiverContext.class,0);
+		}
+		public TerminalNode IDENTIFIER() { return getToken(GoParser.IDENTIFIER, 0); }
+		public SignatureContext signature() {
+			return getRuleContext(SignatureContext.class,0);
+		}
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public MethodDeclContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_methodDecl; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitMethodDecl(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final MethodDeclContext methodDecl() throws RecognitionException {
+		MethodDeclContext _localctx = new MethodDeclContext(_ctx, getState());
+		enterRule(_localctx, 26, RULE_methodDecl);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(317);
+			match(FUNC);
+			setState(318);
+			receiver();
+			setState(319);
+			match(IDENTIFIER);
+			{
+			setState(320);
+			signature();
+			setState(322);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,17,_ctx) ) {
+			case 1:
+				{
+				setState(321);
+				block();
+				}
+				break;
+			}
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ReceiverContext extends ParserRuleContext {
+		public ParametersContext parameters() {
+			return getRuleContext(ParametersContext.class,0);
+		}
+		public ReceiverContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_receiver; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitReceiver(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ReceiverContext receiver() throws RecognitionException {
+		ReceiverContext _localctx = new ReceiverContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_receiver);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(324);
+			parameters();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VarDeclContext extends ParserRuleContext {
+		public TerminalNode VAR() { return getToken(GoParser.VAR, 0); }
+		public List<VarSpecContext> varSpec() {
+			return getRuleContexts(VarSpecContext.class);
+		}
+		public VarSpecContext varSpec(int i) {
+			return getRuleContext(VarSpecContext.class,i);
+		}
+		public TerminalNode L_PAREN() { return getToken(GoParser.L_PAREN, 0); }
+		public TerminalNode R_PAREN() { return getToken(GoParser.R_PAREN, 0); }
+		public List<EosContext> eos() {
+			return getRuleContexts(EosContext.class);
+		}
+		public EosContext eos(int i) {
+			return getRuleContext(EosContext.class,i);
+		}
+		public VarDeclContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_varDecl; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitVarDecl(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final VarDeclContext varDecl() throws RecognitionException {
+		VarDeclContext _localctx = new VarDeclContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_varDecl);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(326);
+			match(VAR);
+			setState(338);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case IDENTIFIER:
+				{
+				setState(327);
+				varSpec();
+				}
+				break;
+			case L_PAREN:
+				{
+				setState(328);
+				match(L_PAREN);
+				setState(334);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==IDENTIFIER) {
+					{
+					{
+					setState(329);
+					varSpec();
+					setState(330);
+					eos();
+					}
+					}
+					setState(336);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(337);
+				match(R_PAREN);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VarSpecContext extends ParserRuleContext {
+		public IdentifierListContext identifierList() {
+			return getRuleContext(IdentifierListContext.class,0);
+		}
+		public Type_Context type_() {
+			return getRuleContext(Type_Context.class,0);
+		}
+		public TerminalNode ASSIGN() { return getToken(GoParser.ASSIGN, 0); }
+		public ExpressionListContext expressionList() {
+			return getRuleContext(ExpressionListContext.class,0);
+		}
+		public VarSpecContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_varSpec; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitVarSpec(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final VarSpecContext varSpec() throws RecognitionException {
+		VarSpecContext _localctx = new VarSpecContext(_ctx, getState());
+		enterRule(_localctx, 32, RULE_varSpec);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(340);
+			identifierList();
+			setState(348);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case FUNC:
+			case INTERFACE:
+			case MAP:
+			case STRUCT:
+			case CHAN:
+			case IDENTIFIER:
+			case L_PAREN:
+			case L_BRACKET:
+			case STAR:
+			case RECEIVE:
+				{
+				setState(341);
+				type_();
+				setState(344);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,20,_ctx) ) {
+				case 1:
+					{
+					setState(342);
+					match(ASSIGN);
+					setState(343);
+					expressionList();
+					}
+					break;
+				}
+				}
+				break;
+			case ASSIGN:
+				{
+				setState(346);
+				match(ASSIGN);
+				setState(347);
+				expressionList();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BlockContext extends ParserRuleContext {
+		public TerminalNode L_CURLY() { return getToken(GoParser.L_CURLY, 0); }
+		public TerminalNode R_CURLY() { return getToken(GoParser.R_CURLY, 0); }
+		public StatementListContext statementList() {
+			return getRuleContext(StatementListContext.class,0);
+		}
+		public BlockContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_block; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitBlock(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BlockContext block() throws RecognitionException {
+		BlockContext _localctx = new BlockContext(_ctx, getState());
+		enterRule(_localctx, 34, RULE_block);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(350);
+			match(L_CURLY);
+			setState(352);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BREAK) | (1L << FUNC) | (1L << INTERFACE) | (1L << SELECT) | (1L << DEFER) | (1L << GO) | (1L << MAP) | (1L << STRUCT) | (1L << CHAN) | (1L << GOTO) | (1L << SWITCH) | (1L << CONST) | (1L << FALLTHROUGH) | (1L << IF) | (1L << TYPE) | (1L << CONTINUE) | (1L << FOR) | (1L << RETURN) | (1L << VAR) | (1L << FALSE) | (1L << TRUE) | (1L << NIL_LIT) | (1L << IDENTIFIER) | (1L << L_PAREN) | (1L << L_CURLY) | (1L << L_BRACKET) | (1L << SEMI) | (1L << EXCLAMATION) | (1L << PLUS) | (1L << MINUS) | (1L << CARET) | (1L << STAR))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (AMPERSAND - 64)) | (1L << (RECEIVE - 64)) | (1L << (DECIMAL_LIT - 64)) | (1L << (BINARY_LIT - 64)) | (1L << (OCTAL_LIT - 64)) | (1L << (HEX_LIT - 64)) | (1L << (FLOAT_LIT - 64)) | (1L << (IMAGINARY_LIT - 64)) | (1L << (RUNE_LIT - 64)) | (1L << (RAW_STRING_LIT - 64)) | (1L << (INTERPRETED_STRING_LIT - 64)))) != 0)) {
+				{
+				setState(351);
+				statementList();
+				}
+			}
+
+			setState(354);
+			match(R_CURLY);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StatementListContext extends ParserRuleContext {
+		public List<StatementContext> statement() {
+			return getRuleContexts(StatementContext.class);
+		}
+		public StatementContext statement(int i) {
+			return getRuleContext(StatementContext.class,i);
+		}
+		public List<EosContext> eos() {
+			return getRuleContexts(EosContext.class);
+		}
+		public EosContext eos(int i) {
+			return getRuleContext(EosContext.class,i);
+		}
+		public StatementListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementList; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitStatementList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementListContext statementList() throws RecognitionException {
+		StatementListContext _localctx = new StatementListContext(_ctx, getState());
+		enterRule(_localctx, 36, RULE_statementList);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(359); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(356);
+				statement();
+				setState(357);
+				eos();
+				}
+				}
+				setState(361); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BREAK) | (1L << FUNC) | (1L << INTERFACE) | (1L << SELECT) | (1L << DEFER) | (1L << GO) | (1L << MAP) | (1L << STRUCT) | (1L << CHAN) | (1L << GOTO) | (1L << SWITCH) | (1L << CONST) | (1L << FALLTHROUGH) | (1L << IF) | (1L << TYPE) | (1L << CONTINUE) | (1L << FOR) | (1L << RETURN) | (1L << VAR) | (1L << FALSE) | (1L << TRUE) | (1L << NIL_LIT) | (1L << IDENTIFIER) | (1L << L_PAREN) | (1L << L_CURLY) | (1L << L_BRACKET) | (1L << SEMI) | (1L << EXCLAMATION) | (1L << PLUS) | (1L << MINUS) | (1L << CARET) | (1L << STAR))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (AMPERSAND - 64)) | (1L << (RECEIVE - 64)) | (1L << (DECIMAL_LIT - 64)) | (1L << (BINARY_LIT - 64)) | (1L << (OCTAL_LIT - 64)) | (1L << (HEX_LIT - 64)) | (1L << (FLOAT_LIT - 64)) | (1L << (IMAGINARY_LIT - 64)) | (1L << (RUNE_LIT - 64)) | (1L << (RAW_STRING_LIT - 64)) | (1L << (INTERPRETED_STRING_LIT - 64)))) != 0) );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StatementContext extends ParserRuleContext {
+		public DeclarationContext declaration() {
+			return getRuleContext(DeclarationContext.class,0);
+		}
+		public LabeledStmtContext labeledStmt() {
+			return getRuleContext(LabeledStmtContext.class,0);
+		}
+		public SimpleStmtContext simpleStmt() {
+			return getRuleContext(SimpleStmtContext.class,0);
+		}
+		public GoStmtContext goStmt() {
+			return getRuleContext(GoStmtContext.class,0);
+		}
+		public ReturnStmtContext returnStmt() {
+			return getRuleContext(ReturnStmtContext.class,0);
+		}
+		public BreakStmtContext breakStmt() {
+			return getRuleContext(BreakStmtContext.class,0);
+		}
+		public ContinueStmtContext continueStmt() {
+			return getRuleContext(ContinueStmtContext.class,0);
+		}
+		public GotoStmtContext gotoStmt() {
+			return getRuleContext(GotoStmtContext.class,0);
+		}
+		public FallthroughStmtContext fallthroughStmt() {
+			return getRuleContext(FallthroughStmtContext.class,0);
+		}
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public IfStmtContext ifStmt() {
+			return getRuleContext(IfStmtContext.class,0);
+		}
+		public SwitchStmtContext switchStmt() {
+			return getRuleContext(SwitchStmtContext.class,0);
+		}
+		public SelectStmtContext selectStmt() {
+			return getRuleContext(SelectStmtContext.class,0);
+		}
+		public ForStmtContext forStmt() {
+			return getRuleContext(ForStmtContext.class,0);
+		}
+		public DeferStmtContext deferStmt() {
+			return getRuleContext(DeferStmtContext.class,0);
+		}
+		public StatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statement; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementContext statement() throws RecognitionException {
+		StatementContext _localctx = new StatementContext(_ctx, getState());
+		enterRule(_localctx, 38, RULE_statement);
+		try {
+			setState(378);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,24,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(363);
+				declaration();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(364);
+				labeledStmt();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(365);
+				simpleStmt();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(366);
+				goStmt();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(367);
+				returnStmt();
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(368);
+				breakStmt();
+				}
+				break;
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(369);
+				continueStmt();
+				}
+				break;
+			case 8:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(370);
+				gotoStmt();
+				}
+				break;
+			case 9:
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(371);
+				fallthroughStmt();
+				}
+				break;
+			case 10:
+				enterOuterAlt(_localctx, 10);
+				{
+				setState(372);
+				block();
+				}
+				break;
+			case 11:
+				enterOuterAlt(_localctx, 11);
+				{
+				setState(373);
+				ifStmt();
+				}
+				break;
+			case 12:
+				enterOuterAlt(_localctx, 12);
+				{
+				setState(374);
+				switchStmt();
+				}
+				break;
+			case 13:
+				enterOuterAlt(_localctx, 13);
+				{
+				setState(375);
+				selectStmt();
+				}
+				break;
+			case 14:
+				enterOuterAlt(_localctx, 14);
+				{
+				setState(376);
+				forStmt();
+				}
+				break;
+			case 15:
+				enterOuterAlt(_localctx, 15);
+				{
+				setState(377);
+				deferStmt();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SimpleStmtContext extends ParserRuleContext {
+		public SendStmtContext sendStmt() {
+			return getRuleContext(SendStmtContext.class,0);
+		}
+		public IncDecStmtContext incDecStmt() {
+			return getRuleContext(IncDecStmtContext.class,0);
+		}
+		public AssignmentContext assignment() {
+			return getRuleContext(AssignmentContext.class,0);
+		}
+		public ExpressionStmtContext expressionStmt() {
+			return getRuleContext(ExpressionStmtContext.class,0);
+		}
+		public ShortVarDeclContext shortVarDecl() {
+			return getRuleContext(ShortVarDeclContext.class,0);
+		}
+		public EmptyStmtContext emptyStmt() {
+			return getRuleContext(EmptyStmtContext.class,0);
+		}
+		public SimpleStmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_simpleStmt; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitSimpleStmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SimpleStmtContext simpleStmt() throws RecognitionException {
+		SimpleStmtContext _localctx = new SimpleStmtContext(_ctx, getState());
+		enterRule(_localctx, 40, RULE_simpleStmt);
+		try {
+			setState(386);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,25,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(380);
+				sendStmt();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(381);
+				incDecStmt();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(382);
+				assignment();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(383);
+				expressionStmt();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(384);
+				shortVarDecl();
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(385);
+				emptyStmt();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExpressionStmtContext extends ParserRuleContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ExpressionStmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expressionStmt; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitExpressionStmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExpressionStmtContext expressionStmt() throws RecognitionException {
+		ExpressionStmtContext _localctx = new ExpressionStmtContext(_ctx, getState());
+		enterRule(_localctx, 42, RULE_expressionStmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(388);
+			expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SendStmtContext extends ParserRuleContext {
+		public ExpressionContext channel;
+		public TerminalNode RECEIVE() { return getToken(GoParser.RECEIVE, 0); }
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public SendStmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_sendStmt; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitSendStmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SendStmtContext sendStmt() throws RecognitionException {
+		SendStmtContext _localctx = new SendStmtContext(_ctx, getState());
+		enterRule(_localctx, 44, RULE_sendStmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(390);
+			((SendStmtContext)_localctx).channel = expression(0);
+			setState(391);
+			match(RECEIVE);
+			setState(392);
+			expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IncDecStmtContext extends ParserRuleContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode PLUS_PLUS() { return getToken(GoParser.PLUS_PLUS, 0); }
+		public TerminalNode MINUS_MINUS() { return getToken(GoParser.MINUS_MINUS, 0); }
+		public IncDecStmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_incDecStmt; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitIncDecStmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final IncDecStmtContext incDecStmt() throws RecognitionException {
+		IncDecStmtContext _localctx = new IncDecStmtContext(_ctx, getState());
+		enterRule(_localctx, 46, RULE_incDecStmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(394);
+			expression(0);
+			setState(395);
+			_la = _input.LA(1);
+			if ( !(_la==PLUS_PLUS || _la==MINUS_MINUS) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AssignmentContext extends ParserRuleContext {
+		public List<ExpressionListContext> expressionList() {
+			return getRuleContexts(ExpressionListContext.class);
+		}
+		public ExpressionListContext expressionList(int i) {
+			return getRuleContext(ExpressionListContext.class,i);
+		}
+		public Assign_opContext assign_op() {
+			return getRuleContext(Assign_opContext.class,0);
+		}
+		public AssignmentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_assignment; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitAssignment(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AssignmentContext assignment() throws RecognitionException {
+		AssignmentContext _localctx = new AssignmentContext(_ctx, getState());
+		enterRule(_localctx, 48, RULE_assignment);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(397);
+			expressionList();
+			setState(398);
+			assign_op();
+			setState(399);
+			expressionList();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Assign_opContext extends ParserRuleContext {
+		public TerminalNode ASSIGN() { return getToken(GoParser.ASSIGN, 0); }
+		public TerminalNode PLUS() { return getToken(GoParser.PLUS, 0); }
+		public TerminalNode MINUS() { return getToken(GoParser.MINUS, 0); }
+		public TerminalNode OR() { return getToken(GoParser.OR, 0); }
+		public TerminalNode CARET() { return getToken(GoParser.CARET, 0); }
+		public TerminalNode STAR() { return getToken(GoParser.STAR, 0); }
+		public TerminalNode DIV() { return getToken(GoParser.DIV, 0); }
+		public TerminalNode MOD() { return getToken(GoParser.MOD, 0); }
+		public TerminalNode LSHIFT() { return getToken(GoParser.LSHIFT, 0); }
+		public TerminalNode RSHIFT() { return getToken(GoParser.RSHIFT, 0); }
+		public TerminalNode AMPERSAND() { return getToken(GoParser.AMPERSAND, 0); }
+		public TerminalNode BIT_CLEAR() { return getToken(GoParser.BIT_CLEAR, 0); }
+		public Assign_opContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_assign_op; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitAssign_op(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Assign_opContext assign_op() throws RecognitionException {
+		Assign_opContext _localctx = new Assign_opContext(_ctx, getState());
+		enterRule(_localctx, 50, RULE_assign_op);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(402);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (((((_la - 53)) & ~0x3f) == 0 && ((1L << (_la - 53)) & ((1L << (OR - 53)) | (1L << (DIV - 53)) | (1L << (MOD - 53)) | (1L << (LSHIFT - 53)) | (1L << (RSHIFT - 53)) | (1L << (BIT_CLEAR - 53)) | (1L << (PLUS - 53)) | (1L << (MINUS - 53)) | (1L << (CARET - 53)) | (1L << (STAR - 53)) | (1L << (AMPERSAND - 53)))) != 0)) {
+				{
+				setState(401);
+				_la = _input.LA(1);
+				if ( !(((((_la - 53)) & ~0x3f) == 0 && ((1L << (_la - 53)) & ((1L << (OR - 53)) | (1L << (DIV - 53)) | (1L << (MOD - 53)) | (1L << (LSHIFT - 53)) | (1L << (RSHIFT - 53)) | (1L << (BIT_CLEAR - 53)) | (1L << (PLUS - 53)) | (1L << (MINUS - 53)) | (1L << (CARET - 53)) | (1L << (STAR - 53)) | (1L << (AMPERSAND - 53)))) != 0)) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				}
+			}
+
+			setState(404);
+			match(ASSIGN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ShortVarDeclContext extends ParserRuleContext {
+		public IdentifierListContext identifierList() {
+			return getRuleContext(IdentifierListContext.class,0);
+		}
+		public TerminalNode DECLARE_ASSIGN() { return getToken(GoParser.DECLARE_ASSIGN, 0); }
+		public ExpressionListContext expressionList() {
+			return getRuleContext(ExpressionListContext.class,0);
+		}
+		public ShortVarDeclContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_shortVarDecl; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitShortVarDecl(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ShortVarDeclContext shortVarDecl() throws RecognitionException {
+		ShortVarDeclContext _localctx = new ShortVarDeclContext(_ctx, getState());
+		enterRule(_localctx, 52, RULE_shortVarDecl);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(406);
+			identifierList();
+			setState(407);
+			match(DECLARE_ASSIGN);
+			setState(408);
+			expressionList();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EmptyStmtContext extends ParserRuleContext {
+		public TerminalNode SEMI() { return getToken(GoParser.SEMI, 0); }
+		public EmptyStmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_emptyStmt; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitEmptyStmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final EmptyStmtContext emptyStmt() throws RecognitionException {
+		EmptyStmtContext _localctx = new EmptyStmtContext(_ctx, getState());
+		enterRule(_localctx, 54, RULE_emptyStmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(410);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LabeledStmtContext extends ParserRuleContext {
+		public TerminalNode IDENTIFIER() { return getToken(GoParser.IDENTIFIER, 0); }
+		public TerminalNode COLON() { return getToken(GoParser.COLON, 0); }
+		public StatementContext statement() {
+			return getRuleContext(StatementContext.class,0);
+		}
+		public LabeledStmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_labeledStmt; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitLabeledStmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final LabeledStmtContext labeledStmt() throws RecognitionException {
+		LabeledStmtContext _localctx = new LabeledStmtContext(_ctx, getState());
+		enterRule(_localctx, 56, RULE_labeledStmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(412);
+			match(IDENTIFIER);
+			setState(413);
+			match(COLON);
+			setState(415);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,27,_ctx) ) {
+			case 1:
+				{
+				setState(414);
+				statement();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ReturnStmtContext extends ParserRuleContext {
+		public TerminalNode RETURN() { return getToken(GoParser.RETURN, 0); }
+		public ExpressionListContext expressionList() {
+			return getRuleContext(ExpressionListContext.class,0);
+		}
+		public ReturnStmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_returnStmt; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitReturnStmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ReturnStmtContext returnStmt() throws RecognitionException {
+		ReturnStmtContext _localctx = new ReturnStmtContext(_ctx, getState());
+		enterRule(_localctx, 58, RULE_returnStmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(417);
+			match(RETURN);
+			setState(419);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,28,_ctx) ) {
+			case 1:
+				{
+				setState(418);
+				expressionList();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BreakStmtContext extends ParserRuleContext {
+		public TerminalNode BREAK() { return getToken(GoParser.BREAK, 0); }
+		public TerminalNode IDENTIFIER() { return getToken(GoParser.IDENTIFIER, 0); }
+		public BreakStmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_breakStmt; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitBreakStmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BreakStmtContext breakStmt() throws RecognitionException {
+		BreakStmtContext _localctx = new BreakStmtContext(_ctx, getState());
+		enterRule(_localctx, 60, RULE_breakStmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(421);
+			match(BREAK);
+			setState(423);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,29,_ctx) ) {
+			case 1:
+				{
+				setState(422);
+				match(IDENTIFIER);
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ContinueStmtContext extends ParserRuleContext {
+		public TerminalNode CONTINUE() { return getToken(GoParser.CONTINUE, 0); }
+		public TerminalNode IDENTIFIER() { return getToken(GoParser.IDENTIFIER, 0); }
+		public ContinueStmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_continueStmt; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitContinueStmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ContinueStmtContext continueStmt() throws RecognitionException {
+		ContinueStmtContext _localctx = new ContinueStmtContext(_ctx, getState());
+		enterRule(_localctx, 62, RULE_continueStmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(425);
+			match(CONTINUE);
+			setState(427);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,30,_ctx) ) {
+			case 1:
+				{
+				setState(426);
+				match(IDENTIFIER);
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class GotoStmtContext extends ParserRuleContext {
+		public TerminalNode GOTO() { return getToken(GoParser.GOTO, 0); }
+		public TerminalNode IDENTIFIER() { return getToken(GoParser.IDENTIFIER, 0); }
+		public GotoStmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_gotoStmt; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitGotoStmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final GotoStmtContext gotoStmt() throws RecognitionException {
+		GotoStmtContext _localctx = new GotoStmtContext(_ctx, getState());
+		enterRule(_localctx, 64, RULE_gotoStmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(429);
+			match(GOTO);
+			setState(430);
+			match(IDENTIFIER);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FallthroughStmtContext extends ParserRuleContext {
+		public TerminalNode FALLTHROUGH() { return getToken(GoParser.FALLTHROUGH, 0); }
+		public FallthroughStmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fallthroughStmt; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitFallthroughStmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FallthroughStmtContext fallthroughStmt() throws RecognitionException {
+		FallthroughStmtContext _localctx = new FallthroughStmtContext(_ctx, getState());
+		enterRule(_localctx, 66, RULE_fallthroughStmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(432);
+			match(FALLTHROUGH);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DeferStmtContext extends ParserRuleContext {
+		public TerminalNode DEFER() { return getToken(GoParser.DEFER, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public DeferStmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_deferStmt; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitDeferStmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final DeferStmtContext deferStmt() throws RecognitionException {
+		DeferStmtContext _localctx = new DeferStmtContext(_ctx, getState());
+		enterRule(_localctx, 68, RULE_deferStmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(434);
+			match(DEFER);
+			setState(435);
+			expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IfStmtContext extends ParserRuleContext {
+		public TerminalNode IF() { return getToken(GoParser.IF, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public List<BlockContext> block() {
+			return getRuleContexts(BlockContext.class);
+		}
+		public BlockContext block(int i) {
+			return getRuleContext(BlockContext.class,i);
+		}
+		public SimpleStmtContext simpleStmt() {
+			return getRuleContext(SimpleStmtContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(GoParser.SEMI, 0); }
+		public TerminalNode ELSE() { return getToken(GoParser.ELSE, 0); }
+		public IfStmtContext ifStmt() {
+			return getRuleContext(IfStmtContext.class,0);
+		}
+		public IfStmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_ifStmt; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitIfStmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final IfStmtContext ifStmt() throws RecognitionException {
+		IfStmtContext _localctx = new IfStmtContext(_ctx, getState());
+		enterRule(_localctx, 70, RULE_ifStmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(437);
+			match(IF);
+			setState(441);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,31,_ctx) ) {
+			case 1:
+				{
+				setState(438);
+				simpleStmt();
+				setState(439);
+				match(SEMI);
+				}
+				break;
+			}
+			setState(443);
+			expression(0);
+			setState(444);
+			block();
+			setState(450);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,33,_ctx) ) {
+			case 1:
+				{
+				setState(445);
+				match(ELSE);
+				setState(448);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case IF:
+					{
+					setState(446);
+					ifStmt();
+					}
+					break;
+				case L_CURLY:
+					{
+					setState(447);
+					block();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SwitchStmtContext extends ParserRuleContext {
+		public ExprSwitchStmtContext exprSwitchStmt() {
+			return getRuleContext(ExprSwitchStmtContext.class,0);
+		}
+		public TypeSwitchStmtContext typeSwitchStmt() {
+			return getRuleContext(TypeSwitchStmtContext.class,0);
+		}
+		public SwitchStmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_switchStmt; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitSwitchStmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SwitchStmtContext switchStmt() throws RecognitionException {
+		SwitchStmtContext _localctx = new SwitchStmtContext(_ctx, getState());
+		enterRule(_localctx, 72, RULE_switchStmt);
+		try {
+			setState(454);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,34,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(452);
+				exprSwitchStmt();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(453);
+				typeSwitchStmt();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExprSwitchStmtContext extends ParserRuleContext {
+		public TerminalNode SWITCH() { return getToken(GoParser.SWITCH, 0); }
+		public TerminalNode L_CURLY() { return getToken(GoParser.L_CURLY, 0); }
+		public TerminalNode R_CURLY() { return getToken(GoParser.R_CURLY, 0); }
+		public SimpleStmtContext simpleStmt() {
+			return getRuleContext(SimpleStmtContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(GoParser.SEMI, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public List<ExprCaseClauseContext> exprCaseClause() {
+			return getRuleContexts(ExprCaseClauseContext.class);
+		}
+		public ExprCaseClauseContext exprCaseClause(int i) {
+			return getRuleContext(ExprCaseClauseContext.class,i);
+		}
+		public ExprSwitchStmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_exprSwitchStmt; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitExprSwitchStmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExprSwitchStmtContext exprSwitchStmt() throws RecognitionException {
+		ExprSwitchStmtContext _localctx = new ExprSwitchStmtContext(_ctx, getState());
+		enterRule(_localctx, 74, RULE_exprSwitchStmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(456);
+			match(SWITCH);
+			setState(460);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,35,_ctx) ) {
+			case 1:
+				{
+				setState(457);
+				simpleStmt();
+				setState(458);
+				match(SEMI);
+				}
+				break;
+			}
+			setState(463);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << FUNC) | (1L << INTERFACE) | (1L << MAP) | (1L << STRUCT) | (1L << CHAN) | (1L << FALSE) | (1L << TRUE) | (1L << NIL_LIT) | (1L << IDENTIFIER) | (1L << L_PAREN) | (1L << L_BRACKET) | (1L << EXCLAMATION) | (1L << PLUS) | (1L << MINUS) | (1L << CARET) | (1L << STAR))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (AMPERSAND - 64)) | (1L << (RECEIVE - 64)) | (1L << (DECIMAL_LIT - 64)) | (1L << (BINARY_LIT - 64)) | (1L << (OCTAL_LIT - 64)) | (1L << (HEX_LIT - 64)) | (1L << (FLOAT_LIT - 64)) | (1L << (IMAGINARY_LIT - 64)) | (1L << (RUNE_LIT - 64)) | (1L << (RAW_STRING_LIT - 64)) | (1L << (INTERPRETED_STRING_LIT - 64)))) != 0)) {
+				{
+				setState(462);
+				expression(0);
+				}
+			}
+
+			setState(465);
+			match(L_CURLY);
+			setState(469);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==DEFAULT || _la==CASE) {
+				{
+				{
+				setState(466);
+				exprCaseClause();
+				}
+				}
+				setState(471);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(472);
+			match(R_CURLY);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExprCaseClauseContext extends ParserRuleContext {
+		public ExprSwitchCaseContext exprSwitchCase() {
+			return getRuleContext(ExprSwitchCaseContext.class,0);
+		}
+		public TerminalNode COLON() { return getToken(GoParser.COLON, 0); }
+		public StatementListContext statementList() {
+			return getRuleContext(StatementListContext.class,0);
+		}
+		public ExprCaseClauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_exprCaseClause; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitExprCaseClause(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExprCaseClauseContext exprCaseClause() throws RecognitionException {
+		ExprCaseClauseContext _localctx = new ExprCaseClauseContext(_ctx, getState());
+		enterRule(_localctx, 76, RULE_exprCaseClause);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(474);
+			exprSwitchCase();
+			setState(475);
+			match(COLON);
+			setState(477);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BREAK) | (1L << FUNC) | (1L << INTERFACE) | (1L << SELECT) | (1L << DEFER) | (1L << GO) | (1L << MAP) | (1L << STRUCT) | (1L << CHAN) | (1L << GOTO) | (1L << SWITCH) | (1L << CONST) | (1L << FALLTHROUGH) | (1L << IF) | (1L << TYPE) | (1L << CONTINUE) | (1L << FOR) | (1L << RETURN) | (1L << VAR) | (1L << FALSE) | (1L << TRUE) | (1L << NIL_LIT) | (1L << IDENTIFIER) | (1L << L_PAREN) | (1L << L_CURLY) | (1L << L_BRACKET) | (1L << SEMI) | (1L << EXCLAMATION) | (1L << PLUS) | (1L << MINUS) | (1L << CARET) | (1L << STAR))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (AMPERSAND - 64)) | (1L << (RECEIVE - 64)) | (1L << (DECIMAL_LIT - 64)) | (1L << (BINARY_LIT - 64)) | (1L << (OCTAL_LIT - 64)) | (1L << (HEX_LIT - 64)) | (1L << (FLOAT_LIT - 64)) | (1L << (IMAGINARY_LIT - 64)) | (1L << (RUNE_LIT - 64)) | (1L << (RAW_STRING_LIT - 64)) | (1L << (INTERPRETED_STRING_LIT - 64)))) != 0)) {
+				{
+				setState(476);
+				statementList();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExprSwitchCaseContext extends ParserRuleContext {
+		public TerminalNode CASE() { return getToken(GoParser.CASE, 0); }
+		public ExpressionListContext expressionList() {
+			return getRuleContext(ExpressionListContext.class,0);
+		}
+		public TerminalNode DEFAULT() { return getToken(GoParser.DEFAULT, 0); }
+		public ExprSwitchCaseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_exprSwitchCase; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitExprSwitchCase(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExprSwitchCaseContext exprSwitchCase() throws RecognitionException {
+		ExprSwitchCaseContext _localctx = new ExprSwitchCaseContext(_ctx, getState());
+		enterRule(_localctx, 78, RULE_exprSwitchCase);
+		try {
+			setState(482);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case CASE:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(479);
+				match(CASE);
+				setState(480);
+				expressionList();
+				}
+				break;
+			case DEFAULT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(481);
+				match(DEFAULT);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeSwitchStmtContext extends ParserRuleContext {
+		public TerminalNode SWITCH() { return getToken(GoParser.SWITCH, 0); }
+		public TypeSwitchGuardContext typeSwitchGuard() {
+			return getRuleContext(TypeSwitchGuardContext.class,0);
+		}
+		public TerminalNode L_CURLY() { return getToken(GoParser.L_CURLY, 0); }
+		public TerminalNode R_CURLY() { return getToken(GoParser.R_CURLY, 0); }
+		public SimpleStmtContext simpleStmt() {
+			return getRuleContext(SimpleStmtContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(GoParser.SEMI, 0); }
+		public List<TypeCaseClauseContext> typeCaseClause() {
+			return getRuleContexts(TypeCaseClauseContext.class);
+		}
+		public TypeCaseClauseContext typeCaseClause(int i) {
+			return getRuleContext(TypeCaseClauseContext.class,i);
+		}
+		public TypeSwitchStmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeSwitchStmt; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitTypeSwitchStmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeSwitchStmtContext typeSwitchStmt() throws RecognitionException {
+		TypeSwitchStmtContext _localctx = new TypeSwitchStmtContext(_ctx, getState());
+		enterRule(_localctx, 80, RULE_typeSwitchStmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(484);
+			match(SWITCH);
+			setState(488);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,40,_ctx) ) {
+			case 1:
+				{
+				setState(485);
+				simpleStmt();
+				setState(486);
+				match(SEMI);
+				}
+				break;
+			}
+			setState(490);
+			typeSwitchGuard();
+			setState(491);
+			match(L_CURLY);
+			setState(495);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==DEFAULT || _la==CASE) {
+				{
+				{
+				setState(492);
+				typeCaseClause();
+				}
+				}
+				setState(497);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(498);
+			match(R_CURLY);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeSwitchGuardContext extends ParserRuleContext {
+		public PrimaryExprContext primaryExpr() {
+			return getRuleContext(PrimaryExprContext.class,0);
+		}
+		public TerminalNode DOT() { return getToken(GoParser.DOT, 0); }
+		public TerminalNode L_PAREN() { return getToken(GoParser.L_PAREN, 0); }
+		public TerminalNode TYPE() { return getToken(GoParser.TYPE, 0); }
+		public TerminalNode R_PAREN() { return getToken(GoParser.R_PAREN, 0); }
+		public TerminalNode IDENTIFIER() { return getToken(GoParser.IDENTIFIER, 0); }
+		public TerminalNode DECLARE_ASSIGN() { return getToken(GoParser.DECLARE_ASSIGN, 0); }
+		public TypeSwitchGuardContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeSwitchGuard; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitTypeSwitchGuard(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeSwitchGuardContext typeSwitchGuard() throws RecognitionException {
+		TypeSwitchGuardContext _localctx = new TypeSwitchGuardContext(_ctx, getState());
+		enterRule(_localctx, 82, RULE_typeSwitchGuard);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(502);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,42,_ctx) ) {
+			case 1:
+				{
+				setState(500);
+				match(IDENTIFIER);
+				setState(501);
+				match(DECLARE_ASSIGN);
+				}
+				break;
+			}
+			setState(504);
+			primaryExpr(0);
+			setState(505);
+			match(DOT);
+			setState(506);
+			match(L_PAREN);
+			setState(507);
+			match(TYPE);
+			setState(508);
+			match(R_PAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeCaseClauseContext extends ParserRuleContext {
+		public TypeSwitchCaseContext typeSwitchCase() {
+			return getRuleContext(TypeSwitchCaseContext.class,0);
+		}
+		public TerminalNode COLON() { return getToken(GoParser.COLON, 0); }
+		public StatementListContext statementList() {
+			return getRuleContext(StatementListContext.class,0);
+		}
+		public TypeCaseClauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeCaseClause; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitTypeCaseClause(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeCaseClauseContext typeCaseClause() throws RecognitionException {
+		TypeCaseClauseContext _localctx = new TypeCaseClauseContext(_ctx, getState());
+		enterRule(_localctx, 84, RULE_typeCaseClause);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(510);
+			typeSwitchCase();
+			setState(511);
+			match(COLON);
+			setState(513);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BREAK) | (1L << FUNC) | (1L << INTERFACE) | (1L << SELECT) | (1L << DEFER) | (1L << GO) | (1L << MAP) | (1L << STRUCT) | (1L << CHAN) | (1L << GOTO) | (1L << SWITCH) | (1L << CONST) | (1L << FALLTHROUGH) | (1L << IF) | (1L << TYPE) | (1L << CONTINUE) | (1L << FOR) | (1L << RETURN) | (1L << VAR) | (1L << FALSE) | (1L << TRUE) | (1L << NIL_LIT) | (1L << IDENTIFIER) | (1L << L_PAREN) | (1L << L_CURLY) | (1L << L_BRACKET) | (1L << SEMI) | (1L << EXCLAMATION) | (1L << PLUS) | (1L << MINUS) | (1L << CARET) | (1L << STAR))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (AMPERSAND - 64)) | (1L << (RECEIVE - 64)) | (1L << (DECIMAL_LIT - 64)) | (1L << (BINARY_LIT - 64)) | (1L << (OCTAL_LIT - 64)) | (1L << (HEX_LIT - 64)) | (1L << (FLOAT_LIT - 64)) | (1L << (IMAGINARY_LIT - 64)) | (1L << (RUNE_LIT - 64)) | (1L << (RAW_STRING_LIT - 64)) | (1L << (INTERPRETED_STRING_LIT - 64)))) != 0)) {
+				{
+				setState(512);
+				statementList();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeSwitchCaseContext extends ParserRuleContext {
+		public TerminalNode CASE() { return getToken(GoParser.CASE, 0); }
+		public TypeListContext typeList() {
+			return getRuleContext(TypeListContext.class,0);
+		}
+		public TerminalNode DEFAULT() { return getToken(GoParser.DEFAULT, 0); }
+		public TypeSwitchCaseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeSwitchCase; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitTypeSwitchCase(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeSwitchCaseContext typeSwitchCase() throws RecognitionException {
+		TypeSwitchCaseContext _localctx = new TypeSwitchCaseContext(_ctx, getState());
+		enterRule(_localctx, 86, RULE_typeSwitchCase);
+		try {
+			setState(518);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case CASE:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(515);
+				match(CASE);
+				setState(516);
+				typeList();
+				}
+				break;
+			case DEFAULT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(517);
+				match(DEFAULT);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeListContext extends ParserRuleContext {
+		public List<Type_Context> type_() {
+			return getRuleContexts(Type_Context.class);
+		}
+		public Type_Context type_(int i) {
+			return getRuleContext(Type_Context.class,i);
+		}
+		public List<TerminalNode> NIL_LIT() { return getTokens(GoParser.NIL_LIT); }
+		public TerminalNode NIL_LIT(int i) {
+			return getToken(GoParser.NIL_LIT, i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(GoParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(GoParser.COMMA, i);
+		}
+		public TypeListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeList; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitTypeList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeListContext typeList() throws RecognitionException {
+		TypeListContext _localctx = new TypeListContext(_ctx, getState());
+		enterRule(_localctx, 88, RULE_typeList);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(522);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case FUNC:
+			case INTERFACE:
+			case MAP:
+			case STRUCT:
+			case CHAN:
+			case IDENTIFIER:
+			case L_PAREN:
+			case L_BRACKET:
+			case STAR:
+			case RECEIVE:
+				{
+				setState(520);
+				type_();
+				}
+				break;
+			case NIL_LIT:
+				{
+				setState(521);
+				match(NIL_LIT);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(531);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(524);
+				match(COMMA);
+				setState(527);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case FUNC:
+				case INTERFACE:
+				case MAP:
+				case STRUCT:
+				case CHAN:
+				case IDENTIFIER:
+				case L_PAREN:
+				case L_BRACKET:
+				case STAR:
+				case RECEIVE:
+					{
+					setState(525);
+					type_();
+					}
+					break;
+				case NIL_LIT:
+					{
+					setState(526);
+					match(NIL_LIT);
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				}
+				setState(533);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SelectStmtContext extends ParserRuleContext {
+		public TerminalNode SELECT() { return getToken(GoParser.SELECT, 0); }
+		public TerminalNode L_CURLY() { return getToken(GoParser.L_CURLY, 0); }
+		public TerminalNode R_CURLY() { return getToken(GoParser.R_CURLY, 0); }
+		public List<CommClauseContext> commClause() {
+			return getRuleContexts(CommClauseContext.class);
+		}
+		public CommClauseContext commClause(int i) {
+			return getRuleContext(CommClauseContext.class,i);
+		}
+		public SelectStmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_selectStmt; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitSelectStmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SelectStmtContext selectStmt() throws RecognitionException {
+		SelectStmtContext _localctx = new SelectStmtContext(_ctx, getState());
+		enterRule(_localctx, 90, RULE_selectStmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(534);
+			match(SELECT);
+			setState(535);
+			match(L_CURLY);
+			setState(539);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==DEFAULT || _la==CASE) {
+				{
+				{
+				setState(536);
+				commClause();
+				}
+				}
+				setState(541);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(542);
+			match(R_CURLY);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CommClauseContext extends ParserRuleContext {
+		public CommCaseContext commCase() {
+			return getRuleContext(CommCaseContext.class,0);
+		}
+		public TerminalNode COLON() { return getToken(GoParser.COLON, 0); }
+		public StatementListContext statementList() {
+			return getRuleContext(StatementListContext.class,0);
+		}
+		public CommClauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_commClause; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitCommClause(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final CommClauseContext commClause() throws RecognitionException {
+		CommClauseContext _localctx = new CommClauseContext(_ctx, getState());
+		enterRule(_localctx, 92, RULE_commClause);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(544);
+			commCase();
+			setState(545);
+			match(COLON);
+			setState(547);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BREAK) | (1L << FUNC) | (1L << INTERFACE) | (1L << SELECT) | (1L << DEFER) | (1L << GO) | (1L << MAP) | (1L << STRUCT) | (1L << CHAN) | (1L << GOTO) | (1L << SWITCH) | (1L << CONST) | (1L << FALLTHROUGH) | (1L << IF) | (1L << TYPE) | (1L << CONTINUE) | (1L << FOR) | (1L << RETURN) | (1L << VAR) | (1L << FALSE) | (1L << TRUE) | (1L << NIL_LIT) | (1L << IDENTIFIER) | (1L << L_PAREN) | (1L << L_CURLY) | (1L << L_BRACKET) | (1L << SEMI) | (1L << EXCLAMATION) | (1L << PLUS) | (1L << MINUS) | (1L << CARET) | (1L << STAR))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (AMPERSAND - 64)) | (1L << (RECEIVE - 64)) | (1L << (DECIMAL_LIT - 64)) | (1L << (BINARY_LIT - 64)) | (1L << (OCTAL_LIT - 64)) | (1L << (HEX_LIT - 64)) | (1L << (FLOAT_LIT - 64)) | (1L << (IMAGINARY_LIT - 64)) | (1L << (RUNE_LIT - 64)) | (1L << (RAW_STRING_LIT - 64)) | (1L << (INTERPRETED_STRING_LIT - 64)))) != 0)) {
+				{
+				setState(546);
+				statementList();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CommCaseContext extends ParserRuleContext {
+		public TerminalNode CASE() { return getToken(GoParser.CASE, 0); }
+		public SendStmtContext sendStmt() {
+			return getRuleContext(SendStmtContext.class,0);
+		}
+		public RecvStmtContext recvStmt() {
+			return getRuleContext(RecvStmtContext.class,0);
+		}
+		public TerminalNode DEFAULT() { return getToken(GoParser.DEFAULT, 0); }
+		public CommCaseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_commCase; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitCommCase(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final CommCaseContext commCase() throws RecognitionException {
+		CommCaseContext _localctx = new CommCaseContext(_ctx, getState());
+		enterRule(_localctx, 94, RULE_commCase);
+		try {
+			setState(555);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case CASE:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(549);
+				match(CASE);
+				setState(552);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,50,_ctx) ) {
+				case 1:
+					{
+					setState(550);
+					sendStmt();
+					}
+					break;
+				case 2:
+					{
+					setState(551);
+					recvStmt();
+					}
+					break;
+				}
+				}
+				break;
+			case DEFAULT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(554);
+				match(DEFAULT);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RecvStmtContext extends ParserRuleContext {
+		public ExpressionContext recvExpr;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ExpressionListContext expressionList() {
+			return getRuleContext(ExpressionListContext.class,0);
+		}
+		public TerminalNode ASSIGN() { return getToken(GoParser.ASSIGN, 0); }
+		public IdentifierListContext identifierList() {
+			return getRuleContext(IdentifierListContext.class,0);
+		}
+		public TerminalNode DECLARE_ASSIGN() { return getToken(GoParser.DECLARE_ASSIGN, 0); }
+		public RecvStmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_recvStmt; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitRecvStmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final RecvStmtContext recvStmt() throws RecognitionException {
+		RecvStmtContext _localctx = new RecvStmtContext(_ctx, getState());
+		enterRule(_localctx, 96, RULE_recvStmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(563);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,52,_ctx) ) {
+			case 1:
+				{
+				setState(557);
+				expressionList();
+				setState(558);
+				match(ASSIGN);
+				}
+				break;
+			case 2:
+				{
+				setState(560);
+				identifierList();
+				setState(561);
+				match(DECLARE_ASSIGN);
+				}
+				break;
+			}
+			setState(565);
+			((RecvStmtContext)_localctx).recvExpr = expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ForStmtContext extends ParserRuleContext {
+		public TerminalNode FOR() { return getToken(GoParser.FOR, 0); }
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ForClauseContext forClause() {
+			return getRuleContext(ForClauseContext.class,0);
+		}
+		public RangeClauseContext rangeClause() {
+			return getRuleContext(RangeClauseContext.class,0);
+		}
+		public ForStmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_forStmt; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitForStmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ForStmtContext forStmt() throws RecognitionException {
+		ForStmtContext _localctx = new ForStmtContext(_ctx, getState());
+		enterRule(_localctx, 98, RULE_forStmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(567);
+			match(FOR);
+			setState(571);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,53,_ctx) ) {
+			case 1:
+				{
+				setState(568);
+				expression(0);
+				}
+				break;
+			case 2:
+				{
+				setState(569);
+				forClause();
+				}
+				break;
+			case 3:
+				{
+				setState(570);
+				rangeClause();
+				}
+				break;
+			}
+			setState(573);
+			block();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ForClauseContext extends ParserRuleContext {
+		public SimpleStmtContext initStmt;
+		public SimpleStmtContext postStmt;
+		public List<TerminalNode> SEMI() { return getTokens(GoParser.SEMI); }
+		public TerminalNode SEMI(int i) {
+			return getToken(GoParser.SEMI, i);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public List<SimpleStmtContext> simpleStmt() {
+			return getRuleContexts(SimpleStmtContext.class);
+		}
+		public SimpleStmtContext simpleStmt(int i) {
+			return getRuleContext(SimpleStmtContext.class,i);
+		}
+		public ForClauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_forClause; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitForClause(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ForClauseContext forClause() throws RecognitionException {
+		ForClauseContext _localctx = new ForClauseContext(_ctx, getState());
+		enterRule(_localctx, 100, RULE_forClause);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(576);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,54,_ctx) ) {
+			case 1:
+				{
+				setState(575);
+				((ForClauseContext)_localctx).initStmt = simpleStmt();
+				}
+				break;
+			}
+			setState(578);
+			match(SEMI);
+			setState(580);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << FUNC) | (1L << INTERFACE) | (1L << MAP) | (1L << STRUCT) | (1L << CHAN) | (1L << FALSE) | (1L << TRUE) | (1L << NIL_LIT) | (1L << IDENTIFIER) | (1L << L_PAREN) | (1L << L_BRACKET) | (1L << EXCLAMATION) | (1L << PLUS) | (1L << MINUS) | (1L << CARET) | (1L << STAR))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (AMPERSAND - 64)) | (1L << (RECEIVE - 64)) | (1L << (DECIMAL_LIT - 64)) | (1L << (BINARY_LIT - 64)) | (1L << (OCTAL_LIT - 64)) | (1L << (HEX_LIT - 64)) | (1L << (FLOAT_LIT - 64)) | (1L << (IMAGINARY_LIT - 64)) | (1L << (RUNE_LIT - 64)) | (1L << (RAW_STRING_LIT - 64)) | (1L << (INTERPRETED_STRING_LIT - 64)))) != 0)) {
+				{
+				setState(579);
+				expression(0);
+				}
+			}
+
+			setState(582);
+			match(SEMI);
+			setState(584);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << FUNC) | (1L << INTERFACE) | (1L << MAP) | (1L << STRUCT) | (1L << CHAN) | (1L << FALSE) | (1L << TRUE) | (1L << NIL_LIT) | (1L << IDENTIFIER) | (1L << L_PAREN) | (1L << L_BRACKET) | (1L << SEMI) | (1L << EXCLAMATION) | (1L << PLUS) | (1L << MINUS) | (1L << CARET) | (1L << STAR))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (AMPERSAND - 64)) | (1L << (RECEIVE - 64)) | (1L << (DECIMAL_LIT - 64)) | (1L << (BINARY_LIT - 64)) | (1L << (OCTAL_LIT - 64)) | (1L << (HEX_LIT - 64)) | (1L << (FLOAT_LIT - 64)) | (1L << (IMAGINARY_LIT - 64)) | (1L << (RUNE_LIT - 64)) | (1L << (RAW_STRING_LIT - 64)) | (1L << (INTERPRETED_STRING_LIT - 64)))) != 0)) {
+				{
+				setState(583);
+				((ForClauseContext)_localctx).postStmt = simpleStmt();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RangeClauseContext extends ParserRuleContext {
+		public TerminalNode RANGE() { return getToken(GoParser.RANGE, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ExpressionListContext expressionList() {
+			return getRuleContext(ExpressionListContext.class,0);
+		}
+		public TerminalNode ASSIGN() { return getToken(GoParser.ASSIGN, 0); }
+		public IdentifierListContext identifierList() {
+			return getRuleContext(IdentifierListContext.class,0);
+		}
+		public TerminalNode DECLARE_ASSIGN() { return getToken(GoParser.DECLARE_ASSIGN, 0); }
+		public RangeClauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_rangeClause; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitRangeClause(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final RangeClauseContext rangeClause() throws RecognitionException {
+		RangeClauseContext _localctx = new RangeClauseContext(_ctx, getState());
+		enterRule(_localctx, 102, RULE_rangeClause);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(592);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,57,_ctx) ) {
+			case 1:
+				{
+				setState(586);
+				expressionList();
+				setState(587);
+				match(ASSIGN);
+				}
+				break;
+			case 2:
+				{
+				setState(589);
+				identifierList();
+				setState(590);
+				match(DECLARE_ASSIGN);
+				}
+				break;
+			}
+			setState(594);
+			match(RANGE);
+			setState(595);
+			expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class GoStmtContext extends ParserRuleContext {
+		public TerminalNode GO() { return getToken(GoParser.GO, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public GoStmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_goStmt; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitGoStmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final GoStmtContext goStmt() throws RecognitionException {
+		GoStmtContext _localctx = new GoStmtContext(_ctx, getState());
+		enterRule(_localctx, 104, RULE_goStmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(597);
+			match(GO);
+			setState(598);
+			expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Type_Context extends ParserRuleContext {
+		public TypeNameContext typeName() {
+			return getRuleContext(TypeNameContext.class,0);
+		}
+		public TypeLitContext typeLit() {
+			return getRuleContext(TypeLitContext.class,0);
+		}
+		public TerminalNode L_PAREN() { return getToken(GoParser.L_PAREN, 0); }
+		public Type_Context type_() {
+			return getRuleContext(Type_Context.class,0);
+		}
+		public TerminalNode R_PAREN() { return getToken(GoParser.R_PAREN, 0); }
+		public Type_Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_type_; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitType_(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Type_Context type_() throws RecognitionException {
+		Type_Context _localctx = new Type_Context(_ctx, getState());
+		enterRule(_localctx, 106, RULE_type_);
+		try {
+			setState(606);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case IDENTIFIER:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(600);
+				typeName();
+				}
+				break;
+			case FUNC:
+			case INTERFACE:
+			case MAP:
+			case STRUCT:
+			case CHAN:
+			case L_BRACKET:
+			case STAR:
+			case RECEIVE:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(601);
+				typeLit();
+				}
+				break;
+			case L_PAREN:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(602);
+				match(L_PAREN);
+				setState(603);
+				type_();
+				setState(604);
+				match(R_PAREN);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeNameContext extends ParserRuleContext {
+		public QualifiedIdentContext qualifiedIdent() {
+			return getRuleContext(QualifiedIdentContext.class,0);
+		}
+		public TerminalNode IDENTIFIER() { return getToken(GoParser.IDENTIFIER, 0); }
+		public TypeNameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeName; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitTypeName(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeNameContext typeName() throws RecognitionException {
+		TypeNameContext _localctx = new TypeNameContext(_ctx, getState());
+		enterRule(_localctx, 108, RULE_typeName);
+		try {
+			setState(610);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,59,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(608);
+				qualifiedIdent();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(609);
+				match(IDENTIFIER);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeLitContext extends ParserRuleContext {
+		public ArrayTypeContext arrayType() {
+			return getRuleContext(ArrayTypeContext.class,0);
+		}
+		public StructTypeContext structType() {
+			return getRuleContext(StructTypeContext.class,0);
+		}
+		public PointerTypeContext pointerType() {
+			return getRuleContext(PointerTypeContext.class,0);
+		}
+		public FunctionTypeContext functionType() {
+			return getRuleContext(FunctionTypeContext.class,0);
+		}
+		public InterfaceTypeContext interfaceType() {
+			return getRuleContext(InterfaceTypeContext.class,0);
+		}
+		public SliceTypeContext sliceType() {
+			return getRuleContext(SliceTypeContext.class,0);
+		}
+		public MapTypeContext mapType() {
+			return getRuleContext(MapTypeContext.class,0);
+		}
+		public ChannelTypeContext channelType() {
+			return getRuleContext(ChannelTypeContext.class,0);
+		}
+		public TypeLitContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeLit; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitTypeLit(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeLitContext typeLit() throws RecognitionException {
+		TypeLitContext _localctx = new TypeLitContext(_ctx, getState());
+		enterRule(_localctx, 110, RULE_typeLit);
+		try {
+			setState(620);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,60,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(612);
+				arrayType();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(613);
+				structType();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(614);
+				pointerType();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(615);
+				functionType();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(616);
+				interfaceType();
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(617);
+				sliceType();
+				}
+				break;
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(618);
+				mapType();
+				}
+				break;
+			case 8:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(619);
+				channelType();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ArrayTypeContext extends ParserRuleContext {
+		public TerminalNode L_BRACKET() { return getToken(GoParser.L_BRACKET, 0); }
+		public ArrayLengthContext arrayLength() {
+			return getRuleContext(ArrayLengthContext.class,0);
+		}
+		public TerminalNode R_BRACKET() { return getToken(GoParser.R_BRACKET, 0); }
+		public ElementTypeContext elementType() {
+			return getRuleContext(ElementTypeContext.class,0);
+		}
+		public ArrayTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_arrayType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitArrayType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ArrayTypeContext arrayType() throws RecognitionException {
+		ArrayTypeContext _localctx = new ArrayTypeContext(_ctx, getState());
+		enterRule(_localctx, 112, RULE_arrayType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(622);
+			match(L_BRACKET);
+			setState(623);
+			arrayLength();
+			setState(624);
+			match(R_BRACKET);
+			setState(625);
+			elementType();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ArrayLengthContext extends ParserRuleContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ArrayLengthContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_arrayLength; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitArrayLength(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ArrayLengthContext arrayLength() throws RecognitionException {
+		ArrayLengthContext _localctx = new ArrayLengthContext(_ctx, getState());
+		enterRule(_localctx, 114, RULE_arrayLength);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(627);
+			expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ElementTypeContext extends ParserRuleContext {
+		public Type_Context type_() {
+			return getRuleContext(Type_Context.class,0);
+		}
+		public ElementTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_elementType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitElementType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ElementTypeContext elementType() throws RecognitionException {
+		ElementTypeContext _localctx = new ElementTypeContext(_ctx, getState());
+		enterRule(_localctx, 116, RULE_elementType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(629);
+			type_();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PointerTypeContext extends ParserRuleContext {
+		public TerminalNode STAR() { return getToken(GoParser.STAR, 0); }
+		public Type_Context type_() {
+			return getRuleContext(Type_Context.class,0);
+		}
+		public PointerTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_pointerType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitPointerType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final PointerTypeContext pointerType() throws RecognitionException {
+		PointerTypeContext _localctx = new PointerTypeContext(_ctx, getState());
+		enterRule(_localctx, 118, RULE_pointerType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(631);
+			match(STAR);
+			setState(632);
+			type_();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InterfaceTypeContext extends ParserRuleContext {
+		public TerminalNode INTERFACE() { return getToken(GoParser.INTERFACE, 0); }
+		public TerminalNode L_CURLY() { return getToken(GoParser.L_CURLY, 0); }
+		public TerminalNode R_CURLY() { return getToken(GoParser.R_CURLY, 0); }
+		public List<EosContext> eos() {
+			return getRuleContexts(EosContext.class);
+		}
+		public EosContext eos(int i) {
+			return getRuleContext(EosContext.class,i);
+		}
+		public List<MethodSpecContext> methodSpec() {
+			return getRuleContexts(MethodSpecContext.class);
+		}
+		public MethodSpecContext methodSpec(int i) {
+			return getRuleContext(MethodSpecContext.class,i);
+		}
+		public List<TypeNameContext> typeName() {
+			return getRuleContexts(TypeNameContext.class);
+		}
+		public TypeNameContext typeName(int i) {
+			return getRuleContext(TypeNameContext.class,i);
+		}
+		public InterfaceTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_interfaceType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitInterfaceType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final InterfaceTypeContext interfaceType() throws RecognitionException {
+		InterfaceTypeContext _localctx = new InterfaceTypeContext(_ctx, getState());
+		enterRule(_localctx, 120, RULE_interfaceType);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(634);
+			match(INTERFACE);
+			setState(635);
+			match(L_CURLY);
+			setState(644);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,62,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(638);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,61,_ctx) ) {
+					case 1:
+						{
+						setState(636);
+						methodSpec();
+						}
+						break;
+					case 2:
+						{
+						setState(637);
+						typeName();
+						}
+						break;
+					}
+					setState(640);
+					eos();
+					}
+					} 
+				}
+				setState(646);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,62,_ctx);
+			}
+			setState(647);
+			match(R_CURLY);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SliceTypeContext extends ParserRuleContext {
+		public TerminalNode L_BRACKET() { return getToken(GoParser.L_BRACKET, 0); }
+		public TerminalNode R_BRACKET() { return getToken(GoParser.R_BRACKET, 0); }
+		public ElementTypeContext elementType() {
+			return getRuleContext(ElementTypeContext.class,0);
+		}
+		public SliceTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_sliceType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitSliceType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SliceTypeContext sliceType() throws RecognitionException {
+		SliceTypeContext _localctx = new SliceTypeContext(_ctx, getState());
+		enterRule(_localctx, 122, RULE_sliceType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(649);
+			match(L_BRACKET);
+			setState(650);
+			match(R_BRACKET);
+			setState(651);
+			elementType();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MapTypeContext extends ParserRuleContext {
+		public TerminalNode MAP() { return getToken(GoParser.MAP, 0); }
+		public TerminalNode L_BRACKET() { return getToken(GoParser.L_BRACKET, 0); }
+		public Type_Context type_() {
+			return getRuleContext(Type_Context.class,0);
+		}
+		public TerminalNode R_BRACKET() { return getToken(GoParser.R_BRACKET, 0); }
+		public ElementTypeContext elementType() {
+			return getRuleContext(ElementTypeContext.class,0);
+		}
+		public MapTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_mapType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitMapType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final MapTypeContext mapType() throws RecognitionException {
+		MapTypeContext _localctx = new MapTypeContext(_ctx, getState());
+		enterRule(_localctx, 124, RULE_mapType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(653);
+			match(MAP);
+			setState(654);
+			match(L_BRACKET);
+			setState(655);
+			type_();
+			setState(656);
+			match(R_BRACKET);
+			setState(657);
+			elementType();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ChannelTypeContext extends ParserRuleContext {
+		public ElementTypeContext elementType() {
+			return getRuleContext(ElementTypeContext.class,0);
+		}
+		public TerminalNode CHAN() { return getToken(GoParser.CHAN, 0); }
+		public TerminalNode RECEIVE() { return getToken(GoParser.RECEIVE, 0); }
+		public ChannelTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_channelType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitChannelType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ChannelTypeContext channelType() throws RecognitionException {
+		ChannelTypeContext _localctx = new ChannelTypeContext(_ctx, getState());
+		enterRule(_localctx, 126, RULE_channelType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(664);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,63,_ctx) ) {
+			case 1:
+				{
+				setState(659);
+				match(CHAN);
+				}
+				break;
+			case 2:
+				{
+				setState(660);
+				match(CHAN);
+				setState(661);
+				match(RECEIVE);
+				}
+				break;
+			case 3:
+				{
+				setState(662);
+				match(RECEIVE);
+				setState(663);
+				match(CHAN);
+				}
+				break;
+			}
+			setState(666);
+			elementType();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MethodSpecContext extends ParserRuleContext {
+		public TerminalNode IDENTIFIER() { return getToken(GoParser.IDENTIFIER, 0); }
+		public ParametersContext parameters() {
+			return getRuleContext(ParametersContext.class,0);
+		}
+		public ResultContext result() {
+			return getRuleContext(ResultContext.class,0);
+		}
+		public MethodSpecContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_methodSpec; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitMethodSpec(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final MethodSpecContext methodSpec() throws RecognitionException {
+		MethodSpecContext _localctx = new MethodSpecContext(_ctx, getState());
+		enterRule(_localctx, 128, RULE_methodSpec);
+		try {
+			setState(675);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,64,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(668);
+				if (!(noTerminatorAfterParams(2))) throw new FailedPredicateException(this, "noTerminatorAfterParams(2)");
+				setState(669);
+				match(IDENTIFIER);
+				setState(670);
+				parameters();
+				setState(671);
+				result();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(673);
+				match(IDENTIFIER);
+				setState(674);
+				parameters();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FunctionTypeContext extends ParserRuleContext {
+		public TerminalNode FUNC() { return getToken(GoParser.FUNC, 0); }
+		public SignatureContext signature() {
+			return getRuleContext(SignatureContext.class,0);
+		}
+		public FunctionTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_functionType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitFunctionType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FunctionTypeContext functionType() throws RecognitionException {
+		FunctionTypeContext _localctx = new FunctionTypeContext(_ctx, getState());
+		enterRule(_localctx, 130, RULE_functionType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(677);
+			match(FUNC);
+			setState(678);
+			signature();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SignatureContext extends ParserRuleContext {
+		public ParametersContext parameters() {
+			return getRuleContext(ParametersContext.class,0);
+		}
+		public ResultContext result() {
+			return getRuleContext(ResultContext.class,0);
+		}
+		public SignatureContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_signature; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitSignature(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SignatureContext signature() throws RecognitionException {
+		SignatureContext _localctx = new SignatureContext(_ctx, getState());
+		enterRule(_localctx, 132, RULE_signature);
+		try {
+			setState(685);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,65,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(680);
+				if (!(noTerminatorAfterParams(1))) throw new FailedPredicateException(this, "noTerminatorAfterParams(1)");
+				setState(681);
+				parameters();
+				setState(682);
+				result();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(684);
+				parameters();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ResultContext extends ParserRuleContext {
+		public ParametersContext parameters() {
+			return getRuleContext(ParametersContext.class,0);
+		}
+		public Type_Context type_() {
+			return getRuleContext(Type_Context.class,0);
+		}
+		public ResultContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_result; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitResult(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ResultContext result() throws RecognitionException {
+		ResultContext _localctx = new ResultContext(_ctx, getState());
+		enterRule(_localctx, 134, RULE_result);
+		try {
+			setState(689);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,66,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(687);
+				parameters();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(688);
+				type_();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ParametersContext extends ParserRuleContext {
+		public TerminalNode L_PAREN() { return getToken(GoParser.L_PAREN, 0); }
+		public TerminalNode R_PAREN() { return getToken(GoParser.R_PAREN, 0); }
+		public List<ParameterDeclContext> parameterDecl() {
+			return getRuleContexts(ParameterDeclContext.class);
+		}
+		public ParameterDeclContext parameterDecl(int i) {
+			return getRuleContext(ParameterDeclContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(GoParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(GoParser.COMMA, i);
+		}
+		public ParametersContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_parameters; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitParameters(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ParametersContext parameters() throws RecognitionException {
+		ParametersContext _localctx = new ParametersContext(_ctx, getState());
+		enterRule(_localctx, 136, RULE_parameters);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(691);
+			match(L_PAREN);
+			setState(703);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (((((_la - 3)) & ~0x3f) == 0 && ((1L << (_la - 3)) & ((1L << (FUNC - 3)) | (1L << (INTERFACE - 3)) | (1L << (MAP - 3)) | (1L << (STRUCT - 3)) | (1L << (CHAN - 3)) | (1L << (IDENTIFIER - 3)) | (1L << (L_PAREN - 3)) | (1L << (L_BRACKET - 3)) | (1L << (ELLIPSIS - 3)) | (1L << (STAR - 3)) | (1L << (RECEIVE - 3)))) != 0)) {
+				{
+				setState(692);
+				parameterDecl();
+				setState(697);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,67,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(693);
+						match(COMMA);
+						setState(694);
+						parameterDecl();
+						}
+						} 
+					}
+					setState(699);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,67,_ctx);
+				}
+				setState(701);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==COMMA) {
+					{
+					setState(700);
+					match(COMMA);
+					}
+				}
+
+				}
+			}
+
+			setState(705);
+			match(R_PAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ParameterDeclContext extends ParserRuleContext {
+		public Type_Context type_() {
+			return getRuleContext(Type_Context.class,0);
+		}
+		public IdentifierListContext identifierList() {
+			return getRuleContext(IdentifierListContext.class,0);
+		}
+		public TerminalNode ELLIPSIS() { return getToken(GoParser.ELLIPSIS, 0); }
+		public ParameterDeclContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_parameterDecl; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitParameterDecl(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ParameterDeclContext parameterDecl() throws RecognitionException {
+		ParameterDeclContext _localctx = new ParameterDeclContext(_ctx, getState());
+		enterRule(_localctx, 138, RULE_parameterDecl);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(708);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,70,_ctx) ) {
+			case 1:
+				{
+				setState(707);
+				identifierList();
+				}
+				break;
+			}
+			setState(711);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==ELLIPSIS) {
+				{
+				setState(710);
+				match(ELLIPSIS);
+				}
+			}
+
+			setState(713);
+			type_();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExpressionContext extends ParserRuleContext {
+		public Token mul_op;
+		public Token add_op;
+		public Token rel_op;
+		public PrimaryExprContext primaryExpr() {
+			return getRuleContext(PrimaryExprContext.class,0);
+		}
+		public UnaryExprContext unaryExpr() {
+			return getRuleContext(UnaryExprContext.class,0);
+		}
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode STAR() { return getToken(GoParser.STAR, 0); }
+		public TerminalNode DIV() { return getToken(GoParser.DIV, 0); }
+		public TerminalNode MOD() { return getToken(GoParser.MOD, 0); }
+		public TerminalNode LSHIFT() { return getToken(GoParser.LSHIFT, 0); }
+		public TerminalNode RSHIFT() { return getToken(GoParser.RSHIFT, 0); }
+		public TerminalNode AMPERSAND() { return getToken(GoParser.AMPERSAND, 0); }
+		public TerminalNode BIT_CLEAR() { return getToken(GoParser.BIT_CLEAR, 0); }
+		public TerminalNode PLUS() { return getToken(GoParser.PLUS, 0); }
+		public TerminalNode MINUS() { return getToken(GoParser.MINUS, 0); }
+		public TerminalNode OR() { return getToken(GoParser.OR, 0); }
+		public TerminalNode CARET() { return getToken(GoParser.CARET, 0); }
+		public TerminalNode EQUALS() { return getToken(GoParser.EQUALS, 0); }
+		public TerminalNode NOT_EQUALS() { return getToken(GoParser.NOT_EQUALS, 0); }
+		public TerminalNode LESS() { return getToken(GoParser.LESS, 0); }
+		public TerminalNode LESS_OR_EQUALS() { return getToken(GoParser.LESS_OR_EQUALS, 0); }
+		public TerminalNode GREATER() { return getToken(GoParser.GREATER, 0); }
+		public TerminalNode GREATER_OR_EQUALS() { return getToken(GoParser.GREATER_OR_EQUALS, 0); }
+		public TerminalNode LOGICAL_AND() { return getToken(GoParser.LOGICAL_AND, 0); }
+		public TerminalNode LOGICAL_OR() { return getToken(GoParser.LOGICAL_OR, 0); }
+		public ExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expression; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExpressionContext expression() throws RecognitionException {
+		return expression(0);
+	}
+
+	private ExpressionContext expression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		ExpressionContext _localctx = new ExpressionContext(_ctx, _parentState);
+		ExpressionContext _prevctx = _localctx;
+		int _startState = 140;
+		enterRecursionRule(_localctx, 140, RULE_expression, _p);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(718);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,72,_ctx) ) {
+			case 1:
+				{
+				setState(716);
+				primaryExpr(0);
+				}
+				break;
+			case 2:
+				{
+				setState(717);
+				unaryExpr();
+				}
+				break;
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(737);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,74,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(735);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,73,_ctx) ) {
+					case 1:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(720);
+						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
+						setState(721);
+						((ExpressionContext)_localctx).mul_op = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !(((((_la - 54)) & ~0x3f) == 0 && ((1L << (_la - 54)) & ((1L << (DIV - 54)) | (1L << (MOD - 54)) | (1L << (LSHIFT - 54)) | (1L << (RSHIFT - 54)) | (1L << (BIT_CLEAR - 54)) | (1L << (STAR - 54)) | (1L << (AMPERSAND - 54)))) != 0)) ) {
+							((ExpressionContext)_localctx).mul_op = (Token)_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(722);
+						expression(6);
+						}
+						break;
+					case 2:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(723);
+						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+						setState(724);
+						((ExpressionContext)_localctx).add_op = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << OR) | (1L << PLUS) | (1L << MINUS) | (1L << CARET))) != 0)) ) {
+							((ExpressionContext)_localctx).add_op = (Token)_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(725);
+						expression(5);
+						}
+						break;
+					case 3:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(726);
+						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+						setState(727);
+						((ExpressionContext)_localctx).rel_op = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << EQUALS) | (1L << NOT_EQUALS) | (1L << LESS) | (1L << LESS_OR_EQUALS) | (1L << GREATER) | (1L << GREATER_OR_EQUALS))) != 0)) ) {
+							((ExpressionContext)_localctx).rel_op = (Token)_errHandler.recoverInline(this);
+						}
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(728);
+						expression(4);
+						}
+						break;
+					case 4:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(729);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(730);
+						match(LOGICAL_AND);
+						setState(731);
+						expression(3);
+						}
+						break;
+					case 5:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(732);
+						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+						setState(733);
+						match(LOGICAL_OR);
+						setState(734);
+						expression(2);
+						}
+						break;
+					}
+					} 
+				}
+				setState(739);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,74,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class PrimaryExprContext extends ParserRuleContext {
+		public OperandContext operand() {
+			return getRuleContext(OperandContext.class,0);
+		}
+		public ConversionContext conversion() {
+			return getRuleContext(ConversionContext.class,0);
+		}
+		public MethodExprContext methodExpr() {
+			return getRuleContext(MethodExprContext.class,0);
+		}
+		public PrimaryExprContext primaryExpr() {
+			return getRuleContext(PrimaryExprContext.class,0);
+		}
+		public IndexContext index() {
+			return getRuleContext(IndexContext.class,0);
+		}
+		public Slice_Context slice_() {
+			return getRuleContext(Slice_Context.class,0);
+		}
+		public TypeAssertionContext typeAssertion() {
+			return getRuleContext(TypeAssertionContext.class,0);
+		}
+		public ArgumentsContext arguments() {
+			return getRuleContext(ArgumentsContext.class,0);
+		}
+		public TerminalNode DOT() { return getToken(GoParser.DOT, 0); }
+		public TerminalNode IDENTIFIER() { return getToken(GoParser.IDENTIFIER, 0); }
+		public PrimaryExprContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_primaryExpr; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitPrimaryExpr(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final PrimaryExprContext primaryExpr() throws RecognitionException {
+		return primaryExpr(0);
+	}
+
+	private PrimaryExprContext primaryExpr(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		PrimaryExprContext _localctx = new PrimaryExprContext(_ctx, _parentState);
+		PrimaryExprContext _prevctx = _localctx;
+		int _startState = 142;
+		enterRecursionRule(_localctx, 142, RULE_primaryExpr, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(744);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,75,_ctx) ) {
+			case 1:
+				{
+				setState(741);
+				operand();
+				}
+				break;
+			case 2:
+				{
+				setState(742);
+				conversion();
+				}
+				break;
+			case 3:
+				{
+				setState(743);
+				methodExpr();
+				}
+				break;
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(757);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,77,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					{
+					_localctx = new PrimaryExprContext(_parentctx, _parentState);
+					pushNewRecursionContext(_localctx, _startState, RULE_primaryExpr);
+					setState(746);
+					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+					setState(753);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,76,_ctx) ) {
+					case 1:
+						{
+						{
+						setState(747);
+						match(DOT);
+						setState(748);
+						match(IDENTIFIER);
+						}
+						}
+						break;
+					case 2:
+						{
+						setState(749);
+						index();
+						}
+						break;
+					case 3:
+						{
+						setState(750);
+						slice_();
+						}
+						break;
+					case 4:
+						{
+						setState(751);
+						typeAssertion();
+						}
+						break;
+					case 5:
+						{
+						setState(752);
+						arguments();
+						}
+						break;
+					}
+					}
+					} 
+				}
+				setState(759);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,77,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class UnaryExprContext extends ParserRuleContext {
+		public Token unary_op;
+		public PrimaryExprContext primaryExpr() {
+			return getRuleContext(PrimaryExprContext.class,0);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode PLUS() { return getToken(GoParser.PLUS, 0); }
+		public TerminalNode MINUS() { return getToken(GoParser.MINUS, 0); }
+		public TerminalNode EXCLAMATION() { return getToken(GoParser.EXCLAMATION, 0); }
+		public TerminalNode CARET() { return getToken(GoParser.CARET, 0); }
+		public TerminalNode STAR() { return getToken(GoParser.STAR, 0); }
+		public TerminalNode AMPERSAND() { return getToken(GoParser.AMPERSAND, 0); }
+		public TerminalNode RECEIVE() { return getToken(GoParser.RECEIVE, 0); }
+		public UnaryExprContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_unaryExpr; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitUnaryExpr(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final UnaryExprContext unaryExpr() throws RecognitionException {
+		UnaryExprContext _localctx = new UnaryExprContext(_ctx, getState());
+		enterRule(_localctx, 144, RULE_unaryExpr);
+		int _la;
+		try {
+			setState(763);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,78,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(760);
+				primaryExpr(0);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(761);
+				((UnaryExprContext)_localctx).unary_op = _input.LT(1);
+				_la = _input.LA(1);
+				if ( !(((((_la - 59)) & ~0x3f) == 0 && ((1L << (_la - 59)) & ((1L << (EXCLAMATION - 59)) | (1L << (PLUS - 59)) | (1L << (MINUS - 59)) | (1L << (CARET - 59)) | (1L << (STAR - 59)) | (1L << (AMPERSAND - 59)) | (1L << (RECEIVE - 59)))) != 0)) ) {
+					((UnaryExprContext)_localctx).unary_op = (Token)_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(762);
+				expression(0);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConversionContext extends ParserRuleContext {
+		public Type_Context type_() {
+			return getRuleContext(Type_Context.class,0);
+		}
+		public TerminalNode L_PAREN() { return getToken(GoParser.L_PAREN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode R_PAREN() { return getToken(GoParser.R_PAREN, 0); }
+		public TerminalNode COMMA() { return getToken(GoParser.COMMA, 0); }
+		public ConversionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_conversion; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitConversion(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConversionContext conversion() throws RecognitionException {
+		ConversionContext _localctx = new ConversionContext(_ctx, getState());
+		enterRule(_localctx, 146, RULE_conversion);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(765);
+			type_();
+			setState(766);
+			match(L_PAREN);
+			setState(767);
+			expression(0);
+			setState(769);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==COMMA) {
+				{
+				setState(768);
+				match(COMMA);
+				}
+			}
+
+			setState(771);
+			match(R_PAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class OperandContext extends ParserRuleContext {
+		public LiteralContext literal() {
+			return getRuleContext(LiteralContext.class,0);
+		}
+		public OperandNameContext operandName() {
+			return getRuleContext(OperandNameContext.class,0);
+		}
+		public TerminalNode L_PAREN() { return getToken(GoParser.L_PAREN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode R_PAREN() { return getToken(GoParser.R_PAREN, 0); }
+		public OperandContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_operand; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitOperand(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final OperandContext operand() throws RecognitionException {
+		OperandContext _localctx = new OperandContext(_ctx, getState());
+		enterRule(_localctx, 148, RULE_operand);
+		try {
+			setState(779);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,80,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(773);
+				literal();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(774);
+				operandName();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(775);
+				match(L_PAREN);
+				setState(776);
+				expression(0);
+				setState(777);
+				match(R_PAREN);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LiteralContext extends ParserRuleContext {
+		public BasicLitContext basicLit() {
+			return getRuleContext(BasicLitContext.class,0);
+		}
+		public CompositeLitContext compositeLit() {
+			return getRuleContext(CompositeLitContext.class,0);
+		}
+		public FunctionLitContext functionLit() {
+			return getRuleContext(FunctionLitContext.class,0);
+		}
+		public LiteralContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_literal; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitLiteral(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final LiteralContext literal() throws RecognitionException {
+		LiteralContext _localctx = new LiteralContext(_ctx, getState());
+		enterRule(_localctx, 150, RULE_literal);
+		try {
+			setState(784);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case FALSE:
+			case TRUE:
+			case NIL_LIT:
+			case DECIMAL_LIT:
+			case BINARY_LIT:
+			case OCTAL_LIT:
+			case HEX_LIT:
+			case FLOAT_LIT:
+			case IMAGINARY_LIT:
+			case RUNE_LIT:
+			case RAW_STRING_LIT:
+			case INTERPRETED_STRING_LIT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(781);
+				basicLit();
+				}
+				break;
+			case MAP:
+			case STRUCT:
+			case IDENTIFIER:
+			case L_BRACKET:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(782);
+				compositeLit();
+				}
+				break;
+			case FUNC:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(783);
+				functionLit();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Bool_LITContext extends ParserRuleContext {
+		public TerminalNode TRUE() { return getToken(GoParser.TRUE, 0); }
+		public TerminalNode FALSE() { return getToken(GoParser.FALSE, 0); }
+		public Bool_LITContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bool_LIT; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitBool_LIT(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Bool_LITContext bool_LIT() throws RecognitionException {
+		Bool_LITContext _localctx = new Bool_LITContext(_ctx, getState());
+		enterRule(_localctx, 152, RULE_bool_LIT);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(786);
+			_la = _input.LA(1);
+			if ( !(_la==FALSE || _la==TRUE) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BasicLitContext extends ParserRuleContext {
+		public BasicLitContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_basicLit; }
+	 
+		public BasicLitContext() { }
+		public void copyFrom(BasicLitContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class FloatTypeContext extends BasicLitContext {
+		public TerminalNode FLOAT_LIT() { return getToken(GoParser.FLOAT_LIT, 0); }
+		public FloatTypeContext(BasicLitContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitFloatType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class IntTypeContext extends BasicLitContext {
+		public IntegerContext integer() {
+			return getRuleContext(IntegerContext.class,0);
+		}
+		public IntTypeContext(BasicLitContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitIntType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class StringTypeContext extends BasicLitContext {
+		public String_Context string_() {
+			return getRuleContext(String_Context.class,0);
+		}
+		public StringTypeContext(BasicLitContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitStringType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class ImaginaryTypeContext extends BasicLitContext {
+		public TerminalNode IMAGINARY_LIT() { return getToken(GoParser.IMAGINARY_LIT, 0); }
+		public ImaginaryTypeContext(BasicLitContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitImaginaryType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class BoolTypeContext extends BasicLitContext {
+		public Bool_LITContext bool_LIT() {
+			return getRuleContext(Bool_LITContext.class,0);
+		}
+		public BoolTypeContext(BasicLitContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitBoolType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class NilTypeContext extends BasicLitContext {
+		public TerminalNode NIL_LIT() { return getToken(GoParser.NIL_LIT, 0); }
+		public NilTypeContext(BasicLitContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitNilType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class RuneTypeContext extends BasicLitContext {
+		public TerminalNode RUNE_LIT() { return getToken(GoParser.RUNE_LIT, 0); }
+		public RuneTypeContext(BasicLitContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitRuneType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BasicLitContext basicLit() throws RecognitionException {
+		BasicLitContext _localctx = new BasicLitContext(_ctx, getState());
+		enterRule(_localctx, 154, RULE_basicLit);
+		try {
+			setState(795);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,82,_ctx) ) {
+			case 1:
+				_localctx = new NilTypeContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(788);
+				match(NIL_LIT);
+				}
+				break;
+			case 2:
+				_localctx = new IntTypeContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(789);
+				integer();
+				}
+				break;
+			case 3:
+				_localctx = new StringTypeContext(_localctx);
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(790);
+				string_();
+				}
+				break;
+			case 4:
+				_localctx = new FloatTypeContext(_localctx);
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(791);
+				match(FLOAT_LIT);
+				}
+				break;
+			case 5:
+				_localctx = new ImaginaryTypeContext(_localctx);
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(792);
+				match(IMAGINARY_LIT);
+				}
+				break;
+			case 6:
+				_localctx = new RuneTypeContext(_localctx);
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(793);
+				match(RUNE_LIT);
+				}
+				break;
+			case 7:
+				_localctx = new BoolTypeContext(_localctx);
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(794);
+				bool_LIT();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IntegerContext extends ParserRuleContext {
+		public TerminalNode DECIMAL_LIT() { return getToken(GoParser.DECIMAL_LIT, 0); }
+		public TerminalNode BINARY_LIT() { return getToken(GoParser.BINARY_LIT, 0); }
+		public TerminalNode OCTAL_LIT() { return getToken(GoParser.OCTAL_LIT, 0); }
+		public TerminalNode HEX_LIT() { return getToken(GoParser.HEX_LIT, 0); }
+		public TerminalNode IMAGINARY_LIT() { return getToken(GoParser.IMAGINARY_LIT, 0); }
+		public TerminalNode RUNE_LIT() { return getToken(GoParser.RUNE_LIT, 0); }
+		public IntegerContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_integer; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitInteger(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final IntegerContext integer() throws RecognitionException {
+		IntegerContext _localctx = new IntegerContext(_ctx, getState());
+		enterRule(_localctx, 156, RULE_integer);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(797);
+			_la = _input.LA(1);
+			if ( !(((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & ((1L << (DECIMAL_LIT - 66)) | (1L << (BINARY_LIT - 66)) | (1L << (OCTAL_LIT - 66)) | (1L << (HEX_LIT - 66)) | (1L << (IMAGINARY_LIT - 66)) | (1L << (RUNE_LIT - 66)))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class OperandNameContext extends ParserRuleContext {
+		public List<TerminalNode> IDENTIFIER() { return getTokens(GoParser.IDENTIFIER); }
+		public TerminalNode IDENTIFIER(int i) {
+			return getToken(GoParser.IDENTIFIER, i);
+		}
+		public TerminalNode DOT() { return getToken(GoParser.DOT, 0); }
+		public OperandNameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_operandName; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitOperandName(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final OperandNameContext operandName() throws RecognitionException {
+		OperandNameContext _localctx = new OperandNameContext(_ctx, getState());
+		enterRule(_localctx, 158, RULE_operandName);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(799);
+			match(IDENTIFIER);
+			setState(802);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,83,_ctx) ) {
+			case 1:
+				{
+				setState(800);
+				match(DOT);
+				setState(801);
+				match(IDENTIFIER);
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class QualifiedIdentContext extends ParserRuleContext {
+		public List<TerminalNode> IDENTIFIER() { return getTokens(GoParser.IDENTIFIER); }
+		public TerminalNode IDENTIFIER(int i) {
+			return getToken(GoParser.IDENTIFIER, i);
+		}
+		public TerminalNode DOT() { return getToken(GoParser.DOT, 0); }
+		public QualifiedIdentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_qualifiedIdent; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitQualifiedIdent(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final QualifiedIdentContext qualifiedIdent() throws RecognitionException {
+		QualifiedIdentContext _localctx = new QualifiedIdentContext(_ctx, getState());
+		enterRule(_localctx, 160, RULE_qualifiedIdent);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(804);
+			match(IDENTIFIER);
+			setState(805);
+			match(DOT);
+			setState(806);
+			match(IDENTIFIER);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CompositeLitContext extends ParserRuleContext {
+		public LiteralTypeContext literalType() {
+			return getRuleContext(LiteralTypeContext.class,0);
+		}
+		public LiteralValueContext literalValue() {
+			return getRuleContext(LiteralValueContext.class,0);
+		}
+		public CompositeLitContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_compositeLit; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitCompositeLit(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final CompositeLitContext compositeLit() throws RecognitionException {
+		CompositeLitContext _localctx = new CompositeLitContext(_ctx, getState());
+		enterRule(_localctx, 162, RULE_compositeLit);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(808);
+			literalType();
+			setState(809);
+			literalValue();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LiteralTypeContext extends ParserRuleContext {
+		public StructTypeContext structType() {
+			return getRuleContext(StructTypeContext.class,0);
+		}
+		public ArrayTypeContext arrayType() {
+			return getRuleContext(ArrayTypeContext.class,0);
+		}
+		public TerminalNode L_BRACKET() { return getToken(GoParser.L_BRACKET, 0); }
+		public TerminalNode ELLIPSIS() { return getToken(GoParser.ELLIPSIS, 0); }
+		public TerminalNode R_BRACKET() { return getToken(GoParser.R_BRACKET, 0); }
+		public ElementTypeContext elementType() {
+			return getRuleContext(ElementTypeContext.class,0);
+		}
+		public SliceTypeContext sliceType() {
+			return getRuleContext(SliceTypeContext.class,0);
+		}
+		public MapTypeContext mapType() {
+			return getRuleContext(MapTypeContext.class,0);
+		}
+		public TypeNameContext typeName() {
+			return getRuleContext(TypeNameContext.class,0);
+		}
+		public LiteralTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_literalType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitLiteralType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final LiteralTypeContext literalType() throws RecognitionException {
+		LiteralTypeContext _localctx = new LiteralTypeContext(_ctx, getState());
+		enterRule(_localctx, 164, RULE_literalType);
+		try {
+			setState(820);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,84,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(811);
+				structType();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(812);
+				arrayType();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(813);
+				match(L_BRACKET);
+				setState(814);
+				match(ELLIPSIS);
+				setState(815);
+				match(R_BRACKET);
+				setState(816);
+				elementType();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(817);
+				sliceType();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(818);
+				mapType();
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(819);
+				typeName();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LiteralValueContext extends ParserRuleContext {
+		public TerminalNode L_CURLY() { return getToken(GoParser.L_CURLY, 0); }
+		public TerminalNode R_CURLY() { return getToken(GoParser.R_CURLY, 0); }
+		public ElementListContext elementList() {
+			return getRuleContext(ElementListContext.class,0);
+		}
+		public TerminalNode COMMA() { return getToken(GoParser.COMMA, 0); }
+		public LiteralValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_literalValue; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitLiteralValue(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final LiteralValueContext literalValue() throws RecognitionException {
+		LiteralValueContext _localctx = new LiteralValueContext(_ctx, getState());
+		enterRule(_localctx, 166, RULE_literalValue);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(822);
+			match(L_CURLY);
+			setState(827);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << FUNC) | (1L << INTERFACE) | (1L << MAP) | (1L << STRUCT) | (1L << CHAN) | (1L << FALSE) | (1L << TRUE) | (1L << NIL_LIT) | (1L << IDENTIFIER) | (1L << L_PAREN) | (1L << L_CURLY) | (1L << L_BRACKET) | (1L << EXCLAMATION) | (1L << PLUS) | (1L << MINUS) | (1L << CARET) | (1L << STAR))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (AMPERSAND - 64)) | (1L << (RECEIVE - 64)) | (1L << (DECIMAL_LIT - 64)) | (1L << (BINARY_LIT - 64)) | (1L << (OCTAL_LIT - 64)) | (1L << (HEX_LIT - 64)) | (1L << (FLOAT_LIT - 64)) | (1L << (IMAGINARY_LIT - 64)) | (1L << (RUNE_LIT - 64)) | (1L << (RAW_STRING_LIT - 64)) | (1L << (INTERPRETED_STRING_LIT - 64)))) != 0)) {
+				{
+				setState(823);
+				elementList();
+				setState(825);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==COMMA) {
+					{
+					setState(824);
+					match(COMMA);
+					}
+				}
+
+				}
+			}
+
+			setState(829);
+			match(R_CURLY);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ElementListContext extends ParserRuleContext {
+		public List<KeyedElementContext> keyedElement() {
+			return getRuleContexts(KeyedElementContext.class);
+		}
+		public KeyedElementContext keyedElement(int i) {
+			return getRuleContext(KeyedElementContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(GoParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(GoParser.COMMA, i);
+		}
+		public ElementListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_elementList; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitElementList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ElementListContext elementList() throws RecognitionException {
+		ElementListContext _localctx = new ElementListContext(_ctx, getState());
+		enterRule(_localctx, 168, RULE_elementList);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(831);
+			keyedElement();
+			setState(836);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,87,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(832);
+					match(COMMA);
+					setState(833);
+					keyedElement();
+					}
+					} 
+				}
+				setState(838);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,87,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class KeyedElementContext extends ParserRuleContext {
+		public ElementContext element() {
+			return getRuleContext(ElementContext.class,0);
+		}
+		public KeyContext key() {
+			return getRuleContext(KeyContext.class,0);
+		}
+		public TerminalNode COLON() { return getToken(GoParser.COLON, 0); }
+		public KeyedElementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_keyedElement; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitKeyedElement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final KeyedElementContext keyedElement() throws RecognitionException {
+		KeyedElementContext _localctx = new KeyedElementContext(_ctx, getState());
+		enterRule(_localctx, 170, RULE_keyedElement);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(842);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,88,_ctx) ) {
+			case 1:
+				{
+				setState(839);
+				key();
+				setState(840);
+				match(COLON);
+				}
+				break;
+			}
+			setState(844);
+			element();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class KeyContext extends ParserRuleContext {
+		public TerminalNode IDENTIFIER() { return getToken(GoParser.IDENTIFIER, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public LiteralValueContext literalValue() {
+			return getRuleContext(LiteralValueContext.class,0);
+		}
+		public KeyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_key; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitKey(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final KeyContext key() throws RecognitionException {
+		KeyContext _localctx = new KeyContext(_ctx, getState());
+		enterRule(_localctx, 172, RULE_key);
+		try {
+			setState(849);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,89,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(846);
+				match(IDENTIFIER);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(847);
+				expression(0);
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(848);
+				literalValue();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ElementContext extends ParserRuleContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public LiteralValueContext literalValue() {
+			return getRuleContext(LiteralValueContext.class,0);
+		}
+		public ElementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_element; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitElement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ElementContext element() throws RecognitionException {
+		ElementContext _localctx = new ElementContext(_ctx, getState());
+		enterRule(_localctx, 174, RULE_element);
+		try {
+			setState(853);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case FUNC:
+			case INTERFACE:
+			case MAP:
+			case STRUCT:
+			case CHAN:
+			case FALSE:
+			case TRUE:
+			case NIL_LIT:
+			case IDENTIFIER:
+			case L_PAREN:
+			case L_BRACKET:
+			case EXCLAMATION:
+			case PLUS:
+			case MINUS:
+			case CARET:
+			case STAR:
+			case AMPERSAND:
+			case RECEIVE:
+			case DECIMAL_LIT:
+			case BINARY_LIT:
+			case OCTAL_LIT:
+			case HEX_LIT:
+			case FLOAT_LIT:
+			case IMAGINARY_LIT:
+			case RUNE_LIT:
+			case RAW_STRING_LIT:
+			case INTERPRETED_STRING_LIT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(851);
+				expression(0);
+				}
+				break;
+			case L_CURLY:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(852);
+				literalValue();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StructTypeContext extends ParserRuleContext {
+		public TerminalNode STRUCT() { return getToken(GoParser.STRUCT, 0); }
+		public TerminalNode L_CURLY() { return getToken(GoParser.L_CURLY, 0); }
+		public TerminalNode R_CURLY() { return getToken(GoParser.R_CURLY, 0); }
+		public List<FieldDeclContext> fieldDecl() {
+			return getRuleContexts(FieldDeclContext.class);
+		}
+		public FieldDeclContext fieldDecl(int i) {
+			return getRuleContext(FieldDeclContext.class,i);
+		}
+		public List<EosContext> eos() {
+			return getRuleContexts(EosContext.class);
+		}
+		public EosContext eos(int i) {
+			return getRuleContext(EosContext.class,i);
+		}
+		public StructTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_structType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitStructType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StructTypeContext structType() throws RecognitionException {
+		StructTypeContext _localctx = new StructTypeContext(_ctx, getState());
+		enterRule(_localctx, 176, RULE_structType);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(855);
+			match(STRUCT);
+			setState(856);
+			match(L_CURLY);
+			setState(862);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,91,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(857);
+					fieldDecl();
+					setState(858);
+					eos();
+					}
+					} 
+				}
+				setState(864);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,91,_ctx);
+			}
+			setState(865);
+			match(R_CURLY);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FieldDeclContext extends ParserRuleContext {
+		public String_Context tag;
+		public IdentifierListContext identifierList() {
+			return getRuleContext(IdentifierListContext.class,0);
+		}
+		public Type_Context type_() {
+			return getRuleContext(Type_Context.class,0);
+		}
+		public EmbeddedFieldContext embeddedField() {
+			return getRuleContext(EmbeddedFieldContext.class,0);
+		}
+		public String_Context string_() {
+			return getRuleContext(String_Context.class,0);
+		}
+		public FieldDeclContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fieldDecl; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitFieldDecl(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FieldDeclContext fieldDecl() throws RecognitionException {
+		FieldDeclContext _localctx = new FieldDeclContext(_ctx, getState());
+		enterRule(_localctx, 178, RULE_fieldDecl);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(872);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,92,_ctx) ) {
+			case 1:
+				{
+				setState(867);
+				if (!(noTerminatorBetween(2))) throw new FailedPredicateException(this, "noTerminatorBetween(2)");
+				setState(868);
+				identifierList();
+				setState(869);
+				type_();
+				}
+				break;
+			case 2:
+				{
+				setState(871);
+				embeddedField();
+				}
+				break;
+			}
+			setState(875);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,93,_ctx) ) {
+			case 1:
+				{
+				setState(874);
+				((FieldDeclContext)_localctx).tag = string_();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class String_Context extends ParserRuleContext {
+		public TerminalNode RAW_STRING_LIT() { return getToken(GoParser.RAW_STRING_LIT, 0); }
+		public TerminalNode INTERPRETED_STRING_LIT() { return getToken(GoParser.INTERPRETED_STRING_LIT, 0); }
+		public String_Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_string_; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitString_(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final String_Context string_() throws RecognitionException {
+		String_Context _localctx = new String_Context(_ctx, getState());
+		enterRule(_localctx, 180, RULE_string_);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(877);
+			_la = _input.LA(1);
+			if ( !(_la==RAW_STRING_LIT || _la==INTERPRETED_STRING_LIT) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EmbeddedFieldContext extends ParserRuleContext {
+		public TypeNameContext typeName() {
+			return getRuleContext(TypeNameContext.class,0);
+		}
+		public TerminalNode STAR() { return getToken(GoParser.STAR, 0); }
+		public EmbeddedFieldContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_embeddedField; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitEmbeddedField(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final EmbeddedFieldContext embeddedField() throws RecognitionException {
+		EmbeddedFieldContext _localctx = new EmbeddedFieldContext(_ctx, getState());
+		enterRule(_localctx, 182, RULE_embeddedField);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(880);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==STAR) {
+				{
+				setState(879);
+				match(STAR);
+				}
+			}
+
+			setState(882);
+			typeName();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FunctionLitContext extends ParserRuleContext {
+		public TerminalNode FUNC() { return getToken(GoParser.FUNC, 0); }
+		public SignatureContext signature() {
+			return getRuleContext(SignatureContext.class,0);
+		}
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public FunctionLitContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_functionLit; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitFunctionLit(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FunctionLitContext functionLit() throws RecognitionException {
+		FunctionLitContext _localctx = new FunctionLitContext(_ctx, getState());
+		enterRule(_localctx, 184, RULE_functionLit);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(884);
+			match(FUNC);
+			setState(885);
+			signature();
+			setState(886);
+			block();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IndexContext extends ParserRuleContext {
+		public TerminalNode L_BRACKET() { return getToken(GoParser.L_BRACKET, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode R_BRACKET() { return getToken(GoParser.R_BRACKET, 0); }
+		public IndexContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_index; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitIndex(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final IndexContext index() throws RecognitionException {
+		IndexContext _localctx = new IndexContext(_ctx, getState());
+		enterRule(_localctx, 186, RULE_index);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(888);
+			match(L_BRACKET);
+			setState(889);
+			expression(0);
+			setState(890);
+			match(R_BRACKET);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Slice_Context extends ParserRuleContext {
+		public TerminalNode L_BRACKET() { return getToken(GoParser.L_BRACKET, 0); }
+		public TerminalNode R_BRACKET() { return getToken(GoParser.R_BRACKET, 0); }
+		public List<TerminalNode> COLON() { return getTokens(GoParser.COLON); }
+		public TerminalNode COLON(int i) {
+			return getToken(GoParser.COLON, i);
+		}
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public Slice_Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_slice_; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitSlice_(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Slice_Context slice_() throws RecognitionException {
+		Slice_Context _localctx = new Slice_Context(_ctx, getState());
+		enterRule(_localctx, 188, RULE_slice_);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(892);
+			match(L_BRACKET);
+			setState(908);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,98,_ctx) ) {
+			case 1:
+				{
+				setState(894);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << FUNC) | (1L << INTERFACE) | (1L << MAP) | (1L << STRUCT) | (1L << CHAN) | (1L << FALSE) | (1L << TRUE) | (1L << NIL_LIT) | (1L << IDENTIFIER) | (1L << L_PAREN) | (1L << L_BRACKET) | (1L << EXCLAMATION) | (1L << PLUS) | (1L << MINUS) | (1L << CARET) | (1L << STAR))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (AMPERSAND - 64)) | (1L << (RECEIVE - 64)) | (1L << (DECIMAL_LIT - 64)) | (1L << (BINARY_LIT - 64)) | (1L << (OCTAL_LIT - 64)) | (1L << (HEX_LIT - 64)) | (1L << (FLOAT_LIT - 64)) | (1L << (IMAGINARY_LIT - 64)) | (1L << (RUNE_LIT - 64)) | (1L << (RAW_STRING_LIT - 64)) | (1L << (INTERPRETED_STRING_LIT - 64)))) != 0)) {
+					{
+					setState(893);
+					expression(0);
+					}
+				}
+
+				setState(896);
+				match(COLON);
+				setState(898);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << FUNC) | (1L << INTERFACE) | (1L << MAP) | (1L << STRUCT) | (1L << CHAN) | (1L << FALSE) | (1L << TRUE) | (1L << NIL_LIT) | (1L << IDENTIFIER) | (1L << L_PAREN) | (1L << L_BRACKET) | (1L << EXCLAMATION) | (1L << PLUS) | (1L << MINUS) | (1L << CARET) | (1L << STAR))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (AMPERSAND - 64)) | (1L << (RECEIVE - 64)) | (1L << (DECIMAL_LIT - 64)) | (1L << (BINARY_LIT - 64)) | (1L << (OCTAL_LIT - 64)) | (1L << (HEX_LIT - 64)) | (1L << (FLOAT_LIT - 64)) | (1L << (IMAGINARY_LIT - 64)) | (1L << (RUNE_LIT - 64)) | (1L << (RAW_STRING_LIT - 64)) | (1L << (INTERPRETED_STRING_LIT - 64)))) != 0)) {
+					{
+					setState(897);
+					expression(0);
+					}
+				}
+
+				}
+				break;
+			case 2:
+				{
+				setState(901);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << FUNC) | (1L << INTERFACE) | (1L << MAP) | (1L << STRUCT) | (1L << CHAN) | (1L << FALSE) | (1L << TRUE) | (1L << NIL_LIT) | (1L << IDENTIFIER) | (1L << L_PAREN) | (1L << L_BRACKET) | (1L << EXCLAMATION) | (1L << PLUS) | (1L << MINUS) | (1L << CARET) | (1L << STAR))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (AMPERSAND - 64)) | (1L << (RECEIVE - 64)) | (1L << (DECIMAL_LIT - 64)) | (1L << (BINARY_LIT - 64)) | (1L << (OCTAL_LIT - 64)) | (1L << (HEX_LIT - 64)) | (1L << (FLOAT_LIT - 64)) | (1L << (IMAGINARY_LIT - 64)) | (1L << (RUNE_LIT - 64)) | (1L << (RAW_STRING_LIT - 64)) | (1L << (INTERPRETED_STRING_LIT - 64)))) != 0)) {
+					{
+					setState(900);
+					expression(0);
+					}
+				}
+
+				setState(903);
+				match(COLON);
+				setState(904);
+				expression(0);
+				setState(905);
+				match(COLON);
+				setState(906);
+				expression(0);
+				}
+				break;
+			}
+			setState(910);
+			match(R_BRACKET);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeAssertionContext extends ParserRuleContext {
+		public TerminalNode DOT() { return getToken(GoParser.DOT, 0); }
+		public TerminalNode L_PAREN() { return getToken(GoParser.L_PAREN, 0); }
+		public Type_Context type_() {
+			return getRuleContext(Type_Context.class,0);
+		}
+		public TerminalNode R_PAREN() { return getToken(GoParser.R_PAREN, 0); }
+		public TypeAssertionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeAssertion; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitTypeAssertion(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeAssertionContext typeAssertion() throws RecognitionException {
+		TypeAssertionContext _localctx = new TypeAssertionContext(_ctx, getState());
+		enterRule(_localctx, 190, RULE_typeAssertion);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(912);
+			match(DOT);
+			setState(913);
+			match(L_PAREN);
+			setState(914);
+			type_();
+			setState(915);
+			match(R_PAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ArgumentsContext extends ParserRuleContext {
+		public TerminalNode L_PAREN() { return getToken(GoParser.L_PAREN, 0); }
+		public TerminalNode R_PAREN() { return getToken(GoParser.R_PAREN, 0); }
+		public ExpressionListContext expressionList() {
+			return getRuleContext(ExpressionListContext.class,0);
+		}
+		public Type_Context type_() {
+			return getRuleContext(Type_Context.class,0);
+		}
+		public TerminalNode ELLIPSIS() { return getToken(GoParser.ELLIPSIS, 0); }
+		public List<TerminalNode> COMMA() { return getTokens(GoParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(GoParser.COMMA, i);
+		}
+		public ArgumentsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_arguments; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitArguments(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ArgumentsContext arguments() throws RecognitionException {
+		ArgumentsContext _localctx = new ArgumentsContext(_ctx, getState());
+		enterRule(_localctx, 192, RULE_arguments);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(917);
+			match(L_PAREN);
+			setState(932);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << FUNC) | (1L << INTERFACE) | (1L << MAP) | (1L << STRUCT) | (1L << CHAN) | (1L << FALSE) | (1L << TRUE) | (1L << NIL_LIT) | (1L << IDENTIFIER) | (1L << L_PAREN) | (1L << L_BRACKET) | (1L << EXCLAMATION) | (1L << PLUS) | (1L << MINUS) | (1L << CARET) | (1L << STAR))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (AMPERSAND - 64)) | (1L << (RECEIVE - 64)) | (1L << (DECIMAL_LIT - 64)) | (1L << (BINARY_LIT - 64)) | (1L << (OCTAL_LIT - 64)) | (1L << (HEX_LIT - 64)) | (1L << (FLOAT_LIT - 64)) | (1L << (IMAGINARY_LIT - 64)) | (1L << (RUNE_LIT - 64)) | (1L << (RAW_STRING_LIT - 64)) | (1L << (INTERPRETED_STRING_LIT - 64)))) != 0)) {
+				{
+				setState(924);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,100,_ctx) ) {
+				case 1:
+					{
+					setState(918);
+					expressionList();
+					}
+					break;
+				case 2:
+					{
+					setState(919);
+					type_();
+					setState(922);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,99,_ctx) ) {
+					case 1:
+						{
+						setState(920);
+						match(COMMA);
+						setState(921);
+						expressionList();
+						}
+						break;
+					}
+					}
+					break;
+				}
+				setState(927);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==ELLIPSIS) {
+					{
+					setState(926);
+					match(ELLIPSIS);
+					}
+				}
+
+				setState(930);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==COMMA) {
+					{
+					setState(929);
+					match(COMMA);
+					}
+				}
+
+				}
+			}
+
+			setState(934);
+			match(R_PAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MethodExprContext extends ParserRuleContext {
+		public ReceiverTypeContext receiverType() {
+			return getRuleContext(ReceiverTypeContext.class,0);
+		}
+		public TerminalNode DOT() { return getToken(GoParser.DOT, 0); }
+		public TerminalNode IDENTIFIER() { return getToken(GoParser.IDENTIFIER, 0); }
+		public MethodExprContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_methodExpr; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitMethodExpr(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final MethodExprContext methodExpr() throws RecognitionException {
+		MethodExprContext _localctx = new MethodExprContext(_ctx, getState());
+		enterRule(_localctx, 194, RULE_methodExpr);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(936);
+			receiverType();
+			setState(937);
+			match(DOT);
+			setState(938);
+			match(IDENTIFIER);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ReceiverTypeContext extends ParserRuleContext {
+		public Type_Context type_() {
+			return getRuleContext(Type_Context.class,0);
+		}
+		public ReceiverTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_receiverType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitReceiverType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ReceiverTypeContext receiverType() throws RecognitionException {
+		ReceiverTypeContext _localctx = new ReceiverTypeContext(_ctx, getState());
+		enterRule(_localctx, 196, RULE_receiverType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(940);
+			type_();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EosContext extends ParserRuleContext {
+		public TerminalNode SEMI() { return getToken(GoParser.SEMI, 0); }
+		public TerminalNode EOF() { return getToken(GoParser.EOF, 0); }
+		public EosContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_eos; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof GoParserVisitor ) return ((GoParserVisitor<? extends T>)visitor).visitEos(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final EosContext eos() throws RecognitionException {
+		EosContext _localctx = new EosContext(_ctx, getState());
+		enterRule(_localctx, 198, RULE_eos);
+		try {
+			setState(946);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,104,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(942);
+				match(SEMI);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(943);
+				match(EOF);
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(944);
+				if (!(lineTerminatorAhead())) throw new FailedPredicateException(this, "lineTerminatorAhead()");
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(945);
+				if (!(checkPreviousTokenText("}"))) throw new FailedPredicateException(this, "checkPreviousTokenText(\"}\")");
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 64:
+			return methodSpec_sempred((MethodSpecContext)_localctx, predIndex);
+		case 66:
+			return signature_sempred((SignatureContext)_localctx, predIndex);
+		case 70:
+			return expression_sempred((ExpressionContext)_localctx, predIndex);
+		case 71:
+			return primaryExpr_sempred((PrimaryExprContext)_localctx, predIndex);
+		case 89:
+			return fieldDecl_sempred((FieldDeclContext)_localctx, predIndex);
+		case 99:
+			return eos_sempred((EosContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean methodSpec_sempred(MethodSpecContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return noTerminatorAfterParams(2);
+		}
+		return true;
+	}
+	private boolean signature_sempred(SignatureContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 1:
+			return noTerminatorAfterParams(1);
+		}
+		return true;
+	}
+	private boolean expression_sempred(ExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 2:
+			return precpred(_ctx, 5);
+		case 3:
+			return precpred(_ctx, 4);
+		case 4:
+			return precpred(_ctx, 3);
+		case 5:
+			return precpred(_ctx, 2);
+		case 6:
+			return precpred(_ctx, 1);
+		}
+		return true;
+	}
+	private boolean primaryExpr_sempred(PrimaryExprContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 7:
+			return precpred(_ctx, 1);
+		}
+		return true;
+	}
+	private boolean fieldDecl_sempred(FieldDeclContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 8:
+			return noTerminatorBetween(2);
+		}
+		return true;
+	}
+	private boolean eos_sempred(EosContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 9:
+			return lineTerminatorAhead();
+		case 10:
+			return checkPreviousTokenText("}");
+		}
+		return true;
+	}
+
+	public static final String _serializedATN =
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3W\u03b7\4\2\t\2\4"+
+		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
+		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
+		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"+
+		"\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t="+
+		"\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\4D\tD\4E\tE\4F\tF\4G\tG\4H\tH\4I"+
+		"\tI\4J\tJ\4K\tK\4L\tL\4M\tM\4N\tN\4O\tO\4P\tP\4Q\tQ\4R\tR\4S\tS\4T\tT"+
+		"\4U\tU\4V\tV\4W\tW\4X\tX\4Y\tY\4Z\tZ\4[\t[\4\\\t\\\4]\t]\4^\t^\4_\t_\4"+
+		"`\t`\4a\ta\4b\tb\4c\tc\4d\td\4e\te\3\2\3\2\3\2\3\2\3\2\7\2\u00d0\n\2\f"+
+		"\2\16\2\u00d3\13\2\3\2\3\2\3\2\5\2\u00d8\n\2\3\2\3\2\7\2\u00dc\n\2\f\2"+
+		"\16\2\u00df\13\2\3\2\3\2\3\3\3\3\3\3\3\4\3\4\3\4\3\4\3\4\3\4\7\4\u00ec"+
+		"\n\4\f\4\16\4\u00ef\13\4\3\4\5\4\u00f2\n\4\3\5\5\5\u00f5\n\5\3\5\3\5\3"+
+		"\6\3\6\3\7\3\7\3\7\5\7\u00fe\n\7\3\b\3\b\3\b\3\b\3\b\3\b\7\b\u0106\n\b"+
+		"\f\b\16\b\u0109\13\b\3\b\5\b\u010c\n\b\3\t\3\t\5\t\u0110\n\t\3\t\3\t\5"+
+		"\t\u0114\n\t\3\n\3\n\3\n\7\n\u0119\n\n\f\n\16\n\u011c\13\n\3\13\3\13\3"+
+		"\13\7\13\u0121\n\13\f\13\16\13\u0124\13\13\3\f\3\f\3\f\3\f\3\f\3\f\7\f"+
+		"\u012c\n\f\f\f\16\f\u012f\13\f\3\f\5\f\u0132\n\f\3\r\3\r\5\r\u0136\n\r"+
+		"\3\r\3\r\3\16\3\16\3\16\3\16\5\16\u013e\n\16\3\17\3\17\3\17\3\17\3\17"+
+		"\5\17\u0145\n\17\3\20\3\20\3\21\3\21\3\21\3\21\3\21\3\21\7\21\u014f\n"+
+		"\21\f\21\16\21\u0152\13\21\3\21\5\21\u0155\n\21\3\22\3\22\3\22\3\22\5"+
+		"\22\u015b\n\22\3\22\3\22\5\22\u015f\n\22\3\23\3\23\5\23\u0163\n\23\3\23"+
+		"\3\23\3\24\3\24\3\24\6\24\u016a\n\24\r\24\16\24\u016b\3\25\3\25\3\25\3"+
+		"\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\5\25\u017d"+
+		"\n\25\3\26\3\26\3\26\3\26\3\26\3\26\5\26\u0185\n\26\3\27\3\27\3\30\3\30"+
+		"\3\30\3\30\3\31\3\31\3\31\3\32\3\32\3\32\3\32\3\33\5\33\u0195\n\33\3\33"+
+		"\3\33\3\34\3\34\3\34\3\34\3\35\3\35\3\36\3\36\3\36\5\36\u01a2\n\36\3\37"+
+		"\3\37\5\37\u01a6\n\37\3 \3 \5 \u01aa\n \3!\3!\5!\u01ae\n!\3\"\3\"\3\""+
+		"\3#\3#\3$\3$\3$\3%\3%\3%\3%\5%\u01bc\n%\3%\3%\3%\3%\3%\5%\u01c3\n%\5%"+
+		"\u01c5\n%\3&\3&\5&\u01c9\n&\3\'\3\'\3\'\3\'\5\'\u01cf\n\'\3\'\5\'\u01d2"+
+		"\n\'\3\'\3\'\7\'\u01d6\n\'\f\'\16\'\u01d9\13\'\3\'\3\'\3(\3(\3(\5(\u01e0"+
+		"\n(\3)\3)\3)\5)\u01e5\n)\3*\3*\3*\3*\5*\u01eb\n*\3*\3*\3*\7*\u01f0\n*"+
+		"\f*\16*\u01f3\13*\3*\3*\3+\3+\5+\u01f9\n+\3+\3+\3+\3+\3+\3+\3,\3,\3,\5"+
+		",\u0204\n,\3-\3-\3-\5-\u0209\n-\3.\3.\5.\u020d\n.\3.\3.\3.\5.\u0212\n"+
+		".\7.\u0214\n.\f.\16.\u0217\13.\3/\3/\3/\7/\u021c\n/\f/\16/\u021f\13/\3"+
+		"/\3/\3\60\3\60\3\60\5\60\u0226\n\60\3\61\3\61\3\61\5\61\u022b\n\61\3\61"+
+		"\5\61\u022e\n\61\3\62\3\62\3\62\3\62\3\62\3\62\5\62\u0236\n\62\3\62\3"+
+		"\62\3\63\3\63\3\63\3\63\5\63\u023e\n\63\3\63\3\63\3\64\5\64\u0243\n\64"+
+		"\3\64\3\64\5\64\u0247\n\64\3\64\3\64\5\64\u024b\n\64\3\65\3\65\3\65\3"+
+		"\65\3\65\3\65\5\65\u0253\n\65\3\65\3\65\3\65\3\66\3\66\3\66\3\67\3\67"+
+		"\3\67\3\67\3\67\3\67\5\67\u0261\n\67\38\38\58\u0265\n8\39\39\39\39\39"+
+		"\39\39\39\59\u026f\n9\3:\3:\3:\3:\3:\3;\3;\3<\3<\3=\3=\3=\3>\3>\3>\3>"+
+		"\5>\u0281\n>\3>\3>\7>\u0285\n>\f>\16>\u0288\13>\3>\3>\3?\3?\3?\3?\3@\3"+
+		"@\3@\3@\3@\3@\3A\3A\3A\3A\3A\5A\u029b\nA\3A\3A\3B\3B\3B\3B\3B\3B\3B\5"+
+		"B\u02a6\nB\3C\3C\3C\3D\3D\3D\3D\3D\5D\u02b0\nD\3E\3E\5E\u02b4\nE\3F\3"+
+		"F\3F\3F\7F\u02ba\nF\fF\16F\u02bd\13F\3F\5F\u02c0\nF\5F\u02c2\nF\3F\3F"+
+		"\3G\5G\u02c7\nG\3G\5G\u02ca\nG\3G\3G\3H\3H\3H\5H\u02d1\nH\3H\3H\3H\3H"+
+		"\3H\3H\3H\3H\3H\3H\3H\3H\3H\3H\3H\7H\u02e2\nH\fH\16H\u02e5\13H\3I\3I\3"+
+		"I\3I\5I\u02eb\nI\3I\3I\3I\3I\3I\3I\3I\5I\u02f4\nI\7I\u02f6\nI\fI\16I\u02f9"+
+		"\13I\3J\3J\3J\5J\u02fe\nJ\3K\3K\3K\3K\5K\u0304\nK\3K\3K\3L\3L\3L\3L\3"+
+		"L\3L\5L\u030e\nL\3M\3M\3M\5M\u0313\nM\3N\3N\3O\3O\3O\3O\3O\3O\3O\5O\u031e"+
+		"\nO\3P\3P\3Q\3Q\3Q\5Q\u0325\nQ\3R\3R\3R\3R\3S\3S\3S\3T\3T\3T\3T\3T\3T"+
+		"\3T\3T\3T\5T\u0337\nT\3U\3U\3U\5U\u033c\nU\5U\u033e\nU\3U\3U\3V\3V\3V"+
+		"\7V\u0345\nV\fV\16V\u0348\13V\3W\3W\3W\5W\u034d\nW\3W\3W\3X\3X\3X\5X\u0354"+
+		"\nX\3Y\3Y\5Y\u0358\nY\3Z\3Z\3Z\3Z\3Z\7Z\u035f\nZ\fZ\16Z\u0362\13Z\3Z\3"+
+		"Z\3[\3[\3[\3[\3[\5[\u036b\n[\3[\5[\u036e\n[\3\\\3\\\3]\5]\u0373\n]\3]"+
+		"\3]\3^\3^\3^\3^\3_\3_\3_\3_\3`\3`\5`\u0381\n`\3`\3`\5`\u0385\n`\3`\5`"+
+		"\u0388\n`\3`\3`\3`\3`\3`\5`\u038f\n`\3`\3`\3a\3a\3a\3a\3a\3b\3b\3b\3b"+
+		"\3b\5b\u039d\nb\5b\u039f\nb\3b\5b\u03a2\nb\3b\5b\u03a5\nb\5b\u03a7\nb"+
+		"\3b\3b\3c\3c\3c\3c\3d\3d\3e\3e\3e\3e\5e\u03b5\ne\3e\2\4\u008e\u0090f\2"+
+		"\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJL"+
+		"NPRTVXZ\\^`bdfhjlnprtvxz|~\u0080\u0082\u0084\u0086\u0088\u008a\u008c\u008e"+
+		"\u0090\u0092\u0094\u0096\u0098\u009a\u009c\u009e\u00a0\u00a2\u00a4\u00a6"+
+		"\u00a8\u00aa\u00ac\u00ae\u00b0\u00b2\u00b4\u00b6\u00b8\u00ba\u00bc\u00be"+
+		"\u00c0\u00c2\u00c4\u00c6\u00c8\2\f\4\2\37\37**\3\2+,\4\2\67<>B\4\28<A"+
+		"B\4\2\67\67>@\3\2\61\66\3\2=C\3\2\34\35\4\2DGKL\3\2RS\2\u03ef\2\u00ca"+
+		"\3\2\2\2\4\u00e2\3\2\2\2\6\u00e5\3\2\2\2\b\u00f4\3\2\2\2\n\u00f8\3\2\2"+
+		"\2\f\u00fd\3\2\2\2\16\u00ff\3\2\2\2\20\u010d\3\2\2\2\22\u0115\3\2\2\2"+
+		"\24\u011d\3\2\2\2\26\u0125\3\2\2\2\30\u0133\3\2\2\2\32\u0139\3\2\2\2\34"+
+		"\u013f\3\2\2\2\36\u0146\3\2\2\2 \u0148\3\2\2\2\"\u0156\3\2\2\2$\u0160"+
+		"\3\2\2\2&\u0169\3\2\2\2(\u017c\3\2\2\2*\u0184\3\2\2\2,\u0186\3\2\2\2."+
+		"\u0188\3\2\2\2\60\u018c\3\2\2\2\62\u018f\3\2\2\2\64\u0194\3\2\2\2\66\u0198"+
+		"\3\2\2\28\u019c\3\2\2\2:\u019e\3\2\2\2<\u01a3\3\2\2\2>\u01a7\3\2\2\2@"+
+		"\u01ab\3\2\2\2B\u01af\3\2\2\2D\u01b2\3\2\2\2F\u01b4\3\2\2\2H\u01b7\3\2"+
+		"\2\2J\u01c8\3\2\2\2L\u01ca\3\2\2\2N\u01dc\3\2\2\2P\u01e4\3\2\2\2R\u01e6"+
+		"\3\2\2\2T\u01f8\3\2\2\2V\u0200\3\2\2\2X\u0208\3\2\2\2Z\u020c\3\2\2\2\\"+
+		"\u0218\3\2\2\2^\u0222\3\2\2\2`\u022d\3\2\2\2b\u0235\3\2\2\2d\u0239\3\2"+
+		"\2\2f\u0242\3\2\2\2h\u0252\3\2\2\2j\u0257\3\2\2\2l\u0260\3\2\2\2n\u0264"+
+		"\3\2\2\2p\u026e\3\2\2\2r\u0270\3\2\2\2t\u0275\3\2\2\2v\u0277\3\2\2\2x"+
+		"\u0279\3\2\2\2z\u027c\3\2\2\2|\u028b\3\2\2\2~\u028f\3\2\2\2\u0080\u029a"+
+		"\3\2\2\2\u0082\u02a5\3\2\2\2\u0084\u02a7\3\2\2\2\u0086\u02af\3\2\2\2\u0088"+
+		"\u02b3\3\2\2\2\u008a\u02b5\3\2\2\2\u008c\u02c6\3\2\2\2\u008e\u02d0\3\2"+
+		"\2\2\u0090\u02ea\3\2\2\2\u0092\u02fd\3\2\2\2\u0094\u02ff\3\2\2\2\u0096"+
+		"\u030d\3\2\2\2\u0098\u0312\3\2\2\2\u009a\u0314\3\2\2\2\u009c\u031d\3\2"+
+		"\2\2\u009e\u031f\3\2\2\2\u00a0\u0321\3\2\2\2\u00a2\u0326\3\2\2\2\u00a4"+
+		"\u032a\3\2\2\2\u00a6\u0336\3\2\2\2\u00a8\u0338\3\2\2\2\u00aa\u0341\3\2"+
+		"\2\2\u00ac\u034c\3\2\2\2\u00ae\u0353\3\2\2\2\u00b0\u0357\3\2\2\2\u00b2"+
+		"\u0359\3\2\2\2\u00b4\u036a\3\2\2\2\u00b6\u036f\3\2\2\2\u00b8\u0372\3\2"+
+		"\2\2\u00ba\u0376\3\2\2\2\u00bc\u037a\3\2\2\2\u00be\u037e\3\2\2\2\u00c0"+
+		"\u0392\3\2\2\2\u00c2\u0397\3\2\2\2\u00c4\u03aa\3\2\2\2\u00c6\u03ae\3\2"+
+		"\2\2\u00c8\u03b4\3\2\2\2\u00ca\u00cb\5\4\3\2\u00cb\u00d1\5\u00c8e\2\u00cc"+
+		"\u00cd\5\6\4\2\u00cd\u00ce\5\u00c8e\2\u00ce\u00d0\3\2\2\2\u00cf\u00cc"+
+		"\3\2\2\2\u00d0\u00d3\3\2\2\2\u00d1\u00cf\3\2\2\2\u00d1\u00d2\3\2\2\2\u00d2"+
+		"\u00dd\3\2\2\2\u00d3\u00d1\3\2\2\2\u00d4\u00d8\5\32\16\2\u00d5\u00d8\5"+
+		"\34\17\2\u00d6\u00d8\5\f\7\2\u00d7\u00d4\3\2\2\2\u00d7\u00d5\3\2\2\2\u00d7"+
+		"\u00d6\3\2\2\2\u00d8\u00d9\3\2\2\2\u00d9\u00da\5\u00c8e\2\u00da\u00dc"+
+		"\3\2\2\2\u00db\u00d7\3\2\2\2\u00dc\u00df\3\2\2\2\u00dd\u00db\3\2\2\2\u00dd"+
+		"\u00de\3\2\2\2\u00de\u00e0\3\2\2\2\u00df\u00dd\3\2\2\2\u00e0\u00e1\7\2"+
+		"\2\3\u00e1\3\3\2\2\2\u00e2\u00e3\7\20\2\2\u00e3\u00e4\7\37\2\2\u00e4\5"+
+		"\3\2\2\2\u00e5\u00f1\7\31\2\2\u00e6\u00f2\5\b\5\2\u00e7\u00ed\7 \2\2\u00e8"+
+		"\u00e9\5\b\5\2\u00e9\u00ea\5\u00c8e\2\u00ea\u00ec\3\2\2\2\u00eb\u00e8"+
+		"\3\2\2\2\u00ec\u00ef\3\2\2\2\u00ed\u00eb\3\2\2\2\u00ed\u00ee\3\2\2\2\u00ee"+
+		"\u00f0\3\2\2\2\u00ef\u00ed\3\2\2\2\u00f0\u00f2\7!\2\2\u00f1\u00e6\3\2"+
+		"\2\2\u00f1\u00e7\3\2\2\2\u00f2\7\3\2\2\2\u00f3\u00f5\t\2\2\2\u00f4\u00f3"+
+		"\3\2\2\2\u00f4\u00f5\3\2\2\2\u00f5\u00f6\3\2\2\2\u00f6\u00f7\5\n\6\2\u00f7"+
+		"\t\3\2\2\2\u00f8\u00f9\5\u00b6\\\2\u00f9\13\3\2\2\2\u00fa\u00fe\5\16\b"+
+		"\2\u00fb\u00fe\5\26\f\2\u00fc\u00fe\5 \21\2\u00fd\u00fa\3\2\2\2\u00fd"+
+		"\u00fb\3\2\2\2\u00fd\u00fc\3\2\2\2\u00fe\r\3\2\2\2\u00ff\u010b\7\22\2"+
+		"\2\u0100\u010c\5\20\t\2\u0101\u0107\7 \2\2\u0102\u0103\5\20\t\2\u0103"+
+		"\u0104\5\u00c8e\2\u0104\u0106\3\2\2\2\u0105\u0102\3\2\2\2\u0106\u0109"+
+		"\3\2\2\2\u0107\u0105\3\2\2\2\u0107\u0108\3\2\2\2\u0108\u010a\3\2\2\2\u0109"+
+		"\u0107\3\2\2\2\u010a\u010c\7!\2\2\u010b\u0100\3\2\2\2\u010b\u0101\3\2"+
+		"\2\2\u010c\17\3\2\2\2\u010d\u0113\5\22\n\2\u010e\u0110\5l\67\2\u010f\u010e"+
+		"\3\2\2\2\u010f\u0110\3\2\2\2\u0110\u0111\3\2\2\2\u0111\u0112\7&\2\2\u0112"+
+		"\u0114\5\24\13\2\u0113\u010f\3\2\2\2\u0113\u0114\3\2\2\2\u0114\21\3\2"+
+		"\2\2\u0115\u011a\7\37\2\2\u0116\u0117\7\'\2\2\u0117\u0119\7\37\2\2\u0118"+
+		"\u0116\3\2\2\2\u0119\u011c\3\2\2\2\u011a\u0118\3\2\2\2\u011a\u011b\3\2"+
+		"\2\2\u011b\23\3\2\2\2\u011c\u011a\3\2\2\2\u011d\u0122\5\u008eH\2\u011e"+
+		"\u011f\7\'\2\2\u011f\u0121\5\u008eH\2\u0120\u011e\3\2\2\2\u0121\u0124"+
+		"\3\2\2\2\u0122\u0120\3\2\2\2\u0122\u0123\3\2\2\2\u0123\25\3\2\2\2\u0124"+
+		"\u0122\3\2\2\2\u0125\u0131\7\26\2\2\u0126\u0132\5\30\r\2\u0127\u012d\7"+
+		" \2\2\u0128\u0129\5\30\r\2\u0129\u012a\5\u00c8e\2\u012a\u012c\3\2\2\2"+
+		"\u012b\u0128\3\2\2\2\u012c\u012f\3\2\2\2\u012d\u012b\3\2\2\2\u012d\u012e"+
+		"\3\2\2\2\u012e\u0130\3\2\2\2\u012f\u012d\3\2\2\2\u0130\u0132\7!\2\2\u0131"+
+		"\u0126\3\2\2\2\u0131\u0127\3\2\2\2\u0132\27\3\2\2\2\u0133\u0135\7\37\2"+
+		"\2\u0134\u0136\7&\2\2\u0135\u0134\3\2\2\2\u0135\u0136\3\2\2\2\u0136\u0137"+
+		"\3\2\2\2\u0137\u0138\5l\67\2\u0138\31\3\2\2\2\u0139\u013a\7\5\2\2\u013a"+
+		"\u013b\7\37\2\2\u013b\u013d\5\u0086D\2\u013c\u013e\5$\23\2\u013d\u013c"+
+		"\3\2\2\2\u013d\u013e\3\2\2\2\u013e\33\3\2\2\2\u013f\u0140\7\5\2\2\u0140"+
+		"\u0141\5\36\20\2\u0141\u0142\7\37\2\2\u0142\u0144\5\u0086D\2\u0143\u0145"+
+		"\5$\23\2\u0144\u0143\3\2\2\2\u0144\u0145\3\2\2\2\u0145\35\3\2\2\2\u0146"+
+		"\u0147\5\u008aF\2\u0147\37\3\2\2\2\u0148\u0154\7\33\2\2\u0149\u0155\5"+
+		"\"\22\2\u014a\u0150\7 \2\2\u014b\u014c\5\"\22\2\u014c\u014d\5\u00c8e\2"+
+		"\u014d\u014f\3\2\2\2\u014e\u014b\3\2\2\2\u014f\u0152\3\2\2\2\u0150\u014e"+
+		"\3\2\2\2\u0150\u0151\3\2\2\2\u0151\u0153\3\2\2\2\u0152\u0150\3\2\2\2\u0153"+
+		"\u0155\7!\2\2\u0154\u0149\3\2\2\2\u0154\u014a\3\2\2\2\u0155!\3\2\2\2\u0156"+
+		"\u015e\5\22\n\2\u0157\u015a\5l\67\2\u0158\u0159\7&\2\2\u0159\u015b\5\24"+
+		"\13\2\u015a\u0158\3\2\2\2\u015a\u015b\3\2\2\2\u015b\u015f\3\2\2\2\u015c"+
+		"\u015d\7&\2\2\u015d\u015f\5\24\13\2\u015e\u0157\3\2\2\2\u015e\u015c\3"+
+		"\2\2\2\u015f#\3\2\2\2\u0160\u0162\7\"\2\2\u0161\u0163\5&\24\2\u0162\u0161"+
+		"\3\2\2\2\u0162\u0163\3\2\2\2\u0163\u0164\3\2\2\2\u0164\u0165\7#\2\2\u0165"+
+		"%\3\2\2\2\u0166\u0167\5(\25\2\u0167\u0168\5\u00c8e\2\u0168\u016a\3\2\2"+
+		"\2\u0169\u0166\3\2\2\2\u016a\u016b\3\2\2\2\u016b\u0169\3\2\2\2\u016b\u016c"+
+		"\3\2\2\2\u016c\'\3\2\2\2\u016d\u017d\5\f\7\2\u016e\u017d\5:\36\2\u016f"+
+		"\u017d\5*\26\2\u0170\u017d\5j\66\2\u0171\u017d\5<\37\2\u0172\u017d\5>"+
+		" \2\u0173\u017d\5@!\2\u0174\u017d\5B\"\2\u0175\u017d\5D#\2\u0176\u017d"+
+		"\5$\23\2\u0177\u017d\5H%\2\u0178\u017d\5J&\2\u0179\u017d\5\\/\2\u017a"+
+		"\u017d\5d\63\2\u017b\u017d\5F$\2\u017c\u016d\3\2\2\2\u017c\u016e\3\2\2"+
+		"\2\u017c\u016f\3\2\2\2\u017c\u0170\3\2\2\2\u017c\u0171\3\2\2\2\u017c\u0172"+
+		"\3\2\2\2\u017c\u0173\3\2\2\2\u017c\u0174\3\2\2\2\u017c\u0175\3\2\2\2\u017c"+
+		"\u0176\3\2\2\2\u017c\u0177\3\2\2\2\u017c\u0178\3\2\2\2\u017c\u0179\3\2"+
+		"\2\2\u017c\u017a\3\2\2\2\u017c\u017b\3\2\2\2\u017d)\3\2\2\2\u017e\u0185"+
+		"\5.\30\2\u017f\u0185\5\60\31\2\u0180\u0185\5\62\32\2\u0181\u0185\5,\27"+
+		"\2\u0182\u0185\5\66\34\2\u0183\u0185\58\35\2\u0184\u017e\3\2\2\2\u0184"+
+		"\u017f\3\2\2\2\u0184\u0180\3\2\2\2\u0184\u0181\3\2\2\2\u0184\u0182\3\2"+
+		"\2\2\u0184\u0183\3\2\2\2\u0185+\3\2\2\2\u0186\u0187\5\u008eH\2\u0187-"+
+		"\3\2\2\2\u0188\u0189\5\u008eH\2\u0189\u018a\7C\2\2\u018a\u018b\5\u008e"+
+		"H\2\u018b/\3\2\2\2\u018c\u018d\5\u008eH\2\u018d\u018e\t\3\2\2\u018e\61"+
+		"\3\2\2\2\u018f\u0190\5\24\13\2\u0190\u0191\5\64\33\2\u0191\u0192\5\24"+
+		"\13\2\u0192\63\3\2\2\2\u0193\u0195\t\4\2\2\u0194\u0193\3\2\2\2\u0194\u0195"+
+		"\3\2\2\2\u0195\u0196\3\2\2\2\u0196\u0197\7&\2\2\u0197\65\3\2\2\2\u0198"+
+		"\u0199\5\22\n\2\u0199\u019a\7-\2\2\u019a\u019b\5\24\13\2\u019b\67\3\2"+
+		"\2\2\u019c\u019d\7(\2\2\u019d9\3\2\2\2\u019e\u019f\7\37\2\2\u019f\u01a1"+
+		"\7)\2\2\u01a0\u01a2\5(\25\2\u01a1\u01a0\3\2\2\2\u01a1\u01a2\3\2\2\2\u01a2"+
+		";\3\2\2\2\u01a3\u01a5\7\32\2\2\u01a4\u01a6\5\24\13\2\u01a5\u01a4\3\2\2"+
+		"\2\u01a5\u01a6\3\2\2\2\u01a6=\3\2\2\2\u01a7\u01a9\7\3\2\2\u01a8\u01aa"+
+		"\7\37\2\2\u01a9\u01a8\3\2\2\2\u01a9\u01aa\3\2\2\2\u01aa?\3\2\2\2\u01ab"+
+		"\u01ad\7\27\2\2\u01ac\u01ae\7\37\2\2\u01ad\u01ac\3\2\2\2\u01ad\u01ae\3"+
+		"\2\2\2\u01aeA\3\2\2\2\u01af\u01b0\7\17\2\2\u01b0\u01b1\7\37\2\2\u01b1"+
+		"C\3\2\2\2\u01b2\u01b3\7\23\2\2\u01b3E\3\2\2\2\u01b4\u01b5\7\t\2\2\u01b5"+
+		"\u01b6\5\u008eH\2\u01b6G\3\2\2\2\u01b7\u01bb\7\24\2\2\u01b8\u01b9\5*\26"+
+		"\2\u01b9\u01ba\7(\2\2\u01ba\u01bc\3\2\2\2\u01bb\u01b8\3\2\2\2\u01bb\u01bc"+
+		"\3\2\2\2\u01bc\u01bd\3\2\2\2\u01bd\u01be\5\u008eH\2\u01be\u01c4\5$\23"+
+		"\2\u01bf\u01c2\7\16\2\2\u01c0\u01c3\5H%\2\u01c1\u01c3\5$\23\2\u01c2\u01c0"+
+		"\3\2\2\2\u01c2\u01c1\3\2\2\2\u01c3\u01c5\3\2\2\2\u01c4\u01bf\3\2\2\2\u01c4"+
+		"\u01c5\3\2\2\2\u01c5I\3\2\2\2\u01c6\u01c9\5L\'\2\u01c7\u01c9\5R*\2\u01c8"+
+		"\u01c6\3\2\2\2\u01c8\u01c7\3\2\2\2\u01c9K\3\2\2\2\u01ca\u01ce\7\21\2\2"+
+		"\u01cb\u01cc\5*\26\2\u01cc\u01cd\7(\2\2\u01cd\u01cf\3\2\2\2\u01ce\u01cb"+
+		"\3\2\2\2\u01ce\u01cf\3\2\2\2\u01cf\u01d1\3\2\2\2\u01d0\u01d2\5\u008eH"+
+		"\2\u01d1\u01d0\3\2\2\2\u01d1\u01d2\3\2\2\2\u01d2\u01d3\3\2\2\2\u01d3\u01d7"+
+		"\7\"\2\2\u01d4\u01d6\5N(\2\u01d5\u01d4\3\2\2\2\u01d6\u01d9\3\2\2\2\u01d7"+
+		"\u01d5\3\2\2\2\u01d7\u01d8\3\2\2\2\u01d8\u01da\3\2\2\2\u01d9\u01d7\3\2"+
+		"\2\2\u01da\u01db\7#\2\2\u01dbM\3\2\2\2\u01dc\u01dd\5P)\2\u01dd\u01df\7"+
+		")\2\2\u01de\u01e0\5&\24\2\u01df\u01de\3\2\2\2\u01df\u01e0\3\2\2\2\u01e0"+
+		"O\3\2\2\2\u01e1\u01e2\7\b\2\2\u01e2\u01e5\5\24\13\2\u01e3\u01e5\7\4\2"+
+		"\2\u01e4\u01e1\3\2\2\2\u01e4\u01e3\3\2\2\2\u01e5Q\3\2\2\2\u01e6\u01ea"+
+		"\7\21\2\2\u01e7\u01e8\5*\26\2\u01e8\u01e9\7(\2\2\u01e9\u01eb\3\2\2\2\u01ea"+
+		"\u01e7\3\2\2\2\u01ea\u01eb\3\2\2\2\u01eb\u01ec\3\2\2\2\u01ec\u01ed\5T"+
+		"+\2\u01ed\u01f1\7\"\2\2\u01ee\u01f0\5V,\2\u01ef\u01ee\3\2\2\2\u01f0\u01f3"+
+		"\3\2\2\2\u01f1\u01ef\3\2\2\2\u01f1\u01f2\3\2\2\2\u01f2\u01f4\3\2\2\2\u01f3"+
+		"\u01f1\3\2\2\2\u01f4\u01f5\7#\2\2\u01f5S\3\2\2\2\u01f6\u01f7\7\37\2\2"+
+		"\u01f7\u01f9\7-\2\2\u01f8\u01f6\3\2\2\2\u01f8\u01f9\3\2\2\2\u01f9\u01fa"+
+		"\3\2\2\2\u01fa\u01fb\5\u0090I\2\u01fb\u01fc\7*\2\2\u01fc\u01fd\7 \2\2"+
+		"\u01fd\u01fe\7\26\2\2\u01fe\u01ff\7!\2\2\u01ffU\3\2\2\2\u0200\u0201\5"+
+		"X-\2\u0201\u0203\7)\2\2\u0202\u0204\5&\24\2\u0203\u0202\3\2\2\2\u0203"+
+		"\u0204\3\2\2\2\u0204W\3\2\2\2\u0205\u0206\7\b\2\2\u0206\u0209\5Z.\2\u0207"+
+		"\u0209\7\4\2\2\u0208\u0205\3\2\2\2\u0208\u0207\3\2\2\2\u0209Y\3\2\2\2"+
+		"\u020a\u020d\5l\67\2\u020b\u020d\7\36\2\2\u020c\u020a\3\2\2\2\u020c\u020b"+
+		"\3\2\2\2\u020d\u0215\3\2\2\2\u020e\u0211\7\'\2\2\u020f\u0212\5l\67\2\u0210"+
+		"\u0212\7\36\2\2\u0211\u020f\3\2\2\2\u0211\u0210\3\2\2\2\u0212\u0214\3"+
+		"\2\2\2\u0213\u020e\3\2\2\2\u0214\u0217\3\2\2\2\u0215\u0213\3\2\2\2\u0215"+
+		"\u0216\3\2\2\2\u0216[\3\2\2\2\u0217\u0215\3\2\2\2\u0218\u0219\7\7\2\2"+
+		"\u0219\u021d\7\"\2\2\u021a\u021c\5^\60\2\u021b\u021a\3\2\2\2\u021c\u021f"+
+		"\3\2\2\2\u021d\u021b\3\2\2\2\u021d\u021e\3\2\2\2\u021e\u0220\3\2\2\2\u021f"+
+		"\u021d\3\2\2\2\u0220\u0221\7#\2\2\u0221]\3\2\2\2\u0222\u0223\5`\61\2\u0223"+
+		"\u0225\7)\2\2\u0224\u0226\5&\24\2\u0225\u0224\3\2\2\2\u0225\u0226\3\2"+
+		"\2\2\u0226_\3\2\2\2\u0227\u022a\7\b\2\2\u0228\u022b\5.\30\2\u0229\u022b"+
+		"\5b\62\2\u022a\u0228\3\2\2\2\u022a\u0229\3\2\2\2\u022b\u022e\3\2\2\2\u022c"+
+		"\u022e\7\4\2\2\u022d\u0227\3\2\2\2\u022d\u022c\3\2\2\2\u022ea\3\2\2\2"+
+		"\u022f\u0230\5\24\13\2\u0230\u0231\7&\2\2\u0231\u0236\3\2\2\2\u0232\u0233"+
+		"\5\22\n\2\u0233\u0234\7-\2\2\u0234\u0236\3\2\2\2\u0235\u022f\3\2\2\2\u0235"+
+		"\u0232\3\2\2\2\u0235\u0236\3\2\2\2\u0236\u0237\3\2\2\2\u0237\u0238\5\u008e"+
+		"H\2\u0238c\3\2\2\2\u0239\u023d\7\30\2\2\u023a\u023e\5\u008eH\2\u023b\u023e"+
+		"\5f\64\2\u023c\u023e\5h\65\2\u023d\u023a\3\2\2\2\u023d\u023b\3\2\2\2\u023d"+
+		"\u023c\3\2\2\2\u023d\u023e\3\2\2\2\u023e\u023f\3\2\2\2\u023f\u0240\5$"+
+		"\23\2\u0240e\3\2\2\2\u0241\u0243\5*\26\2\u0242\u0241\3\2\2\2\u0242\u0243"+
+		"\3\2\2\2\u0243\u0244\3\2\2\2\u0244\u0246\7(\2\2\u0245\u0247\5\u008eH\2"+
+		"\u0246\u0245\3\2\2\2\u0246\u0247\3\2\2\2\u0247\u0248\3\2\2\2\u0248\u024a"+
+		"\7(\2\2\u0249\u024b\5*\26\2\u024a\u0249\3\2\2\2\u024a\u024b\3\2\2\2\u024b"+
+		"g\3\2\2\2\u024c\u024d\5\24\13\2\u024d\u024e\7&\2\2\u024e\u0253\3\2\2\2"+
+		"\u024f\u0250\5\22\n\2\u0250\u0251\7-\2\2\u0251\u0253\3\2\2\2\u0252\u024c"+
+		"\3\2\2\2\u0252\u024f\3\2\2\2\u0252\u0253\3\2\2\2\u0253\u0254\3\2\2\2\u0254"+
+		"\u0255\7\25\2\2\u0255\u0256\5\u008eH\2\u0256i\3\2\2\2\u0257\u0258\7\n"+
+		"\2\2\u0258\u0259\5\u008eH\2\u0259k\3\2\2\2\u025a\u0261\5n8\2\u025b\u0261"+
+		"\5p9\2\u025c\u025d\7 \2\2\u025d\u025e\5l\67\2\u025e\u025f\7!\2\2\u025f"+
+		"\u0261\3\2\2\2\u0260\u025a\3\2\2\2\u0260\u025b\3\2\2\2\u0260\u025c\3\2"+
+		"\2\2\u0261m\3\2\2\2\u0262\u0265\5\u00a2R\2\u0263\u0265\7\37\2\2\u0264"+
+		"\u0262\3\2\2\2\u0264\u0263\3\2\2\2\u0265o\3\2\2\2\u0266\u026f\5r:\2\u0267"+
+		"\u026f\5\u00b2Z\2\u0268\u026f\5x=\2\u0269\u026f\5\u0084C\2\u026a\u026f"+
+		"\5z>\2\u026b\u026f\5|?\2\u026c\u026f\5~@\2\u026d\u026f\5\u0080A\2\u026e"+
+		"\u0266\3\2\2\2\u026e\u0267\3\2\2\2\u026e\u0268\3\2\2\2\u026e\u0269\3\2"+
+		"\2\2\u026e\u026a\3\2\2\2\u026e\u026b\3\2\2\2\u026e\u026c\3\2\2\2\u026e"+
+		"\u026d\3\2\2\2\u026fq\3\2\2\2\u0270\u0271\7$\2\2\u0271\u0272\5t;\2\u0272"+
+		"\u0273\7%\2\2\u0273\u0274\5v<\2\u0274s\3\2\2\2\u0275\u0276\5\u008eH\2"+
+		"\u0276u\3\2\2\2\u0277\u0278\5l\67\2\u0278w\3\2\2\2\u0279\u027a\7A\2\2"+
+		"\u027a\u027b\5l\67\2\u027by\3\2\2\2\u027c\u027d\7\6\2\2\u027d\u0286\7"+
+		"\"\2\2\u027e\u0281\5\u0082B\2\u027f\u0281\5n8\2\u0280\u027e\3\2\2\2\u0280"+
+		"\u027f\3\2\2\2\u0281\u0282\3\2\2\2\u0282\u0283\5\u00c8e\2\u0283\u0285"+
+		"\3\2\2\2\u0284\u0280\3\2\2\2\u0285\u0288\3\2\2\2\u0286\u0284\3\2\2\2\u0286"+
+		"\u0287\3\2\2\2\u0287\u0289\3\2\2\2\u0288\u0286\3\2\2\2\u0289\u028a\7#"+
+		"\2\2\u028a{\3\2\2\2\u028b\u028c\7$\2\2\u028c\u028d\7%\2\2\u028d\u028e"+
+		"\5v<\2\u028e}\3\2\2\2\u028f\u0290\7\13\2\2\u0290\u0291\7$\2\2\u0291\u0292"+
+		"\5l\67\2\u0292\u0293\7%\2\2\u0293\u0294\5v<\2\u0294\177\3\2\2\2\u0295"+
+		"\u029b\7\r\2\2\u0296\u0297\7\r\2\2\u0297\u029b\7C\2\2\u0298\u0299\7C\2"+
+		"\2\u0299\u029b\7\r\2\2\u029a\u0295\3\2\2\2\u029a\u0296\3\2\2\2\u029a\u0298"+
+		"\3\2\2\2\u029b\u029c\3\2\2\2\u029c\u029d\5v<\2\u029d\u0081\3\2\2\2\u029e"+
+		"\u029f\6B\2\2\u029f\u02a0\7\37\2\2\u02a0\u02a1\5\u008aF\2\u02a1\u02a2"+
+		"\5\u0088E\2\u02a2\u02a6\3\2\2\2\u02a3\u02a4\7\37\2\2\u02a4\u02a6\5\u008a"+
+		"F\2\u02a5\u029e\3\2\2\2\u02a5\u02a3\3\2\2\2\u02a6\u0083\3\2\2\2\u02a7"+
+		"\u02a8\7\5\2\2\u02a8\u02a9\5\u0086D\2\u02a9\u0085\3\2\2\2\u02aa\u02ab"+
+		"\6D\3\2\u02ab\u02ac\5\u008aF\2\u02ac\u02ad\5\u0088E\2\u02ad\u02b0\3\2"+
+		"\2\2\u02ae\u02b0\5\u008aF\2\u02af\u02aa\3\2\2\2\u02af\u02ae\3\2\2\2\u02b0"+
+		"\u0087\3\2\2\2\u02b1\u02b4\5\u008aF\2\u02b2\u02b4\5l\67\2\u02b3\u02b1"+
+		"\3\2\2\2\u02b3\u02b2\3\2\2\2\u02b4\u0089\3\2\2\2\u02b5\u02c1\7 \2\2\u02b6"+
+		"\u02bb\5\u008cG\2\u02b7\u02b8\7\'\2\2\u02b8\u02ba\5\u008cG\2\u02b9\u02b7"+
+		"\3\2\2\2\u02ba\u02bd\3\2\2\2\u02bb\u02b9\3\2\2\2\u02bb\u02bc\3\2\2\2\u02bc"+
+		"\u02bf\3\2\2\2\u02bd\u02bb\3\2\2\2\u02be\u02c0\7\'\2\2\u02bf\u02be\3\2"+
+		"\2\2\u02bf\u02c0\3\2\2\2\u02c0\u02c2\3\2\2\2\u02c1\u02b6\3\2\2\2\u02c1"+
+		"\u02c2\3\2\2\2\u02c2\u02c3\3\2\2\2\u02c3\u02c4\7!\2\2\u02c4\u008b\3\2"+
+		"\2\2\u02c5\u02c7\5\22\n\2\u02c6\u02c5\3\2\2\2\u02c6\u02c7\3\2\2\2\u02c7"+
+		"\u02c9\3\2\2\2\u02c8\u02ca\7.\2\2\u02c9\u02c8\3\2\2\2\u02c9\u02ca\3\2"+
+		"\2\2\u02ca\u02cb\3\2\2\2\u02cb\u02cc\5l\67\2\u02cc\u008d\3\2\2\2\u02cd"+
+		"\u02ce\bH\1\2\u02ce\u02d1\5\u0090I\2\u02cf\u02d1\5\u0092J\2\u02d0\u02cd"+
+		"\3\2\2\2\u02d0\u02cf\3\2\2\2\u02d1\u02e3\3\2\2\2\u02d2\u02d3\f\7\2\2\u02d3"+
+		"\u02d4\t\5\2\2\u02d4\u02e2\5\u008eH\b\u02d5\u02d6\f\6\2\2\u02d6\u02d7"+
+		"\t\6\2\2\u02d7\u02e2\5\u008eH\7\u02d8\u02d9\f\5\2\2\u02d9\u02da\t\7\2"+
+		"\2\u02da\u02e2\5\u008eH\6\u02db\u02dc\f\4\2\2\u02dc\u02dd\7\60\2\2\u02dd"+
+		"\u02e2\5\u008eH\5\u02de\u02df\f\3\2\2\u02df\u02e0\7/\2\2\u02e0\u02e2\5"+
+		"\u008eH\4\u02e1\u02d2\3\2\2\2\u02e1\u02d5\3\2\2\2\u02e1\u02d8\3\2\2\2"+
+		"\u02e1\u02db\3\2\2\2\u02e1\u02de\3\2\2\2\u02e2\u02e5\3\2\2\2\u02e3\u02e1"+
+		"\3\2\2\2\u02e3\u02e4\3\2\2\2\u02e4\u008f\3\2\2\2\u02e5\u02e3\3\2\2\2\u02e6"+
+		"\u02e7\bI\1\2\u02e7\u02eb\5\u0096L\2\u02e8\u02eb\5\u0094K\2\u02e9\u02eb"+
+		"\5\u00c4c\2\u02ea\u02e6\3\2\2\2\u02ea\u02e8\3\2\2\2\u02ea\u02e9\3\2\2"+
+		"\2\u02eb\u02f7\3\2\2\2\u02ec\u02f3\f\3\2\2\u02ed\u02ee\7*\2\2\u02ee\u02f4"+
+		"\7\37\2\2\u02ef\u02f4\5\u00bc_\2\u02f0\u02f4\5\u00be`\2\u02f1\u02f4\5"+
+		"\u00c0a\2\u02f2\u02f4\5\u00c2b\2\u02f3\u02ed\3\2\2\2\u02f3\u02ef\3\2\2"+
+		"\2\u02f3\u02f0\3\2\2\2\u02f3\u02f1\3\2\2\2\u02f3\u02f2\3\2\2\2\u02f4\u02f6"+
+		"\3\2\2\2\u02f5\u02ec\3\2\2\2\u02f6\u02f9\3\2\2\2\u02f7\u02f5\3\2\2\2\u02f7"+
+		"\u02f8\3\2\2\2\u02f8\u0091\3\2\2\2\u02f9\u02f7\3\2\2\2\u02fa\u02fe\5\u0090"+
+		"I\2\u02fb\u02fc\t\b\2\2\u02fc\u02fe\5\u008eH\2\u02fd\u02fa\3\2\2\2\u02fd"+
+		"\u02fb\3\2\2\2\u02fe\u0093\3\2\2\2\u02ff\u0300\5l\67\2\u0300\u0301\7 "+
+		"\2\2\u0301\u0303\5\u008eH\2\u0302\u0304\7\'\2\2\u0303\u0302\3\2\2\2\u0303"+
+		"\u0304\3\2\2\2\u0304\u0305\3\2\2\2\u0305\u0306\7!\2\2\u0306\u0095\3\2"+
+		"\2\2\u0307\u030e\5\u0098M\2\u0308\u030e\5\u00a0Q\2\u0309\u030a\7 \2\2"+
+		"\u030a\u030b\5\u008eH\2\u030b\u030c\7!\2\2\u030c\u030e\3\2\2\2\u030d\u0307"+
+		"\3\2\2\2\u030d\u0308\3\2\2\2\u030d\u0309\3\2\2\2\u030e\u0097\3\2\2\2\u030f"+
+		"\u0313\5\u009cO\2\u0310\u0313\5\u00a4S\2\u0311\u0313\5\u00ba^\2\u0312"+
+		"\u030f\3\2\2\2\u0312\u0310\3\2\2\2\u0312\u0311\3\2\2\2\u0313\u0099\3\2"+
+		"\2\2\u0314\u0315\t\t\2\2\u0315\u009b\3\2\2\2\u0316\u031e\7\36\2\2\u0317"+
+		"\u031e\5\u009eP\2\u0318\u031e\5\u00b6\\\2\u0319\u031e\7H\2\2\u031a\u031e"+
+		"\7K\2\2\u031b\u031e\7L\2\2\u031c\u031e\5\u009aN\2\u031d\u0316\3\2\2\2"+
+		"\u031d\u0317\3\2\2\2\u031d\u0318\3\2\2\2\u031d\u0319\3\2\2\2\u031d\u031a"+
+		"\3\2\2\2\u031d\u031b\3\2\2\2\u031d\u031c\3\2\2\2\u031e\u009d\3\2\2\2\u031f"+
+		"\u0320\t\n\2\2\u0320\u009f\3\2\2\2\u0321\u0324\7\37\2\2\u0322\u0323\7"+
+		"*\2\2\u0323\u0325\7\37\2\2\u0324\u0322\3\2\2\2\u0324\u0325\3\2\2\2\u0325"+
+		"\u00a1\3\2\2\2\u0326\u0327\7\37\2\2\u0327\u0328\7*\2\2\u0328\u0329\7\37"+
+		"\2\2\u0329\u00a3\3\2\2\2\u032a\u032b\5\u00a6T\2\u032b\u032c\5\u00a8U\2"+
+		"\u032c\u00a5\3\2\2\2\u032d\u0337\5\u00b2Z\2\u032e\u0337\5r:\2\u032f\u0330"+
+		"\7$\2\2\u0330\u0331\7.\2\2\u0331\u0332\7%\2\2\u0332\u0337\5v<\2\u0333"+
+		"\u0337\5|?\2\u0334\u0337\5~@\2\u0335\u0337\5n8\2\u0336\u032d\3\2\2\2\u0336"+
+		"\u032e\3\2\2\2\u0336\u032f\3\2\2\2\u0336\u0333\3\2\2\2\u0336\u0334\3\2"+
+		"\2\2\u0336\u0335\3\2\2\2\u0337\u00a7\3\2\2\2\u0338\u033d\7\"\2\2\u0339"+
+		"\u033b\5\u00aaV\2\u033a\u033c\7\'\2\2\u033b\u033a\3\2\2\2\u033b\u033c"+
+		"\3\2\2\2\u033c\u033e\3\2\2\2\u033d\u0339\3\2\2\2\u033d\u033e\3\2\2\2\u033e"+
+		"\u033f\3\2\2\2\u033f\u0340\7#\2\2\u0340\u00a9\3\2\2\2\u0341\u0346\5\u00ac"+
+		"W\2\u0342\u0343\7\'\2\2\u0343\u0345\5\u00acW\2\u0344\u0342\3\2\2\2\u0345"+
+		"\u0348\3\2\2\2\u0346\u0344\3\2\2\2\u0346\u0347\3\2\2\2\u0347\u00ab\3\2"+
+		"\2\2\u0348\u0346\3\2\2\2\u0349\u034a\5\u00aeX\2\u034a\u034b\7)\2\2\u034b"+
+		"\u034d\3\2\2\2\u034c\u0349\3\2\2\2\u034c\u034d\3\2\2\2\u034d\u034e\3\2"+
+		"\2\2\u034e\u034f\5\u00b0Y\2\u034f\u00ad\3\2\2\2\u0350\u0354\7\37\2\2\u0351"+
+		"\u0354\5\u008eH\2\u0352\u0354\5\u00a8U\2\u0353\u0350\3\2\2\2\u0353\u0351"+
+		"\3\2\2\2\u0353\u0352\3\2\2\2\u0354\u00af\3\2\2\2\u0355\u0358\5\u008eH"+
+		"\2\u0356\u0358\5\u00a8U\2\u0357\u0355\3\2\2\2\u0357\u0356\3\2\2\2\u0358"+
+		"\u00b1\3\2\2\2\u0359\u035a\7\f\2\2\u035a\u0360\7\"\2\2\u035b\u035c\5\u00b4"+
+		"[\2\u035c\u035d\5\u00c8e\2\u035d\u035f\3\2\2\2\u035e\u035b\3\2\2\2\u035f"+
+		"\u0362\3\2\2\2\u0360\u035e\3\2\2\2\u0360\u0361\3\2\2\2\u0361\u0363\3\2"+
+		"\2\2\u0362\u0360\3\2\2\2\u0363\u0364\7#\2\2\u0364\u00b3\3\2\2\2\u0365"+
+		"\u0366\6[\n\2\u0366\u0367\5\22\n\2\u0367\u0368\5l\67\2\u0368\u036b\3\2"+
+		"\2\2\u0369\u036b\5\u00b8]\2\u036a\u0365\3\2\2\2\u036a\u0369\3\2\2\2\u036b"+
+		"\u036d\3\2\2\2\u036c\u036e\5\u00b6\\\2\u036d\u036c\3\2\2\2\u036d\u036e"+
+		"\3\2\2\2\u036e\u00b5\3\2\2\2\u036f\u0370\t\13\2\2\u0370\u00b7\3\2\2\2"+
+		"\u0371\u0373\7A\2\2\u0372\u0371\3\2\2\2\u0372\u0373\3\2\2\2\u0373\u0374"+
+		"\3\2\2\2\u0374\u0375\5n8\2\u0375\u00b9\3\2\2\2\u0376\u0377\7\5\2\2\u0377"+
+		"\u0378\5\u0086D\2\u0378\u0379\5$\23\2\u0379\u00bb\3\2\2\2\u037a\u037b"+
+		"\7$\2\2\u037b\u037c\5\u008eH\2\u037c\u037d\7%\2\2\u037d\u00bd\3\2\2\2"+
+		"\u037e\u038e\7$\2\2\u037f\u0381\5\u008eH\2\u0380\u037f\3\2\2\2\u0380\u0381"+
+		"\3\2\2\2\u0381\u0382\3\2\2\2\u0382\u0384\7)\2\2\u0383\u0385\5\u008eH\2"+
+		"\u0384\u0383\3\2\2\2\u0384\u0385\3\2\2\2\u0385\u038f\3\2\2\2\u0386\u0388"+
+		"\5\u008eH\2\u0387\u0386\3\2\2\2\u0387\u0388\3\2\2\2\u0388\u0389\3\2\2"+
+		"\2\u0389\u038a\7)\2\2\u038a\u038b\5\u008eH\2\u038b\u038c\7)\2\2\u038c"+
+		"\u038d\5\u008eH\2\u038d\u038f\3\2\2\2\u038e\u0380\3\2\2\2\u038e\u0387"+
+		"\3\2\2\2\u038f\u0390\3\2\2\2\u0390\u0391\7%\2\2\u0391\u00bf\3\2\2\2\u0392"+
+		"\u0393\7*\2\2\u0393\u0394\7 \2\2\u0394\u0395\5l\67\2\u0395\u0396\7!\2"+
+		"\2\u0396\u00c1\3\2\2\2\u0397\u03a6\7 \2\2\u0398\u039f\5\24\13\2\u0399"+
+		"\u039c\5l\67\2\u039a\u039b\7\'\2\2\u039b\u039d\5\24\13\2\u039c\u039a\3"+
+		"\2\2\2\u039c\u039d\3\2\2\2\u039d\u039f\3\2\2\2\u039e\u0398\3\2\2\2\u039e"+
+		"\u0399\3\2\2\2\u039f\u03a1\3\2\2\2\u03a0\u03a2\7.\2\2\u03a1\u03a0\3\2"+
+		"\2\2\u03a1\u03a2\3\2\2\2\u03a2\u03a4\3\2\2\2\u03a3\u03a5\7\'\2\2\u03a4"+
+		"\u03a3\3\2\2\2\u03a4\u03a5\3\2\2\2\u03a5\u03a7\3\2\2\2\u03a6\u039e\3\2"+
+		"\2\2\u03a6\u03a7\3\2\2\2\u03a7\u03a8\3\2\2\2\u03a8\u03a9\7!\2\2\u03a9"+
+		"\u00c3\3\2\2\2\u03aa\u03ab\5\u00c6d\2\u03ab\u03ac\7*\2\2\u03ac\u03ad\7"+
+		"\37\2\2\u03ad\u00c5\3\2\2\2\u03ae\u03af\5l\67\2\u03af\u00c7\3\2\2\2\u03b0"+
+		"\u03b5\7(\2\2\u03b1\u03b5\7\2\2\3\u03b2\u03b5\6e\13\2\u03b3\u03b5\6e\f"+
+		"\2\u03b4\u03b0\3\2\2\2\u03b4\u03b1\3\2\2\2\u03b4\u03b2\3\2\2\2\u03b4\u03b3"+
+		"\3\2\2\2\u03b5\u00c9\3\2\2\2k\u00d1\u00d7\u00dd\u00ed\u00f1\u00f4\u00fd"+
+		"\u0107\u010b\u010f\u0113\u011a\u0122\u012d\u0131\u0135\u013d\u0144\u0150"+
+		"\u0154\u015a\u015e\u0162\u016b\u017c\u0184\u0194\u01a1\u01a5\u01a9\u01ad"+
+		"\u01bb\u01c2\u01c4\u01c8\u01ce\u01d1\u01d7\u01df\u01e4\u01ea\u01f1\u01f8"+
+		"\u0203\u0208\u020c\u0211\u0215\u021d\u0225\u022a\u022d\u0235\u023d\u0242"+
+		"\u0246\u024a\u0252\u0260\u0264\u026e\u0280\u0286\u029a\u02a5\u02af\u02b3"+
+		"\u02bb\u02bf\u02c1\u02c6\u02c9\u02d0\u02e1\u02e3\u02ea\u02f3\u02f7\u02fd"+
+		"\u0303\u030d\u0312\u031d\u0324\u0336\u033b\u033d\u0346\u034c\u0353\u0357"+
+		"\u0360\u036a\u036d\u0372\u0380\u0384\u0387\u038e\u039c\u039e\u03a1\u03a4"+
+		"\u03a6\u03b4";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -3,6 +3,4 @@
 make clean
 make
 make run
-make compile
-cat out.j
 java GoProgram
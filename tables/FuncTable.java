@@ -1,97 +1,148 @@
 package tables;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Formatter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import typing.Type;
 
 public final class FuncTable {
 
-	// No mundo real isto certamente deveria ser um hash...
-	// ImplementaÃ§Ã£o da classe nÃ£o Ã© exatamente Javanesca porque
-	// tentei deixar o mais parecido possÃ­vel com a original em C.
-	private List<Entry> table = new ArrayList<Entry>(); 
-	
+	// Implementação da classe não é exatamente Javanesca porque
+	// tentei deixar o mais parecido possível com a original em C.
+	// Os índices das funções são contínuos: primeiro as embutidas de
+	// BUILTINS, depois as do programa, na ordem em que foram declaradas.
+	// O hash 'index' leva o nome ao índice da primeira função com ele.
+	private List<Entry> table = new ArrayList<Entry>();
+	private Map<String, Integer> index = new HashMap<String, Integer>();
+
+	// Tabela de baixo, com as funções embutidas (null na própria BUILTINS).
+	private final FuncTable base;
+	private final int offset;
+	private boolean frozen;
+
+	// Funções embutidas, montadas uma vez só e divididas por todas as
+	// compilações. Ficam nos índices 0 (Println) e 1 (Scanln), que são
+	// os usados pelo checker e pelo gerador nos nós de WRITE e READ.
+	public static final FuncTable BUILTINS = builtins();
+
+	private static FuncTable builtins() {
+		FuncTable ft = new FuncTable(null);
+		ft.addFunc("Println", 0, Collections.<Type>emptyList(), Collections.<Type>emptyList(), new VarTable());
+		ft.addFunc("Scanln", 0, Collections.<Type>emptyList(), Collections.<Type>emptyList(), new VarTable());
+		ft.frozen = true;
+		return ft;
+	}
+
+	// Tabela de um programa, com as funções embutidas por baixo.
+	public FuncTable() {
+		this(BUILTINS);
+	}
+
+	private FuncTable(FuncTable base) {
+		this.base = base;
+		this.offset = base == null ? 0 : base.getSize();
+	}
+
 	public int lookupFunc(String s) {
-		for (int i = 0; i < table.size(); i++) {
-			if (table.get(i).name.equals(s)) {
-				return i;
-			}
+		if (base != null) {
+			int idx = base.lookupFunc(s);
+			if (idx != -1) return idx;
 		}
-		return -1;
+		Integer i = index.get(s);
+		return i == null ? -1 : offset + i;
 	}
-	
+
 	public int addFunc(String s, int line, List<Type> param, List<Type> retorno, VarTable vt) {
+		if (frozen) {
+			throw new UnsupportedOperationException("built-in function table is immutable");
+		}
 		Entry entry = new Entry(s, line, param, retorno, vt);
 		int idxAdded = table.size();
 		table.add(entry);
-		return idxAdded;
+		index.putIfAbsent(s, idxAdded);
+		return offset + idxAdded;
 	}
-	
-	public String getName(int i) {
-		return table.get(i).name;
+
+	private Entry entry(int i) {
+		return i < offset ? base.entry(i) : table.get(i - offset);
+	}
+
+	// Número de funções, contando as embutidas.
+	public int getSize() {
+		return offset + table.size();
 	}
-	
-	public List<Entry> getTable() {
-		return table;
+
+	public String getName(int i) {
+		return entry(i).name;
 	}
-	
+
 	public int getLine(int i) {
-		return table.get(i).line;
+		return entry(i).line;
 	}
-	
+
 	public List<Type> getTypes(int i) {
-		return table.get(i).param;
+		return entry(i).param;
 	}
 
 	public int getParamSize(int i) {
-		return table.get(i).param.size();
+		return entry(i).param.size();
 	}
-	
+
 	public List<Type> getReturns(int i) {
-		return table.get(i).retorno;
+		return entry(i).retorno;
+	}
+
+	// Tipo da função, com os parâmetros e os retornos. O descritor dele
+	// é o do método gerado.
+	public Type getSignature(int i) {
+		return entry(i).signature;
 	}
 
 	public String getTypesString(int i) {
 		String retorno = "";
-		for(Type t: table.get(i).retorno) {
+		for(Type t: entry(i).retorno) {
 			retorno += t.toString() + " ";
 		}
 		return retorno;
-		
+
 	}
-	
+
 	public VarTable getVarTable(int i) {
-		return table.get(i).vt;
+		return entry(i).vt;
 	}
-	
+
 	public String toString() {
 		StringBuilder sb = new StringBuilder();
 		Formatter f = new Formatter(sb);
 		f.format("Function tables:\n");
-		for (int i = 0; i < table.size(); i++) {
+		for (int i = 0; i < getSize(); i++) {
 			f.format("[ft] Entry %d -- name: %s, line: %d, retorno: %s\n%s\n", i,
 	                 getName(i), getLine(i), getTypesString(i), getVarTable(i).toString());
 		}
 		f.close();
 		return sb.toString();
 	}
-	
+
 	private final class Entry {
 		String name;
 		int line;
 		List<Type> param = new ArrayList<Type>();
 		List<Type> retorno = new ArrayList<Type>();
 		VarTable vt = new VarTable();
-		
+		Type signature;
+
 		Entry(String name, int line, List<Type> param, List<Type> retorno, VarTable vt) {
 			this.name = name;
 			this.line = line;
 			this.param = param;
 			this.retorno = retorno;
 			this.vt = vt;
+			this.signature = Type.func(param, retorno);
 		}
-	
+
 	}
 }
@@ -0,0 +1,118 @@
+package tables;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Escopos léxicos das variáveis durante a análise semântica.
+//
+// As variáveis continuam guardadas nas VarTable (a global e a de cada
+// função), que dão o índice delas. Esta tabela só diz qual declaração
+// um nome enxerga no ponto atual. Os nomes chegam como os números
+// dados pelo lexer (GoToken.getSymbol()), que são densos, então o
+// símbolo visível fica num vetor indexado pelo número; para desfazer
+// há a lista dos símbolos declarados em ordem.
+// Sair de um escopo apaga os nomes declarados nele e devolve os que
+// eles escondiam, então custa só o número de declarações do escopo.
+//
+// Uma tabela pode ser aberta por cima de outra (a de fora), que só é
+// lida: o que não está declarado nesta é procurado na de fora. É assim
+// que o checker verifica os corpos das funções em paralelo, cada um com
+// a sua tabela por cima da que tem as globais.
+public final class ScopeTable {
+
+	private Symbol[] symbols = new Symbol[64]; // Símbolo visível de cada nome.
+	private List<Symbol> log = new ArrayList<Symbol>(); // Declarações, na ordem.
+	private int[] marks; // Tamanho do log no início de cada escopo aberto.
+	private int depth; // 0 é o escopo global.
+	private final ScopeTable outer; // Tabela de fora, ou null.
+	private final int base; // Profundidade da de fora, que esta não pode fechar.
+
+	public ScopeTable() {
+		this(null);
+	}
+
+	// Tabela por cima de 'outer', começando no escopo atual dela. A de
+	// fora não pode mudar enquanto esta estiver em uso.
+	public ScopeTable(ScopeTable outer) {
+		this.outer = outer;
+		this.base = outer == null ? 0 : outer.depth;
+		this.depth = base;
+		this.marks = new int[Math.max(16, base + 16)];
+	}
+
+	// Abre um escopo dentro do atual.
+	public void push() {
+		if (depth == marks.length) {
+			marks = Arrays.copyOf(marks, 2 * depth);
+		}
+		marks[depth++] = log.size();
+	}
+
+	// Fecha o escopo atual, esquecendo as variáveis declaradas nele.
+	public void pop() {
+		if (depth == base) {
+			throw new IllegalStateException("no scope to pop");
+		}
+		int mark = marks[--depth];
+		for (int i = log.size() - 1; i >= mark; i--) {
+			Symbol s = log.remove(i);
+			symbols[s.id] = s.shadowed;
+		}
+	}
+
+	public int getDepth() {
+		return depth;
+	}
+
+	// Declara o nome de número 'id' no escopo atual. A variável é a de
+	// índice 'idx' na tabela 'table'.
+	public Symbol declare(int id, VarTable table, int idx) {
+		if (id >= symbols.length) {
+			symbols = Arrays.copyOf(symbols, Math.max(2 * symbols.length, id + 1));
+		}
+		Symbol s = new Symbol(id, table, idx, depth, lookup(id));
+		symbols[id] = s;
+		log.add(s);
+		return s;
+	}
+
+	// Declaração visível para o nome ou null se não tiver nenhuma.
+	// Números negativos (tokens que não são identificadores) nunca
+	// estão declarados.
+	public Symbol lookup(int id) {
+		if (id < 0) return null;
+		Symbol s = id < symbols.length ? symbols[id] : null;
+		return s == null && outer != null ? outer.lookup(id) : s;
+	}
+
+	// Declaração do nome feita no próprio escopo atual, ou null.
+	public Symbol lookupCurrent(int id) {
+		Symbol s = lookup(id);
+		return s != null && s.depth == depth ? s : null;
+	}
+
+	public static final class Symbol {
+		final int id;
+		final VarTable table;
+		final int idx;
+		final int depth;
+		final Symbol shadowed; // Declaração do mesmo nome que esta esconde.
+
+		Symbol(int id, VarTable table, int idx, int depth, Symbol shadowed) {
+			this.id = id;
+			this.table = table;
+			this.idx = idx;
+			this.depth = depth;
+			this.shadowed = shadowed;
+		}
+
+		public VarTable getTable() {
+			return table;
+		}
+
+		public int getIndex() {
+			return idx;
+		}
+	}
+}
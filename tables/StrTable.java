@@ -2,27 +2,51 @@ package tables;
 
 import java.util.ArrayList;
 import java.util.Formatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
-@SuppressWarnings("serial")
-public final class StrTable extends ArrayList<String>{
-    // No mundo real isto certamente deveria ser um hash...
+// Tabela de strings literais do programa. Cada literal diferente
+// recebe um número (a posição dele na tabela) que não muda mais, então
+// ele pode ser guardado na AST e usado pelo gerador de código.
+public final class StrTable {
 
-    @Override
-    public boolean add(String s) {
-		for (int i = 0; i < this.size(); i++) {
-			if (this.get(i).equals(s)) {
-				return false;
-			}
+	private List<String> table = new ArrayList<String>();
+	private Map<String, Integer> index = new HashMap<String, Integer>();
+
+	// Retorna o número do literal, colocando ele na tabela se ainda não
+	// estiver lá.
+	public int intern(String s) {
+		Integer id = index.get(s);
+		if (id != null) {
+			return id;
 		}
-		return super.add(s);
+		int idAdded = table.size();
+		table.add(s);
+		index.put(s, idAdded);
+		return idAdded;
+	}
+
+	// Retorna o número do literal ou -1 se ele não está na tabela.
+	public int lookup(String s) {
+		Integer id = index.get(s);
+		return id == null ? -1 : id;
+	}
+
+	public String get(int i) {
+		return table.get(i);
+	}
+
+	public int size() {
+		return table.size();
 	}
 
 	public String toString() {
 		StringBuilder sb = new StringBuilder();
 		Formatter f = new Formatter(sb);
 		f.format("Strings table:\n");
-		for (int i = 0; i < this.size(); i++) {
-			f.format("Entry %d -- %s\n", i, this.get(i));
+		for (int i = 0; i < table.size(); i++) {
+			f.format("Entry %d -- %s\n", i, table.get(i));
 		}
 		f.close();
 		return sb.toString();
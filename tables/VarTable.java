@@ -2,32 +2,34 @@ package tables;
 
 import java.util.ArrayList;
 import java.util.Formatter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import typing.Type;
 
 public final class VarTable {
 
-	// No mundo real isto certamente deveria ser um hash...
 	// Implementação da classe não é exatamente Javanesca porque
 	// tentei deixar o mais parecido possível com a original em C.
+	// As entradas ficam numa lista densa, já que o índice de cada uma
+	// é o número da variável local na JVM, e o hash 'index' leva o nome
+	// ao índice da primeira entrada com aquele nome.
 	private List<Entry> table = new ArrayList<Entry>();
+	private Map<String, Integer> index = new HashMap<String, Integer>();
 	private int escopo;
 
 
 	public int lookupVar(String s) {
-		for (int i = 0; i < table.size(); i++) {
-			if (table.get(i).name.equals(s)) {
-				return i;
-			}
-		}
-		return -1;
+		Integer i = index.get(s);
+		return i == null ? -1 : i;
 	}
 	
-	public int addVar(String s, int line, Type type, int tamArray) {
-		Entry entry = new Entry(s, line, type,tamArray);
+	public int addVar(String s, int line, Type type) {
+		Entry entry = new Entry(s, line, type);
 		int idxAdded = table.size();
 		table.add(entry);
+		index.putIfAbsent(s, idxAdded);
 		return idxAdded;
 	}
 	
@@ -36,6 +38,7 @@ public final class VarTable {
 	}
 	
 	public void addEntry(Entry e) {
+		index.putIfAbsent(e.name, table.size());
 		table.add(e);
 		return;
 	}
@@ -64,12 +67,11 @@ public final class VarTable {
 		return table.get(i).type;
 	}
 
+	// Tamanho do array da variável, que vem do tipo dela; 0 se ela não
+	// for um array.
 	public int getTamArray(int i) {
-		return table.get(i).tamArray;
-	}
-
-	public void setTamArrayZero(int i){
-		table.get(i).tamArray = 0;
+		Type type = table.get(i).type;
+		return type == null ? 0 : type.getLength();
 	}
 	
 	public String toString() {
@@ -90,14 +92,11 @@ public final class VarTable {
 		String name;
 		int line;
 		Type type;
-		int tamArray;
 		
-		Entry(String name, int line, Type type, int tamArray) {
+		Entry(String name, int line, Type type) {
 			this.name = name;
 			this.line = line;
 			this.type = type;
-			this.tamArray = tamArray;
-			
 		}
 	}
 }
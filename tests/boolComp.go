@@ -0,0 +1,19 @@
+package main
+
+func main() {
+
+	var x int = 3
+	var c bool = false
+	c = x < 4
+	fmt.Println(c)
+
+	d := x == 3 && x != 4
+	fmt.Println(d)
+
+	var e bool = 2.5 >= 3.0
+	fmt.Println(e)
+
+	if(c == d){
+		fmt.Println("iguais")
+	}
+}
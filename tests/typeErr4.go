@@ -0,0 +1,9 @@
+package main
+
+func main() {
+
+	var x int = 3
+	var b int = x < 4
+
+	fmt.Println(b)
+}
@@ -1,42 +1,317 @@
 package typing;
 
-// Enumeração dos tipos primitivos que podem existir em GoLang.
-// E um tipo composto: array.
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
-public enum Type {
-	NULL_TYPE {
-		public String toString() {
-	    		return "null";
-		}
-	},
-	BOOL_TYPE {
-		public String toString() {
-	    		return "int";
+// Tipos de GoLang: os primitivos, os numéricos com tamanho e os
+// compostos (arrays, slices, maps, structs e assinaturas de função).
+//
+// Os tipos são únicos: cada combinação de componentes existe uma vez
+// só, guardada na tabela 'unicos', e os construtores (array, map, ...)
+// devolvem a instância que já existir. Por isso dois tipos são iguais
+// se e só se são o mesmo objeto, e o == compara tipos de qualquer
+// tamanho em tempo constante. O nome e o descritor da JVM de cada tipo
+// são calculados uma vez, quando ele é criado. A tabela é concorrente,
+// já que o checker verifica as funções em paralelo.
+//
+// A tabela guarda os tipos por referência fraca. No --server, os
+// arrays e assinaturas de cada programa compilado saem dela quando
+// ninguém mais usa o tipo, em vez de ficarem na memória para sempre;
+// um tipo igual criado depois é outra instância, mas a antiga já não
+// está em lugar nenhum para ser comparada. Os primitivos são campos
+// estáticos e nunca saem.
+//
+// INT_TYPE e FLOAT_TYPE são o int e o float que o compilador gera (os
+// de 32 bits da JVM). Os de tamanho dado (INT64, FLOAT64, ...) existem
+// aqui, mas ainda não são usados: o checker lê int8 a int64 como
+// INT_TYPE e float32 e float64 como FLOAT_TYPE (ver
+// SemanticChecker.tipoDeNome), e só vai separá-los quando o CodeGen
+// souber gerar os de 64 bits.
+public final class Type {
+
+	public enum Kind {
+		NULL, BOOL, INT, UINT, FLOAT, STRING, ARRAY, SLICE, MAP, STRUCT, FUNC, NONE
+	}
+
+	private static final ConcurrentHashMap<Chave, Ref> unicos = new ConcurrentHashMap<Chave, Ref>();
+	private static final ReferenceQueue<Type> coletados = new ReferenceQueue<Type>();
+	private static final ConcurrentHashMap<String, Type> nomeados = new ConcurrentHashMap<String, Type>(); // Só os primitivos.
+
+	public static final Type NULL_TYPE = basico(Kind.NULL, 0, "null", "Ljava/lang/Object;");
+	public static final Type BOOL_TYPE = basico(Kind.BOOL, 0, "bool", "Z");
+	public static final Type INT_TYPE = basico(Kind.INT, 32, "int", "I");
+	public static final Type STRING_TYPE = basico(Kind.STRING, 0, "string", "Ljava/lang/String;");
+	public static final Type FLOAT_TYPE = basico(Kind.FLOAT, 32, "float", "F");
+	public static final Type NO_TYPE = basico(Kind.NONE, 0, "no_type", "V");
+
+	// Os sem sinal usam o tipo da JVM de mesma largura, só mudando a
+	// interpretação dos bits (uint16 é o char, que já não tem sinal).
+	public static final Type INT8 = basico(Kind.INT, 8, "int8", "B");
+	public static final Type INT16 = basico(Kind.INT, 16, "int16", "S");
+	public static final Type INT32 = basico(Kind.INT, 32, "int32", "I");
+	public static final Type INT64 = basico(Kind.INT, 64, "int64", "J");
+	public static final Type UINT8 = basico(Kind.UINT, 8, "uint8", "B");
+	public static final Type UINT16 = basico(Kind.UINT, 16, "uint16", "C");
+	public static final Type UINT32 = basico(Kind.UINT, 32, "uint32", "I");
+	public static final Type UINT64 = basico(Kind.UINT, 64, "uint64", "J");
+	public static final Type FLOAT32 = basico(Kind.FLOAT, 32, "float32", "F");
+	public static final Type FLOAT64 = basico(Kind.FLOAT, 64, "float64", "D");
+
+	private final Kind kind;
+	private final int bits;        // Largura dos numéricos, 0 nos outros.
+	private final int length;      // Tamanho dos arrays.
+	private final Type elem;       // Elemento de array e slice, valor de map.
+	private final Type key;        // Chave de map.
+	private final List<String> names; // Campos de struct.
+	private final List<Type> types;   // Campos de struct, parâmetros de função.
+	private final List<Type> results; // Retornos de função.
+	private final String name;
+	private final String descriptor;
+
+	private Type(Kind kind, int bits, int length, Type elem, Type key,
+			List<String> names, List<Type> types, List<Type> results,
+			String name, String descriptor) {
+		this.kind = kind;
+		this.bits = bits;
+		this.length = length;
+		this.elem = elem;
+		this.key = key;
+		this.names = names;
+		this.types = types;
+		this.results = results;
+		this.name = name;
+		this.descriptor = descriptor;
+	}
+
+	private static Type basico(Kind kind, int bits, String name, String descriptor) {
+		Type t = new Type(kind, bits, 0, null, null, null, null, null, name, descriptor);
+		Chave k = new Chave(kind, name, 0, null);
+		nomeados.put(name, t);
+		unicos.put(k, new Ref(t, k));
+		return t;
+	}
+
+	// Tipo primitivo de nome 'name' (int, int64, string, ...) ou null se
+	// não tiver. "byte" é o uint8, e "float" e "no_type" são os nomes de
+	// FLOAT_TYPE e NO_TYPE.
+	public static Type named(String name) {
+		if (name.equals("byte")) return UINT8;
+		return nomeados.get(name);
+	}
+
+	// [length]elem
+	public static Type array(Type elem, int length) {
+		Chave k = new Chave(Kind.ARRAY, null, length, new Type[] { elem });
+		return unico(k, () -> new Type(Kind.ARRAY, 0, length, elem, null, null, null, null,
+				"[" + length + "]" + elem, "[" + elem.descriptor));
+	}
+
+	// []elem. Na JVM é um vetor, como o array.
+	public static Type slice(Type elem) {
+		Chave k = new Chave(Kind.SLICE, null, 0, new Type[] { elem });
+		return unico(k, () -> new Type(Kind.SLICE, 0, 0, elem, null, null, null, null,
+				"[]" + elem, "[" + elem.descriptor));
+	}
+
+	// map[key]elem
+	public static Type map(Type key, Type elem) {
+		Chave k = new Chave(Kind.MAP, null, 0, new Type[] { key, elem });
+		return unico(k, () -> new Type(Kind.MAP, 0, 0, elem, key, null, null, null,
+				"map[" + key + "]" + elem, "Ljava/util/Map;"));
+	}
+
+	// struct { names[0] types[0]; ... }. Na JVM não tem classe própria.
+	public static Type struct(List<String> names, List<Type> types) {
+		if (names.size() != types.size()) {
+			throw new IllegalArgumentException("struct needs one type per field");
 		}
-	},
-	INT_TYPE {
-		public String toString() {
-			return "int";
+		String[] campos = names.toArray(new String[0]);
+		Type[] tipos = types.toArray(new Type[0]);
+		Chave k = new Chave(Kind.STRUCT, String.join(";", campos), 0, tipos);
+		return unico(k, () -> {
+			StringBuilder sb = new StringBuilder("struct{");
+			for (int i = 0; i < campos.length; i++) {
+				if (i > 0) sb.append("; ");
+				sb.append(campos[i]).append(' ').append(tipos[i]);
+			}
+			sb.append('}');
+			return new Type(Kind.STRUCT, 0, 0, null, null, lista(campos), lista(tipos), null,
+					sb.toString(), "Ljava/lang/Object;");
+		});
+	}
+
+	// func(params) results. O descritor é o do método que a JVM chama:
+	// só o primeiro retorno volta (V se não tiver nenhum).
+	public static Type func(List<Type> params, List<Type> results) {
+		Type[] p = params.toArray(new Type[0]);
+		Type[] r = results.toArray(new Type[0]);
+		Type[] todos = Arrays.copyOf(p, p.length + r.length);
+		System.arraycopy(r, 0, todos, p.length, r.length);
+		Chave k = new Chave(Kind.FUNC, null, p.length, todos);
+		return unico(k, () -> {
+			StringBuilder nome = new StringBuilder("func(");
+			StringBuilder desc = new StringBuilder("(");
+			for (int i = 0; i < p.length; i++) {
+				if (i > 0) nome.append(", ");
+				nome.append(p[i]);
+				desc.append(p[i].descriptor);
+			}
+			nome.append(')');
+			desc.append(')').append(r.length == 0 ? "V" : r[0].descriptor);
+			if (r.length == 1) nome.append(' ').append(r[0]);
+			else if (r.length > 1) {
+				nome.append(" (");
+				for (int i = 0; i < r.length; i++) {
+					if (i > 0) nome.append(", ");
+					nome.append(r[i]);
+				}
+				nome.append(')');
+			}
+			return new Type(Kind.FUNC, 0, 0, null, null, null, lista(p), lista(r),
+					nome.toString(), desc.toString());
+		});
+	}
+
+	private static Type unico(Chave k, Supplier<Type> novo) {
+		limpa();
+		Ref r = unicos.get(k);
+		Type t = r == null ? null : r.get();
+		if (t != null) return t;
+		// O criado fica em 'tipo' até o retorno, para não ser coletado
+		// logo depois de entrar na tabela.
+		Type[] tipo = new Type[1];
+		unicos.compute(k, (x, atual) -> {
+			tipo[0] = atual == null ? null : atual.get();
+			if (tipo[0] != null) return atual;
+			tipo[0] = novo.get();
+			return new Ref(tipo[0], x);
+		});
+		return tipo[0];
+	}
+
+	// Tira da tabela as entradas dos tipos já coletados. Uma entrada
+	// que já foi trocada por um tipo novo igual fica.
+	private static void limpa() {
+		for (Reference<? extends Type> r = coletados.poll(); r != null; r = coletados.poll()) {
+			Ref ref = (Ref) r;
+			unicos.remove(ref.chave, ref);
 		}
-	},
-	STRING_TYPE {
-		public String toString() {
-	    		return "string";
+	}
+
+	private static <T> List<T> lista(T[] v) {
+		return Collections.unmodifiableList(new ArrayList<T>(Arrays.asList(v)));
+	}
+
+	public Kind getKind() {
+		return kind;
+	}
+
+	// Largura em bits dos numéricos, 0 nos outros tipos.
+	public int getBits() {
+		return bits;
+	}
+
+	public boolean isArray() {
+		return kind == Kind.ARRAY;
+	}
+
+	// Tamanho do array, 0 se não for um.
+	public int getLength() {
+		return length;
+	}
+
+	// Elemento de array ou slice, valor de map; null nos outros.
+	public Type getElem() {
+		return elem;
+	}
+
+	public Type getKey() {
+		return key;
+	}
+
+	public List<String> getFieldNames() {
+		return names;
+	}
+
+	public List<Type> getFieldTypes() {
+		return kind == Kind.STRUCT ? types : null;
+	}
+
+	public List<Type> getParams() {
+		return kind == Kind.FUNC ? types : null;
+	}
+
+	public List<Type> getResults() {
+		return results;
+	}
+
+	// Descritor do tipo na JVM (I, [F, Ljava/lang/String;, (IF)I...).
+	public String getDescriptor() {
+		return descriptor;
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+
+	// Entrada da tabela de tipos únicos, com a chave para ser tirada
+	// dela quando o tipo for coletado.
+	private static final class Ref extends WeakReference<Type> {
+		final Chave chave;
+
+		Ref(Type t, Chave chave) {
+			super(t, coletados);
+			this.chave = chave;
 		}
-	},
-	FLOAT_TYPE {
-		public String toString() {
-	    		return "float";
+	}
+
+	// Chave da tabela de tipos únicos. Os componentes já são únicos,
+	// então são comparados pela referência.
+	private static final class Chave {
+		final Kind kind;
+		final String nome;
+		final int n;
+		final Type[] partes;
+		final int hash;
+
+		Chave(Kind kind, String nome, int n, Type[] partes) {
+			this.kind = kind;
+			this.nome = nome;
+			this.n = n;
+			this.partes = partes;
+			int h = kind.hashCode() * 31 + n;
+			if (nome != null) h = h * 31 + nome.hashCode();
+			if (partes != null) {
+				for (Type t : partes) h = h * 31 + System.identityHashCode(t);
+			}
+			this.hash = h;
 		}
-	},
-	ARRAY_TYPE {
-		public String toString() {
-	    		return "array";
+
+		@Override
+		public int hashCode() {
+			return hash;
 		}
-	},
-	NO_TYPE{
-		public String toString() {
-	    		return "no_type";
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Chave)) return false;
+			Chave c = (Chave) o;
+			if (kind != c.kind || n != c.n || hash != c.hash) return false;
+			if (nome == null ? c.nome != null : !nome.equals(c.nome)) return false;
+			if (partes == null || c.partes == null) return partes == c.partes;
+			if (partes.length != c.partes.length) return false;
+			for (int i = 0; i < partes.length; i++) {
+				if (partes[i] != c.partes[i]) return false;
+			}
+			return true;
 		}
 	}
 }